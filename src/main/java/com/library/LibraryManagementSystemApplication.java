@@ -3,9 +3,11 @@ package com.library;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing      // JPA Auditing 활성화 (createdAt, updatedAt 자동 관리)
+@EnableScheduling       // @Scheduled 백그라운드 작업 활성화 (첨부파일 레이아웃 마이그레이션 등)
 public class LibraryManagementSystemApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,127 @@
+package com.library.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/*
+    익명 사용자용 렌더링 결과(HTML) 캐시 저장소
+        - 키 : 요청 URI + 쿼리스트링 (예: "/boards?page=2&category=NOTICE", "/boards/15")
+        - 크기 제한 : HTML 바이트 합계(max-bytes) 기준으로 Caffeine이 오래 안 쓴 항목부터 제거
+
+    신선도 (stale-while-revalidate)
+        - fresh-seconds 동안은 그대로 응답
+        - 그 뒤 stale-seconds 동안은 오래된 페이지를 응답하면서, 요청 하나만 새로 렌더링하여 교체
+        - 글/댓글이 바뀌면 관련 항목을 즉시 stale로 표시 (삭제하지 않음 → 다시 렌더링되는 동안에도 빠르게 응답)
+
+    렌더링 중 무효화 경쟁
+        - 렌더링 시작 시점의 세대(generation)를 기억했다가, 저장 시 그 사이 무효화가 있었으면 처음부터 stale로 저장
+        - 무효화 전 데이터로 만든 페이지가 fresh로 남는 일이 없음
+ */
+@Component
+public class AnonymousPageCache {
+
+    // 캐시된 페이지 하나
+    @Getter
+    public static class Entry {
+        private final byte[] body;
+        private final String contentType;
+        private final String eTag;
+        private final String lastModified;
+        private volatile long freshUntil;       // System.nanoTime() 기준
+        private final long staleUntil;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(byte[] body, String contentType, String eTag, String lastModified, long freshUntil, long staleUntil) {
+            this.body = body;
+            this.contentType = contentType;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+        }
+
+        public boolean isFresh(long now) {
+            return now - freshUntil < 0;
+        }
+
+        public boolean isUsable(long now) {
+            return now - staleUntil < 0;
+        }
+
+        // 다시 렌더링할 요청 하나만 true
+        public boolean tryStartRefresh() {
+            return refreshing.compareAndSet(false, true);
+        }
+
+        // 다시 렌더링한 결과를 저장하지 못했을 때 호출 - 다음 요청이 다시 시도할 수 있게 함
+        public void cancelRefresh() {
+            refreshing.set(false);
+        }
+
+        void markStale(long now) {
+            freshUntil = now;
+        }
+    }
+
+    private final Cache<String, Entry> cache;
+    private final long freshNanos;
+    private final long staleNanos;
+    private final AtomicLong generation = new AtomicLong();
+
+    public AnonymousPageCache(@Value("${page-cache.fresh-seconds:30}") long freshSeconds,
+                              @Value("${page-cache.stale-seconds:300}") long staleSeconds,
+                              @Value("${page-cache.max-bytes:67108864}") long maxBytes) {
+        this.freshNanos = TimeUnit.SECONDS.toNanos(freshSeconds);
+        this.staleNanos = TimeUnit.SECONDS.toNanos(staleSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Entry entry) -> key.length() + entry.getBody().length)
+                .expireAfterWrite(Duration.ofSeconds(freshSeconds + staleSeconds))
+                .build();
+    }
+
+    public Entry get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    // 렌더링 시작 전에 호출 - 저장 시 put()에 그대로 전달
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public void put(String key, byte[] body, String contentType, String eTag, String lastModified, long startedGeneration) {
+        long now = System.nanoTime();
+        long freshUntil = generation.get() == startedGeneration ? now + freshNanos : now;
+        cache.put(key, new Entry(body, contentType, eTag, lastModified, freshUntil, now + freshNanos + staleNanos));
+    }
+
+    // 게시글 목록 페이지 전체를 stale로 표시
+    public void invalidateLists() {
+        invalidate(key -> key.equals("/boards") || key.startsWith("/boards?"));
+    }
+
+    // 특정 게시글 상세 페이지를 stale로 표시
+    public void invalidateBoard(Long boardId) {
+        String path = "/boards/" + boardId;
+        invalidate(key -> key.equals(path) || key.startsWith(path + "?"));
+    }
+
+    private void invalidate(Predicate<String> matcher) {
+        generation.incrementAndGet();
+        long now = System.nanoTime();
+        cache.asMap().forEach((key, entry) -> {
+            if (matcher.test(key)) {
+                entry.markStale(now);
+            }
+        });
+    }
+}
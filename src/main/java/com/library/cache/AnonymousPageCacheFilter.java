@@ -0,0 +1,160 @@
+package com.library.cache;
+
+import com.library.service.ViewCountBuffer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+    익명 사용자 게시판 페이지 캐시 필터
+        - 대상 : 로그인하지 않은 사용자의 GET /boards, GET /boards/{id}
+            - 로그인 사용자는 수정/삭제 버튼, CSRF 토큰 등 화면이 사용자마다 다르므로 항상 렌더링
+        - Spring Security 필터 다음에 실행 (인증 여부를 알아야 하므로)
+
+    처리 흐름
+        - fresh 항목 : 저장된 HTML 응답 (X-Page-Cache: HIT)
+        - stale 항목 : 요청 하나만 렌더링해서 교체, 나머지 요청은 저장된 HTML 응답 (X-Page-Cache: STALE)
+        - 없음 : 렌더링 후 저장 (X-Page-Cache: MISS)
+        - If-None-Match가 저장된 ETag와 같으면 본문 없이 304
+
+    저장 조건
+        - 200 + text/html + Set-Cookie 없음 (세션/쿠키가 생긴 응답은 다른 사용자에게 줄 수 없음)
+        - 세션이 없는 요청이 렌더링했고, 렌더링 후에도 세션이 없음
+            - CSRF 토큰은 세션에 저장됨 (HttpSessionCsrfTokenRepository) → 세션이 없으면 화면에 토큰이 있을 수 없음
+            - 세션이 있는 익명 방문자(로그인 페이지를 본 적이 있는 등)의 렌더링은 저장하지 않음 (그 사람의 토큰이 섞일 수 있으므로)
+              → 캐시된 페이지는 그대로 응답받음
+        - 렌더링 시 요청 속성 anonymousPageCache=true → 레이아웃이 CSRF 메타 태그를 출력하지 않음 (세션 생성 방지)
+
+    조회수
+        - 캐시 적중 시 상세 페이지 조회수는 ViewCountBuffer에 모았다가 주기적으로 반영
+ */
+public class AnonymousPageCacheFilter extends OncePerRequestFilter {
+
+    public static final String RENDER_ATTRIBUTE = "anonymousPageCache";
+    private static final String CACHE_HEADER = "X-Page-Cache";
+    private static final Pattern DETAIL_PATH = Pattern.compile("^/boards/(\\d+)$");
+
+    private final AnonymousPageCache pageCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    public AnonymousPageCacheFilter(AnonymousPageCache pageCache, ViewCountBuffer viewCountBuffer) {
+        this.pageCache = pageCache;
+        this.viewCountBuffer = viewCountBuffer;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = pathOf(request);
+        if (!path.equals("/boards") && !DETAIL_PATH.matcher(path).matches()) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && !trustResolver.isAnonymous(authentication);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getQueryString() == null
+                ? pathOf(request)
+                : pathOf(request) + "?" + request.getQueryString();
+
+        long now = System.nanoTime();
+        AnonymousPageCache.Entry entry = pageCache.get(key);
+        if (entry != null) {
+            if (entry.isFresh(now)) {
+                serve(entry, request, response, "HIT");
+                return;
+            }
+            if (entry.isUsable(now) && !entry.tryStartRefresh()) {
+                // 다른 요청이 다시 렌더링하는 중
+                serve(entry, request, response, "STALE");
+                return;
+            }
+        }
+
+        render(key, entry, request, response, filterChain);
+    }
+
+    private void render(String key, AnonymousPageCache.Entry previous, HttpServletRequest request,
+                        HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long generation = pageCache.currentGeneration();
+        boolean sessionless = request.getSession(false) == null;
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        request.setAttribute(RENDER_ATTRIBUTE, Boolean.TRUE);
+        boolean stored = false;
+        try {
+            response.setHeader(CACHE_HEADER, "MISS");
+            filterChain.doFilter(request, wrapper);
+
+            if (sessionless && request.getSession(false) == null && isCacheable(wrapper)) {
+                pageCache.put(key, wrapper.getContentAsByteArray(), wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.ETAG), wrapper.getHeader(HttpHeaders.LAST_MODIFIED), generation);
+                stored = true;
+            }
+        } finally {
+            if (!stored && previous != null) {
+                previous.cancelRefresh();
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isCacheable(ContentCachingResponseWrapper wrapper) {
+        return wrapper.getStatus() == HttpStatus.OK.value()
+                && wrapper.getContentType() != null
+                && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(wrapper.getContentType()))
+                && !wrapper.containsHeader(HttpHeaders.SET_COOKIE)
+                && wrapper.getContentSize() > 0;
+    }
+
+    private void serve(AnonymousPageCache.Entry entry, HttpServletRequest request,
+                       HttpServletResponse response, String state) throws IOException {
+        Matcher detail = DETAIL_PATH.matcher(pathOf(request));
+        if (detail.matches()) {
+            viewCountBuffer.increment(Long.parseLong(detail.group(1)));
+        }
+
+        response.setHeader(CACHE_HEADER, state);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (entry.getETag() != null) {
+            response.setHeader(HttpHeaders.ETAG, entry.getETag());
+        }
+        if (entry.getLastModified() != null) {
+            response.setHeader(HttpHeaders.LAST_MODIFIED, entry.getLastModified());
+        }
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && entry.getETag() != null && ifNoneMatch.contains(entry.getETag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(entry.getContentType());
+        response.setContentLength(entry.getBody().length);
+        response.getOutputStream().write(entry.getBody());
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,174 @@
+package com.library.cache;
+
+import com.library.entity.board.BoardSort;
+import com.library.entity.board.BoardStatus;
+import com.library.event.BoardChangedEvent;
+import com.library.event.CommentChangedEvent;
+import com.library.repository.BoardRepository;
+import com.library.repository.BoardRepository.BoardCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/*
+    게시글 순위 (조회순 / 좋아요순 / 댓글순) - 정렬 기준별 상위 K개를 메모리에 유지 (TopK)
+        - 앞쪽 페이지는 여기서 순서를 정하고 게시글은 PK로만 읽음 → 요청마다 ORDER BY view_count 정렬 없음
+        - K를 넘는 페이지는 BoardService가 인덱스 조회로 처리
+
+    카운터 변경 반영 (증분)
+        - 조회수 : 상세 조회 시 절대값(offerViewCount), 페이지 캐시 적중분은 ViewCountBuffer가 모아서 전달(addViewCounts)
+        - 댓글 수 : 댓글 작성/삭제 커밋 후 ±1
+        - 게시글 삭제 : 모든 순위에서 제거
+        - 좋아요 : 아직 좋아요 기능이 없어 재구성 때만 반영 (기능이 생기면 offer 호출 추가)
+        - 밖에 있던 게시글의 값이 늘면 DB에서 절대값을 확인해 들어올 자격이 있는지 판단
+
+    재구성
+        - 시작 시, ranking.rebuild-interval-ms 주기로 정렬 기준별 상위 K개를 인덱스로 다시 읽음
+        - 다른 노드에서 일어난 변경, 빠져서 줄어든 목록(TopK 참고)을 바로잡음
+
+    ACTIVE 게시글 수 (목록 페이지의 전체 수)
+        - 요청마다 COUNT(*) 하지 않도록 재구성 때 한 번 세고, 게시글 작성/삭제 커밋 후 ±1
+        - 재구성 중에 커밋된 작성/삭제는 한 번 더 세거나 빠질 수 있음 → 다음 재구성에서 바로잡힘
+        - 첫 재구성 전에는 empty (BoardService가 DB에서 셈)
+ */
+@Component
+@Slf4j
+public class BoardRanking {
+
+    private final BoardRepository boardRepository;
+    private final int capacity;
+    private final Map<BoardSort, TopK> rankings = new EnumMap<>(BoardSort.class);
+    private final AtomicLong activeCount = new AtomicLong(-1);     // -1 : 아직 세지 않음
+
+    public BoardRanking(BoardRepository boardRepository,
+                        @Value("${ranking.top-k:200}") int capacity) {
+        this.boardRepository = boardRepository;
+        this.capacity = capacity;
+        for (BoardSort sort : BoardSort.values()) {
+            if (sort.isRanked()) {
+                rankings.put(sort, new TopK(capacity));
+            }
+        }
+    }
+
+    /*
+        정렬 기준의 page번째(0부터) 페이지 게시글 id
+            - Top-K 범위 안이면 순서대로 id 목록, 아니면 empty
+     */
+    public Optional<List<Long>> page(BoardSort sort, int page, int size, long total) {
+        TopK topK = rankings.get(sort);
+        if (topK == null) {
+            return Optional.empty();
+        }
+        return topK.page(page * size, size, total);
+    }
+
+    // ACTIVE 게시글 수 (첫 재구성 전이면 empty)
+    public OptionalLong activeCount() {
+        long count = activeCount.get();
+        return count < 0 ? OptionalLong.empty() : OptionalLong.of(count);
+    }
+
+    // 상세 조회 후 현재 조회수 반영
+    public void offerViewCount(Long boardId, long viewCount) {
+        rankings.get(BoardSort.VIEWS).offer(boardId, viewCount);
+    }
+
+    // 모아 둔 조회수 증가분 반영 (ViewCountBuffer 반영 후)
+    public void addViewCounts(Map<Long, Long> deltas) {
+        addAll(BoardSort.VIEWS, deltas);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        long delta = switch (event.getType()) {
+            case CREATED -> 1;
+            case DELETED -> -1;
+            case UPDATED -> 0;
+        };
+        if (delta != 0) {
+            addAll(BoardSort.COMMENTS, Map.of(event.getBoardId(), delta));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> adjustActiveCount(1);
+            case DELETED -> {
+                adjustActiveCount(-1);
+                rankings.values().forEach(topK -> topK.remove(event.getBoardId()));
+            }
+            case UPDATED -> { }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ranking.rebuild-interval-ms:600000}",
+               fixedDelayString = "${ranking.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            activeCount.set(boardRepository.countByStatus(BoardStatus.ACTIVE));
+            rankings.forEach((sort, topK) -> {
+                Sort order = Sort.by(Sort.Order.asc("status"), Sort.Order.desc(sort.getProperty()), Sort.Order.desc("id"));
+                List<TopK.Entry> entries = boardRepository
+                        .findCountersByStatus(BoardStatus.ACTIVE, PageRequest.of(0, capacity, order))
+                        .stream()
+                        .map(counters -> new TopK.Entry(counters.getId(), scoreOf(sort).applyAsLong(counters)))
+                        .toList();
+                topK.reset(entries);
+            });
+        } catch (RuntimeException e) {
+            // 기존 순위를 그대로 사용
+            log.error("게시글 순위 재구성 실패", e);
+        }
+    }
+
+    // 아직 세지 않았으면(-1) 그대로 둠
+    private void adjustActiveCount(long delta) {
+        activeCount.updateAndGet(count -> count < 0 ? count : Math.max(0, count + delta));
+    }
+
+    // 안에 있는 게시글은 증가분만 반영, 밖에 있는 게시글은 늘어난 경우에만 절대값을 읽어서 반영
+    private void addAll(BoardSort sort, Map<Long, Long> deltas) {
+        TopK topK = rankings.get(sort);
+        List<Long> outside = new ArrayList<>();
+        deltas.forEach((boardId, delta) -> {
+            if (!topK.add(boardId, delta) && delta > 0) {
+                outside.add(boardId);
+            }
+        });
+        if (outside.isEmpty()) {
+            return;
+        }
+        ToLongFunction<BoardCounters> score = scoreOf(sort);
+        for (BoardCounters counters : boardRepository.findCountersByIdIn(outside, BoardStatus.ACTIVE)) {
+            topK.offer(counters.getId(), score.applyAsLong(counters));
+        }
+    }
+
+    private static ToLongFunction<BoardCounters> scoreOf(BoardSort sort) {
+        return switch (sort) {
+            case VIEWS -> BoardCounters::getViewCount;
+            case LIKES -> BoardCounters::getLikeCount;
+            case COMMENTS -> BoardCounters::getCommentCount;
+            case LATEST -> throw new IllegalArgumentException("순위 대상 정렬이 아닙니다: " + sort);
+        };
+    }
+}
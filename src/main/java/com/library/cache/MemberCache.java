@@ -0,0 +1,103 @@
+package com.library.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.library.dto.member.MemberPrincipal;
+import com.library.entity.member.Member;
+import com.library.entity.member.Role;
+import com.library.event.MemberChangedEvent;
+import com.library.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+    회원 조회 캐시 - 로그인(CustomUserDetailsService), 이메일 중복 확인(MemberService)이 같은 회원을 매번 DB에서 읽지 않게 함
+        - 키 : 이메일 (소문자, Locale.ROOT) - MySQL 기본 콜레이션처럼 대소문자만 다른 이메일은 같은 회원
+        - 값 : 불변 스냅샷(Entry) - 엔티티를 여러 스레드가 공유하지 않음
+        - 크기 제한 : max-size개, Caffeine이 오래 안 쓴 항목부터 제거
+        - 없는 이메일도 캐시 (negative caching) - 가입 전 중복 확인, 잘못된 이메일로의 로그인 반복
+            - 다른 노드에서 가입한 회원은 이 노드에서 최대 negative-ttl-seconds 동안 "없음"으로 보일 수 있어 짧게 유지
+            - 가입 중복의 최종 판정은 DB 유니크 제약 (MemberService.register) → 캐시가 틀려도 중복 회원은 생기지 않음
+        - 무효화 : 가입/상태 변경 커밋 후 (MemberChangedEvent)
+            - 같은 키를 읽는 중(로더 실행 중)에 무효화되면 Caffeine이 로드가 끝나길 기다린 뒤 지움 → 커밋 전 값이 남지 않음
+ */
+@Component
+public class MemberCache {
+
+    // 캐시에 저장하는 회원 정보 (로그인에 필요한 만큼만)
+    public record Entry(Long id, String email, String password, String name, Role role, boolean enabled) {
+
+        static Entry from(Member member) {
+            return new Entry(member.getId(), member.getEmail(), member.getPassword(), member.getName(),
+                    member.getRole(), member.isEnabled());
+        }
+
+        // 로그인마다 새 principal (인증 후 비밀번호를 지워도 캐시 값은 그대로)
+        public MemberPrincipal toPrincipal() {
+            return MemberPrincipal.of(id, email, name, role, enabled, password);
+        }
+    }
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, Optional<Entry>> byEmail;
+
+    public MemberCache(MemberRepository memberRepository,
+                       @Value("${member.cache.max-size:10000}") long maxSize,
+                       @Value("${member.cache.ttl-seconds:600}") long ttlSeconds,
+                       @Value("${member.cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.memberRepository = memberRepository;
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        long negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Optional<Entry>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<Entry> value, long currentTime) {
+                        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<Entry> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<Entry> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 이메일로 회원 조회 (없으면 Optional.empty()도 캐시)
+    public Optional<Entry> findByEmail(String email) {
+        return byEmail.get(key(email), key -> memberRepository.findByEmail(email).map(Entry::from));
+    }
+
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+
+    // 회원 변경 커밋 후 무효화 (롤백된 변경은 반영하지 않음, 트랜잭션 밖에서 발행하면 바로)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        invalidate(event.getEmail());
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            byEmail.invalidate(key(email));
+        }
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
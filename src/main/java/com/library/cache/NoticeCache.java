@@ -0,0 +1,79 @@
+package com.library.cache;
+
+import com.library.dto.board.BoardListDTO;
+import com.library.entity.board.BoardCategory;
+import com.library.entity.board.BoardStatus;
+import com.library.event.BoardChangedEvent;
+import com.library.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/*
+    고정 공지 캐시 - 목록 페이지 상단에 고정할 공지사항(NOTICE) 게시글
+        - 목록 요청은 메모리의 스냅샷만 읽음 → 공지 고정으로 인한 추가 쿼리 없음
+        - 스냅샷 갱신 시점
+            - 애플리케이션 시작 직후
+            - 공지 작성/수정/삭제 커밋 후 (BoardChangedEvent.notice, 공지 → 일반글 변경 포함)
+            - notice.refresh-interval-ms 주기 (다른 노드에서의 변경, 조회수 반영)
+        - 스냅샷은 불변 리스트를 통째로 교체 (읽는 쪽은 락 없이 항상 완성된 목록을 봄)
+ */
+@Component
+@Slf4j
+public class NoticeCache {
+
+    private final BoardRepository boardRepository;
+    private final int maxPinned;
+    private volatile List<BoardListDTO> notices = List.of();
+
+    public NoticeCache(BoardRepository boardRepository,
+                       @Value("${notice.max-pinned:5}") int maxPinned) {
+        this.boardRepository = boardRepository;
+        this.maxPinned = maxPinned;
+    }
+
+    // 고정 공지 목록 (최신순)
+    public List<BoardListDTO> getNotices() {
+        return notices;
+    }
+
+    // 페이지 캐시 무효화(PageCacheInvalidator)보다 먼저 실행 → 다시 렌더링되는 목록이 새 공지를 봄
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.isNotice()) {
+            refresh();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${notice.refresh-interval-ms:60000}",
+               fixedDelayString = "${notice.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // 이전 스냅샷을 그대로 사용
+            log.error("고정 공지 캐시 갱신 실패", e);
+        }
+    }
+
+    // 동시에 여러 번 호출되어도 마지막으로 읽은 목록이 남도록 직렬화
+    public synchronized void refresh() {
+        notices = boardRepository.findLatestByCategoryWithAuthor(
+                        BoardStatus.ACTIVE, BoardCategory.NOTICE, PageRequest.of(0, maxPinned))
+                .stream()
+                .map(BoardListDTO::from)
+                .toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.library.cache;
+
+import com.library.event.BoardChangedEvent;
+import com.library.event.CommentChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    글/댓글 변경 시 익명 페이지 캐시 무효화
+        - 트랜잭션 커밋 후에 실행 (커밋 전에 무효화하면 다시 렌더링한 페이지가 옛 데이터를 읽을 수 있음)
+        - 상세 페이지 + 목록 페이지 (목록에 제목/작성일/댓글 수 등이 보임)
+ */
+@Component
+@RequiredArgsConstructor
+public class PageCacheInvalidator {
+
+    private final AnonymousPageCache pageCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        pageCache.invalidateBoard(event.getBoardId());
+        pageCache.invalidateLists();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        pageCache.invalidateBoard(event.getBoardId());
+        pageCache.invalidateLists();
+    }
+}
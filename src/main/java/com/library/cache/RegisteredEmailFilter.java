@@ -0,0 +1,172 @@
+package com.library.cache;
+
+import com.library.event.MemberChangedEvent;
+import com.library.repository.MemberRepository;
+import com.library.repository.MemberRepository.MemberEmail;
+import com.library.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+/*
+    가입 이메일 Bloom 필터 - 이메일 중복 확인(가입 폼 입력 중 반복 호출)의 빠른 경로
+        - "확실히 없음"이면 캐시/DB를 거치지 않고 바로 사용 가능으로 응답
+        - "있을 수도 있음"일 때만 MemberCache → DB로 확인 (거짓 양성이면 그때 DB가 판정)
+        - 키는 소문자 이메일 (MySQL 기본 콜레이션은 대소문자를 구분하지 않음 → 대소문자만 다른 이메일도 "있을 수도 있음")
+
+    구성
+        - 애플리케이션 시작 직후 + rebuild-interval-ms 주기로 members 테이블을 id 키셋 배치로 훑어 새로 만든 뒤 교체
+            - 주기적 재구성 : 다른 노드에서 가입한 이메일 반영, 쌓인 거짓 양성률 초기화
+        - 가입 시 바로 추가 (MemberService.register) + 커밋 후 한 번 더 추가 (재구성 중 가입한 이메일이 새 필터에서 빠지지 않게)
+        - 재구성이 끝나기 전에는 항상 "있을 수도 있음" (기존 방식대로 DB 확인)
+        - 다른 노드에서 방금 가입한 이메일은 "없음"으로 보일 수 있음 → 최종 판정은 DB 유니크 제약 (MemberService.register)
+
+    설정 : 예상 회원 수(expected-insertions), 목표 거짓 양성률(fpp), 메모리 상한(max-bytes)
+    지표 (Micrometer)
+        - member.email.filter.memory / hashes / insertions / fpp.expected / fpp.target
+        - member.email.filter.checks{result=negative|maybe}, member.email.filter.false.positives
+ */
+@Component
+@Slf4j
+public class RegisteredEmailFilter {
+
+    private final MemberRepository memberRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final long maxBits;
+    private final int batchSize;
+    private final Counter negatives;
+    private final Counter maybes;
+    private final Counter falsePositives;
+    private final Object rebuildMonitor = new Object();
+
+    private volatile BloomFilter filter;        // null이면 아직 준비 안 됨
+    private volatile BloomFilter building;      // 재구성 중인 필터 (가입 이메일을 함께 넣음)
+
+    public RegisteredEmailFilter(MemberRepository memberRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${member.email-filter.enabled:true}") boolean enabled,
+                                 @Value("${member.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                 @Value("${member.email-filter.fpp:0.01}") double fpp,
+                                 @Value("${member.email-filter.max-bytes:4194304}") long maxBytes,
+                                 @Value("${member.email-filter.batch-size:1000}") int batchSize) {
+        this.memberRepository = memberRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.maxBits = maxBytes * 8;
+        this.batchSize = batchSize;
+
+        this.negatives = meterRegistry.counter("member.email.filter.checks", "result", "negative");
+        this.maybes = meterRegistry.counter("member.email.filter.checks", "result", "maybe");
+        this.falsePositives = meterRegistry.counter("member.email.filter.false.positives");
+        gauge(meterRegistry, "member.email.filter.memory", "bytes", f -> f.memoryBytes());
+        gauge(meterRegistry, "member.email.filter.hashes", null, f -> f.hashCount());
+        gauge(meterRegistry, "member.email.filter.insertions", null, f -> f.insertions());
+        gauge(meterRegistry, "member.email.filter.fpp.expected", null, BloomFilter::expectedFpp);
+        Gauge.builder("member.email.filter.fpp.target", () -> fpp).register(meterRegistry);
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String name, String unit, ToDoubleFunction<BloomFilter> value) {
+        Gauge.builder(name, this, self -> {
+                    BloomFilter current = self.filter;
+                    return current == null ? Double.NaN : value.applyAsDouble(current);
+                })
+                .baseUnit(unit)
+                .register(meterRegistry);
+    }
+
+    /*
+        가입된 이메일일 수도 있는가
+        @return false면 확실히 없음, true면 DB로 확인할 것
+     */
+    public boolean mightContain(String email) {
+        BloomFilter current = filter;
+        if (current == null || email == null) {
+            return true;
+        }
+        boolean maybe = current.mightContain(key(email));
+        (maybe ? maybes : negatives).increment();
+        return maybe;
+    }
+
+    // "있을 수도 있음"이었는데 DB에 없었음 (실제 거짓 양성률 확인용)
+    public void recordFalsePositive() {
+        if (filter != null) {       // 준비 전의 "있을 수도 있음"은 필터의 판정이 아님
+            falsePositives.increment();
+        }
+    }
+
+    // 가입한 이메일 추가 (재구성 중이면 새 필터에 먼저 → 교체 순서와 맞물려 빠지지 않음)
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = key(email);
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(key);
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        put(event.getEmail());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${member.email-filter.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${member.email-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (rebuildMonitor) {
+            long started = System.currentTimeMillis();
+            BloomFilter rebuilt = new BloomFilter(expectedInsertions, fpp, maxBits);
+            building = rebuilt;
+            try {
+                long lastId = 0L;
+                List<MemberEmail> batch;
+                do {
+                    batch = memberRepository.findEmailsAfter(lastId, PageRequest.of(0, batchSize));
+                    for (MemberEmail member : batch) {
+                        rebuilt.put(key(member.getEmail()));
+                        lastId = member.getId();
+                    }
+                } while (batch.size() == batchSize);
+            } catch (RuntimeException e) {
+                log.error("가입 이메일 필터 구성 실패 - 기존 필터 유지", e);
+                building = null;
+                return;
+            }
+            filter = rebuilt;       // 교체 후에 building을 비움 (put은 building → filter 순서로 읽음)
+            building = null;
+            log.info("가입 이메일 필터 구성 완료 - 이메일 {}건, {}바이트, 해시 {}개, 예상 거짓 양성률 {}, {}ms",
+                    rebuilt.insertions(), rebuilt.memoryBytes(), rebuilt.hashCount(),
+                    String.format("%.4f", rebuilt.expectedFpp()), System.currentTimeMillis() - started);
+        }
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
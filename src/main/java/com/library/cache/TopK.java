@@ -0,0 +1,129 @@
+package com.library.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/*
+    점수 상위 K개 id를 순서대로 유지하는 구조 (점수 내림차순, 동점이면 id 내림차순)
+
+    불변식 : 들어 있는 N개(N <= K)는 항상 "정확한" 상위 N개
+        - 밖에 있는 항목은 모두 마지막 항목보다 순위가 낮음
+        - 밖의 항목은 마지막 항목보다 앞설 때만 들어옴 (그보다 낮으면 N+1번째인지 알 수 없으므로 넣지 않음)
+        - 안의 항목 점수가 내려가 마지막 항목보다 뒤로 가면 빼냄 (밖의 항목과 순서를 비교할 수 없으므로)
+        - 그래서 N은 줄어들 수 있음 → 주기적으로 DB에서 다시 채움 (reset)
+
+    스레드 안전 : 모든 메서드 synchronized (연산은 O(log K), K는 수백 개 수준)
+ */
+class TopK {
+
+    record Entry(long id, long score) {}
+
+    private static final Comparator<Entry> RANK = Comparator.comparingLong(Entry::score)
+            .thenComparingLong(Entry::id)
+            .reversed();
+
+    private final int capacity;
+    private final TreeSet<Entry> ranking = new TreeSet<>(RANK);
+    private final Map<Long, Entry> byId = new HashMap<>();
+
+    TopK(int capacity) {
+        this.capacity = capacity;
+    }
+
+    // DB에서 읽은 상위 목록으로 교체 (점수 내림차순으로 정렬된 정확한 상위 목록이어야 함)
+    synchronized void reset(List<Entry> entries) {
+        ranking.clear();
+        byId.clear();
+        for (Entry entry : entries) {
+            if (ranking.size() == capacity) {
+                break;
+            }
+            ranking.add(entry);
+            byId.put(entry.id(), entry);
+        }
+    }
+
+    synchronized boolean contains(long id) {
+        return byId.containsKey(id);
+    }
+
+    synchronized int size() {
+        return ranking.size();
+    }
+
+    // 안에 있으면 점수를 delta만큼 바꿈 - 밖에 있으면 false (절대 점수를 알아야 offer 가능)
+    synchronized boolean add(long id, long delta) {
+        Entry current = byId.get(id);
+        if (current == null) {
+            return false;
+        }
+        update(current, new Entry(id, current.score() + delta));
+        return true;
+    }
+
+    // 절대 점수로 반영 (안에 있으면 갱신, 밖에 있으면 들어올 자격이 있을 때만 추가)
+    synchronized void offer(long id, long score) {
+        Entry next = new Entry(id, score);
+        Entry current = byId.get(id);
+        if (current != null) {
+            update(current, next);
+            return;
+        }
+        if (ranking.isEmpty() || RANK.compare(next, ranking.last()) >= 0) {
+            return;
+        }
+        insert(next);
+        if (ranking.size() > capacity) {
+            Entry evicted = ranking.pollLast();
+            byId.remove(evicted.id());
+        }
+    }
+
+    synchronized void remove(long id) {
+        Entry current = byId.remove(id);
+        if (current != null) {
+            ranking.remove(current);
+        }
+    }
+
+    /*
+        offset부터 limit개 id
+            - 상위 목록 안에서 끝나지 않는 범위면 empty (호출 측에서 DB 조회)
+            - total : 전체 항목 수 - 전부 들어 있으면 마지막 페이지도 응답 가능
+     */
+    synchronized Optional<List<Long>> page(int offset, int limit, long total) {
+        if (offset + limit > ranking.size() && ranking.size() < total) {
+            return Optional.empty();
+        }
+        List<Long> ids = new ArrayList<>(limit);
+        Iterator<Entry> it = ranking.iterator();
+        for (int i = 0; it.hasNext() && i < offset + limit; i++) {
+            Entry entry = it.next();
+            if (i >= offset) {
+                ids.add(entry.id());
+            }
+        }
+        return Optional.of(ids);
+    }
+
+    private void update(Entry current, Entry next) {
+        ranking.remove(current);
+        byId.remove(current.id());
+        // 점수가 내려가서 마지막 항목보다 뒤로 가면 밖의 항목과 비교할 수 없음 → 빼냄
+        if (next.score() < current.score() && (ranking.isEmpty() || RANK.compare(next, ranking.last()) > 0)) {
+            return;
+        }
+        insert(next);
+    }
+
+    private void insert(Entry entry) {
+        ranking.add(entry);
+        byId.put(entry.id(), entry);
+    }
+}
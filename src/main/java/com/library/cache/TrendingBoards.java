@@ -0,0 +1,200 @@
+package com.library.cache;
+
+import com.library.dto.board.TrendingBoardDTO;
+import com.library.entity.board.BoardStatus;
+import com.library.event.BoardChangedEvent;
+import com.library.event.CommentChangedEvent;
+import com.library.repository.BoardRepository;
+import com.library.repository.BoardRepository.BoardTitle;
+import com.library.service.BoardVersionService;
+import com.library.util.CountMinSketch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/*
+    "지금 뜨는 글" - 최근 조회/다운로드/댓글이 많은 게시글 (스트리밍 heavy-hitter 탐지)
+
+    구조 (게시글 수와 관계없이 메모리 고정)
+        - Count-Min Sketch : 게시글별 최근 활동 점수 근사 (depth x width 칸)
+        - 후보 힙 : 점수 상위 trending.candidates개 게시글 id (최소 힙 - 가장 낮은 후보와 비교해 교체)
+        - 스냅샷 : 화면에 보일 상위 trending.size개 (id, 제목) 불변 리스트
+            - trending.publish-interval-ms마다 후보 힙에서 만들어 통째로 교체 (삭제된 글은 이때 빠짐)
+            - 화면은 스냅샷만 읽음 → O(1), DB 조회 없음
+            - 제목은 id, 제목 프로젝션으로만 읽음 (엔티티 로딩 없음)
+            - 스냅샷이 바뀌면 목록 페이지 검증값(ETag)도 바뀜 (BoardVersionService.trendingChanged)
+
+    시간 감쇠 (forward decay)
+        - 활동 가중치에 exp(λ(t - 기준시각))을 곱해서 더함 → 오래된 활동일수록 상대적으로 작아짐
+        - λ = ln2 / 반감기 (trending.half-life-minutes가 지나면 같은 활동의 영향이 절반)
+        - 배율이 너무 커지기 전에 기준시각을 현재로 옮기고 모든 값에 같은 비율을 곱해 줄임 (순서는 그대로)
+
+    입력
+        - 조회 : 상세 조회(BoardService.getBoard), 페이지 캐시 적중(ViewCountBuffer)
+        - 다운로드 : FileController (목록 페이지 카운터 버전도 올림)
+        - 댓글 작성 : 커밋 후 이벤트
+        - 여러 노드로 운영하면 노드별로 따로 집계됨 (노드마다 받은 요청 기준의 근사값)
+ */
+@Component
+@Slf4j
+public class TrendingBoards {
+
+    private static final double RESCALE_LIMIT = 1e12;   // 배율이 이보다 커지면 기준시각 이동
+
+    // 후보 게시글 (힙 원소)
+    private static final class Candidate {
+        private final long boardId;
+        private double score;
+
+        private Candidate(long boardId, double score) {
+            this.boardId = boardId;
+            this.score = score;
+        }
+    }
+
+    private final BoardRepository boardRepository;
+    private final BoardVersionService boardVersionService;
+    private final CountMinSketch sketch;
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingDouble(c -> c.score));
+    private final Map<Long, Candidate> candidates = new HashMap<>();
+    private final int maxCandidates;
+    private final int size;
+    private final double lambda;            // 1ms당 감쇠율
+    private final double viewWeight;
+    private final double downloadWeight;
+    private final double commentWeight;
+    private long landmark = System.currentTimeMillis();     // 감쇠 기준시각
+    private volatile List<TrendingBoardDTO> snapshot = List.of();
+
+    public TrendingBoards(BoardRepository boardRepository,
+                          BoardVersionService boardVersionService,
+                          @Value("${trending.sketch-depth:4}") int sketchDepth,
+                          @Value("${trending.sketch-width:2048}") int sketchWidth,
+                          @Value("${trending.candidates:50}") int maxCandidates,
+                          @Value("${trending.size:5}") int size,
+                          @Value("${trending.half-life-minutes:60}") double halfLifeMinutes,
+                          @Value("${trending.weight.view:1}") double viewWeight,
+                          @Value("${trending.weight.download:2}") double downloadWeight,
+                          @Value("${trending.weight.comment:3}") double commentWeight) {
+        this.boardRepository = boardRepository;
+        this.boardVersionService = boardVersionService;
+        this.sketch = new CountMinSketch(sketchDepth, sketchWidth);
+        this.maxCandidates = maxCandidates;
+        this.size = size;
+        this.lambda = Math.log(2) / (halfLifeMinutes * 60_000);
+        this.viewWeight = viewWeight;
+        this.downloadWeight = downloadWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    // 화면 표시용 (최근 활동 점수 내림차순)
+    public List<TrendingBoardDTO> getTrending() {
+        return snapshot;
+    }
+
+    public void recordView(Long boardId) {
+        record(boardId, viewWeight);
+    }
+
+    public void recordDownload(Long boardId) {
+        record(boardId, downloadWeight);
+        boardVersionService.counterChanged();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getType() == CommentChangedEvent.Type.CREATED) {
+            record(event.getBoardId(), commentWeight);
+        }
+    }
+
+    // 삭제된 게시글은 후보에서 바로 빼서 자리를 비움
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            Candidate candidate = candidates.remove(event.getBoardId());
+            if (candidate != null) {
+                heap.remove(candidate);
+            }
+        }
+    }
+
+    private synchronized void record(long boardId, double weight) {
+        long now = System.currentTimeMillis();
+        double factor = Math.exp(lambda * (now - landmark));
+        if (factor > RESCALE_LIMIT) {
+            rescale(factor, now);
+            factor = 1;
+        }
+
+        double score = sketch.add(boardId, weight * factor);
+        Candidate candidate = candidates.get(boardId);
+        if (candidate != null) {
+            heap.remove(candidate);
+            candidate.score = score;
+            heap.add(candidate);
+        } else if (heap.size() < maxCandidates) {
+            addCandidate(new Candidate(boardId, score));
+        } else if (score > heap.peek().score) {
+            candidates.remove(heap.poll().boardId);
+            addCandidate(new Candidate(boardId, score));
+        }
+    }
+
+    // 기준시각을 now로 옮김 - 모든 점수를 같은 비율로 줄이므로 순위는 그대로
+    private void rescale(double factor, long now) {
+        sketch.scale(1 / factor);
+        for (Candidate candidate : candidates.values()) {
+            candidate.score /= factor;
+        }
+        // 힙 순서는 같은 비율로 줄어도 유지됨
+        landmark = now;
+    }
+
+    private void addCandidate(Candidate candidate) {
+        heap.add(candidate);
+        candidates.put(candidate.boardId, candidate);
+    }
+
+    // 후보 힙에서 상위 size개를 골라 제목을 붙여 스냅샷 교체 (요청 경로 밖에서 실행)
+    @Scheduled(initialDelayString = "${trending.publish-interval-ms:10000}",
+               fixedDelayString = "${trending.publish-interval-ms:10000}")
+    public void publish() {
+        List<Long> ranked;
+        synchronized (this) {
+            ranked = candidates.values().stream()
+                    .sorted(Comparator.comparingDouble((Candidate c) -> c.score).reversed())
+                    .map(c -> c.boardId)
+                    .toList();
+        }
+        if (ranked.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, String> titles = boardRepository.findTitlesByIdIn(ranked, BoardStatus.ACTIVE).stream()
+                    .collect(Collectors.toMap(BoardTitle::getId, BoardTitle::getTitle));
+            List<TrendingBoardDTO> published = ranked.stream()
+                    .filter(titles::containsKey)
+                    .limit(size)
+                    .map(id -> new TrendingBoardDTO(id, titles.get(id)))
+                    .toList();
+            if (!published.equals(snapshot)) {
+                snapshot = published;
+                boardVersionService.trendingChanged();
+            }
+        } catch (RuntimeException e) {
+            // 이전 스냅샷을 그대로 사용
+            log.error("지금 뜨는 글 갱신 실패", e);
+        }
+    }
+}
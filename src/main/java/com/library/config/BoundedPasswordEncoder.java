@@ -0,0 +1,148 @@
+package com.library.config;
+
+import com.library.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    비밀번호 암호화기 (BCrypt) - 해시/검증을 전용 스레드 풀에서 실행
+        - BCrypt는 일부러 느린(CPU를 오래 쓰는) 해시 → 요청 스레드(Tomcat)에서 직접 돌리면
+          로그인 시도가 몰릴 때(크리덴셜 스터핑) 모든 요청 스레드가 해시에 묶여 일반 페이지까지 멈춤
+        - 전용 풀 (threads개, 기본은 CPU 수) + 크기 제한 대기열 (queue-capacity)
+            - 동시에 도는 해시는 최대 threads개 → 나머지 CPU는 페이지 요청이 씀
+            - 대기열이 가득 차면 바로 거절 (PasswordHashingBusyException → 503)
+            - 대기열에서 wait-timeout-ms를 넘기면 작업을 취소하고 거절 (이미 해시 중이면 끝날 때까지 기다림)
+        - 요청 스레드는 결과를 기다리지만 대기열 크기만큼만 쌓이고, 그 이상은 즉시 돌려보냄
+        - 회원가입(MemberService.register)과 로그인(DaoAuthenticationProvider) 모두 이 빈을 사용
+
+    설정 : password-hash.strength(BCrypt cost), threads, queue-capacity, wait-timeout-ms
+    지표 (Micrometer)
+        - password.hash.duration{op=encode|matches} : 해시 자체 시간
+        - password.hash.wait : 대기열에서 기다린 시간
+        - password.hash.queue, password.hash.active : 대기 중 / 실행 중 작업 수
+        - password.hash.rejected{reason=queue_full|timeout}
+ */
+@Component
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMs;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public BoundedPasswordEncoder(MeterRegistry meterRegistry,
+                                  @Value("${password-hash.strength:10}") int strength,
+                                  @Value("${password-hash.threads:0}") int threads,
+                                  @Value("${password-hash.queue-capacity:64}") int queueCapacity,
+                                  @Value("${password-hash.wait-timeout-ms:2000}") long waitTimeoutMs) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hash.duration").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration").tag("op", "matches").register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hash.wait").register(meterRegistry);
+        this.rejectedQueueFull = meterRegistry.counter("password.hash.rejected", "reason", "queue_full");
+        this.rejectedTimeout = meterRegistry.counter("password.hash.rejected", "reason", "timeout");
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+
+        log.info("PasswordEncoder Bean 생성 - BCrypt(cost {}), 전용 스레드 {}개, 대기열 {}", strength, poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시를 다시 하지 않고 저장된 값의 cost만 비교 → 요청 스레드에서 바로
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Timer timer, Callable<T> hashing) {
+        long submitted = System.nanoTime();
+        AtomicBoolean claimed = new AtomicBoolean();    // 해시 스레드(시작)와 요청 스레드(대기 시간 초과) 중 먼저 잡은 쪽이 결정
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;        // 이미 대기 시간 초과로 거절된 요청
+                }
+                waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            try {
+                return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    future.cancel(false);       // 아직 대기열에 있음 → 실행하지 않음
+                    rejectedTimeout.increment();
+                    throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해 주세요.");
+                }
+                return future.get();            // 이미 해시 중 → 해시 한 번 시간 안에 끝남
+            }
+        } catch (InterruptedException e) {
+            claimed.set(true);
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;            // 예: 비밀번호가 null (IllegalArgumentException)
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
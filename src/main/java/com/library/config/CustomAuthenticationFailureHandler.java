@@ -1,9 +1,16 @@
 package com.library.config;
 
+import com.library.exception.PasswordHashingBusyException;
+import com.library.ratelimit.RateLimitFilter;
+import com.library.ratelimit.RateLimiter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
@@ -16,15 +23,33 @@ import java.io.IOException;
         - 로그인 실패 후 처리 로직
         - 실패 로깅
         - 에러 페이지로 리다이렉트
+        - 비밀번호 검증이 몰려 거절된 경우(PasswordHashingBusyException)는 503 + Retry-After
+            - 페이지를 그리지 않고 짧은 본문만 → 몰리는 동안 요청 스레드를 오래 잡지 않음
+        - 비밀번호가 틀린 경우 등은 IP와 입력한 이메일에 속도 제한 벌점 (RateLimiter) → 반복 실패 시 더 빨리 429
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class CustomAuthenticationFailureHandler implements AuthenticationFailureHandler {
 
+    private final RateLimiter rateLimiter;
+
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException, ServletException {
         String username = request.getParameter("email");
 
+        if (exception instanceof PasswordHashingBusyException) {
+            log.warn("로그인 거절 (비밀번호 검증 대기열 포화) - IP 주소: {}", request.getRemoteAddr());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "5");
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8");
+            response.getWriter().write(exception.getMessage());
+            return;
+        }
+
+        rateLimiter.penalize(RateLimiter.Action.LOGIN,
+                RateLimitFilter.ipKey(request), RateLimitFilter.emailKey(request));
+
         log.info("===로그인 실패===");
         log.info("사용자: {}", username);
         log.info("실패 사유: {}", exception.getMessage());
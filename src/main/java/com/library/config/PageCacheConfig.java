@@ -0,0 +1,31 @@
+package com.library.config;
+
+import com.library.cache.AnonymousPageCache;
+import com.library.cache.AnonymousPageCacheFilter;
+import com.library.service.ViewCountBuffer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    익명 사용자 페이지 캐시 설정
+        - page-cache.enabled=false 이면 필터를 등록하지 않음 (항상 렌더링)
+        - 필터 순서 : Spring Security 필터 체인 바로 다음 → SecurityContext로 로그인 여부 판단
+        - 게시판 목록/상세 URL에만 적용 (/boards, /boards/*)
+ */
+@Configuration
+@ConditionalOnProperty(name = "page-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class PageCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<AnonymousPageCacheFilter> anonymousPageCacheFilter(AnonymousPageCache pageCache,
+                                                                                    ViewCountBuffer viewCountBuffer) {
+        FilterRegistrationBean<AnonymousPageCacheFilter> registration =
+                new FilterRegistrationBean<>(new AnonymousPageCacheFilter(pageCache, viewCountBuffer));
+        registration.addUrlPatterns("/boards", "/boards/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
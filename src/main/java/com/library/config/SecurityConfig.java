@@ -1,5 +1,7 @@
 package com.library.config;
 
+import com.library.ratelimit.RateLimitFilter;
+import com.library.ratelimit.RateLimiter;
 import com.library.service.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,9 +12,9 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /*
     Spring Security 설정
@@ -35,14 +37,13 @@ public class SecurityConfig {
     private final CustomLogoutSuccessHandler logoutSuccessHandler;
 
     /*
-        비밀번호 암호화기
+        비밀번호 암호화기 (BoundedPasswordEncoder)
             - BCrypt 해시 함수 사용, 단방향 암호화 (복호화 불가능)
+            - 해시/검증은 전용 스레드 풀에서 실행 (몰리면 503으로 거절)
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        log.info("PasswordEncoder Bean 생성 - BCryptPasswordEncoder");
-        return new BCryptPasswordEncoder();
-    }
+    private final PasswordEncoder passwordEncoder;
+    // 로그인/회원가입/댓글 작성 요청 속도 제한
+    private final RateLimiter rateLimiter;
 
     /*
         인증 제공자 설정
@@ -56,7 +57,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider =
                                     new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
 
         log.info("1. userDetailsService 설정 완료");
         log.info("2. PasswordEncoder 설정 완료");
@@ -78,6 +79,13 @@ public class SecurityConfig {
                 // AuthenticationProvider 등록 (필수)
                 .authenticationProvider(authenticationProvider())
 
+                /*
+                    요청 속도 제한 (로그인/회원가입/댓글 작성 - 429)
+                        - 로그인 처리 앞 → 한도를 넘은 로그인 시도는 비밀번호 검증(BCrypt) 없이 거절
+                        - 세션의 로그인 정보를 읽은 뒤 → 댓글은 회원 id로도 셈
+                 */
+                .addFilterBefore(new RateLimitFilter(rateLimiter), UsernamePasswordAuthenticationFilter.class)
+
                 /*
                     CSRF 보호 설정 (게시글 삭제 기능을 위해 필수)
                         - CSRF 보호 활성화 (기본값)
@@ -93,10 +101,12 @@ public class SecurityConfig {
                     authz
                             // 누구나 접근 가능 (로그인 불필요)
                             .requestMatchers("/", "/home").permitAll()
-                            .requestMatchers("/css/**", "/images/**").permitAll()
+                            .requestMatchers("/css/**", "/js/**", "/images/**", "/favicon.ico").permitAll()
                             .requestMatchers("/auth/**", "/register", "/login").permitAll()
                             // 게시판 URL (목록/상세 조회는 모두 허용)
                             .requestMatchers("/boards/**").permitAll()
+                            // 제목 자동완성 API (누구나 조회 가능)
+                            .requestMatchers(HttpMethod.GET, "/api/boards/suggest").permitAll()
                             // 댓글 API 권한 설정
                             // - GET(조회) : 누구나 접근 가능 (로그인 불필요)
                             // - POST/PUT/DELETE (작성/수정/삭제) : 인증된 사용자만 가능
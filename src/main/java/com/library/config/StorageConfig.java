@@ -0,0 +1,99 @@
+package com.library.config;
+
+import com.library.storage.FileSystemStorageBackend;
+import com.library.storage.S3StorageBackend;
+import com.library.storage.StorageBackend;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+/*
+    첨부파일 저장소 설정
+        - file.storage.type 값에 따라 StorageBackend 구현체를 하나만 등록함
+            - local (기본값) : FileSystemStorageBackend (file.upload-dir)
+            - s3 : S3StorageBackend (file.storage.s3.*)
+        - 로컬 MinIO를 사용할 때는 endpoint를 지정하고 path-style-access를 true로 설정
+        - 아카이브 저장소 (archiveStorageBackend)
+            - 콜드 첨부파일을 묶은 세그먼트를 업로드 저장소와 분리해 보관 (업로드 볼륨을 작게 유지)
+            - local : file.archive.dir 디렉토리, s3 : file.archive.s3-bucket 버킷 (필수, 업로드 버킷과 달라야 함)
+                - 같은 버킷을 쓰면 업로드 버킷의 수명 주기 규칙/용량에 세그먼트가 섞이므로 기본값을 두지 않음
+            - 업로드 저장소 Bean에 @Primary를 붙여 기존 주입 지점은 그대로 업로드 저장소를 받음
+ */
+@Slf4j
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+    public StorageBackend fileSystemStorageBackend(@Value("${file.upload-dir:uploads}") String uploadDir) {
+        log.info("StorageBackend Bean 생성 - FileSystemStorageBackend");
+        return new FileSystemStorageBackend(Paths.get(uploadDir));
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public S3Client s3Client(@Value("${file.storage.s3.endpoint:}") String endpoint,
+                             @Value("${file.storage.s3.region:ap-northeast-2}") String region,
+                             @Value("${file.storage.s3.access-key:}") String accessKey,
+                             @Value("${file.storage.s3.secret-key:}") String secretKey,
+                             @Value("${file.storage.s3.path-style-access:false}") boolean pathStyleAccess) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .forcePathStyle(pathStyleAccess);
+
+        // 접근 키를 지정하지 않으면 AWS 기본 자격 증명 체인(환경변수, IAM Role 등) 사용
+        if (accessKey.isBlank()) {
+            builder.credentialsProvider(DefaultCredentialsProvider.builder().build());
+        } else {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        }
+        // MinIO 등 S3 호환 저장소 사용 시 엔드포인트 교체
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public StorageBackend s3StorageBackend(S3Client s3Client,
+                                           @Value("${file.storage.s3.bucket}") String bucket,
+                                           @Value("${file.storage.s3.create-bucket:false}") boolean createBucket) {
+        log.info("StorageBackend Bean 생성 - S3StorageBackend");
+        return new S3StorageBackend(s3Client, bucket, createBucket);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+    public StorageBackend archiveStorageBackend(@Value("${file.archive.dir:archive}") String archiveDir) {
+        log.info("아카이브 StorageBackend Bean 생성 - FileSystemStorageBackend ({})", archiveDir);
+        return new FileSystemStorageBackend(Paths.get(archiveDir));
+    }
+
+    @Bean(name = "archiveStorageBackend")
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public StorageBackend s3ArchiveStorageBackend(S3Client s3Client,
+                                                  @Value("${file.archive.s3-bucket:}") String bucket,
+                                                  @Value("${file.storage.s3.bucket}") String uploadBucket,
+                                                  @Value("${file.storage.s3.create-bucket:false}") boolean createBucket) {
+        if (bucket.isBlank() || bucket.equals(uploadBucket)) {
+            throw new IllegalStateException("file.archive.s3-bucket에 업로드 버킷과 다른 아카이브 버킷을 지정해야 합니다.");
+        }
+        log.info("아카이브 StorageBackend Bean 생성 - S3StorageBackend ({})", bucket);
+        return new S3StorageBackend(s3Client, bucket, createBucket);
+    }
+}
@@ -1,10 +1,20 @@
 package com.library.config;
 
+import com.library.service.AttachmentArchiveService;
+import com.library.storage.StorageBackend;
+import com.library.storage.StorageResourceResolver;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.filter.HiddenHttpMethodFilter;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.util.concurrent.TimeUnit;
 
 /*
     웹 애플리케이션 전역 설정
@@ -21,21 +31,70 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
           </form>
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+
+    /*
+        1년 + immutable : 브라우저가 만료 전에는 재검증(304 요청)조차 보내지 않음
+            - 내용이 바뀌면 URL이 바뀌는 리소스에만 사용 (해시가 붙은 css/js, UUID 파일명의 업로드 이미지)
+     */
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    // 업로드 파일은 로그인한 사용자만 볼 수 있으므로 공유 캐시(프록시/CDN)에는 저장하지 않음
+    private static final CacheControl IMMUTABLE_PRIVATE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+
+    private final StorageBackend storageBackend;    // 첨부파일 저장소 (로컬 / S3 호환)
+    private final AttachmentArchiveService attachmentArchiveService;    // 아카이브된 첨부파일 조회
+
     @Bean
     public HiddenHttpMethodFilter hiddenHttpMethodFilter(){
         return new HiddenHttpMethodFilter();
     }
 
+    /*
+        Thymeleaf 링크 재작성 필터
+            - @{/css/style.css} => /css/style-<내용 해시>.css 로 바꿔서 출력 (VersionResourceResolver 사용)
+            - 템플릿은 그대로 두고 원래 파일명으로 작성하면 됨
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter(){
+        return new ResourceUrlEncodingFilter();
+    }
+
     /*
     이미지파일은 게시글에 이미지 표시하는 기능
     정적 리소스 핸들러 설정
-        - /uploads/** 요청 → uploads/ 폴더에서 파일 제공
+        - /uploads/** 요청 → StorageBackend에서 파일 제공 (StorageResourceResolver)
         - 이미지, 파일 등을 브라우저에서 직접 접근 가능하도록 설정
+        - 저장소가 로컬 디스크든 S3 호환 저장소든 같은 URL로 접근 가능
+        - 아카이브로 옮겨진 오래된 게시글의 이미지도 같은 URL로 접근 가능
+        - 압축 저장된 파일은 다운로드와 같이 Content-Encoding으로 보내거나 풀어서 보냄
  */
+    /*
+    정적 리소스 (css, js) 파이프라인
+        - 파일명 핑거프린트 : VersionResourceResolver (내용 MD5 해시를 파일명에 붙임, 해시는 최초 1회만 계산 후 캐시)
+            - 내용이 바뀌면 URL도 바뀌므로 immutable 캐시를 안전하게 사용할 수 있음
+        - 사전 압축 : 빌드 시 processResources가 만든 .gz / .br 파일을 EncodedResourceResolver가 골라서 응답
+            - Accept-Encoding에 따라 br > gzip 순서로 선택, 요청마다 압축하는 CPU 비용 없음
+        - resourceChain(true) : 경로 → 리소스 해석 결과를 캐시
+     */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String dir : new String[]{"css", "js"}) {
+            registry.addResourceHandler("/" + dir + "/**")
+                    .addResourceLocations("classpath:/static/" + dir + "/")
+                    .setCacheControl(IMMUTABLE)
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+
+        // 업로드 파일은 UUID 파일명이라 내용이 바뀌지 않음 → 긴 캐시
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:uploads/");
-}
+                .setCacheControl(IMMUTABLE_PRIVATE)
+                .resourceChain(false)
+                .addResolver(new StorageResourceResolver(storageBackend,
+                        attachmentArchiveService::findArchivedByStoredFilename,
+                        attachmentArchiveService::findStoredEncoding));
+    }
 }
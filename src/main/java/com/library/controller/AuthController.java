@@ -2,11 +2,16 @@ package com.library.controller;
 
 import com.library.dto.member.MemberRegistrationDTO;
 import com.library.dto.member.MemberResponseDTO;
+import com.library.exception.DuplicateEmailException;
+import com.library.exception.PasswordHashingBusyException;
 import com.library.service.MemberService;
 import com.library.util.MaskingUtils;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -105,7 +110,8 @@ public class AuthController {
     public String register(
             @Valid @ModelAttribute("memberRegistrationDTO") MemberRegistrationDTO registrationDTO,
             BindingResult bindingResult,
-            Model model) {
+            Model model,
+            HttpServletResponse response) {
 
         String maskedEmail = MaskingUtils.maskEmail(registrationDTO.getEmail());
         log.info("=== 회원가입 처리 시작: {} === ", maskedEmail);
@@ -157,6 +163,20 @@ public class AuthController {
 
             return "redirect:/auth/login?registered=true";
 
+        } catch (DuplicateEmailException e) {
+            // 같은 이메일이 동시에 가입된 경우 (DB 유니크 제약으로 판정)
+            log.error("❌ 이메일 중복 (동시 가입) - {} ", maskedEmail);
+            model.addAttribute("error", "이미 사용 중인 이메일입니다.");
+            model.addAttribute("errorType", "email_duplicate");
+
+        } catch (PasswordHashingBusyException e) {
+            // 비밀번호 해시 대기열 포화 (BoundedPasswordEncoder) - 폼은 그대로 보여주고 503
+            log.warn("회원가입 거절 (비밀번호 해시 대기열 포화) - {}", maskedEmail);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "5");
+            model.addAttribute("error", e.getMessage());
+            model.addAttribute("errorType", "system_busy");
+
         } catch (Exception e) {
             // 6. 시스템 오류 처리
             log.error("회원 가입 시스템 오류 발생!");
@@ -1,21 +1,39 @@
 package com.library.controller;
 
+import com.library.cache.NoticeCache;
+import com.library.cache.TrendingBoards;
 import com.library.dto.board.BoardCreateDTO;
 import com.library.dto.board.BoardDetailDTO;
 import com.library.dto.board.BoardListDTO;
 import com.library.dto.board.BoardUpdateDTO;
+import com.library.dto.board.RelatedBoardDTO;
+import com.library.dto.member.MemberPrincipal;
 import com.library.entity.board.BoardCategory;
+import com.library.entity.board.BoardSort;
+import com.library.search.RelatedBoards;
 import com.library.service.BoardService;
+import com.library.service.BoardVersionService;
+import com.library.service.ViewCountBuffer;
+import com.library.util.TagParser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.security.Principal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 /*
     게시글 Controller
         - 게시글 관련 HTTP 요청을 처리하고 뷰를 반환
@@ -28,6 +46,33 @@ import java.security.Principal;
 public class BoardController {
 
     private final BoardService boardService;        // 게시글 Service(DI)
+    private final BoardVersionService boardVersionService;  // 페이지 검증값(ETag/Last-Modified) 계산
+    private final NoticeCache noticeCache;          // 목록 상단 고정 공지
+    private final TrendingBoards trendingBoards;    // 지금 뜨는 글
+    private final RelatedBoards relatedBoards;      // 관련 글 (MinHash + LSH)
+    private final ViewCountBuffer viewCountBuffer;  // 304로 응답한 상세 조회의 조회수
+
+    /*
+        조건부 GET (304 Not Modified)
+            - 브라우저가 보낸 If-None-Match / If-Modified-Since를 검증값과 비교
+            - 같으면 렌더링/엔티티 조회 없이 304 응답 (본문 없음) → 브라우저는 캐시된 페이지를 그대로 사용
+            - Cache-Control: private, no-cache
+                - 브라우저는 저장하되 매번 검증 요청을 보냄 (공유 캐시에는 저장하지 않음)
+                - 직접 지정하지 않으면 Spring Security가 no-store를 붙여 브라우저가 저장하지 않음
+            - 화면이 사용자/세션(CSRF 토큰, 수정·삭제 버튼)에 따라 다르므로 사용자 이름과 세션 id를 ETag에 포함
+        @return 304로 응답했으면 true
+     */
+    private boolean notModified(BoardVersionService.Validators validators,
+                                WebRequest webRequest, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        return webRequest.checkNotModified(validators.getETag(), validators.getLastModified());
+    }
+
+    // 화면을 달라지게 하는 사용자/세션 정보 (ETag 구분용)
+    private static String viewerOf(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return request.getRemoteUser() + "@" + (session == null ? "-" : session.getId());
+    }
     /*
         게시글 목록 페이지
             - ACTIVE 상태의 게시글 목록을 페이징으로 조회
@@ -36,6 +81,9 @@ public class BoardController {
 
         1-based 페이징 시스템 (URL: page=1부터 시작)
             - URL : GET /boards?page=1&size=10
+            - 카테고리 필터 : GET /boards?category=QNA&page=1 (없으면 전체)
+            - 정렬 : GET /boards?sort=VIEWS (LATEST, VIEWS, LIKES, COMMENTS - 기본 최신순)
+            - 태그 필터 : GET /boards?tag=스프링&tag=jpa&category=QNA (모든 태그를 가진 글, 최신순)
 
         페이징 그룹 개념
             - 한 번에 10개의 페이지 번호만 표시 (예: [1][2]...[10], [11][12]...[20], ...)
@@ -48,8 +96,28 @@ public class BoardController {
     public String list(
             @RequestParam(defaultValue = "1") int page,     //조회할 페이지 번호 (기본값:1)
             @RequestParam(defaultValue = "8") int size,    //페이지당 보여줄 게시글 갯수 (기본값: 8개)
-            Model model                                     //뷰에 데이터 전달용 Model
+            @RequestParam(required = false) BoardCategory category,    //카테고리 필터 (없으면 전체)
+            @RequestParam(defaultValue = "LATEST") BoardSort sort,     //정렬 기준 (최신순/조회순/좋아요순/댓글순)
+            @RequestParam(name = "tag", required = false) List<String> tagParams,    //태그 필터 (여러 개면 모두 가진 글만)
+            Model model,                                    //뷰에 데이터 전달용 Model
+            WebRequest webRequest,                          //조건부 GET 검사용
+            HttpServletRequest request,
+            HttpServletResponse response
     ) {
+        // 태그 정규화 (#, 대소문자 제거, 중복 제거) - 태그 필터는 최신순만 지원
+        Set<String> tags = tagParams == null ? Set.of() : tagParams.stream()
+                .map(TagParser::normalize)
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!tags.isEmpty()) {
+            sort = BoardSort.LATEST;
+        }
+
+        // 바뀐 게 없으면 목록 조회 없이 304 응답
+        if (notModified(boardVersionService.listValidators(page, size, category, sort, tags, viewerOf(request)), webRequest, response)) {
+            return null;
+        }
+
         /* Service를 통해 게시글 목록 조회 (page -1 을 전달하여 0-based로 전환)
             Controller에서 들어오는 요청 예: /boards?page=1
             → 즉, page = 1이에요 (사람 기준으로 첫 페이지).
@@ -59,7 +127,7 @@ public class BoardController {
 
             그래서 맞춰주기 위해 이렇게 조정함
          */
-        Page<BoardListDTO> boards = boardService.getBoardList(page-1, size);    //size는 10개 그대로
+        Page<BoardListDTO> boards = boardService.getBoardList(page-1, size, category, sort, tags);    //size는 10개 그대로
 
         // 전체 페이지 수
         int totalPages = boards.getTotalPages();        // 전체 페이지수
@@ -79,6 +147,13 @@ public class BoardController {
         
         // Model 데이터 추가 (Thymeleaf로 전달)
         model.addAttribute("boards", boards); // 게시글 목록
+        model.addAttribute("notices", noticeCache.getNotices());  // 상단 고정 공지 (캐시, 추가 쿼리 없음)
+        model.addAttribute("trending", trendingBoards.getTrending());   // 지금 뜨는 글 (메모리 스냅샷)
+        model.addAttribute("categories", BoardCategory.values());   // 카테고리 탭
+        model.addAttribute("selectedCategory", category);           // 선택된 카테고리 (null이면 전체)
+        model.addAttribute("sorts", BoardSort.values());            // 정렬 선택
+        model.addAttribute("selectedSort", sort);
+        model.addAttribute("selectedTags", tags);                   // 선택된 태그 (비어 있으면 전체)
         model.addAttribute("currentPage", page);    //현재 페이지 번호(1-based)
         model.addAttribute("totalPages", totalPages);   //전체 페이지수
         model.addAttribute("totalElements", boards.getTotalElements()); // 전체 게시글 수
@@ -94,17 +169,58 @@ public class BoardController {
         return "board/list";    // 게시글 목록 뷰
     }
 
+    /*
+        게시글 검색 페이지
+            - URL : GET /boards/search?q=검색어&page=1
+            - 한글은 두 글자 단위로 나누어 찾으므로 단어의 일부로도 검색됨 (예: "도서관" → "도서")
+     */
+    @GetMapping("/search")
+    public String search(
+            @RequestParam(defaultValue = "") String q,         //검색어
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "8") int size,
+            Model model
+    ) {
+        Page<BoardListDTO> boards = boardService.searchBoards(q, Math.max(page, 1) - 1, size);
+
+        model.addAttribute("q", q);
+        model.addAttribute("boards", boards);
+        model.addAttribute("currentPage", page);
+        model.addAttribute("totalPages", boards.getTotalPages());
+        model.addAttribute("totalElements", boards.getTotalElements());
+
+        return "board/search";  // 검색 결과 뷰
+    }
+
     @GetMapping("/{id}")
     public String detail(
         @PathVariable Long id,                      // URL의 {id}를 메서드 파라미터로 바인딩
         @RequestParam(defaultValue = "1") int page,  // 페이지 번호
-        Model model){
+        Model model,
+        WebRequest webRequest,
+        HttpServletRequest request,
+        HttpServletResponse response){
+
+        // 관련 글은 다른 게시글이 바뀌어도 달라지므로 id 목록을 ETag에 포함 (메모리 조회)
+        List<RelatedBoardDTO> related = relatedBoards.find(id);
+        String relatedIds = related.stream().map(r -> String.valueOf(r.getId())).collect(Collectors.joining(","));
+
+        // 바뀐 게 없으면 게시글 조회 없이 304 응답
+        //   - 304도 다시 본 것이므로 조회로 셈 : 익명 페이지 캐시 적중과 같이 ViewCountBuffer에 모음
+        //     (지금 뜨는 글은 바로, 조회수와 조회순 순위는 버퍼를 반영할 때)
+        BoardVersionService.Validators validators =
+                boardVersionService.detailValidators(id, page, viewerOf(request), relatedIds).orElse(null);
+        if (validators != null && notModified(validators, webRequest, response)) {
+            viewCountBuffer.increment(id);
+            return null;
+        }
 
         // Service를 통해 게시글 상세 정보 조회 (조회수 자동 증가)
         BoardDetailDTO board = boardService.getBoard(id);
 
         model.addAttribute("board", board);
         model.addAttribute("page", page);   // 목록으로 들어갈 페이지 번호
+        model.addAttribute("related", related);     // 관련 글 (같은 카테고리, 유사도 순)
 
         return "board/detail.html";  // 게시글 상세 뷰
     }
@@ -134,7 +250,7 @@ public class BoardController {
     public String create(
             @Valid @ModelAttribute BoardCreateDTO boardCreateDTO, //@Valid : 검증 활성화, @ModelAttribute : 폼 데이터 바인딩
             BindingResult bindingResult, // @Valid 검증 결과, Thymeleaf #fields 객체 사용 가능
-            Principal principal, // Spring Security 로그인 사용자, principal.getName() 이메일 획득
+            @AuthenticationPrincipal MemberPrincipal principal, // Spring Security 로그인 사용자 (id, 이메일, 이름, 권한)
             Model model,        // View에 전달할 데이터
             RedirectAttributes redirectAttributes       // 리다이렉트 시 일회용 데이터 전달
     ){
@@ -146,8 +262,7 @@ public class BoardController {
 
         try {
             // 성공 처리
-            String userEmail = principal.getName(); // 현재 로그인 사용자 이메일 획득
-            Long boardId = boardService.createBoard(boardCreateDTO, userEmail); // 게시글 생성 (DB 저장)
+            Long boardId = boardService.createBoard(boardCreateDTO, principal); // 게시글 생성 (DB 저장, 작성자는 id로)
 
             redirectAttributes.addFlashAttribute("success", "게시글이 작성되었습니다."); //성공 메시지
 
@@ -169,7 +284,7 @@ public class BoardController {
     /*
         게시글 삭제 처리
             - 코드 흐름
-                - 1) Principal에서 현재 로그인한 사용자 이메일 획득
+                - 1) 현재 로그인한 사용자 정보(MemberPrincipal) 주입
                 - 2) Service의 deleteBoard() 호출 (권한 검증 포함)
                 - 3) 성공 메시지를 FlashAttribute로 추가
                 - 4) 게시글 목록으로 리다이렉트
@@ -177,12 +292,11 @@ public class BoardController {
     @DeleteMapping("/{id}")
     public String delete(
             @PathVariable Long id,                  // URL의 {id}를 파라미터로 바인딩
-            Principal principal,                    // 현재 로그인한 사용자 정보
+            @AuthenticationPrincipal MemberPrincipal principal,    // 현재 로그인한 사용자 정보
             RedirectAttributes redirectAttributes   // 리다이렉트 시 메시지 전달용
     ){
         try{
-            String userEmail = principal.getName(); // 현재 로그인한 사용자 이메일 획득
-            boardService.deleteBoard(id, userEmail); //Service를 통해 게시글 삭제
+            boardService.deleteBoard(id, principal); //Service를 통해 게시글 삭제 (작성자 id 비교)
 
             redirectAttributes.addFlashAttribute("success", "게시글이 삭제되었습니다.");
 
@@ -202,22 +316,20 @@ public class BoardController {
     @GetMapping("/{id}/edit")
     public String editForm(
             @PathVariable Long id,
-            Principal principal,
+            @AuthenticationPrincipal MemberPrincipal principal,
             Model model,
             RedirectAttributes redirectAttributes
     ){
         try{
-            // 현재 로그인한 사용자 이메일
-            String userEmail = principal.getName();
-
             // 수정할 게시글 조회 (권한 검증 포함)
-            BoardDetailDTO board = boardService.getBoardForEdit(id, userEmail);
+            BoardDetailDTO board = boardService.getBoardForEdit(id, principal);
 
             // BoardUpdateDTO로 변환하여 폼에 바인딩
             BoardUpdateDTO updateDTO = BoardUpdateDTO.builder()
                     .title(board.getTitle())
                     .content(board.getTitle())
                     .category(board.getCategory())
+                    .tags(TagParser.format(board.getTags()))
                     .build();
             model.addAttribute("board", updateDTO);
             model.addAttribute("boardId", id);
@@ -245,7 +357,7 @@ public class BoardController {
             @PathVariable Long id,
             @Valid @ModelAttribute("board") BoardUpdateDTO updateDTO,
             BindingResult bindingResult,
-            Principal principal,
+            @AuthenticationPrincipal MemberPrincipal principal,
             Model model,
             RedirectAttributes redirectAttributes
     ){
@@ -257,7 +369,7 @@ public class BoardController {
         
         // 기존 파일 목록 다시 조회
             try{
-                BoardDetailDTO board = boardService.getBoardForEdit(id, principal.getName());
+                BoardDetailDTO board = boardService.getBoardForEdit(id, principal);
                 model.addAttribute("existingFiles", board.getFiles());
             } catch (Exception e) {
                 // 파일 목록 조회 실패해도 폼은 유시
@@ -267,10 +379,8 @@ public class BoardController {
 
         // 2. 수정
         try {
-            // 현재 로그인한 사용자 이메일
-            String userEmail = principal.getName();
             // 게시글 수정 처리
-            boardService.updateBoard(id, updateDTO, userEmail);
+            boardService.updateBoard(id, updateDTO, principal);
             redirectAttributes.addFlashAttribute("success", "게시글이 수정되었습니다.");
             return "redirect:/boards/" + id;
         } catch (Exception e) {
@@ -282,7 +392,7 @@ public class BoardController {
 
             // 기존 파일 목록 다시 조회
             try{
-                BoardDetailDTO board = boardService.getBoardForEdit(id, principal.getName());
+                BoardDetailDTO board = boardService.getBoardForEdit(id, principal);
                 model.addAttribute("existingFiles", board.getFiles());
             } catch(Exception ex){
                 // 파일 목록 조회 실패해도 폼은 표시
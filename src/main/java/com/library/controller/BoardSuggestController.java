@@ -0,0 +1,34 @@
+package com.library.controller;
+
+import com.library.dto.board.BoardSuggestionDTO;
+import com.library.search.TitleSuggester;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/*
+    게시글 제목 자동완성 Controller - 검색창 입력 중 호출하는 REST API
+    @RestController: @Controller + @ResponseBody (JSON 자동 변환)
+ */
+@RestController
+@RequestMapping("/api/boards")
+@RequiredArgsConstructor
+public class BoardSuggestController {
+    private final TitleSuggester titleSuggester;
+
+    /*
+        제목 자동완성 API
+            - GET /api/boards/suggest?q=도서&limit=10
+            - 접두어 또는 초성(예: ㄷㅅㄱ → 도서관)으로 시작하는 제목, 조회수 내림차순
+            - 메모리 트라이만 조회 (DB 조회 없음)
+            - limit는 1 ~ suggest.size로 맞춤 (TitleSuggester)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<BoardSuggestionDTO>> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(titleSuggester.suggest(q, limit));
+    }
+}
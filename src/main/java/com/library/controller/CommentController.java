@@ -3,14 +3,15 @@ package com.library.controller;
 import com.library.dto.board.CommentCreateDTO;
 import com.library.dto.board.CommentDTO;
 import com.library.dto.board.CommentUpdateDTO;
+import com.library.dto.member.MemberPrincipal;
 import com.library.service.CommentService;
+import com.library.service.CommentWritePipeline;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,11 +29,12 @@ import java.util.List;
 @Slf4j
 public class CommentController {
     private final CommentService commentService;
+    private final CommentWritePipeline commentWritePipeline;     // 댓글 작성 (comment.batch.enabled면 묶음 커밋)
 
     /*
         게시글별 댓글 목록 조회 API
             - GET /api/comments/boards/{boardId}
-            - 특정 게시글의 모든 활성 댓글 조회
+            - 특정 게시글의 모든 활성 댓글 조회 (루트 댓글 목록, 답글은 replies에 트리로)
      */
     @GetMapping("/boards/{boardId}")
     public ResponseEntity<List<CommentDTO>> getCommentsByBoardId(
@@ -44,21 +46,33 @@ public class CommentController {
         return ResponseEntity.ok(comments); // HTTP 200 OK 상태코드와 댓글 목록을 응답(response)
     }
 
+    /*
+        답글 서브트리 조회 API
+            - GET /api/comments/{commentId}/replies?after={마지막 댓글 id}&size=20
+            - 특정 댓글 아래의 답글을 스레드 순서(path 순)로 size개씩 (키셋 페이지)
+     */
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<List<CommentDTO>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size){
+        List<CommentDTO> replies = commentService.getReplies(commentId, after, Math.max(1, Math.min(size, 100)));
+        return ResponseEntity.ok(replies);
+    }
+
     /*
         댓글 작성 API
             - POST /api/comments/boards/{boardId}
-            - 특정 게시글의 새 댓글 작성
+            - 특정 게시글의 새 댓글 작성 (parentId가 있으면 그 댓글의 답글)
      */
     @PostMapping("/boards/{boardId}")
     public ResponseEntity<CommentDTO> createComment(
             @PathVariable Long boardId,
             @Valid @RequestBody CommentCreateDTO dto,
-            @AuthenticationPrincipal UserDetails userDetails){
-        log.info("댓글 작성 요청 = 게시글 ID: {}, 작성자: {}", boardId, userDetails.getUsername());
-
-        String userEmail = userDetails.getUsername();   // Member의 email을 반환
+            @AuthenticationPrincipal MemberPrincipal principal){     // 로그인 사용자 (id로 작성자 프록시 생성)
+        log.info("댓글 작성 요청 = 게시글 ID: {}, 작성자: {}", boardId, principal.getUsername());
 
-        CommentDTO comment = commentService.createComment(boardId, dto, userEmail);
+        CommentDTO comment = commentWritePipeline.createComment(boardId, dto, principal);
         log.info("댓글 작성 완료 = 댓글 ID: {}", comment.getId());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(comment);
@@ -70,12 +84,10 @@ public class CommentController {
     public ResponseEntity<CommentDTO> updateComment(
             @PathVariable Long commentId,
             @Valid @RequestBody CommentUpdateDTO dto,
-            @AuthenticationPrincipal UserDetails userDetails){
-        log.info("댓글 수정 요청 - 댓글ID : {}, 수정자: {}", commentId, userDetails.getUsername());
-
-        String userEmail = userDetails.getUsername();
+            @AuthenticationPrincipal MemberPrincipal principal){
+        log.info("댓글 수정 요청 - 댓글ID : {}, 수정자: {}", commentId, principal.getUsername());
 
-        CommentDTO updatedComment = commentService.updateComment(commentId, dto, userEmail);
+        CommentDTO updatedComment = commentService.updateComment(commentId, dto, principal);
 
         log.info("댓글 수정 완료 - 댓글ID : {}", commentId);
 
@@ -90,12 +102,10 @@ public class CommentController {
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Void> deleteComment(
             @PathVariable Long commentId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        log.info("댓글 삭제 요청 - 댓글ID : {}, 삭제자: {}", commentId, userDetails.getUsername());
+            @AuthenticationPrincipal MemberPrincipal principal) {
+        log.info("댓글 삭제 요청 - 댓글ID : {}, 삭제자: {}", commentId, principal.getUsername());
 
-        String userEmail = userDetails.getUsername();
-        
-         commentService.deleteComment(commentId, userEmail);
+        commentService.deleteComment(commentId, principal);
 
         log.info("댓글 삭제 완료 - 댓글ID : {}", commentId);
 
@@ -1,8 +1,10 @@
 package com.library.controller;
 
+import com.library.cache.TrendingBoards;
 import com.library.entity.board.BoardFile;
 import com.library.repository.BoardFileRepository;
-import com.library.service.FileStorageService;
+import com.library.service.AttachmentArchiveService;
+import com.library.storage.ContentCodec;
 import org.springframework.core.io.Resource;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -12,7 +14,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.resource.HttpResource;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
@@ -23,31 +27,34 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class FileController {
 
-    private final FileStorageService fileStorageService;
+    private final AttachmentArchiveService attachmentArchiveService;
     private final BoardFileRepository boardFileRepository;
+    private final TrendingBoards trendingBoards;
     /*
         파일 다운로드
             - 파일 ID로 파일 정보 조회
-            - 물리적 파일 로드
+            - 물리적 파일 로드 (업로드 저장소에 없으면 아카이브에서)
             - 다운로드 횟수 증가 (더티체킹)
             - 파일 다운로드 응답 반환
+                - 압축 저장된 파일 + 클라이언트가 해당 압축을 받을 수 있음 => 저장된 바이트 그대로 전송 (Content-Encoding)
+                - 압축 저장된 파일 + 클라이언트가 받을 수 없음 => 스트리밍으로 압축 해제하며 전송
             - URL: GET / files/download/{fieldId}
      */
     @GetMapping("/download/{fileId}")
     @Transactional
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId){
+    public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding){
         // 1. 파일 정보 조회
         BoardFile boardFile = boardFileRepository.findById(fileId) //DB에서 파일 ID로 BoardID 조회
                 .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
 
-        // 2. 물리적 파일 다운로드
-        Resource resource = fileStorageService.loadFileAsResource(  // 서버 저장소에서 실제 파일을 Resource객체로 로드
-                boardFile.getFilePath(),        // 파일이 저장된 디렉토리 경로
-                boardFile.getStoredFilename()  // 서버에 저장된 고유 파일명 (UUID + 확장자)
-        );
+        // 2. 물리적 파일 다운로드 - 서버 저장소에서 실제 파일을 Resource객체로 로드
+        //    (오래된 게시글의 파일은 아카이브 세그먼트로 옮겨졌을 수 있음 - AttachmentArchiveService가 알아서 찾아 줌)
+        Resource resource = attachmentArchiveService.loadFile(boardFile);
 
         // 3. 다운로드 횟수 증가
         boardFile.increaseDownloadCount();  // 다운로드 횟수 1 증가 (메모리상에서만)
+        trendingBoards.recordDownload(boardFile.getBoard().getId());   // 지금 뜨는 글 집계 (프록시 id라 게시글 조회 없음)
         //@Transactional로 인해 메서드 종료시 더티체킹으로 자동 UPDATE 쿼리 실행됨
 
         // 4. 파일명 인코딩 (한글 파일명 처리)
@@ -60,12 +67,19 @@ public class FileController {
             encodedFilename = boardFile.getOriginalFilename();    // 문제가 생기면 원본파일명을 그대로 사용
         }
 
-        // 5. 파일 다운로드 응답 반환
-        return ResponseEntity.ok()
+        // 5. 파일 다운로드 응답 생성
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
                 .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + encodedFilename + "\"")
-                .body(resource);    // 응답 본문에 파일 데이터(resource) 포함
+                        "attachment; filename=\"" + encodedFilename + "\"");
+
+        // 6. 압축 저장된 파일 처리 (/uploads/**와 같은 규칙 - ContentCodec.negotiate)
+        resource = ContentCodec.negotiate(resource, boardFile.getContentEncoding(), boardFile.getFileSize(), acceptEncoding);
+        if (resource instanceof HttpResource httpResource) {
+            response.headers(httpResource.getResponseHeaders());    // Vary, Content-Encoding
+        }
+
+        return response.body(resource);    // 응답 본문에 파일 데이터(resource) 포함
 
     }
 }
@@ -1,6 +1,8 @@
 package com.library.controller;
 
+import com.library.cache.TrendingBoards;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
@@ -9,8 +11,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 
 @Slf4j
 @Controller
+@RequiredArgsConstructor
 public class HomeController {
 
+    private final TrendingBoards trendingBoards;    // 지금 뜨는 글
+
     @Value("dev")
     private String activeProfile;
 
@@ -31,6 +36,9 @@ public class HomeController {
             model.addAttribute("monthlyRentals", 1896);
             model.addAttribute("avgRating", "4.8");
 
+            // 지금 뜨는 글 (메모리 스냅샷, DB 조회 없음)
+            model.addAttribute("trending", trendingBoards.getTrending());
+
             // 개발환경에서만 프로필 정보 표시
             if ("dev".equals(activeProfile)) {
                 model.addAttribute("activeProfile", activeProfile);
@@ -40,6 +40,9 @@ public class BoardDetailDTO {
     @Builder.Default
     private List<BoardFileDTO> files = new ArrayList<>();
 
+    @Builder.Default
+    private List<String> tags = new ArrayList<>();
+
     /*
         Board Entity를 BoardDetailDTO로 변환하는 정적 메서드
             - Board Entity와 연관된 Member Entity의 정보를 함께 추출함
@@ -58,6 +61,7 @@ public class BoardDetailDTO {
                 .createdAt(board.getCreatedAt())
                 .updatedAt(board.getUpdatedAt())
                 .files(board.getFiles().stream().map(BoardFileDTO::from).collect(Collectors.toList())) //Stream으로 변환했다가 다시 List로 변환
+                .tags(new ArrayList<>(board.getTags()))
                 .build();
     }
 }
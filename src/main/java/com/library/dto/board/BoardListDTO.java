@@ -30,7 +30,7 @@ public class BoardListDTO {
     private String authorName;
     private Long viewCount;
     private Long likeCount;
-    private Integer commentCount;
+    private Long commentCount;
     private BoardCategory category;
     private LocalDateTime createdAt;
 
@@ -45,7 +45,7 @@ public class BoardListDTO {
                 .authorName(board.getAuthor().getName())    // 실제 이름 사용(화면표시용)
                 .viewCount(board.getViewCount())
                 .likeCount(board.getLikeCount())
-                .commentCount(0)        // 댓글 기능 구현시 실제 count로 반경
+                .commentCount(board.getCommentCount())
                 .category(board.getCategory())
                 .createdAt(board.getCreatedAt())
                 .build();
@@ -0,0 +1,15 @@
+package com.library.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    제목 자동완성 항목 DTO (/api/boards/suggest 응답)
+        - 입력창 아래에 제목만 보여주고 선택하면 상세로 이동하므로 id, 제목만 가짐
+ */
+@Getter
+@AllArgsConstructor
+public class BoardSuggestionDTO {
+    private Long id;
+    private String title;
+}
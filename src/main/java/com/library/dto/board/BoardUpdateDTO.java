@@ -1,6 +1,8 @@
 package com.library.dto.board;
 
 import com.library.entity.board.BoardCategory;
+import com.library.util.TagParser;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -39,6 +41,15 @@ public class BoardUpdateDTO {
     @NotNull(message = "카테고리는 필수 선택 항목입니다.")
     private BoardCategory category;
 
+    // 태그 (쉼표/공백 구분, 예: "스프링, jpa") - TagParser로 파싱
+    @Size(max = 400, message = "태그 입력이 너무 깁니다.")
+    private String tags;
+
+    @AssertTrue(message = "태그는 최대 10개, 태그당 30자까지 입력할 수 있습니다.")
+    public boolean isTagsValid() {
+        return TagParser.isValid(tags);
+    }
+
     // 새로 추가할 파일 목록
     private List<MultipartFile> files = new ArrayList<>();
 
@@ -19,4 +19,6 @@ public class CommentCreateDTO {
     @NotBlank(message = "댓글 내용을 입력해주세요.")
     @Size(max = 1000, message = "댓글은 최대 1000자까지 입력 가능합니다.")
     private String content;
+
+    private Long parentId;      // 답글이면 부모 댓글 id (null이면 루트 댓글)
 }
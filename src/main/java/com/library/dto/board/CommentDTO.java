@@ -4,11 +4,14 @@ import com.library.entity.board.Comment;
 import lombok.*;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 /*
     댓글 조회 DTO
         - 댓글 목록 조회시 사용
         - Entity -> DTO 변환 메서드 포함
+        - 답글은 replies에 담아 트리로 응답 (화면은 받은 순서대로 depth만큼 들여쓰기)
  */
 @Getter
 @Setter
@@ -22,8 +25,21 @@ public class CommentDTO {
     private String authorEmail; // 작성자 이메일(권한)
     private String createdAt;   // 포맷팅된 작성일시
     private String updatedAt;   // 포맷팅된 수정일시
+    private Long parentId;      // 부모 댓글 id (루트 댓글이면 null)
+    private int depth;          // 답글 깊이 (루트 0)
+    private boolean deleted;    // 삭제된 댓글 자리 (답글이 남아 있어 표시만 함)
+    @Builder.Default
+    private List<CommentDTO> replies = new ArrayList<>();   // 답글 (작성 순)
 
     public static CommentDTO from(Comment comment){
+        return from(comment, comment.getAuthor().getName(), comment.getAuthor().getEmail());
+    }
+
+    /*
+        작성자 이름/이메일을 따로 받는 변환 (쓰기 직후 응답용)
+            - 작성자가 getReferenceById 프록시일 때 로그인 정보(MemberPrincipal)로 채움 → 회원 조회 없음
+     */
+    public static CommentDTO from(Comment comment, String authorName, String authorEmail){
         // 날짜.시간 포맷터 생성 (예: "2025-10-21 16:28")
         // 패턴 설명 : yyyy(연도:4자리) -MM(월:2자리)-dd(일:2자리) HH(시:24시):mm(분)
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
@@ -32,10 +48,23 @@ public class CommentDTO {
         return CommentDTO.builder()
                 .id(comment.getId())        // 댓글 ID (수정/삭제시 식별용)
                 .content(comment.getContent())  // 댓글 내용 (화면에 표시될 텍스트)
-                .authorName(comment.getAuthor().getName())    // 댓글 작성자 이름 (Member 엔티티에서 추출)
-                .authorEmail(comment.getAuthor().getEmail())    // 작성자 이메일 (수정/삭제시 권한 확인용)
+                .authorName(authorName)    // 댓글 작성자 이름
+                .authorEmail(authorEmail)    // 작성자 이메일 (수정/삭제시 권한 확인용)
                 .createdAt(comment.getCreatedAt().format(formatter))    // 작성일시를 문자열로 포맷팅
                 .updatedAt(comment.getUpdatedAt().format(formatter))    // 수정일시를 문자열로 포맷팅
+                .parentId(comment.getParent() == null ? null : comment.getParent().getId())  // 프록시 id (추가 조회 없음)
+                .depth(comment.getDepth())
+                .build();
+    }
+
+    // 삭제된 댓글 자리 (내용/작성자는 내보내지 않음)
+    public static CommentDTO deleted(Comment comment){
+        return CommentDTO.builder()
+                .id(comment.getId())
+                .content("삭제된 댓글입니다.")
+                .parentId(comment.getParent() == null ? null : comment.getParent().getId())
+                .depth(comment.getDepth())
+                .deleted(true)
                 .build();
     }
 }
@@ -0,0 +1,15 @@
+package com.library.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    관련 글 항목 DTO (상세 페이지 하단)
+        - 제목과 링크만 표시하므로 id, 제목만 가짐
+ */
+@Getter
+@AllArgsConstructor
+public class RelatedBoardDTO {
+    private Long id;
+    private String title;
+}
@@ -0,0 +1,18 @@
+package com.library.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/*
+    "지금 뜨는 글" 위젯 항목 DTO
+        - 화면에 제목과 링크만 표시하므로 id, 제목만 가짐
+        - equals : 스냅샷이 바뀌었는지 비교 (TrendingBoards.publish)
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class TrendingBoardDTO {
+    private Long id;
+    private String title;
+}
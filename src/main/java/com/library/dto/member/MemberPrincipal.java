@@ -0,0 +1,68 @@
+package com.library.dto.member;
+
+import com.library.entity.member.Member;
+import com.library.entity.member.Role;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+    로그인 사용자 정보 (세션에 저장되는 principal)
+        - Member 엔티티 대신 id, 이메일, 이름, 권한만 담은 불변 객체
+            - 세션이 엔티티(비밀번호 해시, 지연 로딩 연관관계)를 들고 있지 않음
+            - 쓰기 요청은 id로 getReferenceById 프록시를 만들어 외래키에 사용 → 회원 조회 없음
+            - 작성자 확인은 이메일이 아니라 id 비교 (board.getAuthor().getId()는 프록시에서 바로 읽힘)
+        - 비밀번호 : 로그인 검증(DaoAuthenticationProvider)에만 쓰고 인증이 끝나면 지움 (eraseCredentials)
+        - getUsername()은 이메일 → #authentication.name, principal.name(이름) 등 화면 표현식은 그대로
+ */
+@Getter
+public class MemberPrincipal implements UserDetails, CredentialsContainer {
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final Role role;
+    private final boolean enabled;
+    private final List<GrantedAuthority> authorities;
+    private String password;    // 인증 후 null
+
+    private MemberPrincipal(Long id, String email, String name, Role role, boolean enabled, String password) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.enabled = enabled;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        this.password = password;
+    }
+
+    public static MemberPrincipal from(Member member) {
+        return of(member.getId(), member.getEmail(), member.getName(), member.getRole(),
+                member.isEnabled(), member.getPassword());
+    }
+
+    // 캐시(MemberCache)의 회원 정보로 생성 - 로그인마다 새 객체 (eraseCredentials가 캐시 값을 지우지 않도록)
+    public static MemberPrincipal of(Long id, String email, String name, Role role, boolean enabled, String password) {
+        return new MemberPrincipal(id, email, name, role, enabled, password);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.library.entity.base;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/*
+    id를 직접 넣는 Entity의 공통 클래스 (다른 Entity의 id를 그대로 쓰는 1:1 보조 테이블)
+        - Spring Data의 save()는 id가 있으면 기존 Entity로 보고 merge함 → 저장 전에 행마다 SELECT
+        - Persistable.isNew()로 새 Entity임을 알려 persist로 바로 INSERT
+            - 새로 만든 객체는 true, 저장(@PostPersist)되거나 조회(@PostLoad)되면 false
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity<ID> extends BaseEntity implements Persistable<ID> {
+
+    @Transient
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
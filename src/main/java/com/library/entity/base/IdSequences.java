@@ -0,0 +1,19 @@
+package com.library.entity.base;
+
+/*
+    Entity id 시퀀스 공통 설정 - Board, BoardFile, Comment, Member
+        - IDENTITY(AUTO_INCREMENT)는 INSERT를 실행해야 id를 알 수 있어 Hibernate가 INSERT를 JDBC 배치로 묶지 못함
+            → 게시글 + 첨부파일 10개 = INSERT 11번 왕복
+        - SEQUENCE + pooled 최적화 : 시퀀스를 한 번 읽을 때마다 ALLOCATION_SIZE개의 id를 메모리에서 나눠 씀
+            - persist 시점에 id가 정해지고 INSERT는 flush 때 batch_size만큼 묶어 전송
+            - 시퀀스를 지원하는 DB(H2 등)는 실제 시퀀스, MySQL은 Hibernate가 한 행짜리 테이블(next_val)로 대신함
+            - 노드가 여러 개여도 블록 단위로 나눠 가지므로 id는 겹치지 않음 (노드 간 id 순서는 작성 순서와 다를 수 있음)
+        - 기존 AUTO_INCREMENT 데이터 : 시작 시 시퀀스를 MAX(id) 뒤로 옮김 (IdSequenceMigrator)
+ */
+public final class IdSequences {
+
+    public static final int ALLOCATION_SIZE = 50;   // 시퀀스 한 번에 받는 id 수 (= hibernate.jdbc.batch_size)
+
+    private IdSequences() {
+    }
+}
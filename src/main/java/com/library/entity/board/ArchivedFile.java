@@ -0,0 +1,65 @@
+package com.library.entity.board;
+
+import com.library.entity.base.AssignedIdEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/*
+    아카이브된 첨부파일 인덱스 Entity - 첨부파일 id => 아카이브 세그먼트 내 위치
+        - 오래되었거나 삭제된 게시글의 첨부파일은 여러 개를 하나의 세그먼트 객체로 묶어 압축 보관함
+            - 세그먼트 = 파일별로 압축된 바이트를 이어 붙인 하나의 저장소 객체 (archive/segments/...)
+            - (segmentKey, segmentOffset, storedLength)로 범위 읽기하여 파일 하나만 꺼냄
+        - id는 BoardFile.id를 그대로 사용 (1:1, 자동 생성 안 함)
+            - AssignedIdEntity : save()가 merge(행마다 SELECT)가 아니라 persist로 저장
+            - 첨부파일 행이 삭제되면 DB가 이 행도 함께 삭제 (FK ON DELETE CASCADE, 운영은 db/archived-file-fk-mysql.sql)
+        - storedFilename 인덱스 : /uploads/** 이미지 요청은 파일명만 알기 때문에 필요
+ */
+@Entity
+@Table(name = "archived_file", indexes = {
+        @Index(name = "idx_archived_file_stored_filename", columnList = "storedFilename"),
+        @Index(name = "idx_archived_file_segment_key", columnList = "segmentKey")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ArchivedFile extends AssignedIdEntity<Long> {
+
+    @Id
+    private Long fileId;        // BoardFile.id
+
+    // 첨부파일 (id 공유 - file_id가 PK이자 FK)
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "file_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private BoardFile file;
+
+    @Column(nullable = false, length = 255)
+    private String storedFilename;      // 저장된 파일명 (UUID + 확장자)
+
+    @Column(nullable = false, length = 500)
+    private String segmentKey;      // 세그먼트 저장소 키 - ex) "archive/segments/20251015-031500-xxxx.seg"
+
+    @Column(nullable = false)
+    private Long segmentOffset;     // 세그먼트 안에서 시작 위치 (바이트)
+
+    @Column(nullable = false)
+    private Long storedLength;      // 세그먼트 안에서 차지하는 길이 (압축 후 바이트)
+
+    @Column(nullable = false, length = 20)
+    private String codec;       // 세그먼트 안의 압축 방식 - ex) "deflate"
+
+    @Column(length = 20)
+    private String sourceEncoding;      // 업로드 저장소에 있을 때의 압축 방식 (BoardFile.contentEncoding, 없으면 null)
+
+    @Column(nullable = false)
+    private Long fileSize;      // 원본 파일 크기 (바이트)
+
+    @Override
+    public Long getId() {
+        return fileId;
+    }
+}
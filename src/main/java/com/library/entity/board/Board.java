@@ -1,12 +1,15 @@
 package com.library.entity.board;
 
 import com.library.entity.base.BaseEntity;
+import com.library.entity.base.IdSequences;
 import com.library.entity.member.Member;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /*
     게시글 Entity
@@ -20,14 +23,29 @@ import java.util.List;
         - 조회 시 BoardRepository의 Fetch Join 메서드 사용 필요
  */
 @Entity
-@Table(name = "board")
+/*
+    인덱스
+        - 목록 조회는 WHERE status [AND category] ORDER BY created_at DESC, id DESC LIMIT ? 형태
+        - 조건 컬럼 다음에 정렬 컬럼을 두어 인덱스 범위 스캔만으로 정렬된 순서를 얻음 (filesort 없음)
+        - id는 같은 시각에 작성된 글의 순서를 고정 (페이지 경계에서 글이 중복/누락되지 않음)
+        - 조회순/좋아요순/댓글순 인덱스 : 앞쪽 페이지는 메모리 Top-K(BoardRanking)로 응답하고, 그 뒤 페이지만 인덱스로 조회
+ */
+@Table(name = "board", indexes = {
+        @Index(name = "idx_board_updated_at", columnList = "updatedAt"),    // 목록 페이지 검증값 - MAX(updated_at)를 인덱스 한 번으로 조회
+        @Index(name = "idx_board_status_created", columnList = "status, createdAt DESC, id DESC"),     // 전체 목록
+        @Index(name = "idx_board_status_category_created", columnList = "status, category, createdAt DESC, id DESC"),  // 카테고리별 목록
+        @Index(name = "idx_board_status_views", columnList = "status, viewCount DESC, id DESC"),           // 조회순
+        @Index(name = "idx_board_status_likes", columnList = "status, likeCount DESC, id DESC"),           // 좋아요순
+        @Index(name = "idx_board_status_comments", columnList = "status, commentCount DESC, id DESC")      // 댓글순
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  //JPA 스펙상 기본 생성자 필요. 외부에서 직접 생성방지
 @AllArgsConstructor
 @Builder
 public class Board extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)     // AUTO_INCREMENT
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_id")     // pooled 시퀀스 (IdSequences 참고)
+    @SequenceGenerator(name = "board_id", sequenceName = "board_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;        /* 게시글 ID (PK)*/
 
     @Column(nullable = false, length = 200)
@@ -79,6 +97,25 @@ public class Board extends BaseEntity {
     @Builder.Default
     private Long likeCount = 0L;
 
+    /*
+        댓글 수 (ACTIVE 댓글 기준, 비정규화)
+            - 목록 표시와 댓글순 정렬용 → 목록마다 comment 테이블을 COUNT하지 않음
+            - 댓글 작성/삭제 시 벌크 UPDATE로 ±1 (BoardRepository.addCommentCount)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Long commentCount = 0L;
+
+    /*
+        게시글 내용 버전
+            - 제목/본문/카테고리/첨부파일이 바뀔 때마다 1씩 증가
+            - 첨부파일만 바뀐 경우에도 Board가 변경되어 updatedAt이 갱신되도록 함
+            - 상세 페이지의 ETag 계산에 사용 (조회수 변경에는 증가하지 않음)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Long revision = 0L;
+
     /*
         게시글 상태
             - EnumType.STRING을 사용하여 문자열로 저장
@@ -116,6 +153,20 @@ public class Board extends BaseEntity {
     @Builder.Default
     private List<BoardFile> files = new ArrayList<>();
 
+    /*
+        태그 (board_tag 테이블, 값 컬렉션)
+            - 게시글에 딸린 문자열 값이라 별도 Entity 없이 @ElementCollection으로 저장
+            - 태그 필터 목록은 DB JOIN이 아니라 메모리 비트맵(BoardTagIndex)으로 처리
+            - idx_board_tag_tag : 태그로 게시글을 찾는 관리/통계 쿼리용
+     */
+    @ElementCollection
+    @CollectionTable(name = "board_tag",
+            joinColumns = @JoinColumn(name = "board_id"),
+            indexes = @Index(name = "idx_board_tag_tag", columnList = "tag"))
+    @Column(name = "tag", nullable = false, length = 30)
+    @Builder.Default
+    private Set<String> tags = new LinkedHashSet<>();
+
 
     /*
         게시글 수정
@@ -125,6 +176,15 @@ public class Board extends BaseEntity {
         this.title = title;
         this.content = content;
         this.category = category;
+        this.revision++;
+    }
+
+    // 태그 교체 (바뀐 것이 있을 때만 컬렉션을 고침)
+    public void replaceTags(Set<String> tags) {
+        if (!this.tags.equals(tags)) {
+            this.tags.clear();
+            this.tags.addAll(tags);
+        }
     }
 
     /*
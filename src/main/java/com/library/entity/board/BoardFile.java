@@ -1,19 +1,23 @@
 package com.library.entity.board;
 
 import com.library.entity.base.BaseEntity;
+import com.library.entity.base.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
 // 게시글 첨부파일 Entity - 게시글에 첨부된 파일 정보를 관리하며, Board와 다대일(N:1) 연관관계를 가짐
 @Entity
-@Table(name = "board_file")
+@Table(name = "board_file", indexes = {
+        @Index(name = "idx_board_file_stored_filename", columnList = "storedFilename")     // 무결성 검사 - 파일명으로 행 찾기
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class BoardFile extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_file_id")     // pooled 시퀀스 (IdSequences 참고)
+    @SequenceGenerator(name = "board_file_id", sequenceName = "board_file_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     // 소속 게시글 (Board와 N:1 관계) - 게시글 삭제시 첨부파일도 함께 삭제됨
@@ -31,7 +35,13 @@ public class BoardFile extends BaseEntity {
     private String filePath;    // 파일 경로 (서버에 저장된 파일의 상대 경로)
 
     @Column(nullable = false)
-    private Long fileSize;      // 파일 크기 (바이트 단위)
+    private Long fileSize;      // 파일 크기 (바이트 단위) - 압축 저장된 경우에도 원본 크기
+
+    @Column(length = 20)
+    private String contentEncoding;     // 저장 시 압축 방식 - ex) "deflate", 압축 안 했으면 null
+
+    @Column(length = 64)
+    private String checksum;    // 원본 내용의 SHA-256 (16진수) - 무결성 검사용, 이전에 올린 파일은 검사 중 채워짐
 
     @Column(length = 10)
     private String fileExtension;   // 파일 확장자 (소문자) - ex) "pdf", "jpg", "png"
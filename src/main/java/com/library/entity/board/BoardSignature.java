@@ -0,0 +1,33 @@
+package com.library.entity.board;
+
+import com.library.entity.base.AssignedIdEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/*
+    게시글 MinHash 서명 Entity - 관련 글 추천(RelatedBoards)용
+        - 게시글 작성/수정 시 제목 + 본문으로 계산해 저장 (MinHash)
+        - 시작할 때 이 테이블만 읽어 LSH 버킷을 만듦 → 전체 본문을 다시 읽거나 다시 계산하지 않음
+        - id는 Board.id를 그대로 사용 (1:1, 자동 생성 안 함)
+            - AssignedIdEntity : save()/saveAll()이 행마다 SELECT(merge)하지 않고 persist로 저장
+        - Board에 컬럼으로 두지 않은 이유 : 목록/상세 조회마다 서명 바이트를 읽지 않도록 분리
+ */
+@Entity
+@Table(name = "board_signature")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BoardSignature extends AssignedIdEntity<Long> {
+
+    @Id
+    private Long boardId;       // Board.id
+
+    @Column(nullable = false, length = 256)
+    private byte[] signature;   // MinHash.HASHES개의 int (big-endian)
+
+    @Override
+    public Long getId() {
+        return boardId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.library.entity.board;
+
+import lombok.Getter;
+
+/*
+    게시글 목록 정렬 기준 Enum
+        - property : 정렬할 Board 필드 (id 내림차순이 동점 순서를 고정)
+        - ranked : 카운터 기준 정렬 여부 (앞쪽 페이지를 메모리 Top-K로 응답, BoardRanking 참고)
+ */
+@Getter
+public enum BoardSort {
+    LATEST("최신순", "createdAt", false),
+    VIEWS("조회순", "viewCount", true),
+    LIKES("좋아요순", "likeCount", true),
+    COMMENTS("댓글순", "commentCount", true);
+
+    private final String displayName;       /* 화면에 표시될 한글 이름 */
+    private final String property;
+    private final boolean ranked;
+
+    BoardSort(String displayName, String property, boolean ranked) {
+        this.displayName = displayName;
+        this.property = property;
+        this.ranked = ranked;
+    }
+}
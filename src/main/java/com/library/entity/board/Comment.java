@@ -1,6 +1,7 @@
 package com.library.entity.board;
 
 import com.library.entity.base.BaseEntity;
+import com.library.entity.base.IdSequences;
 import com.library.entity.member.Member;
 import jakarta.persistence.*;
 import lombok.*;
@@ -12,9 +13,18 @@ import jakarta.persistence.Table;
         - BaseEntity를 상속받아 생성일시/수정일시가 자동 관리됨
         - 게시글(Board)와 다대일(N:1) 연관관계를 가짐
         - 작성자(Member)와 다대일(N:1) 연관관계를 가짐
+        - 답글(대댓글) : 부모 댓글(parent)과 materialized path
+            - path : 루트부터 자기까지 댓글 id를 PATH_SEGMENT_LENGTH자리 0 채움 숫자로 이어 붙인 문자열
+                - 루트 "0000000012", 그 답글 "00000000120000000015", ...
+                - path 순으로 정렬하면 스레드 순서 (부모 바로 뒤에 답글들, 같은 부모의 답글은 작성 순)
+                - 한 스레드(서브트리) = path가 부모 path로 시작하는 범위 → (board_id, path) 인덱스 범위 조회 한 번
+            - persist 때 시퀀스로 id가 정해지면 @PrePersist(assignPath)로 채움 (INSERT 값에 포함 → UPDATE 없이 한 번에 저장)
+            - 답글 기능 전에 작성된 댓글은 path가 비어 있음 → 시작 시 루트 댓글로 채움 (CommentService)
  */
 @Entity
-@Table(name ="comment")
+@Table(name ="comment", indexes = {
+        @Index(name = "idx_comment_board_path", columnList = "board_id, path")   // 게시글별 스레드 순서 조회
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -22,7 +32,8 @@ import jakarta.persistence.Table;
 public class Comment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_id")     // pooled 시퀀스 (IdSequences 참고)
+    @SequenceGenerator(name = "comment_id", sequenceName = "comment_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable=false, length=1000)
@@ -36,11 +47,42 @@ public class Comment extends BaseEntity {
     @JoinColumn(name = "author_id", nullable = false)
     private Member author;        // 댓글의 작성자 (Board와 N:1 관계)
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Comment parent;     // 부모 댓글 (루트 댓글이면 null)
+
+    @Column(length = 255)
+    private String path;        // materialized path (루트부터 자기까지의 id)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int depth = 0;      // 답글 깊이 (루트 0)
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
     private CommentStatus status = CommentStatus.ACTIVE;    // 활성 상태
 
+    public static final int PATH_SEGMENT_LENGTH = 10;   // path 한 단계의 자릿수 (id 최대 9,999,999,999)
+    public static final int MAX_DEPTH = 5;              // 답글 최대 깊이 (더 깊은 답글은 이 깊이에 형제로 붙음)
+
+    // id를 path 한 단계로 변환 (0 채움 고정 길이 → 문자열 정렬 = 숫자 정렬)
+    public static String pathSegment(Long id) {
+        String digits = String.valueOf(id);
+        return "0".repeat(PATH_SEGMENT_LENGTH - digits.length()) + digits;
+    }
+
+    /*
+        persist 직전 부모 path 뒤에 자기 id를 붙임
+            - Hibernate는 시퀀스 id를 정한 뒤 이 콜백을 부르고, 그 다음에 INSERT할 값을 읽음
+            - save() 뒤에 path를 바꾸면 INSERT 후 UPDATE가 한 번 더 나감
+     */
+    @PrePersist
+    void assignPath() {
+        this.path = (parent == null ? "" : parent.getPath()) + pathSegment(id);
+        this.depth = parent == null ? 0 : parent.getDepth() + 1;
+    }
+
     // 댓글 수정
     public void update(String content){
         this.content = content;
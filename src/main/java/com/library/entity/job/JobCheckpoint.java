@@ -0,0 +1,78 @@
+package com.library.entity.job;
+
+import com.library.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+    백그라운드 작업 진행 위치(체크포인트) Entity
+        - 오래 걸리는 배치 작업이 배치마다 진행 위치를 저장해 두고, 재시작하면 그 위치부터 이어서 처리함
+        - 작업 이름(jobName)이 PK - 작업 하나당 행 하나
+        - 커서 종류
+            - lastId : DB 키셋 커서 (마지막으로 처리한 행 id)
+            - lastKey : 저장소 목록 커서 (마지막으로 처리한 객체 키)
+ */
+@Entity
+@Table(name = "job_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobCheckpoint extends BaseEntity {
+
+    @Id
+    @Column(length = 100)
+    private String jobName;     // 작업 이름 - ex) "attachment-scrub"
+
+    @Column(nullable = false, length = 20)
+    private String phase;       // 작업 단계 - 작업마다 정의 (ex. ROWS, FILES, DONE)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long lastId = 0L;
+
+    @Column(length = 500)
+    private String lastKey;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long processedCount = 0L;   // 이번 회차에서 처리한 건수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long issueCount = 0L;       // 이번 회차에서 발견한 문제 건수
+
+    private LocalDateTime passStartedAt;    // 이번 회차 시작 시각
+    private LocalDateTime passFinishedAt;   // 마지막 회차 완료 시각
+
+    // 새 회차 시작 - 커서와 집계 초기화
+    public void startPass(String firstPhase) {
+        this.phase = firstPhase;
+        this.lastId = 0L;
+        this.lastKey = null;
+        this.processedCount = 0L;
+        this.issueCount = 0L;
+        this.passStartedAt = LocalDateTime.now();
+    }
+
+    // 배치 하나 처리 후 진행 위치 기록
+    public void advance(Long lastId, String lastKey, long processed, long issues) {
+        this.lastId = lastId;
+        this.lastKey = lastKey;
+        this.processedCount += processed;
+        this.issueCount += issues;
+    }
+
+    // 다음 단계로 이동
+    public void moveTo(String phase) {
+        this.phase = phase;
+    }
+
+    // 회차 완료
+    public void finishPass(String donePhase) {
+        this.phase = donePhase;
+        this.passFinishedAt = LocalDateTime.now();
+    }
+}
@@ -1,5 +1,6 @@
 package com.library.entity.member;
 
+import com.library.entity.base.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
@@ -26,7 +27,8 @@ import java.util.List;
 public class Member implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_id")     // pooled 시퀀스 (IdSequences 참고)
+    @SequenceGenerator(name = "members_id", sequenceName = "members_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "member_id")
     private Long id;
     @Column(nullable = false, unique = true, length = 100)
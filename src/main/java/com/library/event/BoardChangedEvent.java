@@ -0,0 +1,21 @@
+package com.library.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    게시글 변경 이벤트 - 게시글 작성/수정/삭제 시 BoardService가 발행
+        - 수신 측은 @TransactionalEventListener(AFTER_COMMIT)로 받아 커밋된 변경만 반영함
+        - 사용처 : 익명 페이지 캐시 무효화, 고정 공지 캐시 갱신 등
+        - notice : 변경 전 또는 변경 후 카테고리가 공지사항(NOTICE)인지 (공지 캐시 갱신 여부 판단)
+ */
+@Getter
+@AllArgsConstructor
+public class BoardChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Long boardId;
+    private final Type type;
+    private final boolean notice;
+}
@@ -0,0 +1,20 @@
+package com.library.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    댓글 변경 이벤트 - 댓글 작성/수정/삭제 시 CommentService가 발행
+        - 수신 측은 @TransactionalEventListener(AFTER_COMMIT)로 받아 커밋된 변경만 반영함
+        - 사용처 : 익명 페이지 캐시 무효화 등
+ */
+@Getter
+@AllArgsConstructor
+public class CommentChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Long boardId;
+    private final Long commentId;
+    private final Type type;
+}
@@ -0,0 +1,17 @@
+package com.library.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    회원 변경 이벤트 - 회원 가입 시 MemberService가 발행
+        - 수신 측은 @TransactionalEventListener(AFTER_COMMIT)로 받아 커밋된 변경만 반영함
+        - 사용처 : 회원 캐시(MemberCache) 무효화
+ */
+@Getter
+@AllArgsConstructor
+public class MemberChangedEvent {
+
+    private final Long memberId;
+    private final String email;
+}
@@ -0,0 +1,13 @@
+package com.library.exception;
+
+/*
+    이미 가입된 이메일로 회원 가입 시 발생하는 예외
+        - 캐시로 먼저 확인하지만, 같은 이메일이 동시에 가입되면 DB 유니크 제약이 최종 판정 (MemberService.register)
+        - 비즈니스 규칙 위반이므로 IllegalArgumentException의 하위 타입
+ */
+public class DuplicateEmailException extends IllegalArgumentException {
+
+    public DuplicateEmailException(String message) {
+        super(message);
+    }
+}
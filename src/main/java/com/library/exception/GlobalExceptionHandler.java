@@ -1,7 +1,11 @@
 package com.library.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 
 /*
     전역 예외 처리 핸들러 - 애플리케이션 전체에서 발생하는 예외를 중앙에서 처리
@@ -13,11 +17,23 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 
     예외 처리 우선순위 ( 구체적인 것 => 일반적인 것 )
         1) InvalidFileException.java (파일 검증 실패)
-        2) MaxUploadSizeExceededException (Spring 파일 크기 제한)
-        3) RuntimeException (일반 런타임 에러)
-        4) Exception (모든 예외의 최종 방어선)
+        2) SpamCommentException (스팸 댓글 - 429)
+        3) MaxUploadSizeExceededException (Spring 파일 크기 제한)
+        4) RuntimeException (일반 런타임 에러)
+        5) Exception (모든 예외의 최종 방어선)
  */
 @ControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
+
+    /*
+        스팸 댓글 (CommentSpamFilter) - 429 Too Many Requests
+            - 댓글 API는 fetch로 호출하므로 메시지를 본문 텍스트로 그대로 돌려줌 (화면에서 alert로 표시)
+     */
+    @ExceptionHandler(SpamCommentException.class)
+    public ResponseEntity<String> handleSpamComment(SpamCommentException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(e.getMessage());
+    }
 }
@@ -0,0 +1,16 @@
+package com.library.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/*
+    비밀번호 해시 작업이 몰려 처리하지 못할 때 발생하는 예외 (BoundedPasswordEncoder)
+        - 해시 전용 스레드 풀의 대기열이 가득 찼거나, 대기 시간(wait-timeout-ms)을 넘긴 경우
+        - AuthenticationServiceException을 상속 → 로그인 중이면 실패 핸들러로 전달됨 (CustomAuthenticationFailureHandler)
+        - 로그인/회원가입 모두 503 Service Unavailable + Retry-After로 응답
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.library.exception;
+
+/*
+    스팸으로 판단한 댓글 작성 요청 시 발생하는 예외
+        - 최근 같은 내용(거의 같은 내용 포함)의 댓글이 짧은 시간에 반복해서 들어온 경우 (CommentSpamFilter)
+        - DB에 쓰기 전에 발생하므로 롤백할 것이 없음
+        - GlobalExceptionHandler에서 429 Too Many Requests로 응답
+ */
+public class SpamCommentException extends RuntimeException {
+
+    public SpamCommentException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.library.exception;
+
+/*
+    * 파일 저장소(StorageBackend) 입출력 실패 시 발생하는 커스텀 예외
+    * RuntimeException 상속 이유
+       - 로컬 디스크(IOException)와 S3 SDK(SdkException)의 서로 다른 예외를 하나로 통일
+       - 호출하는 Service 계층에서 저장소 종류를 몰라도 동일하게 처리 가능
+   * 발생 상황
+       - 파일 쓰기/읽기/삭제 중 입출력 오류
+       - 원격 저장소(S3 호환) 연결 실패
+*/
+public class StorageException extends RuntimeException {
+
+    // 기본 생성자 - 에러 메시지만 전달할 때 사용
+    public StorageException(String message) {
+        super(message);
+    }
+
+    // 원인 예외를 포함하는 생성자
+    public StorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,106 @@
+package com.library.ratelimit;
+
+import com.library.dto.member.MemberPrincipal;
+import com.library.ratelimit.RateLimiter.Action;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/*
+    요청 속도 제한 필터 (RateLimiter)
+        - 대상
+            - POST /auth/login : IP + 입력한 이메일
+            - POST /auth/register : IP
+            - POST /api/comments/** (댓글 작성) : IP + 로그인 회원 id
+        - 한도를 넘으면 429 Too Many Requests + Retry-After(초)
+            - 페이지를 그리지 않고 짧은 본문만 (댓글 API는 fetch 응답 본문을 alert로 표시)
+        - Spring Security 필터 체인 안, 로그인 처리(UsernamePasswordAuthenticationFilter) 앞에 둠 (SecurityConfig)
+            - 로그인 검증(BCrypt) 전에 거절
+            - 세션의 로그인 정보는 이미 읽힌 상태 → 댓글은 회원 id로 셈
+        - IP는 request.getRemoteAddr() (프록시 뒤라면 server.forward-headers-strategy로 실제 IP를 넘겨받을 것)
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || actionOf(pathOf(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Action action = actionOf(pathOf(request));
+        String ip = ipKey(request);
+        long waitNanos = switch (action) {
+            case LOGIN -> rateLimiter.tryAcquire(action, ip, emailKey(request));
+            case REGISTER -> rateLimiter.tryAcquire(action, ip);
+            case COMMENT -> rateLimiter.tryAcquire(action, ip, memberKey());
+        };
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.warn("요청 속도 제한 - {} {}, IP 주소: {}, {}초 후 재시도", request.getMethod(), pathOf(request),
+                request.getRemoteAddr(), retryAfter);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8");
+        response.getWriter().write("요청이 너무 많습니다. " + retryAfter + "초 후 다시 시도해 주세요.");
+    }
+
+    private static Action actionOf(String path) {
+        if (path.equals("/auth/login")) {
+            return Action.LOGIN;
+        }
+        if (path.equals("/auth/register")) {
+            return Action.REGISTER;
+        }
+        if (path.startsWith("/api/comments/")) {
+            return Action.COMMENT;
+        }
+        return null;
+    }
+
+    public static String ipKey(HttpServletRequest request) {
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    // 로그인 폼의 이메일 (MySQL 기본 콜레이션처럼 대소문자 무시)
+    public static String emailKey(HttpServletRequest request) {
+        String email = request.getParameter("email");
+        return email == null || email.isBlank() ? null : "email:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String memberKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return "member:" + principal.getId();
+        }
+        return null;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
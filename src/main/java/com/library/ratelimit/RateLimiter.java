@@ -0,0 +1,160 @@
+package com.library.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    요청 속도 제한 (토큰 버킷) - 로그인, 회원가입, 댓글 작성
+        - 동작(Action)마다 버킷 용량(capacity)과 분당 충전 수(refill-per-minute)
+            - 용량만큼은 한꺼번에 허용, 이후는 충전 속도만큼만 허용
+        - 키 : IP(ip:...)와 회원(로그인은 입력한 이메일, 댓글은 회원 id) → 둘 다 토큰이 있어야 허용
+            - 어느 한 키에서 거절되면 앞의 키에서 쓴 토큰은 돌려줌 (거절된 요청은 토큰을 쓰지 않음)
+            - IP 하나로 여러 계정을 두드리는 경우, 여러 IP로 한 계정을 두드리는 경우를 모두 막음
+        - 로그인 실패 시 벌점(failure-penalty) 토큰을 더 뺌 (CustomAuthenticationFailureHandler)
+
+    버킷 구현 (GCRA - 토큰 버킷과 같은 결과)
+        - 버킷 하나 = AtomicLong 하나 (tat : 버킷이 다시 가득 차는 시각, 나노초)
+            - 남은 토큰 = capacity - (tat - now) / interval   (interval = 토큰 하나 충전 시간)
+            - 허용 : tat를 interval만큼 뒤로 → CAS로 갱신 (락 없음)
+            - 거절 : tat를 바꾸지 않음, 다시 시도할 수 있는 시각까지의 시간을 돌려줌
+        - 키 → 버킷은 동작마다 Caffeine 캐시 (내부가 구간별로 나뉜 ConcurrentHashMap - 이미 있는 키의 조회는 락 없음)
+            - 최대 max-keys개 (넘으면 오래 안 쓴 키부터 버림 → 메모리 상한)
+            - 마지막 사용 후 버킷이 다시 가득 찰 시간(벌점 포함 최대치)이 지나면 버림 → 버려도 결과가 같음
+
+    노드마다 따로 집계됨 (여러 노드로 운영하면 노드별 한도)
+    지표 : rate.limit.requests{action, result=allowed|rejected}, rate.limit.penalties{action}, rate.limit.keys{action}
+ */
+@Component
+public class RateLimiter {
+
+    public enum Action { LOGIN, REGISTER, COMMENT }
+
+    // 동작별 한도와 버킷 저장소
+    private record Limit(long intervalNanos, long capacityNanos, long maxDebtNanos, long penaltyNanos,
+                         Cache<String, AtomicLong> buckets, Counter allowed, Counter rejected, Counter penalties) {}
+
+    private final boolean enabled;
+    private final Map<Action, Limit> limits = new EnumMap<>(Action.class);
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${rate-limit.enabled:true}") boolean enabled,
+                       @Value("${rate-limit.max-keys:100000}") long maxKeys,
+                       @Value("${rate-limit.login.capacity:10}") int loginCapacity,
+                       @Value("${rate-limit.login.refill-per-minute:10}") double loginRefill,
+                       @Value("${rate-limit.login.failure-penalty:2}") int loginPenalty,
+                       @Value("${rate-limit.register.capacity:5}") int registerCapacity,
+                       @Value("${rate-limit.register.refill-per-minute:1}") double registerRefill,
+                       @Value("${rate-limit.comment.capacity:10}") int commentCapacity,
+                       @Value("${rate-limit.comment.refill-per-minute:20}") double commentRefill) {
+        this.enabled = enabled;
+        register(meterRegistry, Action.LOGIN, loginCapacity, loginRefill, loginPenalty, maxKeys);
+        register(meterRegistry, Action.REGISTER, registerCapacity, registerRefill, 0, maxKeys);
+        register(meterRegistry, Action.COMMENT, commentCapacity, commentRefill, 0, maxKeys);
+    }
+
+    private void register(MeterRegistry meterRegistry, Action action, int capacity, double refillPerMinute,
+                          int penalty, long maxKeys) {
+        if (capacity <= 0 || refillPerMinute <= 0 || penalty < 0) {
+            throw new IllegalArgumentException("rate-limit 설정이 올바르지 않습니다: " + action);
+        }
+        long interval = (long) (TimeUnit.MINUTES.toNanos(1) / refillPerMinute);
+        long capacityNanos = interval * capacity;
+        long maxDebt = capacityNanos + interval * penalty;          // 벌점으로 늘어날 수 있는 최대치
+        Cache<String, AtomicLong> buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(maxDebt))
+                .build();
+
+        String tag = action.name().toLowerCase(Locale.ROOT);
+        limits.put(action, new Limit(interval, capacityNanos, maxDebt, interval * penalty, buckets,
+                meterRegistry.counter("rate.limit.requests", "action", tag, "result", "allowed"),
+                meterRegistry.counter("rate.limit.requests", "action", tag, "result", "rejected"),
+                meterRegistry.counter("rate.limit.penalties", "action", tag)));
+        Gauge.builder("rate.limit.keys", buckets, Cache::estimatedSize).tag("action", tag).register(meterRegistry);
+    }
+
+    /*
+        토큰 하나 사용
+        @param keys IP, 회원 등 (null은 건너뜀)
+        @return 0이면 허용, 아니면 다시 시도할 수 있을 때까지의 시간 (나노초)
+     */
+    public long tryAcquire(Action action, String... keys) {
+        if (!enabled) {
+            return 0L;
+        }
+        Limit limit = limits.get(action);
+        long now = System.nanoTime();
+        AtomicLong[] acquired = new AtomicLong[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) {
+                continue;
+            }
+            AtomicLong tat = limit.buckets().get(keys[i], k -> new AtomicLong(now));
+            long wait = acquire(limit, tat, now);
+            if (wait > 0) {
+                refund(limit, acquired, i);
+                limit.rejected().increment();
+                return wait;
+            }
+            acquired[i] = tat;
+        }
+        limit.allowed().increment();
+        return 0L;
+    }
+
+    /*
+        거절된 요청이 앞의 키에서 쓴 토큰을 돌려줌 (tat를 interval만큼 앞으로)
+            - 회원 키가 빈 요청이 IP 토큰까지 깎아 같은 IP의 다른 회원을 막지 않도록
+            - 그 사이 다른 요청이 tat를 옮겼어도 GCRA는 더하기/빼기만이라 결과가 같음
+     */
+    private static void refund(Limit limit, AtomicLong[] acquired, int count) {
+        for (int i = 0; i < count; i++) {
+            if (acquired[i] != null) {
+                acquired[i].addAndGet(-limit.intervalNanos());
+            }
+        }
+    }
+
+    // 실패 벌점 - 토큰을 더 뺌 (버킷이 비어도 빼되, 최대치를 넘지 않음)
+    public void penalize(Action action, String... keys) {
+        Limit limit = limits.get(action);
+        if (!enabled || limit.penaltyNanos() == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (String key : keys) {
+            if (key == null) {
+                continue;
+            }
+            AtomicLong tat = limit.buckets().get(key, k -> new AtomicLong(now));
+            tat.getAndUpdate(current -> Math.min(Math.max(current, now) + limit.penaltyNanos(), now + limit.maxDebtNanos()));
+        }
+        limit.penalties().increment();
+    }
+
+    private static long acquire(Limit limit, AtomicLong tat, long now) {
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + limit.intervalNanos();
+            long over = next - now - limit.capacityNanos();
+            if (over > 0) {
+                return over;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.library.repository;
+
+import com.library.entity.board.ArchivedFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+// 아카이브된 첨부파일 인덱스 Repository - 첨부파일 id(PK) 또는 저장 파일명으로 세그먼트 위치 조회
+public interface ArchivedFileRepository extends JpaRepository<ArchivedFile, Long> {
+
+    Optional<ArchivedFile> findByStoredFilename(String storedFilename);
+}
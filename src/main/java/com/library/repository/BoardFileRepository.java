@@ -1,9 +1,17 @@
 package com.library.repository;
 
 import com.library.entity.board.BoardFile;
+import com.library.entity.board.BoardStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /*
     Spring Data JPA Query Method
@@ -23,4 +31,51 @@ import java.util.List;
 public interface BoardFileRepository extends JpaRepository<BoardFile, Long> {
     // 특정 게시글의 모든 첨부파일 조회 - 생성일 최신순으로 정렬
     List<BoardFile> findByBoardIdOrderByCreatedAtDesc(Long boardId);
+
+    /*
+        날짜별 레이아웃(boards/yyyy/MM/dd/)에 남아 있는 첨부파일 조회 - 레이아웃 마이그레이션용
+            - 키셋 페이징 : id > afterId 조건 + id 정렬로 매 배치가 PK 범위 스캔으로 끝남 (OFFSET 없음)
+            - LIKE의 "_"는 임의의 한 글자이므로 "/____/__/__/"는 "/2025/10/15/" 형태와 일치함
+     */
+    @Query("SELECT f FROM BoardFile f WHERE f.id > :afterId AND f.filePath LIKE '%/____/__/__/' ORDER BY f.id")
+    List<BoardFile> findDateLayoutFilesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /*
+        콜드 첨부파일 조회 - 아카이브 대상
+            - 삭제된 게시글(status = :deleted)의 첨부파일 또는 coldBefore 이후 수정되지 않은 게시글의 첨부파일
+            - 이미 아카이브된 파일(archived_file에 행이 있음)은 제외
+            - 키셋 페이징 (id > afterId, id 정렬)
+     */
+    @Query("SELECT f FROM BoardFile f JOIN f.board b " +
+            "WHERE f.id > :afterId " +
+            "AND (b.status = :deleted OR b.updatedAt < :coldBefore) " +
+            "AND NOT EXISTS (SELECT a FROM ArchivedFile a WHERE a.fileId = f.id) " +
+            "ORDER BY f.id")
+    List<BoardFile> findColdFilesAfter(@Param("afterId") Long afterId,
+                                       @Param("deleted") BoardStatus deleted,
+                                       @Param("coldBefore") LocalDateTime coldBefore,
+                                       Pageable pageable);
+
+    // 저장 파일명으로 조회 (/uploads/** 압축 정보 - idx_board_file_stored_filename)
+    Optional<BoardFile> findFirstByStoredFilename(String storedFilename);
+
+    // 전체 첨부파일 키셋 페이징 조회 (무결성 검사용) - WHERE id > ? ORDER BY id LIMIT ?
+    List<BoardFile> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    // 주어진 저장 파일명 중 행이 있는 것만 반환 (무결성 검사 - 행 없는 파일 찾기)
+    @Query("SELECT f.storedFilename FROM BoardFile f WHERE f.storedFilename IN :storedFilenames")
+    List<String> findExistingStoredFilenames(@Param("storedFilenames") Collection<String> storedFilenames);
+
+    // 체크섬만 갱신 (체크섬이 없던 기존 파일을 무결성 검사 중 채울 때) - 벌크 UPDATE라 수정일이 바뀌지 않음
+    @Modifying
+    @Query("UPDATE BoardFile f SET f.checksum = :checksum WHERE f.id = :id AND f.checksum IS NULL")
+    int fillChecksum(@Param("id") Long id, @Param("checksum") String checksum);
+
+    /*
+        첨부파일 경로만 갱신 (레이아웃 마이그레이션용)
+            - 벌크 UPDATE라 수정일(updatedAt)이 바뀌지 않음 - 저장 위치 이동은 사용자 수정이 아니므로
+     */
+    @Modifying
+    @Query("UPDATE BoardFile f SET f.filePath = :filePath WHERE f.id = :id")
+    int updateFilePath(@Param("id") Long id, @Param("filePath") String filePath);
 }
\ No newline at end of file
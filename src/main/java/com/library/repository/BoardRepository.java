@@ -1,12 +1,17 @@
 package com.library.repository;
 
 import com.library.entity.board.Board;
+import com.library.entity.board.BoardCategory;
 import com.library.entity.board.BoardStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /*
@@ -55,7 +60,7 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
                     "FROM Board b " +   // Board 엔티티에서
                     "JOIN FETCH b.author " +    // Member도 함께 로드 (N+1 방지)
                     "WHERE b.status = :status " +  // status가 일치하는 것만
-                    "ORDER BY b.createdAt DESC",    // 최신순 정렬
+                    "ORDER BY b.status, b.createdAt DESC, b.id DESC",    // 최신순 정렬 (idx_board_status_created 순서 그대로)
 
             //개수 조회 쿼리 (페이징용)
             countQuery = "SELECT COUNT(b) " +       // Board 개수 세기
@@ -64,6 +69,160 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     )
     Page<Board> findByStatusWithAuthor(BoardStatus status, Pageable pageable);
 
+    /*
+        카테고리별 게시글 목록 조회 (페이징, 작성자 정보 포함)
+            - idx_board_status_category_created 인덱스를 (status, category) 범위로 읽으면 이미 최신순 → 정렬 없이 LIMIT만큼 읽고 끝남
+            - 정렬 조건은 쿼리에 고정되어 있으므로 Pageable에는 정렬을 넣지 않음
+            - ORDER BY 앞의 status, category는 WHERE에서 한 값으로 고정되므로 결과 순서에 영향 없음
+                - 인덱스 컬럼 순서와 똑같이 적어 두어야 옵티마이저(H2 등)가 정렬을 생략할 수 있다고 판단함
+                - BoardQueryPlanTest가 실제 생성된 SQL의 실행 계획으로 검증
+     */
+    @Query(
+            value = "SELECT b " +
+                    "FROM Board b " +
+                    "JOIN FETCH b.author " +
+                    "WHERE b.status = :status AND b.category = :category " +
+                    "ORDER BY b.status, b.category, b.createdAt DESC, b.id DESC",
+            countQuery = "SELECT COUNT(b) " +
+                        "FROM Board b " +
+                        "WHERE b.status = :status AND b.category = :category"
+    )
+    Page<Board> findByStatusAndCategoryWithAuthor(BoardStatus status, BoardCategory category, Pageable pageable);
+
+    /*
+        정렬 기준을 Pageable로 받는 목록 조회 (조회순/좋아요순/댓글순)
+            - Top-K 범위를 벗어난 페이지, 카테고리와 함께 정렬할 때 사용
+            - 정렬 : status, <카운터> DESC, id DESC → idx_board_status_views 등 인덱스 순서와 같음
+     */
+    @Query(
+            value = "SELECT b FROM Board b JOIN FETCH b.author WHERE b.status = :status",
+            countQuery = "SELECT COUNT(b) FROM Board b WHERE b.status = :status"
+    )
+    Page<Board> findPageByStatus(BoardStatus status, Pageable pageable);
+
+    @Query(
+            value = "SELECT b FROM Board b JOIN FETCH b.author WHERE b.status = :status AND b.category = :category",
+            countQuery = "SELECT COUNT(b) FROM Board b WHERE b.status = :status AND b.category = :category"
+    )
+    Page<Board> findPageByStatusAndCategory(BoardStatus status, BoardCategory category, Pageable pageable);
+
+    // id 목록으로 게시글 조회 (작성자 포함) - Top-K가 정한 순서는 호출 측에서 맞춤
+    @Query("SELECT b FROM Board b JOIN FETCH b.author WHERE b.id IN :ids AND b.status = :status")
+    List<Board> findAllByIdInAndStatusWithAuthor(Collection<Long> ids, BoardStatus status);
+
+    long countByStatus(BoardStatus status);
+
+    /*
+        게시글 카운터 조회 (엔티티를 만들지 않는 인터페이스 프로젝션) - Top-K 재구성/절대값 확인용
+            - 정렬은 Pageable로 지정 (카운터별 인덱스 사용)
+     */
+    @Query("SELECT b.id AS id, b.viewCount AS viewCount, b.likeCount AS likeCount, b.commentCount AS commentCount " +
+            "FROM Board b WHERE b.status = :status")
+    List<BoardCounters> findCountersByStatus(BoardStatus status, Pageable pageable);
+
+    @Query("SELECT b.id AS id, b.viewCount AS viewCount, b.likeCount AS likeCount, b.commentCount AS commentCount " +
+            "FROM Board b WHERE b.id IN :ids AND b.status = :status")
+    List<BoardCounters> findCountersByIdIn(Collection<Long> ids, BoardStatus status);
+
+    interface BoardCounters {
+        Long getId();
+        Long getViewCount();
+        Long getLikeCount();
+        Long getCommentCount();
+    }
+
+    /*
+        검색 색인용 본문 조회 (엔티티를 만들지 않는 프로젝션)
+            - findTextAfter : id 키셋 배치로 전체를 훑음 (시작 시 색인 재구성) - 한 번에 batch 크기만큼만 메모리에 올림
+     */
+    @Query("SELECT b.id AS id, b.title AS title, b.content AS content FROM Board b " +
+            "WHERE b.status = :status AND b.id > :afterId ORDER BY b.id")
+    List<BoardText> findTextAfter(BoardStatus status, Long afterId, Pageable pageable);
+
+    @Query("SELECT b.id AS id, b.title AS title, b.content AS content FROM Board b " +
+            "WHERE b.id IN :ids AND b.status = :status")
+    List<BoardText> findTextByIdIn(Collection<Long> ids, BoardStatus status);
+
+    // 서명(board_signature)이 없는 게시글 본문 - 관련 글 기능 도입 전 게시글의 서명을 채울 때 사용
+    @Query("SELECT b.id AS id, b.title AS title, b.content AS content FROM Board b " +
+            "WHERE b.status = :status AND b.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM BoardSignature s WHERE s.boardId = b.id) ORDER BY b.id")
+    List<BoardText> findTextWithoutSignatureAfter(BoardStatus status, Long afterId, Pageable pageable);
+
+    interface BoardText {
+        Long getId();
+        String getTitle();
+        String getContent();
+    }
+
+    /*
+        제목 자동완성용 조회 (제목 + 조회수 프로젝션)
+            - findTitlesAfter : id 키셋 배치로 전체를 훑음 (자동완성 트라이 재구성)
+            - findTitlesByIdIn : 지금 뜨는 글 스냅샷 (TrendingBoards - 엔티티 없이 id, 제목만)
+     */
+    @Query("SELECT b.id AS id, b.title AS title, b.viewCount AS viewCount FROM Board b " +
+            "WHERE b.status = :status AND b.id > :afterId ORDER BY b.id")
+    List<BoardTitle> findTitlesAfter(BoardStatus status, Long afterId, Pageable pageable);
+
+    @Query("SELECT b.id AS id, b.title AS title, b.viewCount AS viewCount FROM Board b " +
+            "WHERE b.id = :id AND b.status = :status")
+    Optional<BoardTitle> findTitleById(Long id, BoardStatus status);
+
+    @Query("SELECT b.id AS id, b.title AS title, b.viewCount AS viewCount FROM Board b " +
+            "WHERE b.id IN :ids AND b.status = :status")
+    List<BoardTitle> findTitlesByIdIn(Collection<Long> ids, BoardStatus status);
+
+    interface BoardTitle {
+        Long getId();
+        String getTitle();
+        Long getViewCount();
+    }
+
+    /*
+        태그 필터 비트맵용 조회 (BoardTagIndex)
+            - findFacetsAfter : 모든 상태의 게시글을 id 키셋 배치로 훑음 (상태/카테고리/작성일 - 작성 순서는 메모리에서 정렬)
+            - findTagsByBoardIdIn : 배치에 속한 게시글들의 태그 (board_tag)
+     */
+    @Query("SELECT b.id AS id, b.status AS status, b.category AS category, b.createdAt AS createdAt FROM Board b " +
+            "WHERE b.id > :afterId ORDER BY b.id")
+    List<BoardFacets> findFacetsAfter(Long afterId, Pageable pageable);
+
+    @Query("SELECT b.id AS id, b.status AS status, b.category AS category, b.createdAt AS createdAt FROM Board b " +
+            "WHERE b.id IN :ids")
+    List<BoardFacets> findFacetsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT b.id AS boardId, t AS tag FROM Board b JOIN b.tags t WHERE b.id IN :ids")
+    List<BoardTagRow> findTagsByBoardIdIn(Collection<Long> ids);
+
+    interface BoardFacets {
+        Long getId();
+        BoardStatus getStatus();
+        BoardCategory getCategory();
+        LocalDateTime getCreatedAt();
+    }
+
+    interface BoardTagRow {
+        Long getBoardId();
+        String getTag();
+    }
+
+    /*
+        댓글 수 증감 (벌크 UPDATE) - 댓글 작성 +1, 삭제 -1
+            - updatedAt/revision을 바꾸지 않음 (게시글 내용이 바뀐 것이 아님)
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.commentCount = b.commentCount + :delta WHERE b.id = :id")
+    int addCommentCount(Long id, long delta);
+
+    /*
+        카테고리별 최신 게시글 조회 (작성자 정보 포함) - 고정 공지 캐시(NoticeCache) 갱신용
+            - 목록 요청마다 실행하지 않음 (공지 변경 시, 주기적으로만 실행)
+     */
+    @Query("SELECT b FROM Board b JOIN FETCH b.author " +
+            "WHERE b.status = :status AND b.category = :category " +
+            "ORDER BY b.createdAt DESC")
+    List<Board> findLatestByCategoryWithAuthor(BoardStatus status, BoardCategory category, Pageable pageable);
+
     /* 게시글 단건 조회 (ID + 상태, 작성자 정보 포함)
         - N+1 문제를 방지하기 위해서 Fetch Join을 사용함
         - Active 상태의 게시글만 조회 (삭제된 글은 조회가 불가)
@@ -77,6 +236,47 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
             "WHERE b.id = :id AND b.status = :status")
     Optional<Board> findByIdAndStatusWithAuthor(Long id, BoardStatus status);
 
+    // 게시글 단건 조회 (ID + 상태, 작성자 미포함) - 수정/삭제는 작성자 id만 비교하므로 회원을 읽지 않음
+    Optional<Board> findByIdAndStatus(Long id, BoardStatus status);
+
+    /*
+        조회수 1 증가 (벌크 UPDATE)
+            - 더티체킹과 달리 updatedAt이 바뀌지 않음 → 조회만 했는데 게시글이 "수정됨"으로 보이지 않음
+            - 상세 페이지의 검증값(updatedAt)이 조회할 때마다 바뀌지 않게 함
+        @return 갱신된 행 수 (게시글이 없거나 ACTIVE가 아니면 0)
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.viewCount = b.viewCount + 1 WHERE b.id = :id AND b.status = :status")
+    int increaseViewCount(Long id, BoardStatus status);
+
+    // 조회수 여러 건을 한 번에 반영 (ViewCountBuffer가 모아 둔 조회수)
+    @Modifying
+    @Query("UPDATE Board b SET b.viewCount = b.viewCount + :delta WHERE b.id = :id")
+    int addViewCount(Long id, long delta);
+
+    // 존재하는 게시글 id만 조회 (댓글 묶음 작성) - 본문(TEXT) 등 엔티티를 읽지 않음
+    @Query("SELECT b.id FROM Board b WHERE b.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    /*
+        게시글 전체의 마지막 수정 시각 (목록 페이지 검증값)
+            - idx_board_updated_at 인덱스로 MAX를 한 번에 찾음
+            - 상태와 관계없이 계산 (삭제도 updatedAt을 바꾸므로 목록에서 빠진 것이 반영됨)
+     */
+    @Query("SELECT MAX(b.updatedAt) FROM Board b")
+    LocalDateTime findLastUpdatedAt();
+
+    /*
+        게시글 버전 조회 (상세 페이지 검증값) - PK로 한 행만 읽고 엔티티는 만들지 않음 (인터페이스 프로젝션)
+     */
+    @Query("SELECT b.updatedAt AS updatedAt, b.revision AS revision FROM Board b WHERE b.id = :id AND b.status = :status")
+    Optional<BoardVersion> findVersionByIdAndStatus(Long id, BoardStatus status);
+
+    interface BoardVersion {
+        LocalDateTime getUpdatedAt();
+        Long getRevision();
+    }
+
 }
 
 
@@ -0,0 +1,47 @@
+package com.library.repository;
+
+import com.library.entity.board.BoardCategory;
+import com.library.entity.board.BoardSignature;
+import com.library.entity.board.BoardStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+/*
+    게시글 MinHash 서명 Repository
+        - 관련 글 색인(RelatedBoards)용 조회는 게시글의 카테고리/제목과 함께 프로젝션으로 가져옴
+        - findActiveAfter : id 키셋 배치로 ACTIVE 게시글의 서명을 모두 훑음 (시작 시 LSH 버킷 구성)
+        - updateSignature / deleteByBoardId : 게시글 수정 시 조회 없이 바로 갱신/삭제 (벌크 쿼리)
+ */
+public interface BoardSignatureRepository extends JpaRepository<BoardSignature, Long> {
+
+    @Query("SELECT s.boardId AS boardId, s.signature AS signature, b.category AS category, b.title AS title " +
+            "FROM BoardSignature s JOIN Board b ON b.id = s.boardId " +
+            "WHERE b.status = :status AND s.boardId > :afterId ORDER BY s.boardId")
+    List<SignatureRow> findActiveAfter(BoardStatus status, Long afterId, Pageable pageable);
+
+    @Query("SELECT s.boardId AS boardId, s.signature AS signature, b.category AS category, b.title AS title " +
+            "FROM BoardSignature s JOIN Board b ON b.id = s.boardId " +
+            "WHERE s.boardId = :boardId AND b.status = :status")
+    Optional<SignatureRow> findActiveByBoardId(Long boardId, BoardStatus status);
+
+    // 서명 갱신 - 행이 없으면 0 (관련 글 도입 전 게시글)
+    @Modifying
+    @Query("UPDATE BoardSignature s SET s.signature = :signature, s.updatedAt = CURRENT_TIMESTAMP WHERE s.boardId = :boardId")
+    int updateSignature(Long boardId, byte[] signature);
+
+    @Modifying
+    @Query("DELETE FROM BoardSignature s WHERE s.boardId = :boardId")
+    int deleteByBoardId(Long boardId);
+
+    interface SignatureRow {
+        Long getBoardId();
+        byte[] getSignature();
+        BoardCategory getCategory();
+        String getTitle();
+    }
+}
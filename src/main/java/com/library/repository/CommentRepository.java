@@ -2,7 +2,9 @@ package com.library.repository;
 
 import com.library.entity.board.Comment;
 import com.library.entity.board.CommentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -42,6 +44,30 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     Long countByBoardIdAndStatus(Long boardId, CommentStatus status);
 
+    /*
+        게시글의 댓글 스레드 전체 (답글 포함)
+            - (board_id, path) 인덱스 범위 조회 한 번, path 순 = 화면에 보일 순서
+            - 삭제된 댓글도 가져옴 : 답글이 달린 삭제 댓글은 "삭제된 댓글" 자리로 남기기 위함 (CommentService)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+            "WHERE c.board.id = :boardId ORDER BY c.path")
+    List<Comment> findThreadByBoardId(Long boardId);
+
+    /*
+        서브트리 키셋 페이지 - path가 afterPath보다 크고 upperPath보다 작은 댓글을 path 순으로
+            - 어떤 댓글의 답글 전체 : afterPath = 그 댓글 path, upperPath = 그 댓글 path + ":" (':'는 '9' 다음 문자)
+            - 다음 페이지 : afterPath = 이전 페이지 마지막 댓글 path
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+            "WHERE c.board.id = :boardId AND c.path > :afterPath AND c.path < :upperPath ORDER BY c.path")
+    List<Comment> findSubtree(Long boardId, String afterPath, String upperPath, Pageable pageable);
+
+    // 답글 기능 전에 작성된 댓글(path 없음)을 루트 댓글로 채움 - Comment.pathSegment()와 같은 형식
+    @Modifying
+    @Query("UPDATE Comment c SET c.path = pad(cast(c.id as String) with " + Comment.PATH_SEGMENT_LENGTH + " leading '0'), " +
+            "c.depth = 0 WHERE c.path IS NULL")
+    int fillMissingPaths();
+
 
 
 }
@@ -0,0 +1,8 @@
+package com.library.repository;
+
+import com.library.entity.job.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// 백그라운드 작업 체크포인트 Repository - 작업 이름(PK)으로 조회/저장
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
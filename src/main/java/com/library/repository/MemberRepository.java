@@ -1,9 +1,12 @@
 package com.library.repository;
 
 import com.library.entity.member.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /*
@@ -21,5 +24,17 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // 이메일 존재 여부 확인 (중복 제크 전용) - 회원 가입시 이메일 중복 체크
     // SELECT COUNT(*) > 0 FROM members WHERE email = ?
     boolean existsByEmail(String email);
+
+    /*
+        가입 이메일 Bloom 필터 구성용 (RegisteredEmailFilter)
+            - id 키셋 배치로 전체를 훑음 - 한 번에 batch 크기만큼만 메모리에 올림, 엔티티를 만들지 않는 프로젝션
+     */
+    @Query("SELECT m.id AS id, m.email AS email FROM Member m WHERE m.id > :afterId ORDER BY m.id")
+    List<MemberEmail> findEmailsAfter(Long afterId, Pageable pageable);
+
+    interface MemberEmail {
+        Long getId();
+        String getEmail();
+    }
 }
 
@@ -0,0 +1,138 @@
+package com.library.search;
+
+import com.library.entity.board.BoardStatus;
+import com.library.event.BoardChangedEvent;
+import com.library.repository.BoardRepository;
+import com.library.repository.BoardRepository.BoardText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    게시글 검색 색인 (메모리 역색인, InvertedIndex) - LIKE '%q%'로 본문 TEXT를 풀 스캔하지 않음
+        - 검색 : 읽기 락 (여러 검색이 동시에 가능)
+        - 증분 갱신 : 게시글 작성/수정/삭제 커밋 후 이벤트 → 해당 게시글만 DB에서 다시 읽어 교체/삭제
+        - 재구성 : 시작 시, 삭제 표시가 많이 쌓였을 때 (search.compact-dead-ratio)
+            - id 키셋 배치(search.rebuild-batch-size)로 ACTIVE 게시글을 차례로 읽어 새 색인을 만든 뒤 통째로 교체 (IndexRebuilder)
+            - 만드는 동안에도 기존 색인으로 검색 가능
+            - 만드는 동안 커밋된 변경은 기억해 두었다가 교체 직후 다시 반영 (배치가 이미 지나간 게시글 누락 방지)
+        - 노드마다 자기 색인을 가짐 (다른 노드의 변경은 재구성 때 반영)
+ */
+@Component
+@Slf4j
+public class BoardSearchIndex {
+
+    private final BoardRepository boardRepository;
+    private final int titleBoost;
+    private final int batchSize;
+    private final double compactDeadRatio;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexRebuilder rebuilder = new IndexRebuilder(lock.writeLock());
+
+    private InvertedIndex index;
+
+    public BoardSearchIndex(BoardRepository boardRepository,
+                            @Value("${search.title-boost:3}") int titleBoost,
+                            @Value("${search.rebuild-batch-size:500}") int batchSize,
+                            @Value("${search.compact-dead-ratio:0.3}") double compactDeadRatio) {
+        this.boardRepository = boardRepository;
+        this.titleBoost = titleBoost;
+        this.batchSize = batchSize;
+        this.compactDeadRatio = compactDeadRatio;
+        this.index = new InvertedIndex(titleBoost);
+    }
+
+    /*
+        검색 (BM25 점수 내림차순)
+        @return 게시글 id 한 페이지와 전체 결과 수
+     */
+    public InvertedIndex.Result search(String query, int page, int size) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, page * size, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        refresh(Set.of(event.getBoardId()));
+    }
+
+    // 게시글들을 DB의 현재 상태로 다시 색인 (ACTIVE가 아니거나 없으면 색인에서 제거)
+    private void refresh(Set<Long> boardIds) {
+        List<BoardText> texts = boardRepository.findTextByIdIn(boardIds, BoardStatus.ACTIVE);
+        lock.writeLock().lock();
+        try {
+            for (Long boardId : boardIds) {
+                index.remove(boardId);
+            }
+            for (BoardText text : texts) {
+                index.put(text.getId(), text.getTitle(), text.getContent());
+            }
+            rebuilder.recordChanged(boardIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        InvertedIndex rebuilt;
+        try {
+            rebuilt = rebuilder.rebuild(this::load, (loaded, changed) -> index = loaded, this::refresh);
+        } catch (RuntimeException e) {
+            log.error("검색 색인 재구성 실패 - 기존 색인 유지", e);
+            return;
+        }
+        log.info("검색 색인 재구성 완료 - 게시글 {}건, 단어 {}개, 포스팅 {}바이트, {}ms",
+                rebuilt.liveDocuments(), rebuilt.terms(), rebuilt.postingBytes(), System.currentTimeMillis() - started);
+    }
+
+    // ACTIVE 게시글을 모두 읽어 새 색인 만들기
+    private InvertedIndex load() {
+        InvertedIndex loaded = new InvertedIndex(titleBoost);
+        long lastId = 0L;
+        List<BoardText> batch;
+        do {
+            batch = boardRepository.findTextAfter(BoardStatus.ACTIVE, lastId, PageRequest.of(0, batchSize));
+            for (BoardText text : batch) {
+                loaded.put(text.getId(), text.getTitle(), text.getContent());
+                lastId = text.getId();
+            }
+        } while (batch.size() == batchSize);
+        return loaded;
+    }
+
+    // 삭제/수정으로 버려진 문서가 많아지면 재구성 (메모리 회수)
+    @Scheduled(initialDelayString = "${search.compact-check-interval-ms:600000}",
+               fixedDelayString = "${search.compact-check-interval-ms:600000}")
+    public void compactIfNeeded() {
+        int live;
+        int dead;
+        lock.readLock().lock();
+        try {
+            live = index.liveDocuments();
+            dead = index.deletedDocuments();
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (dead > 0 && dead > (live + dead) * compactDeadRatio) {
+            log.info("검색 색인 정리 - 삭제 표시 {}건 / 전체 {}건", dead, live + dead);
+            rebuild();
+        }
+    }
+}
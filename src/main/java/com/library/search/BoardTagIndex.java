@@ -0,0 +1,147 @@
+package com.library.search;
+
+import com.library.entity.board.BoardCategory;
+import com.library.entity.board.BoardStatus;
+import com.library.event.BoardChangedEvent;
+import com.library.repository.BoardRepository;
+import com.library.repository.BoardRepository.BoardFacets;
+import com.library.repository.BoardRepository.BoardTagRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    태그 필터 목록 (/boards?tag=A&tag=B&category=QNA) - board_tag를 여러 번 JOIN하지 않고 메모리 비트맵 교집합으로 처리
+        - 검색 : 읽기 락, 교집합으로 한 페이지 id만 정함 → 게시글은 PK IN 조회 (BoardService)
+        - 증분 갱신 : 게시글 작성/수정/삭제 커밋 후 이벤트 → 해당 게시글의 상태/카테고리/태그만 다시 읽어 교체
+        - 재구성 : 시작 시 모든 게시글을 id 키셋 배치로 읽어 새 비트맵을 만든 뒤 통째로 교체 (IndexRebuilder)
+            - 다 읽은 뒤 (작성일, id) 순서로 정렬해서 넣음 → 최신순 = 작성 순서 (TagBitmaps)
+            - 만드는 동안 커밋된 변경은 기억해 두었다가 교체 직후 다시 반영
+        - 노드마다 자기 비트맵을 가짐 (다른 노드의 변경은 다음 재구성 때 반영)
+ */
+@Component
+@Slf4j
+public class BoardTagIndex {
+
+    // 한 페이지 결과 (최신순)
+    public record Result(List<Long> boardIds, int total) {}
+
+    // 재구성 중 읽은 게시글 한 건 (작성 순서로 정렬한 뒤 비트맵에 넣음)
+    private record FacetRow(long id, LocalDateTime createdAt, BoardStatus status, BoardCategory category,
+                            List<String> tags) {}
+
+    private final BoardRepository boardRepository;
+    private final int batchSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexRebuilder rebuilder = new IndexRebuilder(lock.writeLock());
+
+    private TagBitmaps bitmaps = new TagBitmaps();
+
+    public BoardTagIndex(BoardRepository boardRepository,
+                         @Value("${tag.rebuild-batch-size:1000}") int batchSize) {
+        this.boardRepository = boardRepository;
+        this.batchSize = batchSize;
+    }
+
+    /*
+        태그를 모두 가진 ACTIVE 게시글 (카테고리 조건 선택)
+        @param page 조회할 페이지 번호 (0부터 시작)
+     */
+    public Result find(Collection<String> tags, BoardCategory category, int page, int size) {
+        lock.readLock().lock();
+        try {
+            TagBitmaps.Result result = bitmaps.find(tags, category, BoardStatus.ACTIVE, page * size, size);
+            return new Result(result.boardIds(), result.total());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        refresh(Set.of(event.getBoardId()));
+    }
+
+    // 게시글들을 DB의 현재 상태로 다시 반영
+    private void refresh(Set<Long> boardIds) {
+        List<BoardFacets> facets = boardRepository.findFacetsByIdIn(boardIds);
+        Map<Long, List<String>> tags = loadTags(boardIds);
+        lock.writeLock().lock();
+        try {
+            for (BoardFacets board : facets) {
+                bitmaps.put(board.getId(), board.getStatus(), board.getCategory(),
+                        tags.getOrDefault(board.getId(), List.of()));
+            }
+            rebuilder.recordChanged(boardIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        TagBitmaps rebuilt;
+        try {
+            rebuilt = rebuilder.rebuild(this::load, (loaded, changed) -> bitmaps = loaded, this::refresh);
+        } catch (RuntimeException e) {
+            log.error("태그 비트맵 재구성 실패 - 기존 비트맵 유지", e);
+            return;
+        }
+        log.info("태그 비트맵 재구성 완료 - 게시글 {}건, 태그 {}개, {}바이트, {}ms",
+                rebuilt.boards(), rebuilt.tags(), rebuilt.sizeInBytes(), System.currentTimeMillis() - started);
+    }
+
+    // 모든 게시글을 읽어 작성 순서대로 새 비트맵에 넣음
+    private TagBitmaps load() {
+        List<FacetRow> rows = new ArrayList<>();
+        long lastId = 0L;
+        List<BoardFacets> batch;
+        do {
+            batch = boardRepository.findFacetsAfter(lastId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> ids = batch.stream().map(BoardFacets::getId).toList();
+            Map<Long, List<String>> tags = loadTags(ids);
+            for (BoardFacets board : batch) {
+                rows.add(new FacetRow(board.getId(), board.getCreatedAt(), board.getStatus(), board.getCategory(),
+                        tags.getOrDefault(board.getId(), List.of())));
+            }
+            lastId = ids.get(ids.size() - 1);
+        } while (batch.size() == batchSize);
+
+        rows.sort(Comparator.comparing(FacetRow::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(FacetRow::id));
+        TagBitmaps loaded = new TagBitmaps();
+        for (FacetRow row : rows) {
+            loaded.put(row.id(), row.status(), row.category(), row.tags());
+        }
+        loaded.optimize();
+        return loaded;
+    }
+
+    private Map<Long, List<String>> loadTags(Collection<Long> boardIds) {
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (BoardTagRow row : boardRepository.findTagsByBoardIdIn(boardIds)) {
+            tags.computeIfAbsent(row.getBoardId(), id -> new ArrayList<>()).add(row.getTag());
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,79 @@
+package com.library.search;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/*
+    메모리 색인 통째 재구성 (BoardTagIndex, BoardSearchIndex, TitleSuggester 공통)
+        - 새 색인을 만드는 동안(키셋 배치로 전체 읽기) 기존 색인으로 계속 응답하고, 다 만든 뒤 쓰기 락 안에서 교체
+        - 만드는 동안 커밋된 변경(배치가 이미 지나간 게시글)은 recordChanged로 기억해 두었다가 교체 직후 다시 반영
+        - 재구성은 한 번에 하나씩 (동시에 호출되면 앞의 재구성이 끝날 때까지 기다림)
+        - 만들다 실패하면 기존 색인을 유지하고 예외를 그대로 던짐 (호출하는 쪽에서 로그)
+ */
+final class IndexRebuilder {
+
+    private final Lock writeLock;      // 색인을 보호하는 쓰기 락
+    private final Object monitor = new Object();
+    private Set<Long> changedDuringRebuild;     // 재구성 중에만 null이 아님 (writeLock으로 보호)
+
+    IndexRebuilder(Lock writeLock) {
+        this.writeLock = writeLock;
+    }
+
+    // 증분 갱신한 게시글 기록 - writeLock을 잡은 상태에서 호출
+    void recordChanged(Collection<Long> boardIds) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.addAll(boardIds);
+        }
+    }
+
+    /*
+        재구성
+        @param build 새 색인 만들기 (락 없이 실행)
+        @param swap 새 색인으로 교체 (writeLock 안에서 실행, 두 번째 인자는 만드는 동안 바뀐 게시글)
+        @param replay 만드는 동안 바뀐 게시글 다시 반영 (교체 후 락 없이 실행, 바뀐 게시글이 있을 때만)
+        @return 새 색인
+     */
+    <T> T rebuild(Supplier<T> build, BiConsumer<T, Set<Long>> swap, Consumer<Set<Long>> replay) {
+        synchronized (monitor) {
+            writeLock.lock();
+            try {
+                changedDuringRebuild = new HashSet<>();
+            } finally {
+                writeLock.unlock();
+            }
+
+            T rebuilt;
+            try {
+                rebuilt = build.get();
+            } catch (RuntimeException e) {
+                writeLock.lock();
+                try {
+                    changedDuringRebuild = null;
+                } finally {
+                    writeLock.unlock();
+                }
+                throw e;
+            }
+
+            Set<Long> changed;
+            writeLock.lock();
+            try {
+                changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+                swap.accept(rebuilt, changed);
+            } finally {
+                writeLock.unlock();
+            }
+            if (!changed.isEmpty()) {
+                replay.accept(changed);
+            }
+            return rebuilt;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.library.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/*
+    게시글 역색인 (제목 + 본문) - BM25 순위
+        - 단어 사전 : 토큰 → 단어 번호, 단어별 압축 포스팅 리스트 (PostingList)
+        - 문서 번호 : 색인할 때마다 새로 붙이는 내부 번호 (게시글 id와 별개)
+            - 수정 = 기존 문서 번호 삭제 표시 + 새 문서 번호로 추가 → 포스팅 리스트는 항상 뒤에 붙이기만 함
+            - 삭제 표시된 문서는 검색 시 건너뜀, 많이 쌓이면 DB에서 다시 만듦 (BoardSearchIndex)
+        - 제목은 titleBoost배 빈도로 셈 (제목에 나온 단어가 본문보다 중요)
+
+    BM25
+        - score = Σ idf(t) * tf * (k1 + 1) / (tf + k1 * (1 - b + b * dl / avgdl))
+        - idf(t) = ln(1 + (N - df + 0.5) / (df + 0.5)), N/df/avgdl은 삭제되지 않은 문서 기준
+        - 검색어의 모든 토큰을 포함한 문서만 결과에 포함 (AND)
+
+    스레드 안전하지 않음 - BoardSearchIndex가 읽기/쓰기 락으로 감쌈
+ */
+public final class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 문서 정보 (문서 번호 순서)
+    private static final class Doc {
+        private final long boardId;
+        private final int length;
+        private int[] termIds;      // 삭제 시 df 감소용 (삭제 후 null)
+
+        private Doc(long boardId, int length, int[] termIds) {
+            this.boardId = boardId;
+            this.length = length;
+            this.termIds = termIds;
+        }
+    }
+
+    // 검색 결과 한 페이지
+    public record Result(List<Long> boardIds, int total) {}
+
+    private final int titleBoost;
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<PostingList> postings = new ArrayList<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> docByBoard = new HashMap<>();
+    private long liveLength;
+
+    InvertedIndex(int titleBoost) {
+        this.titleBoost = titleBoost;
+    }
+
+    // 게시글 색인 (이미 있으면 교체)
+    void put(long boardId, String title, String content) {
+        remove(boardId);
+
+        Map<Integer, Integer> frequencies = new LinkedHashMap<>();
+        int length = 0;
+        for (String token : KoreanNgramTokenizer.tokenize(title)) {
+            frequencies.merge(termId(token), titleBoost, Integer::sum);
+            length += titleBoost;
+        }
+        for (String token : KoreanNgramTokenizer.tokenize(content)) {
+            frequencies.merge(termId(token), 1, Integer::sum);
+            length++;
+        }
+
+        int doc = docs.size();
+        int[] terms = new int[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : frequencies.entrySet()) {
+            postings.get(entry.getKey()).add(doc, entry.getValue());
+            terms[i++] = entry.getKey();
+        }
+        docs.add(new Doc(boardId, length, terms));
+        docByBoard.put(boardId, doc);
+        liveLength += length;
+    }
+
+    void remove(long boardId) {
+        Integer doc = docByBoard.remove(boardId);
+        if (doc == null) {
+            return;
+        }
+        Doc info = docs.get(doc);
+        for (int term : info.termIds) {
+            postings.get(term).markDeleted();
+        }
+        info.termIds = null;
+        deleted.set(doc);
+        liveLength -= info.length;
+    }
+
+    Result search(String query, int offset, int limit) {
+        List<PostingList> lists = new ArrayList<>();
+        for (String token : KoreanNgramTokenizer.tokenize(query).stream().distinct().toList()) {
+            Integer term = termIds.get(token);
+            if (term == null || postings.get(term).liveCount() == 0) {
+                return new Result(List.of(), 0);     // 없는 토큰이 하나라도 있으면 결과 없음 (AND)
+            }
+            lists.add(postings.get(term));
+        }
+        if (lists.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+
+        int liveDocs = docByBoard.size();
+        double avgLength = (double) liveLength / liveDocs;
+        Map<Integer, Double> scores = new HashMap<>();
+        Map<Integer, Integer> matched = new HashMap<>();
+        for (PostingList list : lists) {
+            double idf = Math.log(1 + (liveDocs - list.liveCount() + 0.5) / (list.liveCount() + 0.5));
+            PostingList.Cursor cursor = list.cursor();
+            while (cursor.next()) {
+                int doc = cursor.doc();
+                if (deleted.get(doc)) {
+                    continue;
+                }
+                double tf = cursor.tf();
+                double norm = K1 * (1 - B + B * docs.get(doc).length / avgLength);
+                scores.merge(doc, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                matched.merge(doc, 1, Integer::sum);
+            }
+        }
+
+        // 모든 토큰을 포함한 문서 중 점수 상위 offset + limit개 (최소 힙)
+        int wanted = offset + limit;
+        Comparator<Map.Entry<Integer, Double>> byScore = Map.Entry.<Integer, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(byScore);
+        int total = 0;
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            if (matched.get(entry.getKey()) < lists.size()) {
+                continue;
+            }
+            total++;
+            top.add(entry);
+            if (top.size() > wanted) {
+                top.poll();
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>();
+        while (!top.isEmpty()) {
+            ranked.add(docs.get(top.poll().getKey()).boardId);
+        }
+        Collections.reverse(ranked);    // 힙에서는 낮은 점수부터 나옴
+        List<Long> page = offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+        return new Result(page, total);
+    }
+
+    int liveDocuments() {
+        return docByBoard.size();
+    }
+
+    int deletedDocuments() {
+        return docs.size() - docByBoard.size();
+    }
+
+    int terms() {
+        return termIds.size();
+    }
+
+    long postingBytes() {
+        long bytes = 0;
+        for (PostingList list : postings) {
+            bytes += list.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private int termId(String token) {
+        Integer id = termIds.get(token);
+        if (id == null) {
+            id = postings.size();
+            termIds.put(token, id);
+            postings.add(new PostingList());
+        }
+        return id;
+    }
+}
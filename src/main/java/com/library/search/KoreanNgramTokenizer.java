@@ -0,0 +1,73 @@
+package com.library.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*
+    한글 n-gram 토크나이저 (형태소 분석기 없이 한국어 부분 검색)
+        - 한글 음절이 이어진 구간 : 2음절씩 겹쳐 자름 (bigram)
+            - "도서관이용" → 도서, 서관, 관이, 이용
+            - 조사/어미가 붙어도 어간 bigram이 같으므로 "도서관" 검색이 "도서관에서"와 일치함
+            - 한 음절뿐인 구간은 그 음절 하나를 토큰으로 사용
+        - 영문/숫자가 이어진 구간 : 소문자로 바꾼 단어 하나 ("Spring6" → spring6)
+        - 그 밖의 문자(공백, 문장부호, 이모지 등)는 구분자
+        - 유니코드 NFC 정규화 : 자모가 분리되어 입력된 한글(NFD)도 같은 음절로 처리
+
+    문서와 검색어에 같은 규칙을 적용하므로 검색어도 두 음절 이상이어야 긴 단어 안에서 찾을 수 있음
+ */
+public final class KoreanNgramTokenizer {
+
+    private KoreanNgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                addBigrams(normalized, start, i, tokens);
+            } else if (isWordChar(c)) {
+                int start = i;
+                while (i < length && isWordChar(normalized.charAt(i))) {
+                    i++;
+                }
+                tokens.add(normalized.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    // 완성형 한글 음절 (가 ~ 힣)
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,96 @@
+package com.library.search;
+
+import com.library.util.Hashing;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/*
+    게시글 MinHash 서명 - 두 글의 단어 집합 자카드 유사도를 서명 몇 개 비교로 추정
+        - 슁글 : KoreanNgramTokenizer 토큰 (한글 bigram, 영문/숫자 단어) - 제목 + 본문
+        - 서명 : HASHES개의 서로 다른 해시 함수마다 슁글 해시의 최솟값 (상위 32비트)
+            - 두 서명에서 같은 자리 값이 같을 확률 = 자카드 유사도 → 일치 비율이 유사도 추정값
+        - DB에는 HASHES * 4바이트로 저장 (board_signature) → 재시작 시 다시 계산하지 않음
+        - 해시 함수/토크나이저를 바꾸면 기존 서명과 비교할 수 없으므로 board_signature를 비우고 다시 계산할 것
+ */
+public final class MinHash {
+
+    public static final int HASHES = 64;
+    public static final int BYTES = HASHES * 4;
+
+    private static final long[] SEEDS = new long[HASHES];
+
+    static {
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < HASHES; i++) {
+            seed = Hashing.mix(seed + Hashing.GOLDEN_GAMMA);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /*
+        제목 + 본문의 서명
+        @return 슁글이 하나도 없으면 null (비교할 내용이 없음)
+     */
+    public static int[] signature(String title, String content) {
+        Set<String> shingles = new HashSet<>(KoreanNgramTokenizer.tokenize(title));
+        shingles.addAll(KoreanNgramTokenizer.tokenize(content));
+        if (shingles.isEmpty()) {
+            return null;
+        }
+
+        long[] minimums = new long[HASHES];
+        Arrays.fill(minimums, Long.MAX_VALUE);
+        for (String shingle : shingles) {
+            long base = Hashing.fnv1a(shingle);
+            for (int i = 0; i < HASHES; i++) {
+                long hash = Hashing.mix(base ^ SEEDS[i]) >>> 1;     // 부호 없는 비교 대신 양수 범위 사용
+                if (hash < minimums[i]) {
+                    minimums[i] = hash;
+                }
+            }
+        }
+
+        int[] signature = new int[HASHES];
+        for (int i = 0; i < HASHES; i++) {
+            signature[i] = (int) (minimums[i] >>> 31);      // 63비트 중 상위 32비트
+        }
+        return signature;
+    }
+
+    // 추정 자카드 유사도 (0 ~ 1)
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / HASHES;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES);
+        for (int value : signature) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("MinHash 서명 길이가 올바르지 않습니다: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[HASHES];
+        for (int i = 0; i < HASHES; i++) {
+            signature[i] = buffer.getInt();
+        }
+        return signature;
+    }
+}
@@ -0,0 +1,96 @@
+package com.library.search;
+
+import java.util.Arrays;
+
+/*
+    압축 포스팅 리스트 - 한 단어가 나온 문서 번호와 빈도(tf)
+        - 문서 번호는 증가하는 순서로만 추가됨 (InvertedIndex가 보장)
+        - 저장 형식 : (직전 문서 번호와의 차이, tf)를 가변 길이 정수(varint)로 이어 붙인 byte[]
+            - 차이와 tf는 대부분 작은 수 → 1바이트로 저장됨 (int 두 개 8바이트 대비 크게 줄어듦)
+        - liveCount : 삭제되지 않은 문서 수 (BM25의 문서 빈도 df)
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int size;           // 사용 중인 바이트 수
+    private int lastDoc = -1;
+    private int liveCount;
+
+    void add(int doc, int tf) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("문서 번호는 증가하는 순서로 추가해야 합니다: " + doc);
+        }
+        ensureCapacity(10);
+        writeVarint(lastDoc < 0 ? doc : doc - lastDoc);
+        writeVarint(tf);
+        lastDoc = doc;
+        liveCount++;
+    }
+
+    void markDeleted() {
+        liveCount--;
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+
+    int sizeInBytes() {
+        return size;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    // 앞에서부터 차례로 읽는 커서
+    final class Cursor {
+        private int position;
+        private int doc = -1;
+        private int tf;
+
+        boolean next() {
+            if (position >= size) {
+                return false;
+            }
+            int delta = readVarint();
+            doc = doc < 0 ? delta : doc + delta;
+            tf = readVarint();
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int tf() {
+            return tf;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[size++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.library.search;
+
+import com.library.dto.board.RelatedBoardDTO;
+import com.library.entity.board.BoardCategory;
+import com.library.entity.board.BoardSignature;
+import com.library.entity.board.BoardStatus;
+import com.library.event.BoardChangedEvent;
+import com.library.repository.BoardRepository;
+import com.library.repository.BoardRepository.BoardText;
+import com.library.repository.BoardSignatureRepository;
+import com.library.repository.BoardSignatureRepository.SignatureRow;
+import com.library.util.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    관련 글 (상세 페이지 하단) - 같은 카테고리에서 제목/본문이 비슷한 글
+        - 요청마다 모든 글과 비교하지 않음 : MinHash 서명 + LSH(Locality Sensitive Hashing) 버킷
+            - 서명(64개)을 related.bands개 구간(band)으로 나누고, 구간 값이 통째로 같은 글끼리 같은 버킷에 넣음
+            - 유사도가 높을수록 어느 한 구간이라도 같을 확률이 높음 → 내 버킷들에 있는 글만 후보
+            - 버킷 키에 카테고리를 포함 → 후보는 처음부터 같은 카테고리
+            - 후보만 서명 일치 비율(추정 유사도)로 정렬해 related.min-similarity 이상 related.size개
+        - 서명은 게시글 작성/수정 시 BoardService가 계산해 board_signature에 저장
+            - 시작 시 : 서명이 없는 기존 게시글만 계산해 저장한 뒤 서명 테이블을 키셋 배치로 읽어 버킷 구성
+            - 커밋 후 이벤트 : 해당 게시글의 서명/카테고리/제목만 다시 읽어 교체 (삭제되면 제거)
+        - 노드마다 자기 버킷을 가짐 (다른 노드의 변경은 재시작 시 반영)
+ */
+@Component
+@Slf4j
+public class RelatedBoards {
+
+    // 색인된 게시글
+    private record Entry(BoardCategory category, String title, int[] signature, long[] buckets) {}
+
+    private final BoardRepository boardRepository;
+    private final BoardSignatureRepository boardSignatureRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int bands;
+    private final int rows;
+    private final int size;
+    private final double minSimilarity;
+    private final int maxBucketScan;
+    private final int batchSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();      // 버킷 키 → 게시글 id
+
+    public RelatedBoards(BoardRepository boardRepository,
+                         BoardSignatureRepository boardSignatureRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${related.bands:32}") int bands,
+                         @Value("${related.size:5}") int size,
+                         @Value("${related.min-similarity:0.2}") double minSimilarity,
+                         @Value("${related.max-bucket-scan:200}") int maxBucketScan,
+                         @Value("${related.load-batch-size:1000}") int batchSize) {
+        if (bands <= 0 || MinHash.HASHES % bands != 0) {
+            throw new IllegalArgumentException("related.bands는 " + MinHash.HASHES + "의 약수여야 합니다: " + bands);
+        }
+        this.boardRepository = boardRepository;
+        this.boardSignatureRepository = boardSignatureRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bands = bands;
+        this.rows = MinHash.HASHES / bands;
+        this.size = size;
+        this.minSimilarity = minSimilarity;
+        this.maxBucketScan = maxBucketScan;
+        this.batchSize = batchSize;
+    }
+
+    /*
+        관련 글 (추정 유사도 내림차순)
+            - 색인되지 않은 글(서명 없음, 삭제됨)이면 빈 목록
+     */
+    public List<RelatedBoardDTO> find(Long boardId) {
+        lock.readLock().lock();
+        try {
+            Entry self = entries.get(boardId);
+            if (self == null) {
+                return List.of();
+            }
+
+            Set<Long> candidates = new LinkedHashSet<>();
+            for (long bucket : self.buckets()) {
+                int scanned = 0;
+                for (Long candidate : buckets.getOrDefault(bucket, Set.of())) {
+                    if (++scanned > maxBucketScan) {
+                        break;      // 거의 같은 글이 아주 많은 버킷 - 일부만 봄
+                    }
+                    if (!candidate.equals(boardId)) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+
+            List<Map.Entry<Long, Double>> scored = new ArrayList<>();
+            for (Long candidate : candidates) {
+                double similarity = MinHash.similarity(self.signature(), entries.get(candidate).signature());
+                if (similarity >= minSimilarity) {
+                    scored.add(Map.entry(candidate, similarity));
+                }
+            }
+            return scored.stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .limit(size)
+                    .map(entry -> new RelatedBoardDTO(entry.getKey(), entries.get(entry.getKey()).title()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        Long boardId = event.getBoardId();
+        Optional<SignatureRow> row = event.getType() == BoardChangedEvent.Type.DELETED
+                ? Optional.empty()
+                : boardSignatureRepository.findActiveByBoardId(boardId, BoardStatus.ACTIVE);
+        lock.writeLock().lock();
+        try {
+            remove(boardId);
+            row.ifPresent(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 시작 시 : 서명이 없는 게시글을 채운 뒤 전체 서명으로 버킷 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        int filled = fillMissingSignatures();
+
+        int loaded = 0;
+        long lastId = 0L;
+        List<SignatureRow> batch;
+        do {
+            batch = boardSignatureRepository.findActiveAfter(BoardStatus.ACTIVE, lastId, PageRequest.of(0, batchSize));
+            lock.writeLock().lock();
+            try {
+                for (SignatureRow row : batch) {
+                    // 읽는 사이 이벤트로 먼저 들어온 글은 그 값을 유지 (더 최신)
+                    if (!entries.containsKey(row.getBoardId())) {
+                        add(row);
+                    }
+                    lastId = row.getBoardId();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            loaded += batch.size();
+        } while (batch.size() == batchSize);
+
+        log.info("관련 글 색인 완료 - 게시글 {}건 (서명 새로 계산 {}건), 버킷 {}개, {}ms",
+                loaded, filled, buckets.size(), System.currentTimeMillis() - started);
+    }
+
+    // 관련 글 기능 도입 전 게시글의 서명 계산 (이미 있는 서명은 다시 계산하지 않음)
+    private int fillMissingSignatures() {
+        int filled = 0;
+        long lastId = 0L;
+        List<BoardText> batch;
+        try {
+            do {
+                batch = boardRepository.findTextWithoutSignatureAfter(BoardStatus.ACTIVE, lastId, PageRequest.of(0, batchSize));
+                List<BoardSignature> signatures = new ArrayList<>();
+                for (BoardText text : batch) {
+                    int[] signature = MinHash.signature(text.getTitle(), text.getContent());
+                    if (signature != null) {
+                        signatures.add(BoardSignature.builder().boardId(text.getId()).signature(MinHash.toBytes(signature)).build());
+                    }
+                    lastId = text.getId();
+                }
+                transactionTemplate.executeWithoutResult(status -> boardSignatureRepository.saveAll(signatures));
+                filled += signatures.size();
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            // 다른 노드가 같은 게시글의 서명을 먼저 저장한 경우 등 - 저장된 서명만으로 색인
+            log.warn("게시글 서명 채우기 중단 (마지막 id: {})", lastId, e);
+        }
+        return filled;
+    }
+
+    // lock(쓰기)을 잡은 상태에서 호출
+    private void add(SignatureRow row) {
+        int[] signature = MinHash.fromBytes(row.getSignature());
+        long[] keys = bucketKeys(row.getCategory(), signature);
+        entries.put(row.getBoardId(), new Entry(row.getCategory(), row.getTitle(), signature, keys));
+        for (long key : keys) {
+            buckets.computeIfAbsent(key, k -> new HashSet<>()).add(row.getBoardId());
+        }
+    }
+
+    // lock(쓰기)을 잡은 상태에서 호출
+    private void remove(Long boardId) {
+        Entry entry = entries.remove(boardId);
+        if (entry == null) {
+            return;
+        }
+        for (long key : entry.buckets()) {
+            Set<Long> bucket = buckets.get(key);
+            bucket.remove(boardId);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    // band마다 (카테고리, band 번호, band 안의 값들)을 섞은 버킷 키
+    private long[] bucketKeys(BoardCategory category, int[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = Hashing.mix(((long) category.ordinal() << 32) | band);
+            for (int row = 0; row < rows; row++) {
+                key = Hashing.mix(key ^ (signature[band * rows + row] & 0xFFFFFFFFL));
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,51 @@
+package com.library.search;
+
+import com.library.util.Hashing;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    SimHash 지문 - 글 하나를 64비트 값 하나로 줄여 "거의 같은 글"을 해밍 거리로 판별
+        - 토큰 : KoreanNgramTokenizer 토큰 (한글 bigram, 영문/숫자 단어)
+        - 토큰 해시의 각 비트가 1이면 +가중치, 0이면 -가중치를 비트 자리별로 더함 (가중치 = 등장 횟수)
+        - 합이 양수인 자리만 1로 만든 64비트가 지문
+            - 비슷한 글 → 대부분의 토큰이 같아 자리별 합의 부호가 거의 같음 → 다른 비트 수(해밍 거리)가 작음
+            - 글자 몇 개, 이모지, 공백만 바꾼 스팸도 거리 몇 비트 안에 들어옴
+        - MinHash(관련 글)와 달리 값이 하나라 비교가 XOR + bitCount 한 번 → 댓글 작성마다 검사해도 부담 없음
+ */
+public final class SimHash {
+
+    private SimHash() {
+    }
+
+    // 토큰 목록의 지문 (토큰이 없으면 0)
+    public static long fingerprint(List<String> tokens) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String token : tokens) {
+            weights.merge(token, 1, Integer::sum);
+        }
+
+        int[] sums = new int[Long.SIZE];
+        weights.forEach((token, weight) -> {
+            long hash = Hashing.mix(Hashing.fnv1a(token));
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                sums[bit] += ((hash >>> bit) & 1L) != 0 ? weight : -weight;
+            }
+        });
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (sums[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    // 두 지문의 해밍 거리 (다른 비트 수, 0 ~ 64)
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
@@ -0,0 +1,142 @@
+package com.library.search;
+
+import com.library.entity.board.BoardCategory;
+import com.library.entity.board.BoardStatus;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    태그 / 카테고리 / 상태별 게시글 id 압축 비트맵 (RoaringBitmap)
+        - 키마다 그 키를 가진 게시글 집합 → "태그 A AND B, 카테고리 QNA, ACTIVE" = 비트맵 교집합
+        - 교집합은 작은 비트맵부터 차례로 AND (중간 결과가 빨리 작아짐)
+        - 비트맵에는 게시글 id가 아니라 작성 순서 번호(position)를 넣음
+            - pooled 시퀀스는 노드마다 id 블록을 나눠 쓰므로 id 순서 ≠ 작성 순서 (IdSequences)
+            - 처음 put한 순서대로 0, 1, 2... → 재구성은 (createdAt, id) 순서로 put, 이후 새 글은 작성 직후 put (가장 최신)
+            - 최신순 페이지 = 교집합의 뒤에서부터 select(k) → position을 id로 바꿔 반환
+            - 게시글 id 범위와 관계없이 position은 게시글 수만큼만 커짐 (RoaringBitmap은 32비트 정수 집합)
+
+    스레드 안전하지 않음 - BoardTagIndex가 읽기/쓰기 락으로 감쌈
+ */
+final class TagBitmaps {
+
+    // 한 페이지 결과
+    record Result(List<Long> boardIds, int total) {}
+
+    private final Map<String, RoaringBitmap> byTag = new HashMap<>();
+    private final Map<BoardCategory, RoaringBitmap> byCategory = new EnumMap<>(BoardCategory.class);
+    private final Map<BoardStatus, RoaringBitmap> byStatus = new EnumMap<>(BoardStatus.class);
+    private final Map<Integer, String[]> tagsByBoard = new HashMap<>();    // position → 태그 (수정/삭제 시 어느 태그 비트맵에서 뺄지)
+    private final Map<Long, Integer> positionById = new HashMap<>();       // 게시글 id → 작성 순서 번호
+    private long[] idByPosition = new long[1024];
+    private int positions;
+
+    // 게시글 추가 또는 교체 (처음 보는 게시글은 지금까지 put한 어느 게시글보다 최신으로 봄)
+    void put(long boardId, BoardStatus status, BoardCategory category, Collection<String> tags) {
+        int position = positionById.computeIfAbsent(boardId, this::nextPosition);
+        remove(boardId);
+        byStatus.computeIfAbsent(status, key -> new RoaringBitmap()).add(position);
+        byCategory.computeIfAbsent(category, key -> new RoaringBitmap()).add(position);
+        if (!tags.isEmpty()) {
+            for (String tag : tags) {
+                byTag.computeIfAbsent(tag, key -> new RoaringBitmap()).add(position);
+            }
+            tagsByBoard.put(position, tags.toArray(String[]::new));
+        }
+    }
+
+    // 비트맵에서만 뺌 (position은 유지 - 다시 put되어도 작성 순서가 바뀌지 않음)
+    void remove(long boardId) {
+        Integer position = positionById.get(boardId);
+        if (position == null) {
+            return;
+        }
+        byStatus.values().forEach(bitmap -> bitmap.remove(position));
+        byCategory.values().forEach(bitmap -> bitmap.remove(position));
+        String[] tags = tagsByBoard.remove(position);
+        if (tags != null) {
+            for (String tag : tags) {
+                RoaringBitmap bitmap = byTag.get(tag);
+                bitmap.remove(position);
+                if (bitmap.isEmpty()) {
+                    byTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    /*
+        조건을 모두 만족하는 게시글, 최신순(작성 순서 내림차순) 한 페이지
+        @param category null이면 카테고리 조건 없음
+     */
+    Result find(Collection<String> tags, BoardCategory category, BoardStatus status, int offset, int limit) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>();
+        bitmaps.add(byStatus.get(status));
+        if (category != null) {
+            bitmaps.add(byCategory.get(category));
+        }
+        for (String tag : tags) {
+            bitmaps.add(byTag.get(tag));
+        }
+        if (bitmaps.contains(null)) {
+            return new Result(List.of(), 0);    // 없는 태그/카테고리 → 결과 없음
+        }
+
+        bitmaps.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+        RoaringBitmap matched = bitmaps.get(0).clone();
+        for (int i = 1; i < bitmaps.size() && !matched.isEmpty(); i++) {
+            matched.and(bitmaps.get(i));
+        }
+
+        int total = matched.getCardinality();
+        List<Long> page = new ArrayList<>(Math.max(0, Math.min(limit, total - offset)));
+        for (int rank = total - 1 - offset; rank >= 0 && page.size() < limit; rank--) {
+            page.add(idByPosition[matched.select(rank)]);
+        }
+        return new Result(page, total);
+    }
+
+    private int nextPosition(long boardId) {
+        if (positions == idByPosition.length) {
+            idByPosition = Arrays.copyOf(idByPosition, positions * 2);
+        }
+        idByPosition[positions] = boardId;
+        return positions++;
+    }
+
+    // 비트맵 압축 최적화 (연속 구간은 run 컨테이너로)
+    void optimize() {
+        byTag.values().forEach(RoaringBitmap::runOptimize);
+        byCategory.values().forEach(RoaringBitmap::runOptimize);
+        byStatus.values().forEach(RoaringBitmap::runOptimize);
+    }
+
+    int boards() {
+        return positionById.size();
+    }
+
+    int tags() {
+        return byTag.size();
+    }
+
+    long sizeInBytes() {
+        long bytes = 0;
+        for (RoaringBitmap bitmap : byTag.values()) {
+            bytes += bitmap.getLongSizeInBytes();
+        }
+        for (RoaringBitmap bitmap : byCategory.values()) {
+            bytes += bitmap.getLongSizeInBytes();
+        }
+        for (RoaringBitmap bitmap : byStatus.values()) {
+            bytes += bitmap.getLongSizeInBytes();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,157 @@
+package com.library.search;
+
+import com.library.dto.board.BoardSuggestionDTO;
+import com.library.entity.board.BoardStatus;
+import com.library.event.BoardChangedEvent;
+import com.library.repository.BoardRepository;
+import com.library.repository.BoardRepository.BoardTitle;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    게시글 제목 자동완성 (/api/boards/suggest)
+        - 검색은 불변 트라이(TitleTrie) 스냅샷만 읽음 → 락/DB 조회 없이 접두어 길이만큼만 탐색
+        - 제목 목록(게시글 id → 제목, 조회수)은 메모리에 두고 바뀐 것만 고침
+            - 게시글 작성/수정/삭제 커밋 후 이벤트 → 해당 게시글 한 건만 DB에서 다시 읽음
+            - 바뀐 것이 있으면 suggest.rebuild-delay-ms 뒤에 트라이를 통째로 다시 만들어 교체 (여러 변경을 한 번에 반영)
+        - 순위(조회수)는 suggest.reload-interval-ms마다 전체를 키셋 배치로 다시 읽어 갱신 (IndexRebuilder)
+            - 다시 읽는 동안 바뀐 게시글은 이벤트로 고친 값을 유지 (배치가 이미 지나간 게시글이 옛 값으로 돌아가지 않음)
+ */
+@Component
+@Slf4j
+public class TitleSuggester {
+
+    private final BoardRepository boardRepository;
+    private final int topN;
+    private final int maxKeyLength;
+    private final int batchSize;
+    private final Lock lock = new ReentrantLock();
+    private final IndexRebuilder rebuilder = new IndexRebuilder(lock);
+
+    private Map<Long, TitleTrie.Entry> entries = new HashMap<>();   // lock으로 보호
+    private boolean dirty;                                          // lock으로 보호
+    private volatile TitleTrie trie = TitleTrie.EMPTY;
+
+    public TitleSuggester(BoardRepository boardRepository,
+                          @Value("${suggest.size:10}") int topN,
+                          @Value("${suggest.max-key-length:20}") int maxKeyLength,
+                          @Value("${suggest.reload-batch-size:1000}") int batchSize) {
+        this.boardRepository = boardRepository;
+        this.topN = topN;
+        this.maxKeyLength = maxKeyLength;
+        this.batchSize = batchSize;
+    }
+
+    /*
+        접두어(또는 초성)로 시작하는 제목, 조회수 내림차순
+        @param limit 최대 개수 (1 ~ suggest.size 범위로 맞춤 - 0 이하나 음수도 요청 파라미터로 들어올 수 있음)
+     */
+    public List<BoardSuggestionDTO> suggest(String query, int limit) {
+        return trie.suggest(query, Math.max(1, Math.min(limit, topN))).stream()
+                .map(entry -> new BoardSuggestionDTO(entry.boardId(), entry.title()))
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        Long boardId = event.getBoardId();
+        Optional<BoardTitle> row = event.getType() == BoardChangedEvent.Type.DELETED
+                ? Optional.empty()
+                : boardRepository.findTitleById(boardId, BoardStatus.ACTIVE);
+        lock.lock();
+        try {
+            if (row.isPresent()) {
+                entries.put(boardId, toEntry(row.get()));
+            } else {
+                entries.remove(boardId);
+            }
+            rebuilder.recordChanged(Set.of(boardId));
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 전체 제목/조회수 다시 읽기
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${suggest.reload-interval-ms:300000}",
+               fixedDelayString = "${suggest.reload-interval-ms:300000}")
+    public void reload() {
+        try {
+            rebuilder.rebuild(this::load, this::swap, changed -> {});
+        } catch (RuntimeException e) {
+            log.error("자동완성 제목 목록 갱신 실패 - 기존 목록 유지", e);
+            return;
+        }
+        rebuildIfDirty();
+    }
+
+    private Map<Long, TitleTrie.Entry> load() {
+        Map<Long, TitleTrie.Entry> loaded = new HashMap<>();
+        long lastId = 0L;
+        List<BoardTitle> batch;
+        do {
+            batch = boardRepository.findTitlesAfter(BoardStatus.ACTIVE, lastId, PageRequest.of(0, batchSize));
+            for (BoardTitle row : batch) {
+                loaded.put(row.getId(), toEntry(row));
+                lastId = row.getId();
+            }
+        } while (batch.size() == batchSize);
+        return loaded;
+    }
+
+    // lock 안에서 교체 - 다시 읽는 동안 이벤트로 고친 게시글은 그 값을 유지 (이미 최신이므로 다시 읽지 않음)
+    private void swap(Map<Long, TitleTrie.Entry> loaded, Set<Long> changed) {
+        for (Long boardId : changed) {
+            TitleTrie.Entry current = entries.get(boardId);
+            if (current != null) {
+                loaded.put(boardId, current);
+            } else {
+                loaded.remove(boardId);
+            }
+        }
+        entries = loaded;
+        dirty = true;
+    }
+
+    // 바뀐 것이 있으면 트라이를 다시 만들어 교체
+    @Scheduled(initialDelayString = "${suggest.rebuild-delay-ms:1000}",
+               fixedDelayString = "${suggest.rebuild-delay-ms:1000}")
+    public synchronized void rebuildIfDirty() {
+        List<TitleTrie.Entry> snapshot;
+        lock.lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            snapshot = List.copyOf(entries.values());
+        } finally {
+            lock.unlock();
+        }
+        long started = System.currentTimeMillis();
+        TitleTrie rebuilt = TitleTrie.build(snapshot, topN, maxKeyLength);
+        trie = rebuilt;
+        log.debug("자동완성 트라이 갱신 - 제목 {}건, 노드 {}개, {}ms",
+                snapshot.size(), rebuilt.nodes(), System.currentTimeMillis() - started);
+    }
+
+    private static TitleTrie.Entry toEntry(BoardTitle row) {
+        return new TitleTrie.Entry(row.getId(), row.getTitle(), row.getViewCount());
+    }
+}
@@ -0,0 +1,221 @@
+package com.library.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+
+/*
+    제목 자동완성용 접두어 트라이 (불변, 배열로 압축)
+        - 키 : 제목의 각 단어부터 시작하는 문자열 (앞 maxKeyLength 글자)
+            - 본문 키 : 소문자, 공백은 한 칸으로 ("도서관 휴관 안내", "휴관 안내", "안내")
+            - 초성 키 : 한글 음절을 초성으로 바꾸고 공백 제거 ("ㄷㅅㄱㅎㄱㅇㄴ", "ㅎㄱㅇㄴ", "ㅇㄴ")
+        - 노드마다 그 접두어로 시작하는 제목 중 조회수 상위 topN개를 미리 저장 → 검색은 접두어 길이만큼 내려가면 끝
+        - 자식이 연속된 번호가 되도록 너비 우선 순서로 노드 번호를 붙여 배열 몇 개로 저장
+            - labels[n] : 노드 n으로 들어오는 글자
+            - childStart[n] ~ childStart[n + 1] - 1 : 노드 n의 자식 (labels 오름차순 → 이진 탐색)
+            - topStart[n] ~ topStart[n + 1] - 1 : 노드 n의 추천 목록 (entries 번호, 조회수 내림차순)
+        - 게시글이 바뀌면 통째로 다시 만듦 (TitleSuggester)
+ */
+final class TitleTrie {
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 추천 대상 제목
+    record Entry(long boardId, String title, long viewCount) {}
+
+    static final TitleTrie EMPTY = build(List.of(), 1, 1);
+
+    private final Entry[] entries;
+    private final int maxKeyLength;
+    private final char[] labels;
+    private final int[] childStart;
+    private final int[] topStart;
+    private final int[] top;
+
+    private TitleTrie(Entry[] entries, int maxKeyLength, char[] labels, int[] childStart, int[] topStart, int[] top) {
+        this.entries = entries;
+        this.maxKeyLength = maxKeyLength;
+        this.labels = labels;
+        this.childStart = childStart;
+        this.topStart = topStart;
+        this.top = top;
+    }
+
+    /*
+        접두어로 시작하는 제목 (조회수 내림차순)
+            - 검색어에 초성(ㄱ~ㅎ)이 있으면 검색어 전체를 초성으로 바꿔 초성 키에서 찾음 ("도ㅅ" → "ㄷㅅ")
+            - 키 길이를 넘는 검색어는 앞 maxKeyLength 글자로 찾음
+        @param limit 최대 개수 (topN을 넘을 수 없음)
+     */
+    List<Entry> suggest(String query, int limit) {
+        String key = normalize(query);
+        if (key.isBlank()) {
+            return List.of();
+        }
+        if (hasChoseong(key)) {
+            key = toChoseong(key);
+        }
+        key = truncate(key, maxKeyLength);
+
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            node = child(node, key.charAt(i));
+            if (node < 0) {
+                return List.of();
+            }
+        }
+
+        int end = Math.min(topStart[node + 1], topStart[node] + limit);
+        List<Entry> result = new ArrayList<>(end - topStart[node]);
+        for (int i = topStart[node]; i < end; i++) {
+            result.add(entries[top[i]]);
+        }
+        return result;
+    }
+
+    int nodes() {
+        return labels.length;
+    }
+
+    // 자식 중 글자가 c인 노드 (없으면 -1)
+    private int child(int node, char c) {
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < c) {
+                low = mid + 1;
+            } else if (labels[mid] > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // 빌드용 임시 노드
+    private static final class Builder {
+        private final TreeMap<Character, Builder> children = new TreeMap<>();
+        private final List<Integer> top = new ArrayList<>(2);
+    }
+
+    /*
+        트라이 생성
+            - 조회수 내림차순으로 넣으면 각 노드에 먼저 도착한 topN개가 곧 그 노드의 상위 topN
+     */
+    static TitleTrie build(List<Entry> source, int topN, int maxKeyLength) {
+        Entry[] entries = source.stream()
+                .sorted(Comparator.comparingLong(Entry::viewCount).reversed()
+                        .thenComparing(Comparator.comparingLong(Entry::boardId).reversed()))
+                .toArray(Entry[]::new);
+
+        Builder root = new Builder();
+        for (int i = 0; i < entries.length; i++) {
+            for (String key : keysOf(entries[i].title(), maxKeyLength)) {
+                Builder node = root;
+                for (int c = 0; c < key.length(); c++) {
+                    node = node.children.computeIfAbsent(key.charAt(c), k -> new Builder());
+                    List<Integer> nodeTop = node.top;
+                    // 같은 제목의 다른 키가 이미 지나간 노드면 건너뜀 (방금 넣은 것이 마지막 원소)
+                    if (nodeTop.size() < topN && (nodeTop.isEmpty() || nodeTop.get(nodeTop.size() - 1) != i)) {
+                        nodeTop.add(i);
+                    }
+                }
+            }
+        }
+
+        // 너비 우선으로 번호를 붙이며 배열로 옮김 (한 노드의 자식은 연속된 번호)
+        List<Builder> order = new ArrayList<>();
+        List<Character> labelList = new ArrayList<>();
+        order.add(root);
+        labelList.add('\0');
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < order.size(); i++) {
+            starts.add(order.size());
+            order.get(i).children.forEach((label, child) -> {
+                order.add(child);
+                labelList.add(label);
+            });
+        }
+        starts.add(order.size());
+        int[] childStart = starts.stream().mapToInt(Integer::intValue).toArray();
+
+        char[] labels = new char[order.size()];
+        int[] topStart = new int[order.size() + 1];
+        int totalTop = 0;
+        for (int i = 0; i < order.size(); i++) {
+            labels[i] = labelList.get(i);
+            topStart[i] = totalTop;
+            totalTop += order.get(i).top.size();
+        }
+        topStart[order.size()] = totalTop;
+        int[] top = new int[totalTop];
+        for (int i = 0; i < order.size(); i++) {
+            List<Integer> nodeTop = order.get(i).top;
+            for (int j = 0; j < nodeTop.size(); j++) {
+                top[topStart[i] + j] = nodeTop.get(j);
+            }
+        }
+        return new TitleTrie(entries, maxKeyLength, labels, childStart, topStart, top);
+    }
+
+    // 제목 하나의 키 (단어마다 본문 키 + 초성 키)
+    static List<String> keysOf(String title, int maxKeyLength) {
+        String normalized = normalize(title);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                String suffix = normalized.substring(i);
+                keys.add(truncate(suffix, maxKeyLength));
+                keys.add(truncate(toChoseong(suffix), maxKeyLength));
+            }
+        }
+        return keys;
+    }
+
+    // NFC, 소문자, 앞뒤 공백 제거, 연속 공백은 한 칸
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .strip()
+                .replaceAll("\\s+", " ");
+    }
+
+    // 한글 음절은 초성으로 바꾸고 공백은 제거 (그 외 글자는 그대로)
+    static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '가' && c <= '힣') {
+                sb.append(CHOSEONG[(c - '가') / (21 * 28)]);
+            } else if (c != ' ') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean hasChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength);
+    }
+}
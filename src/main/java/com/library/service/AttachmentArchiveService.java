@@ -0,0 +1,185 @@
+package com.library.service;
+
+import com.library.entity.board.ArchivedFile;
+import com.library.entity.board.BoardFile;
+import com.library.repository.ArchivedFileRepository;
+import com.library.repository.BoardFileRepository;
+import com.library.storage.ContentCodec;
+import com.library.storage.DecodedResource;
+import com.library.storage.SegmentInputStream;
+import com.library.storage.StorageBackend;
+import com.library.storage.StorageRangeResource;
+import com.library.storage.StorageResourceResolver.StoredEncoding;
+import com.library.util.IoThrottle;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+    첨부파일 콜드 아카이브 Service
+        - 주요 기능
+            - 1) 첨부파일 읽기 : 업로드 저장소(hot)에 없으면 아카이브 세그먼트에서 찾아 줌 (사용자는 차이를 모름)
+            - 2) 아카이브 : 여러 첨부파일을 압축해서 하나의 세그먼트 객체로 묶고, 업로드 저장소에서 삭제
+
+    세그먼트 구조
+        - [파일1 deflate 바이트][파일2 deflate 바이트]...  (파일별로 독립 압축 → 하나만 범위 읽기로 꺼낼 수 있음)
+        - 위치 정보는 archived_file 테이블에 저장 (fileId → segmentKey, offset, length, codec)
+        - 이미 압축 저장된 파일(contentEncoding = deflate)은 다시 압축하지 않고 그대로 넣음
+
+    아카이브 순서 (중간에 실패해도 파일을 잃지 않도록)
+        - 1) 세그먼트 작성 (업로드 저장소의 파일을 스트리밍으로 읽어 아카이브 저장소에 put)
+        - 2) 인덱스 저장 (한 트랜잭션)
+        - 3) 업로드 저장소에서 원본 삭제
+        - 2) 이전에 실패하면 세그먼트만 남고 인덱스가 없으므로 다음 실행에서 다시 아카이브됨
+ */
+@Service
+@Slf4j
+public class AttachmentArchiveService {
+
+    private static final String SEGMENT_PREFIX = "archive/segments/";
+    private static final DateTimeFormatter SEGMENT_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final StorageBackend archiveBackend;
+    private final FileStorageService fileStorageService;
+    private final ArchivedFileRepository archivedFileRepository;
+    private final BoardFileRepository boardFileRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public AttachmentArchiveService(@Qualifier("archiveStorageBackend") StorageBackend archiveBackend,
+                                    FileStorageService fileStorageService,
+                                    ArchivedFileRepository archivedFileRepository,
+                                    BoardFileRepository boardFileRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.archiveBackend = archiveBackend;
+        this.fileStorageService = fileStorageService;
+        this.archivedFileRepository = archivedFileRepository;
+        this.boardFileRepository = boardFileRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /*
+        첨부파일 Resource 조회 - 업로드 저장소 → 아카이브 순서로 찾음
+            - 반환되는 바이트는 어느 쪽이든 같음 (BoardFile.contentEncoding 기준의 저장 형태)
+     */
+    public Resource loadFile(BoardFile file) {
+        return fileStorageService.findFileResource(file.getFilePath(), file.getStoredFilename())
+                .or(() -> archivedFileRepository.findById(file.getId()).map(this::openArchived))
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + file.getStoredFilename()));
+    }
+
+    // 저장 파일명으로 아카이브에서 찾기 (/uploads/** 이미지 요청용), 없으면 null
+    public Resource findArchivedByStoredFilename(String storedFilename) {
+        return archivedFileRepository.findByStoredFilename(storedFilename)
+                .map(this::openArchived)
+                .orElse(null);
+    }
+
+    /*
+        저장 파일명의 압축 정보 (/uploads/** 응답용), 압축 안 했으면 null
+            - 압축 대상 확장자가 아니면 조회하지 않음 (이미지 요청은 DB를 거치지 않음)
+     */
+    public StoredEncoding findStoredEncoding(String storedFilename) {
+        if (!fileStorageService.mayBeCompressed(storedFilename)) {
+            return null;
+        }
+        return boardFileRepository.findFirstByStoredFilename(storedFilename)
+                .filter(file -> file.getContentEncoding() != null)
+                .map(file -> new StoredEncoding(file.getContentEncoding(), file.getFileSize()))
+                .orElse(null);
+    }
+
+    // 세그먼트 안의 구간을 업로드 저장소에 있을 때와 같은 형태의 바이트로 열기
+    private Resource openArchived(ArchivedFile archived) {
+        Resource entry = new StorageRangeResource(archiveBackend, archived.getSegmentKey(),
+                archived.getSegmentOffset(), archived.getStoredLength(), archived.getStoredFilename());
+        if (Objects.equals(archived.getCodec(), archived.getSourceEncoding())) {
+            return entry;
+        }
+        return new DecodedResource(entry, archived.getFileSize());
+    }
+
+    /*
+        첨부파일 묶음을 세그먼트 하나로 아카이브
+            - 업로드 저장소에 없는 파일은 건너뜀
+            - throttle : 파일 하나를 읽기 시작할 때마다 1씩 사용 (초당 처리 파일 수 제한)
+        @return 아카이브된 파일 수
+     */
+    public int archive(List<BoardFile> files, IoThrottle throttle) {
+        // 1. 업로드 저장소에 실제로 있는 파일만 세그먼트 조각으로 준비
+        List<BoardFile> targets = new ArrayList<>();
+        List<SegmentInputStream.Part> parts = new ArrayList<>();
+        for (BoardFile file : files) {
+            Optional<Resource> hot = fileStorageService.findFileResource(file.getFilePath(), file.getStoredFilename());
+            if (hot.isEmpty()) {
+                log.warn("아카이브 대상 파일 없음: id={}, {}{}", file.getId(), file.getFilePath(), file.getStoredFilename());
+                continue;
+            }
+            targets.add(file);
+            parts.add(() -> openForSegment(hot.get(), file.getContentEncoding(), throttle));
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 세그먼트 작성 (전체 길이를 미리 알 수 없으므로 -1)
+        String segmentKey = SEGMENT_PREFIX + LocalDateTime.now().format(SEGMENT_TIME) + "-" + UUID.randomUUID() + ".seg";
+        SegmentInputStream segment = new SegmentInputStream(parts);
+        try (segment) {
+            archiveBackend.put(segmentKey, segment, -1);
+        } catch (IOException e) {
+            throw new RuntimeException("아카이브 세그먼트를 저장할 수 없습니다: " + segmentKey, e);
+        }
+
+        // 3. 인덱스 저장 (한 트랜잭션)
+        List<ArchivedFile> index = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            BoardFile file = targets.get(i);
+            index.add(ArchivedFile.builder()
+                    .fileId(file.getId())
+                    .file(file)
+                    .storedFilename(file.getStoredFilename())
+                    .segmentKey(segmentKey)
+                    .segmentOffset(segment.getOffset(i))
+                    .storedLength(segment.getLength(i))
+                    .codec(ContentCodec.DEFLATE)
+                    .sourceEncoding(file.getContentEncoding())
+                    .fileSize(file.getFileSize())
+                    .build());
+        }
+        transactionTemplate.executeWithoutResult(status -> archivedFileRepository.saveAll(index));
+
+        // 4. 업로드 저장소에서 원본 삭제
+        for (BoardFile file : targets) {
+            fileStorageService.deleteFile(file.getFilePath(), file.getStoredFilename());
+        }
+
+        log.info("첨부파일 아카이브: {}건 → {}", targets.size(), segmentKey);
+        return targets.size();
+    }
+
+    // 세그먼트에 넣을 바이트 스트림 - 이미 deflate로 저장된 파일은 그대로, 나머지는 압축
+    private InputStream openForSegment(Resource hot, String contentEncoding, IoThrottle throttle) throws IOException {
+        try {
+            throttle.acquire(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("아카이브 작업이 중단되었습니다.");
+        }
+        InputStream in = hot.getInputStream();
+        return ContentCodec.DEFLATE.equals(contentEncoding) ? in : ContentCodec.encode(in);
+    }
+}
@@ -0,0 +1,89 @@
+package com.library.service;
+
+import com.library.entity.board.BoardFile;
+import com.library.entity.board.BoardStatus;
+import com.library.repository.BoardFileRepository;
+import com.library.util.IoThrottle;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    콜드 첨부파일 아카이브 작업 (주기 실행)
+        - file.archive.enabled=true 일 때만 등록됨 (여러 노드 중 한 노드에서만 켤 것)
+        - 대상 : 삭제된 게시글의 첨부파일 + cold-after-days 동안 수정되지 않은 게시글의 첨부파일
+        - 한 번 실행에 세그먼트 하나 (segment-max-files개 또는 segment-max-bytes까지)
+        - 키셋 커서로 진행하며, 끝까지 가면 처음부터 다시 (그 사이 새로 콜드가 된 파일 처리)
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "file.archive.enabled", havingValue = "true")
+public class AttachmentArchiver {
+
+    private final BoardFileRepository boardFileRepository;
+    private final AttachmentArchiveService attachmentArchiveService;
+    private final IoThrottle throttle;
+    private final int coldAfterDays;
+    private final int segmentMaxFiles;
+    private final long segmentMaxBytes;
+
+    private long lastId = 0L;       // 키셋 커서 (마지막으로 확인한 첨부파일 id)
+
+    public AttachmentArchiver(BoardFileRepository boardFileRepository,
+                              AttachmentArchiveService attachmentArchiveService,
+                              @Value("${file.archive.cold-after-days:1095}") int coldAfterDays,
+                              @Value("${file.archive.segment-max-files:500}") int segmentMaxFiles,
+                              @Value("${file.archive.segment-max-bytes:268435456}") long segmentMaxBytes,
+                              @Value("${file.archive.files-per-second:20}") double filesPerSecond) {
+        this.boardFileRepository = boardFileRepository;
+        this.attachmentArchiveService = attachmentArchiveService;
+        this.coldAfterDays = coldAfterDays;
+        this.segmentMaxFiles = segmentMaxFiles;
+        this.segmentMaxBytes = segmentMaxBytes;
+        this.throttle = new IoThrottle(filesPerSecond);
+    }
+
+    @Scheduled(initialDelayString = "${file.archive.interval-ms:3600000}",
+               fixedDelayString = "${file.archive.interval-ms:3600000}")
+    public void archiveColdFiles() {
+        try {
+            archiveNextSegment();
+        } catch (RuntimeException e) {
+            // 다음 주기에 같은 커서부터 다시 시도
+            log.error("첨부파일 아카이브 실패 (마지막 id: {})", lastId, e);
+        }
+    }
+
+    // 세그먼트 하나 분량 아카이브, 대상이 없으면 커서를 처음으로 되돌림
+    int archiveNextSegment() {
+        LocalDateTime coldBefore = LocalDateTime.now().minusDays(coldAfterDays);
+        List<BoardFile> candidates = boardFileRepository.findColdFilesAfter(
+                lastId, BoardStatus.DELETED, coldBefore, PageRequest.of(0, segmentMaxFiles));
+        if (candidates.isEmpty()) {
+            lastId = 0L;
+            return 0;
+        }
+
+        // 세그먼트 최대 크기까지만 (첫 파일은 크기와 관계없이 포함)
+        List<BoardFile> batch = new ArrayList<>();
+        long bytes = 0;
+        for (BoardFile file : candidates) {
+            if (!batch.isEmpty() && bytes + file.getFileSize() > segmentMaxBytes) {
+                break;
+            }
+            batch.add(file);
+            bytes += file.getFileSize();
+        }
+
+        int archived = attachmentArchiveService.archive(batch, throttle);
+        lastId = batch.get(batch.size() - 1).getId();
+        return archived;
+    }
+}
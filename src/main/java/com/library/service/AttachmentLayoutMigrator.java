@@ -0,0 +1,110 @@
+package com.library.service;
+
+import com.library.entity.board.BoardFile;
+import com.library.repository.BoardFileRepository;
+import com.library.storage.StorageLayout;
+import com.library.util.IoThrottle;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    첨부파일 레이아웃 마이그레이션 - 날짜별 디렉토리(boards/yyyy/MM/dd/)의 기존 파일을 해시 분산 디렉토리로 이동
+        - file.migration.enabled=true 일 때만 등록됨 (여러 노드 중 한 노드에서만 켤 것)
+        - 동작 순서 (배치 단위)
+            - 1) 키셋 페이징으로 날짜별 경로 행을 batch-size만큼 조회
+            - 2) 파일 하나씩 이동 (IoThrottle로 초당 이동 수 제한)
+            - 3) 이동된 행들의 filePath를 한 트랜잭션으로 갱신
+        - 파일 이동 → 행 갱신 순서라 그 사이에 중단되어도 안전함
+            - 다운로드/삭제는 기록된 경로에 없으면 해시 경로를 찾아봄 (FileStorageService 참고)
+            - 다음 실행에서 원본이 없고 대상만 있으면 이동 없이 행만 갱신됨
+        - 남은 행이 없으면 작업을 끝냄 (재시작 시 처음부터 다시 확인)
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "file.migration.enabled", havingValue = "true")
+public class AttachmentLayoutMigrator {
+
+    private final BoardFileRepository boardFileRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final IoThrottle throttle;
+    private final int batchSize;
+
+    private long lastId = 0L;           // 키셋 커서 (마지막으로 처리한 행 id)
+    private boolean finished = false;
+
+    public AttachmentLayoutMigrator(BoardFileRepository boardFileRepository,
+                                    FileStorageService fileStorageService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${file.migration.batch-size:200}") int batchSize,
+                                    @Value("${file.migration.files-per-second:20}") double filesPerSecond) {
+        this.boardFileRepository = boardFileRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.throttle = new IoThrottle(filesPerSecond);
+    }
+
+    @Scheduled(initialDelayString = "${file.migration.interval-ms:60000}",
+               fixedDelayString = "${file.migration.interval-ms:60000}")
+    public void migrateBatch() {
+        if (finished) {
+            return;
+        }
+        try {
+            int moved = migrateNextBatch();
+            if (moved < 0) {
+                finished = true;
+                log.info("첨부파일 레이아웃 마이그레이션 완료");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // 다음 주기에 같은 커서부터 다시 시도
+            log.error("첨부파일 레이아웃 마이그레이션 실패 (마지막 id: {})", lastId, e);
+        }
+    }
+
+    /*
+        한 배치 처리
+        @return 갱신한 행 수, 남은 대상이 없으면 -1
+     */
+    int migrateNextBatch() throws InterruptedException {
+        List<BoardFile> files = boardFileRepository.findDateLayoutFilesAfter(lastId, PageRequest.of(0, batchSize));
+        if (files.isEmpty()) {
+            return -1;
+        }
+
+        // 1. 파일 이동 (트랜잭션 밖에서 - 느린 I/O 동안 DB 커넥션을 잡지 않음)
+        Map<Long, String> relocated = new LinkedHashMap<>();
+        for (BoardFile file : files) {
+            if (StorageLayout.isDateLayout(file.getFilePath())) {
+                throttle.acquire(1);
+                String newPath = fileStorageService.relocateToHashedLayout(file.getFilePath(), file.getStoredFilename());
+                if (newPath != null) {
+                    relocated.put(file.getId(), newPath);
+                } else {
+                    log.warn("마이그레이션 대상 파일 없음: id={}, {}{}", file.getId(), file.getFilePath(), file.getStoredFilename());
+                }
+            }
+        }
+
+        // 2. 행 갱신 (한 트랜잭션)
+        transactionTemplate.executeWithoutResult(status ->
+                relocated.forEach(boardFileRepository::updateFilePath));
+
+        lastId = files.get(files.size() - 1).getId();
+        log.info("첨부파일 레이아웃 마이그레이션: {}건 이동 (마지막 id: {})", relocated.size(), lastId);
+        return relocated.size();
+    }
+}
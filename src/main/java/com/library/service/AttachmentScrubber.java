@@ -0,0 +1,255 @@
+package com.library.service;
+
+import com.library.entity.board.BoardFile;
+import com.library.entity.job.JobCheckpoint;
+import com.library.exception.StorageException;
+import com.library.repository.ArchivedFileRepository;
+import com.library.repository.BoardFileRepository;
+import com.library.repository.JobCheckpointRepository;
+import com.library.storage.ContentCodec;
+import com.library.storage.StorageBackend;
+import com.library.storage.StorageObject;
+import com.library.util.IoThrottle;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/*
+    첨부파일 무결성 검사 (scrubber) - 사용자가 다운로드하다가 발견하기 전에 손상/유실을 찾아냄
+        - file.scrub.enabled=true 일 때만 등록됨 (여러 노드 중 한 노드에서만 켤 것)
+        - 한 회차는 두 단계로 진행
+            - 1) ROWS : board_file 행을 키셋 배치로 훑으며 파일 존재 / 크기 / SHA-256 체크섬 확인
+                - 체크섬이 없는 기존 행은 이번에 계산한 값으로 채움
+                - 아카이브된 파일(archived_file)은 업로드 저장소에 없는 것이 정상
+            - 2) FILES : 업로드 저장소 목록을 키 순서로 훑으며 행이 없는 파일(고아 파일) 확인
+                - 방금 올라가 아직 커밋 전인 파일을 오탐하지 않도록 orphan-grace 이내 파일은 제외
+        - 발견한 문제는 WARN 로그로 보고하며 자동으로 삭제/수정하지 않음
+        - 배치마다 job_checkpoint에 진행 위치를 저장 → 재시작해도 처음부터 다시 훑지 않음
+        - IoThrottle 두 개로 부하 제한 (초당 파일 수, 초당 읽기 바이트 수)
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "file.scrub.enabled", havingValue = "true")
+public class AttachmentScrubber {
+
+    static final String JOB_NAME = "attachment-scrub";
+    static final String PHASE_ROWS = "ROWS";
+    static final String PHASE_FILES = "FILES";
+    static final String PHASE_DONE = "DONE";
+
+    private static final int READ_CHUNK = 64 * 1024;    // 체크섬 계산 시 한 번에 읽는 크기 (스로틀 단위)
+
+    // 발견 가능한 문제 종류
+    enum Issue {
+        MISSING_FILE,       // 행은 있는데 파일이 없음
+        SIZE_MISMATCH,      // 파일 크기가 기록과 다름
+        CHECKSUM_MISMATCH,  // 체크섬이 기록과 다름 (내용 손상)
+        UNREADABLE,         // 파일을 끝까지 읽을 수 없음 (압축 손상 등)
+        ORPHAN_FILE         // 파일은 있는데 행이 없음
+    }
+
+    private final BoardFileRepository boardFileRepository;
+    private final ArchivedFileRepository archivedFileRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final FileStorageService fileStorageService;
+    private final StorageBackend storageBackend;
+    private final TransactionTemplate transactionTemplate;
+    private final IoThrottle fileThrottle;
+    private final IoThrottle byteThrottle;
+    private final int batchSize;
+    private final String prefix;
+    private final Duration orphanGrace;
+    private final Duration passInterval;
+
+    public AttachmentScrubber(BoardFileRepository boardFileRepository,
+                              ArchivedFileRepository archivedFileRepository,
+                              JobCheckpointRepository jobCheckpointRepository,
+                              FileStorageService fileStorageService,
+                              StorageBackend storageBackend,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${file.scrub.batch-size:100}") int batchSize,
+                              @Value("${file.scrub.prefix:boards/}") String prefix,
+                              @Value("${file.scrub.files-per-second:20}") double filesPerSecond,
+                              @Value("${file.scrub.bytes-per-second:10485760}") double bytesPerSecond,
+                              @Value("${file.scrub.orphan-grace-minutes:60}") long orphanGraceMinutes,
+                              @Value("${file.scrub.pass-interval-hours:24}") long passIntervalHours) {
+        this.boardFileRepository = boardFileRepository;
+        this.archivedFileRepository = archivedFileRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.fileStorageService = fileStorageService;
+        this.storageBackend = storageBackend;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fileThrottle = new IoThrottle(filesPerSecond);
+        this.byteThrottle = new IoThrottle(bytesPerSecond);
+        this.batchSize = batchSize;
+        this.prefix = prefix;
+        this.orphanGrace = Duration.ofMinutes(orphanGraceMinutes);
+        this.passInterval = Duration.ofHours(passIntervalHours);
+    }
+
+    @Scheduled(initialDelayString = "${file.scrub.interval-ms:1000}",
+               fixedDelayString = "${file.scrub.interval-ms:1000}")
+    public void scrub() {
+        try {
+            scrubNextBatch();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // 체크포인트는 배치가 끝나야 저장되므로 다음 주기에 같은 배치부터 다시 시도
+            log.error("첨부파일 무결성 검사 실패", e);
+        }
+    }
+
+    // 배치 하나 처리 후 체크포인트 저장
+    void scrubNextBatch() throws InterruptedException {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> JobCheckpoint.builder().jobName(JOB_NAME).phase(PHASE_DONE).build());
+
+        switch (checkpoint.getPhase()) {
+            case PHASE_ROWS -> scrubRows(checkpoint);
+            case PHASE_FILES -> scrubFiles(checkpoint);
+            default -> {
+                // 직전 회차가 끝나고 pass-interval이 지났으면 새 회차 시작
+                LocalDateTime finishedAt = checkpoint.getPassFinishedAt();
+                if (finishedAt != null && finishedAt.plus(passInterval).isAfter(LocalDateTime.now())) {
+                    return;
+                }
+                checkpoint.startPass(PHASE_ROWS);
+                log.info("첨부파일 무결성 검사 시작");
+            }
+        }
+        jobCheckpointRepository.save(checkpoint);
+    }
+
+    // 1단계 : 행 → 파일 확인
+    private void scrubRows(JobCheckpoint checkpoint) throws InterruptedException {
+        List<BoardFile> files = boardFileRepository.findByIdGreaterThanOrderByIdAsc(
+                checkpoint.getLastId(), PageRequest.of(0, batchSize));
+        if (files.isEmpty()) {
+            checkpoint.moveTo(PHASE_FILES);
+            return;
+        }
+
+        long issues = 0;
+        for (BoardFile file : files) {
+            fileThrottle.acquire(1);
+            if (!verifyRow(file)) {
+                issues++;
+            }
+        }
+        checkpoint.advance(files.get(files.size() - 1).getId(), null, files.size(), issues);
+    }
+
+    /*
+        첨부파일 하나 검사
+        @return 문제가 없으면 true
+     */
+    private boolean verifyRow(BoardFile file) throws InterruptedException {
+        Optional<Resource> hot = fileStorageService.findFileResource(file.getFilePath(), file.getStoredFilename());
+        if (hot.isEmpty()) {
+            if (archivedFileRepository.existsById(file.getId())) {
+                return true;
+            }
+            return report(Issue.MISSING_FILE, file, file.getFilePath() + file.getStoredFilename());
+        }
+
+        Resource resource = hot.get();
+        String description = resource.getDescription();
+        try {
+            // 압축하지 않은 파일은 내용을 읽기 전에 저장소 메타데이터로 크기부터 확인
+            if (file.getContentEncoding() == null && resource.contentLength() != file.getFileSize()) {
+                return report(Issue.SIZE_MISMATCH, file, description + " (" + resource.contentLength() + " bytes)");
+            }
+
+            // 원본 내용 기준으로 체크섬 계산 (압축 저장된 파일은 풀면서 계산)
+            //   - 읽은 조각마다 byteThrottle → 큰 파일 하나도 bytes-per-second 속도로 나누어 읽음
+            MessageDigest digest = FileStorageService.sha256();
+            long length = 0;
+            byte[] buffer = new byte[READ_CHUNK];
+            try (InputStream raw = resource.getInputStream();
+                 InputStream in = new DigestInputStream(
+                         file.getContentEncoding() != null ? ContentCodec.decode(raw) : raw, digest)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    byteThrottle.acquire(read);
+                    length += read;
+                }
+            }
+
+            if (length != file.getFileSize()) {
+                return report(Issue.SIZE_MISMATCH, file, description + " (" + length + " bytes)");
+            }
+            String checksum = HexFormat.of().formatHex(digest.digest());
+            if (file.getChecksum() == null) {
+                transactionTemplate.executeWithoutResult(status -> boardFileRepository.fillChecksum(file.getId(), checksum));
+                return true;
+            }
+            if (!file.getChecksum().equals(checksum)) {
+                return report(Issue.CHECKSUM_MISMATCH, file, description);
+            }
+            return true;
+        } catch (IOException | StorageException e) {
+            return report(Issue.UNREADABLE, file, description + " (" + e.getMessage() + ")");
+        }
+    }
+
+    // 2단계 : 파일 → 행 확인 (고아 파일)
+    private void scrubFiles(JobCheckpoint checkpoint) throws InterruptedException {
+        List<StorageObject> objects;
+        try (Stream<StorageObject> listing = storageBackend.list(prefix, checkpoint.getLastKey())) {
+            objects = listing.limit(batchSize).toList();
+        }
+        if (objects.isEmpty()) {
+            checkpoint.finishPass(PHASE_DONE);
+            log.info("첨부파일 무결성 검사 완료 - 검사 {}건, 문제 {}건 (시작: {})",
+                    checkpoint.getProcessedCount(), checkpoint.getIssueCount(), checkpoint.getPassStartedAt());
+            return;
+        }
+
+        Set<String> filenames = new HashSet<>();
+        for (StorageObject object : objects) {
+            filenames.add(filenameOf(object.getKey()));
+        }
+        Set<String> existing = new HashSet<>(boardFileRepository.findExistingStoredFilenames(filenames));
+
+        Instant graceLimit = Instant.now().minus(orphanGrace);
+        long issues = 0;
+        for (StorageObject object : objects) {
+            fileThrottle.acquire(1);
+            if (!existing.contains(filenameOf(object.getKey())) && object.getLastModified().isBefore(graceLimit)) {
+                log.warn("[첨부파일 무결성] {} - key={}, size={}", Issue.ORPHAN_FILE, object.getKey(), object.getSize());
+                issues++;
+            }
+        }
+        checkpoint.advance(checkpoint.getLastId(), objects.get(objects.size() - 1).getKey(), objects.size(), issues);
+    }
+
+    private boolean report(Issue issue, BoardFile file, String detail) {
+        log.warn("[첨부파일 무결성] {} - id={}, {}", issue, file.getId(), detail);
+        return false;
+    }
+
+    private static String filenameOf(String key) {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+}
@@ -1,17 +1,33 @@
 package com.library.service;
 
+import com.library.cache.BoardRanking;
+import com.library.cache.TrendingBoards;
 import com.library.dto.board.BoardCreateDTO;
 import com.library.dto.board.BoardDetailDTO;
 import com.library.dto.board.BoardListDTO;
 import com.library.dto.board.BoardUpdateDTO;
+import com.library.dto.member.MemberPrincipal;
 import com.library.entity.board.Board;
+import com.library.entity.board.BoardCategory;
 import com.library.entity.board.BoardFile;
+import com.library.entity.board.BoardSignature;
+import com.library.entity.board.BoardSort;
 import com.library.entity.board.BoardStatus;
 import com.library.entity.member.Member;
+import com.library.event.BoardChangedEvent;
 import com.library.repository.BoardRepository;
+import com.library.repository.BoardSignatureRepository;
 import com.library.repository.MemberRepository;
+import com.library.search.BoardSearchIndex;
+import com.library.search.BoardTagIndex;
+import com.library.search.InvertedIndex;
+import com.library.search.MinHash;
+import com.library.service.FileStorageService.StoredFile;
+import com.library.util.TagParser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -19,6 +35,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /*
     게시글 Service
         - 게시글 관련 비즈니스 로직을 처리함
@@ -36,6 +60,13 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final MemberRepository memberRepository;
     private final FileStorageService fileStorageService;
+    private final BoardVersionService boardVersionService;
+    private final BoardRanking boardRanking;                  // 조회순/좋아요순/댓글순 상위 K개 (메모리)
+    private final TrendingBoards trendingBoards;              // 지금 뜨는 글 (최근 활동 집계)
+    private final BoardSearchIndex boardSearchIndex;          // 제목/본문 검색 색인 (메모리)
+    private final BoardTagIndex boardTagIndex;                // 태그/카테고리 비트맵 (메모리)
+    private final BoardSignatureRepository boardSignatureRepository;  // 관련 글용 MinHash 서명
+    private final ApplicationEventPublisher eventPublisher;     // 게시글 변경 이벤트 발행 (커밋 후 페이지 캐시 무효화 등)
 
     /*
         게시글 목록 조회 (페이징)
@@ -48,16 +79,33 @@ public class BoardService {
 
         @param page 조회할 페이지 번호 (0부터 시작)
         @param size 페이지당 게시글 수
+        @param category 카테고리 필터 (null이면 전체)
+        @param tags 태그 필터 (모두 가진 글만, 비어 있으면 전체) - 태그 필터는 최신순만 지원
         @return 페이징된 게시글 목록 (BoardListDTO)
      */
-    public Page<BoardListDTO> getBoardList(int page, int size) {
-        // 페이징 정보 생성 (페이지 번호, 크기, 정렬 조건)
-        Pageable pageable =
-                PageRequest.of(page, size, Sort.by("createdAt").descending());
+    public Page<BoardListDTO> getBoardList(int page, int size, BoardCategory category, BoardSort sort,
+                                           Collection<String> tags) {
+        // 태그 필터 : 메모리 비트맵 교집합으로 한 페이지 id를 정하고 PK IN 조회
+        if (!tags.isEmpty()) {
+            BoardTagIndex.Result result = boardTagIndex.find(tags, category, page, size);
+            return new PageImpl<>(findAllInOrder(result.boardIds()), PageRequest.of(page, size), result.total());
+        }
+
+        // 조회순/좋아요순/댓글순
+        if (sort.isRanked()) {
+            return getRankedBoardList(page, size, category, sort);
+        }
+
+        /*
+            페이징 정보 생성 (페이지 번호, 크기)
+                - 정렬(createdAt DESC, id DESC)은 쿼리에 고정 → 인덱스 순서와 같아 filesort 없음
+         */
+        Pageable pageable = PageRequest.of(page, size);
 
         // ACTIVE 상태의 게시글 조회 (작성자 정보 포함 - Fetch Join)
-        Page<Board> boards =
-                boardRepository.findByStatusWithAuthor(BoardStatus.ACTIVE, pageable);
+        Page<Board> boards = category == null
+                ? boardRepository.findByStatusWithAuthor(BoardStatus.ACTIVE, pageable)
+                : boardRepository.findByStatusAndCategoryWithAuthor(BoardStatus.ACTIVE, category, pageable);
 
         /*
             Entity를 DTO로 변환하여 반환
@@ -67,31 +115,90 @@ public class BoardService {
         return boards.map(BoardListDTO::from);
     }
 
+    /*
+        카운터 기준 정렬 목록 (조회순/좋아요순/댓글순)
+            - 전체 목록의 앞쪽 페이지 : 메모리 Top-K(BoardRanking)가 순서를 정하고, 게시글은 PK IN 조회
+                - 전체 수도 BoardRanking이 메모리에 유지하는 값 사용 (요청마다 COUNT 없음)
+            - 그 외(K를 넘는 페이지, 카테고리 필터) : 카운터 인덱스(idx_board_status_views 등) 순서로 조회
+     */
+    private Page<BoardListDTO> getRankedBoardList(int page, int size, BoardCategory category, BoardSort sort) {
+        if (category == null) {
+            long total = boardRanking.activeCount()
+                    .orElseGet(() -> boardRepository.countByStatus(BoardStatus.ACTIVE));
+            Optional<List<Long>> ids = boardRanking.page(sort, page, size, total);
+            if (ids.isPresent()) {
+                return new PageImpl<>(findAllInOrder(ids.get()), PageRequest.of(page, size), total);
+            }
+        }
+
+        Pageable pageable = PageRequest.of(page, size,
+                Sort.by(Sort.Order.asc("status"), Sort.Order.desc(sort.getProperty()), Sort.Order.desc("id")));
+        Page<Board> boards = category == null
+                ? boardRepository.findPageByStatus(BoardStatus.ACTIVE, pageable)
+                : boardRepository.findPageByStatusAndCategory(BoardStatus.ACTIVE, category, pageable);
+        return boards.map(BoardListDTO::from);
+    }
+
+    /*
+        게시글 검색 (제목 + 본문)
+            - 검색어의 모든 단어를 포함한 글만, 관련도(BM25) 순으로 반환 - 제목에 나온 단어는 가중치를 더 줌
+            - 순서와 전체 수는 메모리 색인(BoardSearchIndex)이 정하고, 게시글은 한 페이지만 PK IN 조회
+        @param page 조회할 페이지 번호 (0부터 시작)
+     */
+    public Page<BoardListDTO> searchBoards(String query, int page, int size) {
+        InvertedIndex.Result result = boardSearchIndex.search(query, page, size);
+        return new PageImpl<>(findAllInOrder(result.boardIds()), PageRequest.of(page, size), result.total());
+    }
+
+    /*
+        id 목록의 게시글을 그 순서대로 조회 (작성자 포함)
+            - 메모리 색인(Top-K, 검색, 태그 비트맵)이 순서를 정한 한 페이지를 PK IN 한 번으로 가져옴
+            - IN 조회 결과는 순서가 없으므로 id 순서대로 다시 배열 (그 사이 삭제된 글은 빠짐)
+     */
+    private List<BoardListDTO> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Board> boards = boardRepository.findAllByIdInAndStatusWithAuthor(ids, BoardStatus.ACTIVE)
+                .stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+        return ids.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .map(BoardListDTO::from)
+                .toList();
+    }
+
     /*
         게시글 상세 조회
             - ACTIVE 상태의 게시글만 조회
-            - 조회수를 1 증가시킴 (더티체킹으로 자동 반영)
-        @Transactional (더티체킹의 핵심)
+            - 조회수를 1 증가시킴 (벌크 UPDATE)
+        @Transactional
             - readOnly = false (기본값)
                 - 조회수 증가를 위해서는 readOnly = false (기본값)을 유지해야 함.
                 -> 즉, readOnly=true를 사용하지 않는다
-                - 트랜잭션 내에서 엔터티 변경 => 더티체킹으로 자동 UPDATE
+        조회수를 더티체킹이 아닌 벌크 UPDATE로 올리는 이유
+            - 더티체킹은 updatedAt도 함께 바꿈 → 조회만 해도 "수정됨"이 되고, 페이지 검증값(ETag)이 매번 바뀜
+            - UPDATE board SET view_count = view_count + 1 WHERE id=? AND status='ACTIVE'
      */
-    @Transactional      // 더티체킹을 위해 반드시 필요
+    @Transactional
     public BoardDetailDTO getBoard(Long id) {
 
-        // 1. DB에서 게시글 조회
+        // 1. 조회수 증가 (영속성 컨텍스트에 올리기 전에 실행 → 아래 조회에서 증가된 값을 읽음)
+        if (boardRepository.increaseViewCount(id, BoardStatus.ACTIVE) > 0) {
+            boardVersionService.counterChangedAfterCommit();     // 목록 페이지의 조회수 표시가 바뀜
+        }
+
+        // 2. DB에서 게시글 조회
         Board board = boardRepository.findByIdAndStatusWithAuthor(id, BoardStatus.ACTIVE)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
-        // 2. 조회수 증가 (메모리상에서만 증가) -> 이 시점에는 DB에 반영X
-        board.increaseViewCount();
+        // 3. 조회순 순위에 현재 조회수 반영, 지금 뜨는 글 집계
+        boardRanking.offerViewCount(board.getId(), board.getViewCount());
+        trendingBoards.recordView(board.getId());
 
-        // 3. Entity를 DTO로 변환해서 반환
+        // 4. Entity를 DTO로 변환해서 반환
         return BoardDetailDTO.from(board);
-        // 4. 메서드 종료 - 트랜잭션이 커밋 직전 더티체킹 실행
-        // JPA가 스냅샷과 현재 엔터티를 비교하여 viewCount 변경 감지
-        // UPDATE board SET view_count=?, updated_at=? WHERE id=?
     }
 
     /*
@@ -110,28 +217,27 @@ public class BoardService {
                 - save() 호출 후 자동으로 커밋
 
             - 동작 과정
-                - 1) Spring Security (SecurityContext)에서 현재 사용자 이메일 추출
-                - 2) 이메일로 Member 조회
-                - 3) DTO 데이터 + Member로 Board 엔터티 생성
-                - 4) 첨부파일이 있으면:
+                - 1) 로그인 정보(MemberPrincipal)의 id로 작성자 프록시 생성 (회원 조회 없음)
+                - 2) DTO 데이터 + 작성자 프록시로 Board 엔터티 생성
+                - 3) 첨부파일이 있으면:
                     - 각 파일을 서버에 저장
                     - BoardFile 엔터티 생성
                     - Board에 파일 추가 (양방향 관계 설정)
-                - 5) boardRepository.save()로 DB 저장 (파일도 함께 저장됨)
-                - 6) Insert board, board_file 쿼리 실행
-                - 7) 생성된 게시글의 ID 반환
+                - 4) boardRepository.save()로 DB 저장 (파일도 함께 저장됨)
+                - 5) Insert board, board_file 쿼리 실행
+                - 6) 생성된 게시글의 ID 반환
     */
     @Transactional
-    public Long createBoard(BoardCreateDTO createDTO, String userEmail) {
-        // 1) 현재 로그인한 사용자 정보 조회
-        Member author = memberRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    public Long createBoard(BoardCreateDTO createDTO, MemberPrincipal principal) {
+        // 1) 작성자 프록시 (외래키만 채움 - SELECT 없음)
+        Member author = memberRepository.getReferenceById(principal.getId());
 
         // 2) Board 엔터티 생성
         Board board = Board.builder()
                 .title(createDTO.getTitle())
                 .content(createDTO.getContent())
                 .category(createDTO.getCategory())
+                .tags(TagParser.parse(createDTO.getTags()))
                 .author(author)
                 .status(BoardStatus.ACTIVE)
                 .viewCount(0L)
@@ -146,15 +252,15 @@ public class BoardService {
                     continue;
                 }
                 // 파일을 서버에 물리적으로 저장
-                String[] fileInfo = fileStorageService.storeFile(file, "boards");
-                String storedFilename = fileInfo[0];        // 저장된 파일명  (UUID + 확장자)
-                String filePath = fileInfo[1];              // 파일이 저장된 전체 경로
+                StoredFile stored = fileStorageService.storeFile(file, "boards");
 
                 BoardFile boardFile = BoardFile.builder()   //BoardFile 엔터티 빌더 시작
                         .originalFilename(file.getOriginalFilename())  // 사용자가 업로드한원본
-                        .storedFilename(storedFilename) // 서버에 저장된 고유 파일명
-                        .filePath(filePath)     // 파일의 전체 저장 경로
+                        .storedFilename(stored.storedFilename()) // 서버에 저장된 고유 파일명 (UUID + 확장자)
+                        .filePath(stored.filePath())     // 파일의 전체 저장 경로
                         .fileSize(file.getSize())   // 파일 크기 (바이트 단위)   
+                        .contentEncoding(stored.contentEncoding())   // 압축 저장 방식 (압축 안 했으면 null)
+                        .checksum(stored.checksum())     // 무결성 검사용 체크섬 (원본 내용의 SHA-256)
                         .fileExtension(fileStorageService.getFileExtension(file.getOriginalFilename()))     // 파일 확장자
                         .mimeType(file.getContentType())    //파일의 MIME 타입 (예:image/png)
                         .downloadCount(0L)  // 다운로드 회수 초기값 0
@@ -164,6 +270,9 @@ public class BoardService {
         }
         // 4) DB에 저장 (cascade로 파일도 함께 저장됨)
         Board savedBoard = boardRepository.save(board);
+        saveSignature(savedBoard, true);
+        eventPublisher.publishEvent(new BoardChangedEvent(savedBoard.getId(), BoardChangedEvent.Type.CREATED,
+                savedBoard.getCategory() == BoardCategory.NOTICE));
 
         // 5) 생성된 게시글 ID 반환
         return savedBoard.getId();
@@ -177,18 +286,20 @@ public class BoardService {
             - 장점 : 데이터 복구 가능, 감사 추적 유지, 통계 데이터 보존, 외래키 제약 조건 유지
     */
     @Transactional
-    public void deleteBoard(Long id, String userEmail){
-        // 1) 게시글 조회 (작성자 정보 포함 - Fetch Join)
-        Board board = boardRepository.findByIdAndStatusWithAuthor(id, BoardStatus.ACTIVE)
+    public void deleteBoard(Long id, MemberPrincipal principal){
+        // 1) 게시글 조회 (작성자는 읽지 않음 - id만 비교)
+        Board board = boardRepository.findByIdAndStatus(id, BoardStatus.ACTIVE)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다.")); /*없으면*/
 
-        // 2) 권한 검증 - 작성자 본인만 삭제 가능
-        if(!board.getAuthor().getEmail().equals(userEmail)){
+        // 2) 권한 검증 - 작성자 본인만 삭제 가능 (프록시의 id는 초기화 없이 읽힘)
+        if(!board.getAuthor().getId().equals(principal.getId())){
             throw new RuntimeException("게시글을 삭제할 권한이 없습니다.");
         }
 
         // 3) Soft Delete 실행 (상태만 변경)
         board.delete();
+        eventPublisher.publishEvent(new BoardChangedEvent(id, BoardChangedEvent.Type.DELETED,
+                board.getCategory() == BoardCategory.NOTICE));
 
         // 4) 메서드 종료 - 트랜잭션 커밋 직전 더티체킹 실행
         /*
@@ -205,14 +316,14 @@ public class BoardService {
      */
 
     @Transactional(readOnly = true)
-    public BoardDetailDTO getBoardForEdit(Long id, String userEmail){
-        // 1) 게시글 조회 (작성자 정보 포함)
+    public BoardDetailDTO getBoardForEdit(Long id, MemberPrincipal principal){
+        // 1) 게시글 조회 (작성자 정보 포함 - 폼 DTO에 필요)
         Board board =
                 boardRepository.findByIdAndStatusWithAuthor(id, BoardStatus.ACTIVE)
                         .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
         // 2) 권한 검증 - 작성자 본인만 수정 가능
-        if(!board.getAuthor().getEmail().equals(userEmail)){
+        if(!board.getAuthor().getId().equals(principal.getId())){
             throw new RuntimeException("게시글을 수정할 권한이 없습니다.");
         }
 
@@ -228,18 +339,20 @@ public class BoardService {
             - 더티체킹으로 변경사항 자동 DB 반영
      */
     @Transactional
-    public void updateBoard(Long id, BoardUpdateDTO boardUpdateDTO, String userEmail){
-        // 1) 게시글 조회 (작성자 정보 포함)
-        Board board = boardRepository.findByIdAndStatusWithAuthor(id, BoardStatus.ACTIVE)
+    public void updateBoard(Long id, BoardUpdateDTO boardUpdateDTO, MemberPrincipal principal){
+        // 1) 게시글 조회 (작성자는 읽지 않음 - id만 비교)
+        Board board = boardRepository.findByIdAndStatus(id, BoardStatus.ACTIVE)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
-        // 2) 권한 검증 - 작성자 본인만 수정 가능
-        if(!board.getAuthor().getEmail().equals(userEmail)){
+        // 2) 권한 검증 - 작성자 본인만 수정 가능 (프록시의 id는 초기화 없이 읽힘)
+        if(!board.getAuthor().getId().equals(principal.getId())){
             throw new RuntimeException("게시글을 수정할 권한이 없습니다.");
         }
 
         // 3) 게시글 기본 정보 수정 (더티체킹으로 자동 Update)
+        boolean wasNotice = board.getCategory() == BoardCategory.NOTICE;   // 공지 → 일반글 변경도 공지 캐시에 반영
         board.update(boardUpdateDTO.getTitle(), boardUpdateDTO.getContent(), boardUpdateDTO.getCategory());
+        board.replaceTags(TagParser.parse(boardUpdateDTO.getTags()));
 
         // 4) 기존 파일 삭제 처리
         if(boardUpdateDTO.getDeleteFileIds() != null && !boardUpdateDTO.getDeleteFileIds().isEmpty()){
@@ -265,15 +378,15 @@ public class BoardService {
                     continue;
                 }
                 
-                String[] fileInfo = fileStorageService.storeFile(file, "boards");
-                String storedFilename = fileInfo[0];    // 배열[0] : 서버에 저장된 고유파일명
-                String filePath = fileInfo[1];  // 배열[1] : 파일이 저장된 전체 경로
+                StoredFile stored = fileStorageService.storeFile(file, "boards");
 
                 BoardFile boardFile = BoardFile.builder()   // BoardFile 엔티티 생성
                         .originalFilename(file.getOriginalFilename()) // 사용자가 업로드한 원본 파일명
-                        .storedFilename(storedFilename) // 서버에 저장된 고유 파일명 (UUID + 확장자)
-                        .filePath(filePath) //파일이 저장된 전체 경로
+                        .storedFilename(stored.storedFilename()) // 서버에 저장된 고유 파일명 (UUID + 확장자)
+                        .filePath(stored.filePath()) //파일이 저장된 전체 경로
                         .fileSize(file.getSize())
+                        .contentEncoding(stored.contentEncoding())
+                        .checksum(stored.checksum())
                         .fileExtension(fileStorageService.getFileExtension(file.getOriginalFilename()))
                         .mimeType(file.getContentType())    //파일의 MIME 타입 (예: "image/jpeg")
                         .downloadCount(0L)
@@ -281,6 +394,31 @@ public class BoardService {
                 board.addFile(boardFile);   //board 엔터티에 BoardFile 추가
             }
         }
+        saveSignature(board, false);
+        eventPublisher.publishEvent(new BoardChangedEvent(id, BoardChangedEvent.Type.UPDATED,
+                wasNotice || board.getCategory() == BoardCategory.NOTICE));
+    }
+
+    /*
+        관련 글용 MinHash 서명 저장 (작성/수정과 같은 트랜잭션)
+            - 상세 페이지 요청 때는 계산하지 않도록 쓰기 시점에 한 번만 계산
+            - 제목/본문이 너무 짧아 서명을 만들 수 없으면 기존 서명도 삭제 (관련 글 대상에서 빠짐)
+            - 기존 서명을 조회하지 않음
+                - 작성 : 서명이 있을 수 없으므로 바로 INSERT (persist)
+                - 수정 : 벌크 UPDATE, 바뀐 행이 없으면(도입 전 게시글) INSERT
+     */
+    private void saveSignature(Board board, boolean created) {
+        int[] signature = MinHash.signature(board.getTitle(), board.getContent());
+        if (signature == null) {
+            if (!created) {
+                boardSignatureRepository.deleteByBoardId(board.getId());
+            }
+            return;
+        }
+        byte[] bytes = MinHash.toBytes(signature);
+        if (created || boardSignatureRepository.updateSignature(board.getId(), bytes) == 0) {
+            boardSignatureRepository.save(BoardSignature.builder().boardId(board.getId()).signature(bytes).build());
+        }
     }
 
     //4) 메서드 종료 - 트랜잭션 커밋 직전 더티체킹 실행
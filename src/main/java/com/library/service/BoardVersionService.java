@@ -0,0 +1,121 @@
+package com.library.service;
+
+import com.library.entity.board.BoardStatus;
+import com.library.event.CommentChangedEvent;
+import com.library.repository.BoardRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    게시판 페이지 검증값(ETag / Last-Modified) Service - 조건부 GET(304) 처리용
+        - 페이지를 렌더링하거나 엔티티를 읽기 전에, 인덱스 한 번 조회로 "바뀌었는지"만 판단함
+
+    목록 페이지 (/boards)
+        - 게시글 MAX(updatedAt) : 작성/수정/삭제 반영
+        - 카운터 버전 : 조회수 등 updatedAt을 바꾸지 않는 카운터 변경 반영 (노드 메모리의 AtomicLong)
+            - 노드마다 값이 다르므로 노드 id를 ETag에 포함 → 다른 노드의 ETag와 우연히 같아지지 않음
+            - 커밋 후에만 올림 (조회수는 counterChangedAfterCommit, 댓글 수는 CommentChangedEvent AFTER_COMMIT)
+                - 커밋 전에 올리면 그 사이 렌더링된 목록이 새 ETag + 이전 카운터로 브라우저에 캐시되어 계속 304를 받음
+        - 지금 뜨는 글 버전 : 목록 옆 "지금 뜨는 글" 스냅샷이 바뀔 때마다 증가 (TrendingBoards.publish)
+
+    상세 페이지 (/boards/{id})
+        - Board.updatedAt + Board.revision (첨부파일 변경도 revision을 올림)
+        - 조회수는 포함하지 않음 (조회할 때마다 ETag가 바뀌면 304를 줄 수 없음)
+
+    공통
+        - 같은 데이터라도 로그인 사용자/세션(CSRF 토큰, 수정·삭제 버튼)과 요청 파라미터에 따라 화면이 다르므로 ETag에 포함
+        - 약한 ETag(W/"...") 사용 : 바이트 단위가 아니라 의미상 같은 페이지임을 나타냄
+ */
+@Service
+public class BoardVersionService {
+
+    private final BoardRepository boardRepository;
+    private final String nodeId = UUID.randomUUID().toString();     // 이 노드의 카운터 버전 구분용
+    private final AtomicLong counterVersion = new AtomicLong();
+    private final AtomicLong trendingVersion = new AtomicLong();
+
+    public BoardVersionService(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    // 조회수 등 목록에 보이는 카운터가 바뀌었을 때 호출 - 변경이 커밋된 뒤에 호출할 것
+    public void counterChanged() {
+        counterVersion.incrementAndGet();
+    }
+
+    // 트랜잭션 안에서 카운터를 바꿨을 때 호출 - 커밋되면 올림 (롤백되면 그대로, 트랜잭션 밖이면 바로 올림)
+    public void counterChangedAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counterChanged();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counterChanged();
+            }
+        });
+    }
+
+    // 지금 뜨는 글 스냅샷이 바뀌었을 때 호출
+    public void trendingChanged() {
+        trendingVersion.incrementAndGet();
+    }
+
+    // 댓글 작성/삭제가 커밋되면 목록의 댓글 수가 바뀜
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getType() != CommentChangedEvent.Type.UPDATED) {
+            counterChanged();
+        }
+    }
+
+    // 검증값 (Last-Modified epoch millis, ETag)
+    @Getter
+    @AllArgsConstructor
+    public static class Validators {
+        private final long lastModified;
+        private final String eTag;
+    }
+
+    // 목록 페이지 검증값
+    public Validators listValidators(Object... variants) {
+        long lastModified = toEpochMilli(boardRepository.findLastUpdatedAt());
+        return new Validators(lastModified, weakETag("list", nodeId,
+                counterVersion.get() + "." + trendingVersion.get(), lastModified, variants));
+    }
+
+    // 상세 페이지 검증값 (게시글이 없으면 Optional.empty())
+    public Optional<Validators> detailValidators(Long id, Object... variants) {
+        return boardRepository.findVersionByIdAndStatus(id, BoardStatus.ACTIVE)
+                .map(version -> {
+                    long lastModified = toEpochMilli(version.getUpdatedAt());
+                    return new Validators(lastModified, weakETag("detail", id, version.getRevision(), lastModified, variants));
+                });
+    }
+
+    private static String weakETag(String kind, Object a, Object b, Object c, Object[] variants) {
+        StringBuilder key = new StringBuilder(kind).append('|').append(a).append('|').append(b).append('|').append(c);
+        for (Object variant : variants) {
+            key.append('|').append(variant);
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time == null ? 0 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -3,23 +3,38 @@ package com.library.service;
 import com.library.dto.board.CommentCreateDTO;
 import com.library.dto.board.CommentDTO;
 import com.library.dto.board.CommentUpdateDTO;
-import com.library.entity.board.Board;
+import com.library.dto.member.MemberPrincipal;
 import com.library.entity.board.Comment;
 import com.library.entity.board.CommentStatus;
-import com.library.entity.member.Member;
+import com.library.event.CommentChangedEvent;
 import com.library.repository.BoardRepository;
 import com.library.repository.CommentRepository;
 import com.library.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 /*
     댓글 Service - 댓글 관련 비즈니스 로직을 처리함
+        - 답글 : Comment.path(materialized path) 순으로 한 번에 읽어 메모리에서 트리로 조립
+            - 자식을 댓글마다 따로 조회하지 않음 (N+1 없음), 재귀 쿼리 없음
+        - 쓰기 : 작성자는 로그인 정보(MemberPrincipal)의 id로 만든 프록시 → 회원 조회 없음
+            - 게시글/작성자 외래키는 getReferenceById 프록시 (SELECT 없이 id만 채움)
+            - 작성자 확인은 id 비교 (comment.getAuthor().getId()는 프록시를 초기화하지 않음)
  */
 @Service
 @RequiredArgsConstructor
@@ -30,56 +45,204 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final MemberRepository memberRepository;
+    private final CommentSpamFilter commentSpamFilter;         // 거의 같은 댓글 반복 차단 (DB 쓰기 전)
+    private final ApplicationEventPublisher eventPublisher;     // 댓글 변경 이벤트 발행 (커밋 후 페이지 캐시 무효화 등)
 
-    // 특정 게시글의 댓글 목록 조회
+    // 특정 게시글의 댓글 목록 조회 (루트 댓글 목록, 답글은 replies에)
     public List<CommentDTO> getCommentByBoardId(Long boardId){
         log.info("게시글 {}의 댓글 목록 조회", boardId);
-        List<Comment> comments =
-            commentRepository.findByBoardIdAndStatus(boardId, CommentStatus.ACTIVE);
+        return toTree(commentRepository.findThreadByBoardId(boardId));
+    }
+
+    /*
+        답글 서브트리 페이지 조회 (path 순, 키셋)
+            - afterId : 이전 페이지의 마지막 댓글 id (첫 페이지는 null)
+            - 페이지 안에 부모가 없는 답글은 최상위로 반환 (depth로 들여쓰기)
+     */
+    public List<CommentDTO> getReplies(Long commentId, Long afterId, int size){
+        Comment root = commentRepository.findById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
+        String afterPath = root.getPath();
+        if (afterId != null) {
+            afterPath = commentRepository.findById(afterId)
+                    .map(Comment::getPath)
+                    .filter(path -> path.startsWith(root.getPath()))
+                    .orElseThrow(() -> new IllegalArgumentException("답글 위치가 올바르지 않습니다."));
+        }
+        return toTree(commentRepository.findSubtree(root.getBoard().getId(), afterPath, root.getPath() + ":",
+                PageRequest.of(0, size)));
+    }
+
+    /*
+        path 순 댓글 목록 → 트리
+            - path 순이므로 부모가 항상 자식보다 먼저 나옴 → 한 번 훑으며 부모의 replies에 붙임
+            - 삭제된 댓글 : 남은 답글이 있으면 "삭제된 댓글" 자리로, 없으면 제외
+     */
+    private List<CommentDTO> toTree(List<Comment> comments){
+        Map<Long, CommentDTO> byId = new HashMap<>();
+        List<CommentDTO> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            CommentDTO dto = comment.getStatus() == CommentStatus.DELETED
+                    ? CommentDTO.deleted(comment)
+                    : CommentDTO.from(comment);
+            byId.put(dto.getId(), dto);
+            CommentDTO parent = dto.getParentId() == null ? null : byId.get(dto.getParentId());
+            (parent == null ? roots : parent.getReplies()).add(dto);
+        }
+        pruneDeleted(roots);
+        return roots;
+    }
 
-        return comments.stream()    // Comment 엔티티 리스트를 Stream으로 변환
-                .map(CommentDTO::from)  // 각 Comment를 CommentDTO로 변환
-                .collect(Collectors.toList());  // 변환된 CommentDTO들을 새로운 List로 수집
+    // 답글이 하나도 남지 않은 삭제 댓글 제거 (자식부터)
+    private void pruneDeleted(List<CommentDTO> comments){
+        comments.removeIf(comment -> {
+            pruneDeleted(comment.getReplies());
+            return comment.isDeleted() && comment.getReplies().isEmpty();
+        });
+    }
+
+    // 답글 기능 전에 작성된 댓글을 루트 댓글로 채움 (path가 없는 댓글만)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void fillMissingPaths(){
+        int filled = commentRepository.fillMissingPaths();
+        if (filled > 0) {
+            log.info("댓글 path 채움 - {}건", filled);
+        }
     }
     
     // 댓글 작성
     @Transactional
-    public CommentDTO createComment(Long boardId, CommentCreateDTO dto, String loginId){
-        log.info("게시글 {}의 댓글 작성 - 작성자: {}", boardId, loginId);
+    public CommentDTO createComment(Long boardId, CommentCreateDTO dto, MemberPrincipal author){
+        log.info("게시글 {}의 댓글 작성 - 작성자: {}", boardId, author.getEmail());
 
-        // 게시글 조회
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        // 스팸 검사 (메모리) - 걸리면 조회/저장 없이 바로 거절
+        commentSpamFilter.check(dto.getContent());
 
-        // 작성자 조회
-        Member author = memberRepository.findByEmail(loginId)
-                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
+        // 게시글 존재 확인 (PK 조회, 잠금 없음)
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+
+        // 답글이면 부모 댓글 조회
+        Comment parent = findParent(boardId, dto.getParentId());
 
         // 댓글 생성
         Comment comment = Comment.builder()   //Builder 패턴으로 Comment 객체 생성
                 .content(dto.getContent())  // 댓글 내용 설정
-                .board(board)       // 댓글이 작성될 게시글 설정
-                .author(author) // 댓글 작성자 설정
+                .board(boardRepository.getReferenceById(boardId))       // 댓글이 작성될 게시글 (프록시 - 외래키만)
+                .author(memberRepository.getReferenceById(author.getId())) // 댓글 작성자 (프록시 - 외래키만)
+                .parent(parent)     // 부모 댓글 (루트 댓글이면 null)
                 .status(CommentStatus.ACTIVE)   // 댓글 상태를 활성으로 설정
                 .build();   // 설정된 값들로 Comment 객체 생성 완료
         
-        Comment savedComment = commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);     // path는 persist 때 채워짐 (Comment.assignPath)
         log.info("댓글 작성 완료 - 댓글 ID: {}", savedComment.getId());
+        eventPublisher.publishEvent(new CommentChangedEvent(boardId, savedComment.getId(), CommentChangedEvent.Type.CREATED));
+
+        // 목록의 댓글 수 (벌크 UPDATE) - 트랜잭션의 마지막 문장
+        //   - 게시글 행 잠금을 커밋 직전에 잡아서, 인기 글에 댓글이 몰려도 잠금을 쥐는 시간이 짧음
+        //   - UPDATE 전에 댓글 INSERT가 먼저 flush됨
+        boardRepository.addCommentCount(boardId, 1);
         
-        return CommentDTO.from(savedComment);   // 저장된 Comment 엔티티를 CommentDTO로 변환
+        return CommentDTO.from(savedComment, author.getName(), author.getEmail());   // 작성자 정보는 로그인 정보로 (프록시 초기화 없음)
+    }
+
+    // 묶음 작성 요청 하나 (CommentWritePipeline이 큐에 모은 것)
+    public record NewComment(Long boardId, CommentCreateDTO dto, MemberPrincipal author) {}
+
+    // 묶음 작성 결과 하나 (성공이면 comment, 실패면 error)
+    public record BatchResult(CommentDTO comment, RuntimeException error) {}
+
+    /*
+        댓글 묶음 작성 (CommentWritePipeline) - 묶음 전체가 한 트랜잭션 = 커밋 한 번
+            - 게시글은 묶음 전체에서 id만 IN 조회 한 번 (존재 확인), 외래키는 게시글/작성자 모두 프록시 (엔티티 조회 없음)
+            - 잘못된 요청(없는 게시글/부모 댓글)은 그 요청만 실패로 돌려주고 나머지는 저장
+            - 게시글별 댓글 수는 게시글마다 UPDATE 한 번, 댓글 INSERT는 JDBC 배치 (시퀀스 id)
+            - 스팸 검사는 큐에 넣기 전에 끝났으므로 여기서는 하지 않음
+        @return 요청 순서대로의 결과
+     */
+    @Transactional
+    public List<BatchResult> createCommentBatch(List<NewComment> requests){
+        Set<Long> boardIds = new HashSet<>(boardRepository.findExistingIds(
+                requests.stream().map(NewComment::boardId).distinct().toList()));
+
+        // 1) 요청별 검증 + 엔티티 생성
+        Comment[] comments = new Comment[requests.size()];
+        RuntimeException[] errors = new RuntimeException[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            NewComment request = requests.get(i);
+            try {
+                if (!boardIds.contains(request.boardId())) {
+                    throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+                }
+                comments[i] = Comment.builder()
+                        .content(request.dto().getContent())
+                        .board(boardRepository.getReferenceById(request.boardId()))
+                        .author(memberRepository.getReferenceById(request.author().getId()))
+                        .parent(findParent(request.boardId(), request.dto().getParentId()))
+                        .status(CommentStatus.ACTIVE)
+                        .build();
+            } catch (IllegalArgumentException e) {
+                errors[i] = e;
+            }
+        }
+
+        // 2) 저장 (path는 persist 때 채워짐), 게시글별 댓글 수 집계
+        Map<Long, Long> countByBoard = new LinkedHashMap<>();
+        for (Comment comment : comments) {
+            if (comment != null) {
+                commentRepository.save(comment);
+                countByBoard.merge(comment.getBoard().getId(), 1L, Long::sum);
+            }
+        }
+        // 댓글 수 UPDATE는 게시글 id 순서로 (묶음끼리 게시글 행을 서로 반대 순서로 잠그지 않도록)
+        new TreeMap<>(countByBoard).forEach(boardRepository::addCommentCount);
+        commentRepository.flush();
+
+        // 3) 결과 (이벤트는 커밋 후 수신 측에 전달됨 - 목록 검증값 갱신도 이때)
+        List<BatchResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Comment comment = comments[i];
+            if (comment == null) {
+                results.add(new BatchResult(null, errors[i]));
+                continue;
+            }
+            eventPublisher.publishEvent(new CommentChangedEvent(comment.getBoard().getId(), comment.getId(), CommentChangedEvent.Type.CREATED));
+            MemberPrincipal author = requests.get(i).author();
+            results.add(new BatchResult(CommentDTO.from(comment, author.getName(), author.getEmail()), null));
+        }
+        log.debug("댓글 묶음 작성 - 요청 {}건, 저장 {}건", requests.size(),
+                results.stream().filter(result -> result.error() == null).count());
+        return results;
+    }
+
+    /*
+        답글의 부모 댓글 (parentId가 null이면 루트 댓글 → null)
+            - 같은 게시글의 활성 댓글만
+            - 최대 깊이의 댓글에 단 답글은 그 댓글과 같은 부모에 붙임 (더 깊어지지 않음)
+     */
+    private Comment findParent(Long boardId, Long parentId){
+        if (parentId == null) {
+            return null;
+        }
+        Comment parent = commentRepository.findById(parentId)
+                .filter(c -> c.getBoard().getId().equals(boardId) && c.getStatus() == CommentStatus.ACTIVE)
+                .orElseThrow(() -> new IllegalArgumentException("답글을 달 댓글을 찾을 수 없습니다."));
+        return parent.getDepth() >= Comment.MAX_DEPTH ? parent.getParent() : parent;
     }
 
     // 댓글 수정
     @Transactional
-    public CommentDTO updateComment(Long commentId, CommentUpdateDTO dto, String loginId){
-        log.info("댓글 {} 수정 - 수정자: {}", commentId, loginId);
+    public CommentDTO updateComment(Long commentId, CommentUpdateDTO dto, MemberPrincipal author){
+        log.info("댓글 {} 수정 - 수정자: {}", commentId, author.getEmail());
 
         // 댓글 조회
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
 
-        // 작성자 확인
-        if(!comment.getAuthor().getEmail().equals(loginId)){
+        // 작성자 확인 (id 비교 - 작성자 조회 없음)
+        if(!comment.getAuthor().getId().equals(author.getId())){
             throw new IllegalArgumentException("댓글 작성자만 수정할 수 있습니다.");
         }
 
@@ -91,22 +254,23 @@ public class CommentService {
         // 댓글 수정
         comment.update(dto.getContent());
         log.info("댓글 수정 완료 - 댓글 ID: {}", commentId);
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getBoard().getId(), commentId, CommentChangedEvent.Type.UPDATED));
 
-        return CommentDTO.from(comment);    // 수정된 Comment 엔티티를 CommentDTO로 변환하여 반환
+        return CommentDTO.from(comment, author.getName(), author.getEmail());    // 작성자 본인이므로 로그인 정보로 채움
 
     }
 
     // 댓글 삭제 (소프트 삭제)
     @Transactional
-    public void deleteComment(Long commentId, String loginId){
-        log.info("댓글 {} 삭제 - 삭제자: {}", commentId, loginId);
+    public void deleteComment(Long commentId, MemberPrincipal author){
+        log.info("댓글 {} 삭제 - 삭제자: {}", commentId, author.getEmail());
 
         // 댓글 조회
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
 
-        // 작성자 확인
-        if(!comment.getAuthor().getEmail().equals(loginId)){
+        // 작성자 확인 (id 비교 - 작성자 조회 없음)
+        if(!comment.getAuthor().getId().equals(author.getId())){
             throw new IllegalArgumentException("댓글 작성자만 삭제할 수 있습니다.");
         }
 
@@ -117,7 +281,9 @@ public class CommentService {
 
         // 댓글 삭제
         comment.delete();
+        boardRepository.addCommentCount(comment.getBoard().getId(), -1);
         log.info("댓글 삭제 완료 - 댓글 ID: {}", commentId);
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getBoard().getId(), commentId, CommentChangedEvent.Type.DELETED));
     }
 
     // 특정 게시글의 댓글 개수 조회
@@ -0,0 +1,176 @@
+package com.library.service;
+
+import com.library.exception.SpamCommentException;
+import com.library.search.KoreanNgramTokenizer;
+import com.library.search.SimHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/*
+    댓글 스팸 필터 - 거의 같은 댓글이 짧은 시간에 몰려 들어오면 DB에 쓰기 전에 거절
+        - 최근 댓글의 SimHash 지문을 메모리 창(window)에 보관
+            - 최대 comment.spam.window-size개, comment.spam.window-seconds초 (넘으면 오래된 것부터 버림)
+        - 새 댓글과 해밍 거리 max-distance 이하인 지문이 창 안에 max-similar개 이상이면 스팸
+            - 작성자와 관계없이 셈 (여러 계정으로 같은 글을 뿌리는 경우도 막음)
+            - 거절된 댓글도 창에 넣음 → 몰려오는 동안 계속 거절
+        - 토큰이 min-tokens개 미만인 짧은 댓글("감사합니다" 등)은 검사하지 않음 (서로 같아도 정상)
+
+    해밍 거리 검색 (전체 창을 훑지 않음)
+        - 지문 64비트를 16비트 블록 4개로 나누고, 블록마다 (블록 번호, 블록 값) → 지문 목록 버킷을 둠
+        - 거리가 3 이하인 두 지문은 4개 블록 중 적어도 하나가 완전히 같음 (비둘기집 원리)
+            → 새 지문의 블록 4개로 버킷 4개만 보면 후보가 모두 나옴
+        - 창은 들어온 순서대로 버려지므로 버킷에서도 항상 맨 앞 원소를 빼면 됨
+
+    노드마다 따로 집계됨 (여러 노드로 운영하면 노드별 창 기준)
+ */
+@Component
+@Slf4j
+public class CommentSpamFilter {
+
+    private static final int BLOCKS = 4;
+    private static final int BLOCK_BITS = Long.SIZE / BLOCKS;
+    private static final long BLOCK_MASK = (1L << BLOCK_BITS) - 1;
+
+    private final boolean enabled;
+    private final int capacity;
+    private final long windowMillis;
+    private final int maxDistance;
+    private final int maxSimilar;
+    private final int minTokens;
+
+    // 창 (원형 버퍼, 순번 seq의 자리 = seq % capacity)
+    private final long[] fingerprints;
+    private final long[] times;
+    private long firstSeq = 0L;     // 창에 남은 가장 오래된 순번
+    private long nextSeq = 0L;      // 다음에 넣을 순번
+    private final Map<Integer, ArrayDeque<Long>> buckets = new HashMap<>();     // (블록 번호, 블록 값) → 순번 (오래된 순)
+
+    public CommentSpamFilter(@Value("${comment.spam.enabled:true}") boolean enabled,
+                             @Value("${comment.spam.window-size:10000}") int capacity,
+                             @Value("${comment.spam.window-seconds:600}") long windowSeconds,
+                             @Value("${comment.spam.max-distance:3}") int maxDistance,
+                             @Value("${comment.spam.max-similar:3}") int maxSimilar,
+                             @Value("${comment.spam.min-tokens:6}") int minTokens) {
+        if (maxDistance < 0 || maxDistance >= BLOCKS) {
+            throw new IllegalArgumentException("comment.spam.max-distance는 0 ~ " + (BLOCKS - 1) + " 이어야 합니다: " + maxDistance);
+        }
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.windowMillis = windowSeconds * 1000;
+        this.maxDistance = maxDistance;
+        this.maxSimilar = maxSimilar;
+        this.minTokens = minTokens;
+        this.fingerprints = new long[capacity];
+        this.times = new long[capacity];
+    }
+
+    /*
+        댓글 내용 검사 (통과하면 창에 기록)
+        @throws SpamCommentException 최근 거의 같은 댓글이 max-similar개 이상 있을 때
+     */
+    public void check(String content) {
+        if (enabled) {
+            check(content, System.currentTimeMillis());
+        }
+    }
+
+    synchronized void check(String content, long now) {
+        List<String> tokens = KoreanNgramTokenizer.tokenize(content);
+        if (new HashSet<>(tokens).size() < minTokens) {
+            return;
+        }
+        long fingerprint = SimHash.fingerprint(tokens);
+
+        expire(now);
+        int similar = countSimilar(fingerprint);
+        add(fingerprint, now);
+
+        if (similar >= maxSimilar) {
+            log.warn("스팸 댓글 거절 - 최근 {}초 동안 비슷한 댓글 {}건", windowMillis / 1000, similar);
+            throw new SpamCommentException("같은 내용의 댓글이 짧은 시간에 반복되어 등록할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 해밍 거리 max-distance 이하인 지문 수 (max-similar개를 찾으면 더 세지 않음)
+    private int countSimilar(long fingerprint) {
+        int count = 0;
+        for (int block = 0; block < BLOCKS; block++) {
+            ArrayDeque<Long> bucket = buckets.get(bucketKey(block, fingerprint));
+            if (bucket == null) {
+                continue;
+            }
+            for (long seq : bucket) {
+                long other = fingerprints[slot(seq)];
+                // 앞 블록도 같은 지문은 앞 블록 버킷에서 이미 셈
+                if (firstSameBlock(fingerprint, other) == block && SimHash.distance(fingerprint, other) <= maxDistance) {
+                    if (++count >= maxSimilar) {
+                        return count;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private void add(long fingerprint, long now) {
+        if (nextSeq - firstSeq == capacity) {
+            evictOldest();
+        }
+        long seq = nextSeq++;
+        fingerprints[slot(seq)] = fingerprint;
+        times[slot(seq)] = now;
+        for (int block = 0; block < BLOCKS; block++) {
+            buckets.computeIfAbsent(bucketKey(block, fingerprint), k -> new ArrayDeque<>()).addLast(seq);
+        }
+    }
+
+    private void expire(long now) {
+        while (firstSeq < nextSeq && times[slot(firstSeq)] <= now - windowMillis) {
+            evictOldest();
+        }
+    }
+
+    // 가장 오래된 지문 제거 (버킷에서도 항상 맨 앞 원소)
+    private void evictOldest() {
+        long fingerprint = fingerprints[slot(firstSeq)];
+        for (int block = 0; block < BLOCKS; block++) {
+            int key = bucketKey(block, fingerprint);
+            ArrayDeque<Long> bucket = buckets.get(key);
+            bucket.pollFirst();
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+        firstSeq++;
+    }
+
+    // 창에 남은 지문 수
+    synchronized int size() {
+        return (int) (nextSeq - firstSeq);
+    }
+
+    private int slot(long seq) {
+        return (int) (seq % capacity);
+    }
+
+    private static int bucketKey(int block, long fingerprint) {
+        return (block << BLOCK_BITS) | (int) ((fingerprint >>> (block * BLOCK_BITS)) & BLOCK_MASK);
+    }
+
+    // 두 지문에서 처음으로 값이 같은 블록 번호 (없으면 BLOCKS)
+    private static int firstSameBlock(long a, long b) {
+        for (int block = 0; block < BLOCKS; block++) {
+            if (((a ^ b) >>> (block * BLOCK_BITS) & BLOCK_MASK) == 0) {
+                return block;
+            }
+        }
+        return BLOCKS;
+    }
+}
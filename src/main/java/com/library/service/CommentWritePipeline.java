@@ -0,0 +1,225 @@
+package com.library.service;
+
+import com.library.dto.board.CommentCreateDTO;
+import com.library.dto.board.CommentDTO;
+import com.library.dto.member.MemberPrincipal;
+import com.library.service.CommentService.BatchResult;
+import com.library.service.CommentService.NewComment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+    댓글 작성 파이프라인 (group commit) - 댓글이 몰릴 때 여러 요청을 한 트랜잭션으로 묶어 저장
+        - comment.batch.enabled=false(기본)이면 요청마다 CommentService.createComment (기존 방식)
+        - 켜면
+            - 요청 스레드 : 스팸 검사 후 큐에 넣고, 저장 결과(Future)를 기다림
+            - 저장 스레드 1개 : 큐에서 최대 batch-size개를 모아 CommentService.createCommentBatch로 한 번에 커밋
+                - 첫 요청을 꺼낸 뒤 linger-ms 동안 더 기다리며 묶음을 채움 (다 차면 바로 저장)
+                - 게시글 조회, 커밋(디스크 동기화)이 묶음당 한 번 → 요청당 비용이 줄어듦
+            - 묶음 커밋이 실패하면 하나씩 따로 저장해 문제 요청만 실패로 돌려줌
+        - 큐(queue-capacity)가 가득 차면 요청 스레드가 직접 저장 (대기열이 끝없이 늘지 않음)
+        - 종료 시 큐에 남은 요청을 모두 저장한 뒤 멈춤
+            - 그래도 남은 요청(저장 스레드가 제때 끝나지 않은 경우 등)은 실패로 돌려줌
+        - 요청 스레드는 result-timeout-ms까지만 기다림
+            - 아직 큐에 있으면 꺼내고 실패 (저장되지 않음), 이미 저장 중이면 결과와 관계없이 실패로 응답
+        - 저장 스레드는 어떤 오류(Error 포함)에도 멈추지 않음 - 그 묶음의 요청만 실패로 돌려줌
+ */
+@Component
+@Slf4j
+public class CommentWritePipeline implements SmartLifecycle {
+
+    // 큐에 들어간 요청과 그 결과
+    private record Pending(NewComment comment, CompletableFuture<CommentDTO> future) {}
+
+    private final CommentService commentService;
+    private final CommentSpamFilter commentSpamFilter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long resultTimeoutMs;
+    private final BlockingQueue<Pending> queue;
+
+    private volatile boolean running = false;
+    private Thread writer;
+
+    public CommentWritePipeline(CommentService commentService,
+                                CommentSpamFilter commentSpamFilter,
+                                @Value("${comment.batch.enabled:false}") boolean enabled,
+                                @Value("${comment.batch.batch-size:50}") int batchSize,
+                                @Value("${comment.batch.linger-ms:5}") long lingerMs,
+                                @Value("${comment.batch.queue-capacity:10000}") int queueCapacity,
+                                @Value("${comment.batch.result-timeout-ms:10000}") long resultTimeoutMs) {
+        this.commentService = commentService;
+        this.commentSpamFilter = commentSpamFilter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.resultTimeoutMs = resultTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // 댓글 작성 (파이프라인이 꺼져 있으면 기존 방식)
+    public CommentDTO createComment(Long boardId, CommentCreateDTO dto, MemberPrincipal author) {
+        if (!enabled) {
+            return commentService.createComment(boardId, dto, author);
+        }
+        commentSpamFilter.check(dto.getContent());
+
+        NewComment comment = new NewComment(boardId, dto, author);
+        Pending pending = new Pending(comment, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            return unwrap(commentService.createCommentBatch(List.of(comment)).get(0));
+        }
+        // 넣은 직후 종료가 시작됐으면 (저장 스레드가 이미 끝났을 수 있음) 직접 저장
+        if (!running && queue.remove(pending)) {
+            return unwrap(commentService.createCommentBatch(List.of(comment)).get(0));
+        }
+
+        try {
+            return pending.future().get(resultTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            boolean dequeued = queue.remove(pending);
+            log.warn("댓글 저장 대기 시간 초과 - {}ms (큐에서 {})", resultTimeoutMs, dequeued ? "꺼냄, 저장 안 됨" : "이미 저장 중");
+            throw new IllegalStateException("댓글 저장이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            throw new IllegalStateException("댓글 저장이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause
+                    : new IllegalStateException("댓글 저장 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    // 저장 스레드
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - batch.size());
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize && running) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                write(batch);
+            } catch (Throwable t) {
+                // 예상하지 못한 오류 (Error 포함) - 이 묶음만 실패시키고 계속 처리
+                log.error("댓글 묶음 저장 중 예상하지 못한 오류 - {}건 실패 처리", batch.size(), t);
+                fail(batch, new IllegalStateException("댓글 저장 중 오류가 발생했습니다.", t));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 묶음 저장 후 각 요청의 Future 완료
+    private void write(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<BatchResult> results = commentService.createCommentBatch(batch.stream().map(Pending::comment).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i).future(), results.get(i));
+            }
+        } catch (RuntimeException e) {
+            // 묶음 전체가 롤백됨 - 하나씩 다시 저장해 원인이 된 요청만 실패
+            log.warn("댓글 묶음 저장 실패 - {}건을 하나씩 다시 저장", batch.size(), e);
+            for (Pending pending : batch) {
+                try {
+                    complete(pending.future(), commentService.createCommentBatch(List.of(pending.comment())).get(0));
+                } catch (RuntimeException single) {
+                    pending.future().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private static void fail(List<Pending> pendings, RuntimeException error) {
+        for (Pending pending : pendings) {
+            pending.future().completeExceptionally(error);     // 이미 완료된 요청은 그대로
+        }
+    }
+
+    private static void complete(CompletableFuture<CommentDTO> future, BatchResult result) {
+        if (result.error() != null) {
+            future.completeExceptionally(result.error());
+        } else {
+            future.complete(result.comment());
+        }
+    }
+
+    private static CommentDTO unwrap(BatchResult result) {
+        if (result.error() != null) {
+            throw result.error();
+        }
+        return result.comment();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "comment-writer");
+        writer.start();
+        log.info("댓글 작성 파이프라인 시작 - batch-size={}, linger={}ms", batchSize, TimeUnit.NANOSECONDS.toMillis(lingerNanos));
+    }
+
+    @Override
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        running = false;    // 큐에 남은 요청까지 저장하고 끝남
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("댓글 저장 스레드가 30초 안에 끝나지 않음 - 큐에 남은 요청은 실패 처리");
+        }
+        writer = null;
+
+        // 저장 스레드가 끝난 뒤(또는 제때 끝나지 않아) 큐에 남은 요청
+        List<Pending> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (!leftovers.isEmpty()) {
+            log.warn("종료 중 저장하지 못한 댓글 요청 {}건 실패 처리", leftovers.size());
+            fail(leftovers, new IllegalStateException("댓글 작성 파이프라인이 종료되었습니다."));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
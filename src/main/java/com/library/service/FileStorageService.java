@@ -1,23 +1,26 @@
 package com.library.service;
 
 import com.library.exception.InvalidFileException;
+import com.library.exception.StorageException;
+import com.library.storage.ContentCodec;
+import com.library.storage.StorageBackend;
+import com.library.storage.StorageLayout;
+import com.library.storage.StorageResource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -25,9 +28,12 @@ import java.util.UUID;
     파일 저장 Service - 파일 업로드, 다운로드, 삭제 등의 파일 관리 기능 제공
         - 주요 기능
             - 1) 파일 검증 (확장자, 크기, 파일명)
-            - 2) 파일 저장 (UUID 파일명, 날짜별 폴더 구조)
+            - 2) 파일 저장 (UUID 파일명, 해시 분산 폴더 구조 - StorageLayout 참고, 압축 가능한 형식은 압축 저장)
             - 3) 파일 다운로드 (Resource 반환)
             - 4) 파일 삭제 (물리적 삭제)
+        - 실제 저장 위치는 StorageBackend(로컬 디스크 / S3 호환 저장소)에 위임함
+            - 저장소 키 = 상대 경로 + 저장 파일명 (예: "boards/2025/10/15/uuid.pdf")
+            - BoardFile.filePath/storedFilename 구조는 그대로 유지
     @Value 어노테이션
         - Spring의 프로퍼티 값을 주입받는 어노테이션
         - 형식: @Value()
@@ -36,33 +42,32 @@ import java.util.UUID;
 @Service
 @Slf4j
 public class FileStorageService {
-    private final Path uploadPath;      // 파일 저장 기본 경로 (절대 경로로 변환하여 저장)
+    private final StorageBackend storageBackend;    // 파일 저장소 (StorageConfig에서 설정에 따라 주입)
     private final long maxFileSize;     // 최대 파일 크기 (바이트 단위, 기본값 10MB)
     private final Set<String> allowedExtensions;    // 허용된 파일 확장자 Set (Set - 중복 방지되고 검색이 빠름)
+    private final StorageLayout.Type layout;     // 새 파일의 디렉토리 레이아웃 (hashed: 해시 분산, date: 기존 날짜별)
+    private final Set<String> compressibleExtensions;   // 압축 저장할 확장자 (비어 있으면 압축 안 함)
+    private final long compressionMinSize;      // 이 크기 미만 파일은 압축하지 않음 (압축 이득보다 오버헤드가 큼)
 
-    public FileStorageService(@Value("${file.upload-dir:uploads}") String uploadPath,
+    public FileStorageService(StorageBackend storageBackend,
+                              @Value("${file.layout:hashed}") StorageLayout.Type layout,
                               @Value("${file.max-size:10485760}") long maxFileSize,
-                              @Value("${file.allowed-extensions:jpg,jpeg,png,pdf,gif,doc,docx,xls,xlsx,ppt,pptx,txt,zip,hwp}") String[] allowedExts) {
+                              @Value("${file.allowed-extensions:jpg,jpeg,png,pdf,gif,doc,docx,xls,xlsx,ppt,pptx,txt,zip,hwp}") String[] allowedExts,
+                              @Value("${file.compression.extensions:txt,hwp,doc,xls,ppt}") String[] compressibleExts,
+                              @Value("${file.compression.min-size:4096}") long compressionMinSize) {
                             /* 📢 문제 발생과 해결1) : @Value 어노테이션으로 프로퍼티에서 허용 확장자를 불러올 때, 공백 없이 쉼표로만 구분해야 합니다. 예시: jpg, jpeg,(X) 예시: jpg,jpeg,(O) */
                             /* 📢 문제 발생과 해결2) : 매개변수명과 필드명이 같으면 매개변수가 필드를 가립니다(shadowing) 그러므로 String[] allowedExtensions)라고 쓰지 않고, String[] allowedExts라고 써야 Test에서 에러가 발생하지 않습니다. */
-        /* 절대 경로로 변환 (uploads = > D:/Dev/temp/..../uploads)  */
-        this.uploadPath = Paths.get(uploadPath).toAbsolutePath().normalize();
+        this.storageBackend = storageBackend;
+        this.layout = layout;
         this.maxFileSize = maxFileSize; // 파일 크기 제한 설정
         this.allowedExtensions = new HashSet<>(Arrays.asList(allowedExts)); // 허용확장자를 Set으로 변환 (배열보다 검색속도 빠름)
+        this.compressibleExtensions = new HashSet<>(Arrays.asList(compressibleExts));
+        this.compressionMinSize = compressionMinSize;
 
-        try {
-            Files.createDirectories(this.uploadPath);       // 업로드 없으면 자동 생성
-
-            log.info("파일 저장 디렉토리 생성 완료 : {}", this.uploadPath);
-            log.info("파일 크기 제한: {} bytes ({} MB)", this.maxFileSize, maxFileSize/1024/1024);
-            log.info("허용된 확장자 : {}", allowedExtensions);
-
-        }catch(IOException e){
-                log.error("파일 저장 디렉토리 생성 실패", e);
-                throw new RuntimeException("파일 저장 디렉토리를 생성할 수 없습니다.", e);
-        }
-
-
+        log.info("파일 크기 제한: {} bytes ({} MB)", this.maxFileSize, maxFileSize/1024/1024);
+        log.info("허용된 확장자 : {}", allowedExtensions);
+        log.info("파일 디렉토리 레이아웃 : {}", layout);
+        log.info("압축 저장 확장자 : {}", compressibleExtensions);
     }
 
     /*
@@ -104,19 +109,20 @@ public class FileStorageService {
                 originalFilename, file.getSize(), extension);
     }
 
-    /* 파일 저장 - UUID 파일명 생성 및 날짜별 폴더 구조로 저장
+    // 저장된 파일 정보 (storeFile 반환값) - contentEncoding은 압축 안 했으면 null, checksum은 원본 내용의 SHA-256(16진수)
+    public record StoredFile(String storedFilename, String filePath, String contentEncoding, String checksum) {}
+
+    /*
+        파일 저장 - UUID 파일명 생성 및 해시 분산 폴더 구조로 저장
         저장 프로세스
             - 파일 검증 (validateFile())
             - UUID 생성하고 고유한 파일명 만들기
-            - 날짜별 폴더 경로 생성 (yyyy/MM/dd 형식)
-            - 디렉토리 생성 (없으면 자동 생성)
-            - 파일 저장
+            - 폴더 경로 생성 (hashed: 파일명 해시 2단계 "3f/a2", date: 기존 yyyy/MM/dd 형식)
+            - 파일 저장 (txt, hwp, doc, xls 등 압축이 잘 되는 형식은 deflate로 압축하며 저장)
+            - 저장하면서 원본 내용의 SHA-256 체크섬 계산 (무결성 검사용, 추가 읽기 없음)
+        @return 저장 파일명, 상대 경로, 압축 방식, 체크섬 (StoredFile)
      */
-
-    /*
-        파일 저장 - UUID 파일명 생성 및 날짜별 폴더 구조로 저장
-     */
-    public String[] storeFile(MultipartFile file, String subDirectory){
+    public StoredFile storeFile(MultipartFile file, String subDirectory){
         // 1. 파일 검증
         validateFile(file);
 
@@ -131,82 +137,134 @@ public class FileStorageService {
         // 3. UUID로 고유한 파일명 생성
         String storedFilename = UUID.randomUUID().toString() + extension;
 
-        // 4. 날짜별 디렉토리 경로 생성 (boards/2025/10/15)
-        LocalDate now = LocalDate.now();
-        String datePath = now.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-        String relativePath = subDirectory +"/"+ datePath + "/";
+        // 4. 디렉토리 경로 생성 (boards/3f/a2/ 또는 boards/2025/10/15/)
+        String relativePath = StorageLayout.directoryFor(layout, subDirectory, storedFilename);
 
-        // 5. 전체 경로 생성 (기본 경로 + 상대 경로)
-        Path targetLocation = this.uploadPath.resolve(relativePath).normalize();
+        // 5. 저장소 키 생성 (상대 경로 + 파일명)
+        String key = relativePath + storedFilename;
 
-        try{
-            // 6. 디렉토리 생성 (부모 디렉토리도 함께 생성)
-            Files.createDirectories(targetLocation);
-            // 7. 파일 저장 (중복 시 덮어쓰기)
-            Path filePath = targetLocation.resolve(storedFilename);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        // 6. 압축 여부 결정
+        String contentEncoding = isCompressible(originalFilename, file.getSize()) ? ContentCodec.DEFLATE : null;
+
+        // 7. 저장소로 스트리밍 저장 (임시 복사본 없이 업로드 스트림을 그대로 전달)
+        //    압축 시에는 압축 후 크기를 미리 알 수 없으므로 길이를 -1(모름)로 전달
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            if (contentEncoding != null) {
+                storageBackend.put(key, ContentCodec.encode(in), -1);
+            } else {
+                storageBackend.put(key, in, file.getSize());
+            }
 
-            log.info("파일 저장 완료: {}",filePath);
+            log.info("파일 저장 완료: {} (압축: {})", key, contentEncoding);
 
-            // 8. 저장된 파일 정보 반환 [파일명, 경로]
-            return new String[]{storedFilename, relativePath};
+            // 8. 저장된 파일 정보 반환 (파일명, 경로, 압축 방식, 체크섬)
+            String checksum = HexFormat.of().formatHex(digest.digest());
+            return new StoredFile(storedFilename, relativePath, contentEncoding, checksum);
 
-        } catch (IOException e) {
-            log.error("파일 저장 실패: {}", originalFilename);
+        } catch (IOException | StorageException e) {
+            log.error("파일 저장 실패: {}", originalFilename, e);
             throw new RuntimeException("파일을 저장할 수 없습니다. "+ originalFilename);
         }
 
     }
+    // SHA-256 MessageDigest 생성 (첨부파일 체크섬용)
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 압축 저장 대상인지 확인 (확장자 + 최소 크기)
+    private boolean isCompressible(String originalFilename, long size) {
+        return size >= compressionMinSize
+                && compressibleExtensions.contains(getFileExtension(originalFilename).toLowerCase());
+    }
+
+    // 압축 저장되었을 수 있는 파일명인지 (확장자만 확인 - 아니면 압축 정보 조회를 건너뜀)
+    public boolean mayBeCompressed(String filename) {
+        return compressibleExtensions.contains(getFileExtension(filename));
+    }
+
     /*
         파일 다운로드 - 저장된 파일을 Resource로 반환
             - 동작 과정
-                - 전체 파일 경로 생성 (기본경로 + 상대경로 + 파일명)
-                - 파일을 UrlResource로 변환
-                - 파일 존재 및 읽기 가능 여부 확인
+                - 저장소 키 생성 (상대경로 + 파일명)
+                - 저장소 객체를 StorageResource로 변환
+                - 파일 존재 여부 확인
                 - Resource 반환 (HTTP 응답으로 전달)
             - Resource란?
                 - Spring의 파일 추상화 인터페이스
                 - 파일 시스템, 클래스패스, URL 등 다양한 위치의 리소스를 통일된 방식으로 다룸
                 - 파일 다운로드 응답 생성
+            - Range 요청(이어받기)은 StorageResource가 저장소의 범위 읽기로 처리함
      */
     public Resource loadFileAsResource(String filePath, String storedFilename){
-        try {
-            // 1. 전체 파일 경로 생성 및 정규화
-            Path file =     // uploads/boards/2025/10/15/uuid.pdf
-            this.uploadPath.resolve(filePath).resolve(storedFilename).normalize();
+        return findFileResource(filePath, storedFilename)
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + storedFilename));
+    }
 
-            // 2. 파일을 Resources로 변환
-            Resource resource = new UrlResource(file.toUri());
+    /*
+        업로드 저장소(hot)에서 파일 찾기 - 없으면 Optional.empty()
+            - 아카이브로 옮겨진 파일은 여기서 찾을 수 없음 (AttachmentArchiveService 참고)
+     */
+    public Optional<Resource> findFileResource(String filePath, String storedFilename){
+        // 1. 기록된 경로의 저장소 객체 (boards/2025/10/15/uuid.pdf) - 내용은 응답을 쓸 때 스트리밍으로 읽음
+        StorageResource resource = new StorageResource(storageBackend, filePath + storedFilename);
 
-            // 3. 파일 존재 및 읽기 가능 여부 확인
-            if (resource.exists() && resource.isReadable()){
-                return resource;
-            } else {
-                throw new RuntimeException("파일을 찾을 수 없습니다: " + storedFilename);
-            }
+        // 2. 파일 존재 여부 확인
+        if (resource.exists()){
+            return Optional.of(resource);
+        }
 
-        } catch (MalformedURLException e) {
-            log.error("파일 다운로드 실패: {}", storedFilename, e);
-            throw new RuntimeException("파일을 찾을 수 없습니다: " + storedFilename, e);
+        // 3. 레이아웃 마이그레이션 중이면 해시 경로로 이미 이동했을 수 있음
+        StorageResource moved = new StorageResource(storageBackend, StorageLayout.hashedKey(filePath, storedFilename));
+        if (moved.exists()){
+            return Optional.of(moved);
         }
+        return Optional.empty();
     }
 
     /*
-        파일 삭제 - 물리적으로 파일을 디스크에서 삭제
+        파일을 해시 분산 레이아웃으로 이동 (레이아웃 마이그레이션용)
+            - 이미 이동된 파일(이전 실행이 행 갱신 전에 중단된 경우)이면 이동 없이 새 경로만 반환
+            - 원본도 대상도 없으면 null 반환 (파일 유실 - 행은 그대로 둠)
+        @return 새 filePath (예: "boards/3f/a2/")
+     */
+    public String relocateToHashedLayout(String filePath, String storedFilename){
+        String targetPath = StorageLayout.hashedDirectory(StorageLayout.subDirectoryOf(filePath), storedFilename);
+        String sourceKey = filePath + storedFilename;
+        String targetKey = targetPath + storedFilename;
+
+        if (storageBackend.exists(sourceKey)){
+            storageBackend.move(sourceKey, targetKey);
+            return targetPath;
+        }
+        return storageBackend.exists(targetKey) ? targetPath : null;
+    }
+
+    /*
+        파일 삭제 - 물리적으로 파일을 저장소에서 삭제
             - 사용 시점
                 - 게시글 삭제 시 (연관된 파일을 모두 삭제)
                 - 파일 수정 시 (기존 파일 삭제 후 새 파일 저장)
      */
     public void deleteFile(String filePath, String storedFilename){
+        String key = filePath + storedFilename;
         try{
-            // 전체 파일 경로 생성 및 정규화
-            Path file = this.uploadPath.resolve(filePath).resolve(storedFilename).normalize();
-
             // 파일 삭제 (파일이 없어도 예외 발생하지 않음)
-            Files.deleteIfExists(file);
-            log.info("파일 삭제 완료: {}", file);
+            // 날짜별 경로로 기록된 파일은 마이그레이션으로 해시 경로로 옮겨졌을 수 있으므로 그쪽도 삭제
+            //   - S3는 없는 키 삭제도 성공이라 "기록된 경로에 없었는지"를 알 수 없음 → 확인 없이 둘 다 삭제
+            storageBackend.delete(key);
+            if (StorageLayout.isDateLayout(filePath)) {
+                key = StorageLayout.hashedKey(filePath, storedFilename);
+                storageBackend.delete(key);
+            }
+            log.info("파일 삭제 완료: {}", key);
 
-        } catch (IOException e) {
+        } catch (StorageException e) {
             log.error("파일 삭제 실패: {}", storedFilename, e);
             // 파일 삭제 실패는 로그만 남기고 예외를 던지지 않음
         }
@@ -0,0 +1,69 @@
+package com.library.service;
+
+import com.library.entity.base.IdSequences;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+    id 시퀀스 맞추기 - IDENTITY(AUTO_INCREMENT)로 쌓인 기존 데이터 뒤에서 시퀀스가 시작하도록 옮김
+        - 시퀀스(테이블)는 ddl-auto로 1부터 만들어지므로 그대로 쓰면 기존 id와 겹침
+        - 시퀀스 값을 MAX(id) + ALLOCATION_SIZE + 1 이상으로 올림 (이미 크면 그대로 → 여러 번 실행해도 안전)
+            - 시퀀스 지원 DB : 다음 값을 읽어 보고 작으면 ALTER SEQUENCE ... RESTART WITH
+            - MySQL : 시퀀스 테이블의 next_val을 UPDATE ... WHERE next_val < 목표값
+        - 모든 빈이 만들어진 직후, 웹 서버가 요청을 받기 전에 실행 (첫 INSERT보다 먼저)
+        - 운영(ddl-auto: validate)은 db/id-sequences-mysql.sql로 시퀀스 테이블을 먼저 만들어 둘 것
+        - 전환 중에는 IDENTITY를 쓰는 이전 버전 노드와 함께 띄우지 말 것 (그 노드가 만든 id와 겹칠 수 있음)
+ */
+@Component
+@Slf4j
+public class IdSequenceMigrator implements SmartInitializingSingleton {
+
+    // 시퀀스 이름 → 그 시퀀스를 쓰는 테이블과 id 컬럼
+    private record Target(String sequence, String table, String idColumn) {}
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("board_seq", "board", "id"),
+            new Target("board_file_seq", "board_file", "id"),
+            new Target("comment_seq", "comment", "id"),
+            new Target("members_seq", "members", "member_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public IdSequenceMigrator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        SequenceSupport sequenceSupport = dialect.getSequenceSupport();
+        for (Target target : TARGETS) {
+            long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + target.idColumn() + "), 0) FROM " + target.table(), Long.class);
+            if (maxId == 0) {
+                continue;
+            }
+            long floor = maxId + IdSequences.ALLOCATION_SIZE + 1;
+            if (sequenceSupport.supportsSequences()) {
+                long next = jdbcTemplate.queryForObject(
+                        sequenceSupport.getSequenceNextValString(target.sequence()), Long.class);
+                if (next < floor) {
+                    jdbcTemplate.execute("ALTER SEQUENCE " + target.sequence() + " RESTART WITH " + floor);
+                    log.info("id 시퀀스 이동 - {}: {} → {} (MAX(id) {})", target.sequence(), next, floor, maxId);
+                }
+            } else if (jdbcTemplate.update("UPDATE " + target.sequence() + " SET next_val = ? WHERE next_val < ?", floor, floor) > 0) {
+                log.info("id 시퀀스 이동 - {}: → {} (MAX(id) {})", target.sequence(), floor, maxId);
+            }
+        }
+    }
+}
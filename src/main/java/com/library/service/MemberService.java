@@ -1,15 +1,22 @@
 package com.library.service;
 
+import com.library.cache.MemberCache;
+import com.library.cache.RegisteredEmailFilter;
 import com.library.dto.member.MemberRegistrationDTO;
 import com.library.dto.member.MemberResponseDTO;
 import com.library.entity.member.Member;
 import com.library.entity.member.MemberStatus;
 import com.library.entity.member.MemberType;
 import com.library.entity.member.Role;
+import com.library.event.MemberChangedEvent;
+import com.library.exception.DuplicateEmailException;
+import com.library.exception.PasswordHashingBusyException;
 import com.library.repository.MemberRepository;
 import com.library.util.MaskingUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +43,12 @@ import java.time.LocalDateTime;
         - 4) 가입일시 자동 기록
         - 5) 데이터베이스 저장
         - 6) 가입 완료 로깅 밍 통계 업데이트
+
+    * 회원 캐시 (MemberCache), 가입 이메일 필터 (RegisteredEmailFilter)
+        - 이메일 중복 확인은 Bloom 필터 → "있을 수도 있음"일 때만 캐시 → DB (없는 이메일도 캐시됨)
+        - 같은 이메일이 동시에 가입되면 캐시 확인은 둘 다 통과할 수 있음 → DB 유니크 제약(email)이 하나만 남김
+            - 저장을 바로 flush해 제약 위반을 이 메서드 안에서 받아 중복 이메일 예외로 바꿈
+        - 가입/상태 변경은 커밋 후 캐시 무효화 (MemberChangedEvent)
  */
 @Service
 @Slf4j
@@ -45,6 +58,9 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberCache memberCache;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final ApplicationEventPublisher eventPublisher;     // 회원 변경 이벤트 (커밋 후 캐시 무효화)
 
     @Transactional // 쓰기 트랜잭션 (readonly = false)
     public MemberResponseDTO register(MemberRegistrationDTO registrationDTO) {
@@ -76,11 +92,12 @@ public class MemberService {
             // === 2. 이메일 중복 체크 (필수 검증) ===
             log.info("이메일 중복 체크 진행 중...");
 
-            if (memberRepository.existsByEmail(registrationDTO.getEmail())) {
+            if (registeredEmailFilter.mightContain(registrationDTO.getEmail())
+                    && memberCache.existsByEmail(registrationDTO.getEmail())) {
                 log.error("❌ 이메일 중복 감지: {}", maskedEmail);
                 log.error("   |__ 기존 회원과 동일한 이메일로 가입 시도");
 
-                throw new IllegalArgumentException("이미 사용중인 이메일입니다."
+                throw new DuplicateEmailException("이미 사용중인 이메일입니다."
                                             + registrationDTO.getEmail());
             }
             log.info("이메일 중복 체크 통과");
@@ -153,7 +170,18 @@ public class MemberService {
             // === 6. 데이터베이스 저장 (영속화) ===
             log.info("데이터베이스 저장 중...");
 
-            Member savedMember = memberRepository.save(member);
+            // 바로 flush → 동시 가입으로 인한 유니크 제약 위반을 여기서 받음 (커밋 시점까지 미루지 않음)
+            Member savedMember;
+            try {
+                savedMember = memberRepository.saveAndFlush(member);
+            } catch (DataIntegrityViolationException e) {
+                log.error("❌ 이메일 중복 감지 (동시 가입): {}", maskedEmail);
+                memberCache.invalidate(registrationDTO.getEmail());   // "없음"으로 캐시된 값이 틀렸음
+                throw new DuplicateEmailException("이미 사용중인 이메일입니다."
+                                            + registrationDTO.getEmail());
+            }
+            registeredEmailFilter.put(savedMember.getEmail());     // 커밋 전에도 이 노드에서는 바로 "있을 수도 있음"
+            eventPublisher.publishEvent(new MemberChangedEvent(savedMember.getId(), savedMember.getEmail()));
 
             // === 7. 저장 결과 검증 ===
             if (savedMember.getId() == null) {
@@ -174,6 +202,10 @@ public class MemberService {
             // 비즈니스 규칙 위반 (이메일 중복 등)
             log.error("회원가입 비즈니스 규칙 위반 : {}", e.getMessage());
             throw e;
+        } catch (PasswordHashingBusyException e) {
+            // 비밀번호 해시 대기열 포화 - 그대로 전달 (503)
+            log.warn("회원가입 거절 - 비밀번호 해시 대기열 포화");
+            throw e;
         } catch (Exception e) {
             // 시스템 오류 (DB 연결 실패, 암호화 오류 등)
             log.error("회원가입 시스템 오류 발생!");
@@ -187,7 +219,16 @@ public class MemberService {
         log.info("이메일 존재 여부 확인: {} ", maskedEmail);
 
         try {
-            boolean exists = memberRepository.existsByEmail(email);
+            // Bloom 필터가 "확실히 없음"이면 캐시/DB를 거치지 않음
+            if (!registeredEmailFilter.mightContain(email)) {
+                log.info("이메일 중복 체크 결과 : {} -> 사용 가능 (필터)", maskedEmail);
+                return false;
+            }
+
+            boolean exists = memberCache.existsByEmail(email);
+            if (!exists) {
+                registeredEmailFilter.recordFalsePositive();
+            }
 
             log.info("이메일 중복 체크 결과 : {} -> {}",
                         maskedEmail, exists ? "이미 사용중" : "사용 가능");
@@ -207,24 +248,3 @@ public class MemberService {
         }
     }
 }
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
@@ -0,0 +1,82 @@
+package com.library.service;
+
+import com.library.cache.BoardRanking;
+import com.library.cache.TrendingBoards;
+import com.library.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    조회수 버퍼 - DB를 거치지 않고 응답한 조회(익명 페이지 캐시 적중)의 조회수를 메모리에 모아 두었다가 주기적으로 반영
+        - 지금 뜨는 글(TrendingBoards)에는 바로 반영
+        - 게시글별 누적값은 ConcurrentHashMap.merge로 올리고, 반영할 때는 remove로 꺼냄
+            - 두 연산 모두 키 단위로 원자적 → 꺼내는 순간과 겹친 조회도 다음 주기에 반영됨 (유실 없음)
+        - view-count.flush-interval-ms마다 게시글별로 UPDATE ... view_count = view_count + ? 한 번씩 실행
+            - 트랜잭션이 실패하면 꺼낸 증가분을 다시 더해 둠 (다음 주기에 재시도)
+        - 반영한 게시글이 있을 때만 목록 페이지 카운터 버전을 올리고 (BoardVersionService) 조회순 순위에 증가분 전달 (BoardRanking)
+        - 노드가 비정상 종료되면 마지막 반영 이후의 조회수는 유실될 수 있음 (조회수는 근사값으로 충분)
+ */
+@Service
+@Slf4j
+public class ViewCountBuffer {
+
+    private final BoardRepository boardRepository;
+    private final BoardVersionService boardVersionService;
+    private final BoardRanking boardRanking;
+    private final TrendingBoards trendingBoards;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public ViewCountBuffer(BoardRepository boardRepository,
+                           BoardVersionService boardVersionService,
+                           BoardRanking boardRanking,
+                           TrendingBoards trendingBoards,
+                           PlatformTransactionManager transactionManager) {
+        this.boardRepository = boardRepository;
+        this.boardVersionService = boardVersionService;
+        this.boardRanking = boardRanking;
+        this.trendingBoards = trendingBoards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void increment(Long boardId) {
+        pending.merge(boardId, 1L, Long::sum);
+        trendingBoards.recordView(boardId);
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 게시글별 증가분을 꺼냄 (꺼낸 뒤 들어온 조회는 새 항목으로 쌓여 다음 주기에)
+        Map<Long, Long> flushed = new HashMap<>();
+        for (Long boardId : pending.keySet()) {
+            Long delta = pending.remove(boardId);
+            if (delta != null && delta > 0) {
+                flushed.put(boardId, delta);
+            }
+        }
+        if (flushed.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> flushed.forEach(boardRepository::addViewCount));
+        } catch (RuntimeException e) {
+            // 롤백됨 - 꺼낸 증가분을 되돌려 다음 주기에 다시 반영
+            flushed.forEach((boardId, delta) -> pending.merge(boardId, delta, Long::sum));
+            log.warn("조회수 반영 실패 - 게시글 {}건의 증가분을 다음 주기에 다시 반영", flushed.size(), e);
+            return;
+        }
+        boardVersionService.counterChanged();
+        boardRanking.addViewCounts(flushed);
+    }
+}
@@ -0,0 +1,86 @@
+package com.library.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.DeflaterInputStream;
+import java.util.zip.InflaterInputStream;
+
+/*
+    첨부파일 저장 시 압축 코덱 (at-rest compression)
+        - DEFLATE : zlib 형식 (RFC 1950) - HTTP "Content-Encoding: deflate"와 같은 형식
+            - 저장된 바이트를 그대로 응답 본문으로 보낼 수 있어 다운로드 시 서버 CPU를 쓰지 않음
+        - 압축/해제 모두 스트림 단위로 처리하여 파일 전체를 메모리에 올리지 않음
+        - BoardFile.contentEncoding에 파일별로 기록 (null이면 압축 안 함)
+ */
+public final class ContentCodec {
+
+    public static final String DEFLATE = "deflate";
+
+    private ContentCodec() {
+    }
+
+    // 원본 스트림을 읽으면서 압축된 바이트를 내보내는 스트림 (close 시 Deflater 자원도 해제)
+    public static InputStream encode(InputStream raw) {
+        return new DeflaterInputStream(raw);
+    }
+
+    // 압축된 스트림을 읽으면서 원본 바이트를 내보내는 스트림
+    public static InputStream decode(InputStream encoded) {
+        return new InflaterInputStream(encoded);
+    }
+
+    /*
+        저장된 Resource를 클라이언트가 받을 수 있는 형태로 (다운로드 FileController, /uploads/** StorageResourceResolver 공통)
+            - 압축 안 한 파일 (contentEncoding == null) => 그대로
+            - 클라이언트가 해당 압축을 받을 수 있음 => 저장된 바이트 그대로 + Content-Encoding
+            - 받을 수 없음 => 스트리밍으로 압축 해제 (길이는 원본 크기 decodedLength)
+     */
+    public static Resource negotiate(Resource stored, String contentEncoding, long decodedLength, String acceptEncoding) {
+        if (contentEncoding == null) {
+            return stored;
+        }
+        if (accepts(acceptEncoding, contentEncoding)) {
+            return new NegotiatedResource(stored, contentEncoding);
+        }
+        return new NegotiatedResource(new DecodedResource(stored, decodedLength), null);
+    }
+
+    /*
+        Accept-Encoding 헤더가 해당 코덱을 허용하는지 확인
+            - 예) "gzip, deflate, br" => true, "deflate;q=0" => false, "*" => true
+     */
+    public static boolean accepts(String acceptEncoding, String codec) {
+        if (acceptEncoding == null || codec == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String name = tokens[0].trim().toLowerCase(Locale.ROOT);
+            boolean allowed = qualityOf(tokens) > 0;
+            if (name.equals(codec)) {
+                return allowed;
+            }
+            if (name.equals("*")) {
+                wildcard = allowed;
+            }
+        }
+        return wildcard;
+    }
+
+    private static double qualityOf(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
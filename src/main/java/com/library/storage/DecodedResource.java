@@ -0,0 +1,53 @@
+package com.library.storage;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/*
+    압축 저장된 Resource를 원본 바이트로 풀어서 내보내는 Resource
+        - 압축 응답을 받을 수 없는 클라이언트용 (Accept-Encoding에 해당 코덱이 없을 때)
+        - 길이는 저장소 객체 크기가 아니라 원본 파일 크기(BoardFile.fileSize)
+ */
+public class DecodedResource extends AbstractResource {
+
+    private final Resource encoded;
+    private final long decodedLength;
+
+    public DecodedResource(Resource encoded, long decodedLength) {
+        this.encoded = encoded;
+        this.decodedLength = decodedLength;
+    }
+
+    @Override
+    public boolean exists() {
+        return encoded.exists();
+    }
+
+    @Override
+    public long contentLength() {
+        return decodedLength;
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return encoded.lastModified();
+    }
+
+    @Override
+    public String getFilename() {
+        return encoded.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+        return "decoded " + encoded.getDescription();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return ContentCodec.decode(encoded.getInputStream());
+    }
+}
@@ -0,0 +1,221 @@
+package com.library.storage;
+
+import com.library.exception.StorageException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/*
+    로컬 파일 시스템 저장소
+        - file.upload-dir 아래에 키 경로 그대로 파일을 저장함 (기존 uploads/ 구조와 동일)
+        - 단일 노드 또는 NFS 등 공유 마운트 환경에서 사용
+
+    쓰기 방식
+        - 같은 디렉토리의 임시 파일(.part)에 스트리밍으로 기록한 뒤 원자적 이동(ATOMIC_MOVE)
+        - 다른 요청이 쓰다 만 파일을 읽는 일이 없음
+
+    범위 읽기
+        - FileChannel.position()으로 시작 위치로 바로 이동 (앞부분을 읽어 버리지 않음)
+ */
+@Slf4j
+public class FileSystemStorageBackend implements StorageBackend {
+
+    private final Path root;    // 저장소 루트 (절대 경로)
+
+    public FileSystemStorageBackend(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);     // 루트 디렉토리가 없으면 자동 생성
+            log.info("파일 시스템 저장소 루트 : {}", this.root);
+        } catch (IOException e) {
+            throw new StorageException("파일 저장 디렉토리를 생성할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength) {
+        Path target = resolve(key);
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+        try {
+            Files.createDirectories(target.getParent());
+            Files.copy(content, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new StorageException("파일을 저장할 수 없습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) {
+        Path file = resolve(key);
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            channel.position(offset);
+            InputStream in = Channels.newInputStream(channel);
+            return length < 0 ? in : new LimitedInputStream(in, length);
+        } catch (NoSuchFileException e) {
+            throw new StorageException("파일을 찾을 수 없습니다: " + key, e);
+        } catch (IOException e) {
+            throw new StorageException("파일을 읽을 수 없습니다: " + key, e);
+        }
+    }
+
+    // 같은 파일 시스템 안에서는 rename으로 이동 (데이터 복사 없음)
+    @Override
+    public void move(String sourceKey, String targetKey) {
+        Path source = resolve(sourceKey);
+        Path target = resolve(targetKey);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (NoSuchFileException e) {
+            throw new StorageException("파일을 찾을 수 없습니다: " + sourceKey, e);
+        } catch (IOException e) {
+            throw new StorageException("파일을 이동할 수 없습니다: " + sourceKey, e);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) {
+        try {
+            return Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new StorageException("파일을 삭제할 수 없습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(resolve(key), BasicFileAttributes.class);
+            return Optional.of(new StorageObject(key, attrs.size(), attrs.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new StorageException("파일 정보를 조회할 수 없습니다: " + key, e);
+        }
+    }
+
+    /*
+        목록 조회 - 디렉토리별로 이름순 정렬하며 깊이 우선으로 내려감 (한 번에 한 디렉토리 목록만 메모리에 둠)
+            - startAfter보다 뒤에 올 수 없는 디렉토리는 통째로 건너뜀
+            - 쓰는 중인 임시 파일(.part)은 제외
+     */
+    @Override
+    public Stream<StorageObject> list(String prefix, String startAfter) {
+        Path dir = resolve(prefix);
+        if (!Files.isDirectory(dir)) {
+            return Stream.empty();
+        }
+        return walkSorted(dir, startAfter)
+                .filter(path -> !path.getFileName().toString().endsWith(".part"))
+                .map(this::toKey)
+                .filter(key -> startAfter == null || key.compareTo(startAfter) > 0)
+                .map(this::stat)
+                .flatMap(Optional::stream);
+    }
+
+    private Stream<Path> walkSorted(Path dir, String startAfter) {
+        List<Path> children;
+        try (Stream<Path> stream = Files.list(dir)) {
+            children = stream.sorted(Comparator.comparing(path -> path.getFileName().toString())).toList();
+        } catch (IOException e) {
+            throw new StorageException("파일 목록을 조회할 수 없습니다: " + dir, e);
+        }
+        return children.stream().flatMap(child -> {
+            if (!Files.isDirectory(child)) {
+                return Stream.of(child);
+            }
+            String dirKey = toKey(child) + "/";
+            boolean skip = startAfter != null && dirKey.compareTo(startAfter) < 0 && !startAfter.startsWith(dirKey);
+            return skip ? Stream.empty() : walkSorted(child, startAfter);
+        });
+    }
+
+    private String toKey(Path path) {
+        return root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    /*
+        키를 실제 경로로 변환
+            - "../" 등으로 루트 밖을 가리키는 키는 거부 (경로 조작 공격 방지)
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new StorageException("잘못된 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    // 지정한 길이만큼만 읽히도록 제한하는 스트림 (범위 읽기용)
+    private static class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.library.storage;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.HttpResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/*
+    압축 저장된 파일을 클라이언트에 맞춰 내보내는 Resource (ContentCodec.negotiate)
+        - contentEncoding이 있으면 저장된 바이트 그대로 + Content-Encoding 헤더
+        - 없으면 body가 이미 풀린 바이트 (DecodedResource)
+        - 어느 쪽이든 Vary: Accept-Encoding (캐시가 압축/비압축 응답을 구분하도록)
+        - HttpResource : /uploads/**(ResourceHttpRequestHandler)는 헤더를 자동으로 붙이고, FileController는 직접 복사함
+ */
+public class NegotiatedResource extends AbstractResource implements HttpResource {
+
+    private final Resource body;
+    private final String contentEncoding;   // null이면 풀어서 보냄
+
+    NegotiatedResource(Resource body, String contentEncoding) {
+        this.body = body;
+        this.contentEncoding = contentEncoding;
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (contentEncoding != null) {
+            headers.add(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
+        return headers;
+    }
+
+    @Override
+    public boolean exists() {
+        return body.exists();
+    }
+
+    @Override
+    public boolean isReadable() {
+        return body.isReadable();
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return body.contentLength();
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return body.lastModified();
+    }
+
+    @Override
+    public String getFilename() {
+        return body.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+        return body.getDescription();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return body.getInputStream();
+    }
+}
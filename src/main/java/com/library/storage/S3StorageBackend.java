@@ -0,0 +1,254 @@
+package com.library.storage;
+
+import com.library.exception.StorageException;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+    S3 호환 객체 저장소
+        - AWS S3, MinIO, Ceph RGW 등 S3 API를 지원하는 저장소에 첨부파일을 저장함
+        - 모든 애플리케이션 노드가 같은 버킷을 바라보므로 공유 디스크 없이 수평 확장 가능
+        - 로컬 개발/테스트에서는 docker-compose의 minio 서비스(엔드포인트 override + path-style)로 대체 가능
+
+    스트리밍 처리
+        - 길이를 아는 경우 : PutObject 한 번으로 InputStream을 그대로 전송
+        - 길이를 모르는 경우(-1) : Multipart Upload로 PART_SIZE씩 나누어 전송
+            - 한 번에 한 파트만 메모리에 두며, 임시 파일은 만들지 않음
+        - 범위 읽기 : HTTP Range 헤더(bytes=start-end)로 필요한 구간만 내려받음
+ */
+@Slf4j
+public class S3StorageBackend implements StorageBackend {
+
+    private static final int PART_SIZE = 8 * 1024 * 1024;     // Multipart 파트 크기 (S3 최소 5MB)
+
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3StorageBackend(S3Client s3Client, String bucket, boolean createBucketIfMissing) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+
+        if (createBucketIfMissing) {
+            createBucketIfMissing();
+        }
+        log.info("S3 호환 저장소 사용 - 버킷: {}", bucket);
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength) {
+        try {
+            if (contentLength >= 0) {
+                PutObjectRequest request = PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentLength(contentLength)
+                        .build();
+                s3Client.putObject(request, RequestBody.fromInputStream(content, contentLength));
+            } else {
+                multipartUpload(key, content);
+            }
+        } catch (SdkException | IOException e) {
+            throw new StorageException("파일을 저장할 수 없습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) {
+        if (length == 0) {
+            return InputStream.nullInputStream();
+        }
+        GetObjectRequest.Builder request = GetObjectRequest.builder().bucket(bucket).key(key);
+        if (offset > 0 || length > 0) {
+            String end = length > 0 ? String.valueOf(offset + length - 1) : "";
+            request.range("bytes=" + offset + "-" + end);
+        }
+        try {
+            return s3Client.getObject(request.build());
+        } catch (NoSuchKeyException e) {
+            throw new StorageException("파일을 찾을 수 없습니다: " + key, e);
+        } catch (SdkException e) {
+            throw new StorageException("파일을 읽을 수 없습니다: " + key, e);
+        }
+    }
+
+    // 서버 측 복사(CopyObject) 후 원본 삭제 - 데이터가 애플리케이션을 거치지 않음
+    @Override
+    public void move(String sourceKey, String targetKey) {
+        try {
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket).sourceKey(sourceKey)
+                    .destinationBucket(bucket).destinationKey(targetKey)
+                    .build());
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(sourceKey).build());
+        } catch (NoSuchKeyException e) {
+            throw new StorageException("파일을 찾을 수 없습니다: " + sourceKey, e);
+        } catch (SdkException e) {
+            throw new StorageException("파일을 이동할 수 없습니다: " + sourceKey, e);
+        }
+    }
+
+    /*
+        삭제 - DeleteObject 한 번 (존재 확인 HEAD 없음)
+            - S3는 없는 키를 삭제해도 성공(204)으로 응답하므로 있었는지 알 수 없음 → 항상 true
+     */
+    @Override
+    public boolean delete(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (SdkException e) {
+            throw new StorageException("파일을 삭제할 수 없습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return stat(key).isPresent();
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new StorageObject(key, head.contentLength(), head.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new StorageException("파일 정보를 조회할 수 없습니다: " + key, e);
+        } catch (SdkException e) {
+            throw new StorageException("파일 정보를 조회할 수 없습니다: " + key, e);
+        }
+    }
+
+    /*
+        목록 조회 - ListObjectsV2 (S3는 키 오름차순으로 반환)
+            - Paginator가 다음 페이지(최대 1000개)를 필요할 때 요청함
+            - startAfter로 중단 지점부터 이어서 조회
+            - 다음 페이지 요청은 Stream을 소비하는 중에 일어나므로, 그때 난 SdkException도 StorageException으로 바꿔서 던짐
+     */
+    @Override
+    public Stream<StorageObject> list(String prefix, String startAfter) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .startAfter(startAfter)
+                .build();
+        Iterator<S3Object> objects = s3Client.listObjectsV2Paginator(request).contents().iterator();
+        Iterator<StorageObject> listing = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return objects.hasNext();
+                } catch (SdkException e) {
+                    throw new StorageException("파일 목록을 조회할 수 없습니다: " + prefix, e);
+                }
+            }
+
+            @Override
+            public StorageObject next() {
+                try {
+                    S3Object object = objects.next();
+                    return new StorageObject(object.key(), object.size(), object.lastModified());
+                } catch (SdkException e) {
+                    throw new StorageException("파일 목록을 조회할 수 없습니다: " + prefix, e);
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(listing,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /*
+        Multipart Upload - 길이를 모르는 스트림 업로드
+            - 1) CreateMultipartUpload로 uploadId 발급
+            - 2) PART_SIZE만큼 읽을 때마다 UploadPart
+            - 3) CompleteMultipartUpload로 파트 결합
+            - 실패 시 AbortMultipartUpload로 업로드된 파트 정리
+     */
+    private void multipartUpload(String key, InputStream content) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(
+                CreateMultipartUploadRequest.builder().bucket(bucket).key(key).build()).uploadId();
+
+        List<CompletedPart> parts = new ArrayList<>();
+        byte[] buffer = new byte[PART_SIZE];
+        try {
+            int partNumber = 1;
+            int read;
+            while ((read = content.readNBytes(buffer, 0, PART_SIZE)) > 0) {
+                UploadPartRequest request = UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) read)
+                        .build();
+                String eTag = s3Client.uploadPart(request,
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                partNumber++;
+                if (read < PART_SIZE) {
+                    break;      // 마지막 파트
+                }
+            }
+
+            if (parts.isEmpty()) {
+                // 빈 스트림은 Multipart로 만들 수 없으므로 일반 업로드로 처리
+                abortQuietly(key, uploadId);
+                s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(), RequestBody.empty());
+                return;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (SdkException | IOException e) {
+            abortQuietly(key, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(uploadId).build());
+        } catch (SdkException e) {
+            log.warn("Multipart 업로드 취소 실패: {} ({})", key, e.getMessage());
+        }
+    }
+
+    private void createBucketIfMissing() {
+        try {
+            s3Client.headBucket(HeadBucketRequest.builder().bucket(bucket).build());
+        } catch (NoSuchBucketException e) {
+            s3Client.createBucket(CreateBucketRequest.builder().bucket(bucket).build());
+            log.info("S3 버킷 생성 완료 : {}", bucket);
+        } catch (S3Exception e) {
+            if (e.statusCode() != 404) {
+                throw new StorageException("S3 버킷을 확인할 수 없습니다: " + bucket, e);
+            }
+            s3Client.createBucket(CreateBucketRequest.builder().bucket(bucket).build());
+            log.info("S3 버킷 생성 완료 : {}", bucket);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.library.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/*
+    여러 조각(part)의 스트림을 차례로 이어 붙여 하나의 세그먼트 스트림으로 내보내는 InputStream
+        - 아카이브 세그먼트 작성용 : StorageBackend.put(segmentKey, 이 스트림, -1)
+        - 읽는 동안 조각별 시작 위치(offset)와 길이를 기록함
+            - put이 끝난 뒤 getOffset(i), getLength(i)로 세그먼트 인덱스를 만듦
+        - 조각 스트림은 차례가 왔을 때 열고, 다 읽으면 바로 닫음 (동시에 하나만 열림)
+ */
+public class SegmentInputStream extends InputStream {
+
+    // 세그먼트에 들어갈 조각 하나 - 읽을 차례가 되었을 때 스트림을 엶
+    @FunctionalInterface
+    public interface Part {
+        InputStream open() throws IOException;
+    }
+
+    private final List<Part> parts;
+    private final long[] offsets;
+    private final long[] lengths;
+
+    private int index = -1;
+    private InputStream current;
+    private long position;
+
+    public SegmentInputStream(List<Part> parts) {
+        this.parts = parts;
+        this.offsets = new long[parts.size()];
+        this.lengths = new long[parts.size()];
+    }
+
+    public long getOffset(int partIndex) {
+        return offsets[partIndex];
+    }
+
+    public long getLength(int partIndex) {
+        return lengths[partIndex];
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int n = read(one, 0, 1);
+        return n < 0 ? -1 : one[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (current != null || advance()) {
+            int n = current.read(b, off, len);
+            if (n > 0) {
+                position += n;
+                lengths[index] += n;
+                return n;
+            }
+            if (n < 0) {
+                current.close();
+                current = null;
+            }
+        }
+        return -1;
+    }
+
+    // 다음 조각을 열고 시작 위치를 기록, 더 없으면 false
+    private boolean advance() throws IOException {
+        if (index + 1 >= parts.size()) {
+            return false;
+        }
+        index++;
+        offsets[index] = position;
+        current = parts.get(index).open();
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+    }
+}
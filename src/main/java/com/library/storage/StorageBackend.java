@@ -0,0 +1,81 @@
+package com.library.storage;
+
+import com.library.exception.StorageException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/*
+    첨부파일 저장소 SPI (Service Provider Interface)
+        - FileStorageService는 이 인터페이스만 의존하며, 실제 저장 위치(로컬 디스크, S3 호환 객체 저장소)를 알지 못함
+        - 여러 대의 애플리케이션 노드가 공유 디스크 없이 같은 저장소를 바라볼 수 있게 함
+        - 구현체
+            - FileSystemStorageBackend : 로컬(또는 마운트된) 파일 시스템
+            - S3StorageBackend : S3 호환 객체 저장소 (AWS S3, MinIO 등)
+
+    키(key) 규칙
+        - "/"로 구분된 상대 경로 (예: "boards/2025/10/15/uuid.pdf")
+        - 앞에 "/"를 붙이지 않음
+
+    스트리밍 원칙
+        - put()은 InputStream을 그대로 흘려보내며 임시 파일/메모리 복사본을 만들지 않음
+        - get()이 반환한 InputStream은 호출자가 반드시 close() 해야 함 (원격 연결 반환)
+        - 모든 입출력 오류는 StorageException(unchecked)으로 변환됨
+ */
+public interface StorageBackend {
+
+    /*
+        객체 저장 (같은 키가 있으면 덮어씀)
+        @param key 저장할 객체 키
+        @param content 저장할 내용 (호출자가 close 책임)
+        @param contentLength 내용 길이 (바이트), 모르면 -1
+     */
+    void put(String key, InputStream content, long contentLength);
+
+    /*
+        객체 범위 읽기
+        @param offset 읽기 시작 위치 (0부터)
+        @param length 읽을 길이, -1이면 끝까지
+     */
+    InputStream get(String key, long offset, long length);
+
+    // 객체 전체 읽기
+    default InputStream get(String key) {
+        return get(key, 0, -1);
+    }
+
+    /*
+        객체 이동 (레이아웃 마이그레이션 등)
+            - 기본 구현 : 스트리밍 복사 후 원본 삭제
+            - 구현체는 더 효율적인 방법(파일 rename, 서버 측 복사)으로 재정의함
+     */
+    default void move(String sourceKey, String targetKey) {
+        StorageObject source = stat(sourceKey)
+                .orElseThrow(() -> new StorageException("파일을 찾을 수 없습니다: " + sourceKey));
+        try (InputStream in = get(sourceKey)) {
+            put(targetKey, in, source.getSize());
+        } catch (IOException e) {
+            throw new StorageException("파일을 이동할 수 없습니다: " + sourceKey, e);
+        }
+        delete(sourceKey);
+    }
+
+    // 객체 삭제 (없으면 false, 예외 발생하지 않음 - 있었는지 알 수 없는 저장소(S3)는 항상 true)
+    boolean delete(String key);
+
+    // 객체 존재 여부
+    boolean exists(String key);
+
+    // 객체 메타데이터 조회 (없으면 Optional.empty())
+    Optional<StorageObject> stat(String key);
+
+    /*
+        prefix로 시작하는 객체 목록 (무결성 검사의 "행 없는 파일" 확인 등)
+            - 키 오름차순으로, startAfter보다 큰 키만 반환 (null이면 처음부터) → 중단 후 이어서 조회 가능
+            - 목록은 지연 조회되므로 객체가 아주 많아도 메모리에 한꺼번에 올리지 않음
+            - 반환된 Stream은 호출자가 반드시 close() 해야 함 (try-with-resources)
+     */
+    Stream<StorageObject> list(String prefix, String startAfter);
+}
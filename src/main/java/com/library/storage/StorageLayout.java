@@ -0,0 +1,74 @@
+package com.library.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/*
+    첨부파일 디렉토리 레이아웃
+        - DATE (기존) : boards/yyyy/MM/dd/uuid.pdf
+            - 업로드가 몰린 날에는 한 디렉토리에 수만 개 파일이 쌓여 조회/백업/ls가 느려짐
+        - HASHED (신규) : boards/3f/a2/uuid.pdf
+            - 저장 파일명의 SHA-256 앞 2바이트를 2단계 16진수 디렉토리로 사용 (256 x 256 = 65,536개)
+            - 파일이 디렉토리에 고르게 분산됨
+
+    두 레이아웃 공존
+        - BoardFile.filePath에는 실제 디렉토리가 그대로 저장되므로 대부분 그대로 찾아감
+        - 마이그레이션 중(파일은 이동했지만 행은 아직 갱신 전)에는 기록된 경로에 파일이 없을 수 있음
+            - 해시 경로는 저장 파일명만으로 계산되므로 hashedKey()로 한 번 더 찾아봄
+ */
+public final class StorageLayout {
+
+    public enum Type { DATE, HASHED }
+
+    // 기존 날짜별 경로 판별 (예: "boards/2025/10/15/")
+    private static final Pattern DATE_PATH = Pattern.compile("^[^/]+/\\d{4}/\\d{2}/\\d{2}/$");
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    private StorageLayout() {
+    }
+
+    // 새 파일을 저장할 디렉토리 (끝에 "/" 포함)
+    public static String directoryFor(Type type, String subDirectory, String storedFilename) {
+        if (type == Type.DATE) {
+            return subDirectory + "/" + LocalDate.now().format(DATE_FORMAT) + "/";
+        }
+        return hashedDirectory(subDirectory, storedFilename);
+    }
+
+    // 해시 분산 디렉토리 (예: "boards/3f/a2/")
+    public static String hashedDirectory(String subDirectory, String storedFilename) {
+        byte[] digest = sha256(storedFilename);
+        HexFormat hex = HexFormat.of();
+        return subDirectory + "/" + hex.toHexDigits(digest[0]) + "/" + hex.toHexDigits(digest[1]) + "/";
+    }
+
+    // 기록된 경로와 관계없이 해시 레이아웃에서의 저장소 키
+    public static String hashedKey(String filePath, String storedFilename) {
+        return hashedDirectory(subDirectoryOf(filePath), storedFilename) + storedFilename;
+    }
+
+    // 기존 날짜별 레이아웃 여부 (마이그레이션 대상)
+    public static boolean isDateLayout(String filePath) {
+        return DATE_PATH.matcher(filePath).matches();
+    }
+
+    // 경로의 최상위 디렉토리 (예: "boards/2025/10/15/" => "boards")
+    public static String subDirectoryOf(String filePath) {
+        int slash = filePath.indexOf('/');
+        return slash < 0 ? filePath : filePath.substring(0, slash);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.library.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/*
+    저장소 객체 메타데이터 (stat 결과)
+        - key : 저장소 내 객체 키 (예: "boards/2025/10/15/uuid.pdf")
+        - size : 객체 크기 (바이트)
+        - lastModified : 마지막 수정 시각
+ */
+@Getter
+@AllArgsConstructor
+public class StorageObject {
+    private final String key;
+    private final long size;
+    private final Instant lastModified;
+}
@@ -0,0 +1,62 @@
+package com.library.storage;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/*
+    저장소 객체의 일부 구간(offset ~ offset + length)을 하나의 Resource로 보여 줌
+        - 아카이브 세그먼트 안의 파일 하나를 꺼낼 때 사용
+        - 세그먼트 전체를 내려받지 않고 저장소의 범위 읽기로 해당 구간만 읽음
+ */
+public class StorageRangeResource extends AbstractResource {
+
+    private final StorageBackend backend;
+    private final String key;
+    private final long offset;
+    private final long length;
+    private final String filename;
+
+    public StorageRangeResource(StorageBackend backend, String key, long offset, long length, String filename) {
+        this.backend = backend;
+        this.key = key;
+        this.offset = offset;
+        this.length = length;
+        this.filename = filename;
+    }
+
+    @Override
+    public boolean exists() {
+        return backend.exists(key);
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    // 세그먼트 객체의 수정 시각 (/uploads/** 응답의 Last-Modified 계산용)
+    @Override
+    public long lastModified() throws IOException {
+        return backend.stat(key)
+                .orElseThrow(() -> new FileNotFoundException(getDescription()))
+                .getLastModified().toEpochMilli();
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public String getDescription() {
+        return "storage [" + key + "] range " + offset + "+" + length;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return backend.get(key, offset, length);
+    }
+}
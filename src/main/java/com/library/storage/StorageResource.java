@@ -0,0 +1,119 @@
+package com.library.storage;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/*
+    StorageBackend 객체를 Spring Resource로 감싼 어댑터
+        - ResponseEntity<Resource> 반환, ResourceHttpRequestHandler(/uploads/**)에서 그대로 사용 가능
+        - stat은 최초 1회만 호출하여 exists/contentLength/lastModified가 같은 결과를 공유함
+
+    Range 요청 최적화
+        - Spring은 Range 요청 처리 시 getInputStream() 후 skip(start)으로 시작 위치까지 이동함
+        - 이 Resource의 스트림은 첫 read() 전까지 실제로 열리지 않으며,
+          그 전에 호출된 skip()은 오프셋으로 기억했다가 get(key, offset, -1)로 한 번에 범위 읽기를 함
+        - 원격 저장소(S3)에서 앞부분을 모두 내려받은 뒤 버리는 낭비가 없음
+ */
+public class StorageResource extends AbstractResource {
+
+    private final StorageBackend backend;
+    private final String key;
+    private Optional<StorageObject> stat;   // 지연 조회 후 캐시
+
+    public StorageResource(StorageBackend backend, String key) {
+        this.backend = backend;
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public boolean exists() {
+        return stat().isPresent();
+    }
+
+    @Override
+    public boolean isReadable() {
+        return exists();
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return stat().orElseThrow(() -> new FileNotFoundException(getDescription())).getSize();
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return stat().orElseThrow(() -> new FileNotFoundException(getDescription())).getLastModified().toEpochMilli();
+    }
+
+    @Override
+    public String getFilename() {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public String getDescription() {
+        return "storage [" + key + "]";
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new LazyRangeInputStream();
+    }
+
+    private Optional<StorageObject> stat() {
+        if (stat == null) {
+            stat = backend.stat(key);
+        }
+        return stat;
+    }
+
+    // 첫 read() 시점에 (skip으로 누적된) 오프셋부터 저장소 스트림을 여는 InputStream
+    private class LazyRangeInputStream extends InputStream {
+        private long offset;
+        private InputStream delegate;
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (delegate != null) {
+                return delegate.skip(n);
+            }
+            if (n <= 0) {
+                return 0;
+            }
+            offset += n;
+            return n;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return open().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return open().read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (delegate != null) {
+                delegate.close();
+            }
+        }
+
+        private InputStream open() {
+            if (delegate == null) {
+                delegate = backend.get(key, offset, -1);
+            }
+            return delegate;
+        }
+    }
+}
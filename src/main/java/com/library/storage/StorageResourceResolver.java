@@ -0,0 +1,78 @@
+package com.library.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+import java.util.function.Function;
+
+/*
+    /uploads/** 정적 리소스를 StorageBackend에서 찾아 주는 ResourceResolver
+        - 기존 "file:uploads/" 로컬 디렉토리 매핑을 대체함
+        - 요청 경로(예: boards/2025/10/15/uuid.jpg)를 그대로 저장소 키로 사용
+        - 저장소 종류(로컬/S3)와 관계없이 게시글 본문의 이미지 URL이 동일하게 동작함
+        - 레이아웃 마이그레이션 중 기존 경로에 없으면 해시 경로에서 한 번 더 찾음
+        - 그래도 없으면 fallback(저장 파일명 → Resource)으로 찾음 (아카이브된 파일)
+        - 압축 저장된 파일은 다운로드(FileController)와 같이 ContentCodec.negotiate로 응답
+            - encodingLookup(저장 파일명 → 압축 정보, 압축 안 했으면 null)으로 압축 여부 확인
+            - 받을 수 있으면 Content-Encoding 헤더와 함께 그대로, 아니면 풀어서 (헤더는 ResourceHttpRequestHandler가 붙임)
+ */
+public class StorageResourceResolver implements ResourceResolver {
+
+    private final StorageBackend backend;
+    private final Function<String, Resource> fallback;      // 저장 파일명으로 찾기, 없으면 null 반환
+    private final Function<String, StoredEncoding> encodingLookup;  // 저장 파일명의 압축 정보, 압축 안 했으면 null
+
+    // 압축 저장 정보 (BoardFile.contentEncoding, 원본 크기 BoardFile.fileSize)
+    public record StoredEncoding(String contentEncoding, long decodedLength) {}
+
+    public StorageResourceResolver(StorageBackend backend) {
+        this(backend, filename -> null, filename -> null);
+    }
+
+    public StorageResourceResolver(StorageBackend backend, Function<String, Resource> fallback,
+                                   Function<String, StoredEncoding> encodingLookup) {
+        this.backend = backend;
+        this.fallback = fallback;
+        this.encodingLookup = encodingLookup;
+    }
+
+    @Override
+    public Resource resolveResource(HttpServletRequest request, String requestPath,
+                                    List<? extends Resource> locations, ResourceResolverChain chain) {
+        int slash = requestPath.lastIndexOf('/');
+        String filename = requestPath.substring(slash + 1);
+        Resource resource = find(requestPath, slash, filename);
+        if (resource == null) {
+            return null;
+        }
+        StoredEncoding encoding = encodingLookup.apply(filename);
+        if (encoding == null) {
+            return resource;
+        }
+        return ContentCodec.negotiate(resource, encoding.contentEncoding(), encoding.decodedLength(),
+                request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    // 요청 경로 → 해시 경로 → fallback 순서로 찾기
+    private Resource find(String requestPath, int slash, String filename) {
+        StorageResource resource = new StorageResource(backend, requestPath);
+        if (resource.exists()) {
+            return resource;
+        }
+        if (slash < 0) {
+            return null;
+        }
+        String filePath = requestPath.substring(0, slash + 1);
+        StorageResource moved = new StorageResource(backend, StorageLayout.hashedKey(filePath, filename));
+        return moved.exists() ? moved : fallback.apply(filename);
+    }
+
+    @Override
+    public String resolveUrlPath(String resourcePath, List<? extends Resource> locations, ResourceResolverChain chain) {
+        return resourcePath;
+    }
+}
@@ -0,0 +1,107 @@
+package com.library.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    Bloom 필터 - 고정된 비트 배열로 "집합에 있을 수도 있음 / 확실히 없음"을 판정
+        - put : 키마다 해시 k개로 비트 k개를 켬
+        - mightContain : k개가 모두 켜져 있으면 true (거짓 양성 가능), 하나라도 꺼져 있으면 확실히 없음
+        - 크기 : 예상 개수 n, 목표 거짓 양성률 p → 비트 수 m = -n·ln(p) / (ln 2)², 해시 수 k = (m / n)·ln 2
+            - maxBits로 상한을 두면 그만큼 거짓 양성률이 올라감 (expectedFpp()로 확인)
+        - 해시 k개는 64비트 해시 두 개의 조합 (h1 + i·h2, Kirsch-Mitzenmacher)
+        - 삭제 불가 (비트를 끄면 다른 키까지 지워짐) → 다시 만들어 교체할 것
+
+    스레드 안전 - 비트는 AtomicLongArray, 읽기와 쓰기가 락 없이 동시에 가능
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    public BloomFilter(long expectedInsertions, double fpp, long maxBits) {
+        if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1 || maxBits < 64) {
+            throw new IllegalArgumentException("expectedInsertions는 양수, fpp는 0과 1 사이, maxBits는 64 이상이어야 합니다.");
+        }
+        long bits = Math.min(optimalBits(expectedInsertions, fpp), maxBits);
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * 64;
+        this.hashCount = optimalHashes(expectedInsertions, bitSize);
+    }
+
+    /*
+        키 추가
+        @return 새로 켠 비트가 있으면 true (이미 있던 키를 다시 넣으면 false - insertions에 세지 않음)
+     */
+    public boolean put(String key) {
+        long h1 = hash(key);
+        long h2 = Hashing.mix(h1 ^ Hashing.GOLDEN_GAMMA) | 1;     // 홀수 → 비트 위치가 고르게 퍼짐
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0) {
+                if (words.compareAndSet(word, current, current | mask)) {
+                    changed = true;
+                    break;
+                }
+                current = words.get(word);
+            }
+        }
+        if (changed) {
+            insertions.increment();
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = Hashing.mix(h1 ^ Hashing.GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    public long memoryBytes() {
+        return bitSize / 8;
+    }
+
+    // 지금까지 넣은 개수 기준 예상 거짓 양성률 (1 - e^(-k·n/m))^k
+    public double expectedFpp() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions() / bitSize), hashCount);
+    }
+
+    static long optimalBits(long n, double p) {
+        return (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+    }
+
+    static int optimalHashes(long n, long m) {
+        return Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    // FNV-1a 64비트 후 섞기
+    private static long hash(String key) {
+        return Hashing.mix(Hashing.fnv1a(key));
+    }
+}
@@ -0,0 +1,63 @@
+package com.library.util;
+
+/*
+    Count-Min Sketch - 키 개수와 관계없이 고정된 메모리(depth x width)로 키별 누적값을 근사
+        - 행마다 다른 해시로 칸 하나씩 골라 값을 더함
+        - 추정값 = 고른 칸들의 최솟값 (실제값보다 작지 않음, 해시 충돌만큼 크게 나올 수 있음)
+            - 오차 : 전체 합의 약 e/width 이내, 확률 1 - e^(-depth)
+        - 값은 double (시간 감쇠 가중치를 그대로 더하기 위함, scale()로 전체 축소 가능)
+
+    스레드 안전하지 않음 - 호출 측에서 동기화할 것
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int mask;         // width - 1 (width는 2의 거듭제곱)
+    private final double[][] counts;
+    private final long[] seeds;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("depth는 양수, width는 2의 거듭제곱이어야 합니다.");
+        }
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counts = new double[depth][width];
+        this.seeds = new long[depth];
+        for (int row = 0; row < depth; row++) {
+            seeds[row] = Hashing.mix(Hashing.GOLDEN_GAMMA * (row + 1));
+        }
+    }
+
+    // key에 amount를 더하고 더한 뒤의 추정값 반환
+    public double add(long key, double amount) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = column(row, key);
+            counts[row][column] += amount;
+            estimate = Math.min(estimate, counts[row][column]);
+        }
+        return estimate;
+    }
+
+    public double estimate(long key) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[row][column(row, key)]);
+        }
+        return estimate;
+    }
+
+    // 모든 칸에 factor를 곱함 (시간 감쇠 기준점 이동 시)
+    public void scale(double factor) {
+        for (double[] row : counts) {
+            for (int column = 0; column < row.length; column++) {
+                row[column] *= factor;
+            }
+        }
+    }
+
+    private int column(int row, long key) {
+        return (int) Hashing.mix(key ^ seeds[row]) & mask;   // 연속된 id도 칸이 고르게 퍼짐
+    }
+}
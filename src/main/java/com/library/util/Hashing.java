@@ -0,0 +1,31 @@
+package com.library.util;
+
+/*
+    64비트 해시 공통 함수 (BloomFilter, CountMinSketch, MinHash, SimHash, RelatedBoards)
+        - fnv1a : 문자열 해시 (FNV-1a, char 단위) - String.hashCode는 32비트라 충돌이 잦음
+        - mix : SplitMix64 마무리 함수 - 비슷한 입력(연속된 id, FNV 결과)도 비트가 고르게 퍼지도록 섞음
+        - 결과가 DB에 저장되는 곳이 있으므로(MinHash 서명 → board_signature) 계산 방식을 바꾸지 말 것
+ */
+public final class Hashing {
+
+    // 2^64 / 황금비 - 시드를 고르게 띄울 때 더하는 값 (SplitMix64의 증분)
+    public static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private Hashing() {
+    }
+
+    public static long fnv1a(CharSequence text) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,37 @@
+package com.library.util;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+    백그라운드 작업용 처리량 제한기 (I/O 스로틀)
+        - 초당 허용량(permitsPerSecond)을 넘지 않도록 호출 스레드를 잠시 재움
+        - 허용량 단위는 호출하는 쪽이 정함 (파일 개수, 바이트 수 등)
+        - 마이그레이션/검증 같은 배치 작업이 사용자 요청의 디스크·네트워크 대역을 잠식하지 않게 함
+
+    사용 예
+        IoThrottle throttle = new IoThrottle(20);   // 초당 20개
+        for (...) { throttle.acquire(1); ... }
+ */
+public class IoThrottle {
+
+    private final double permitsPerSecond;
+    private long nextFreeNanos = System.nanoTime();     // 다음 허용량을 쓸 수 있는 시각
+
+    // permitsPerSecond가 0 이하이면 제한 없음
+    public IoThrottle(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    // permits만큼 사용, 허용량을 초과했다면 필요한 시간만큼 대기
+    public synchronized void acquire(long permits) throws InterruptedException {
+        if (permitsPerSecond <= 0 || permits <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long waitNanos = nextFreeNanos - now;
+        nextFreeNanos = Math.max(nextFreeNanos, now) + (long) (permits * 1_000_000_000L / permitsPerSecond);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
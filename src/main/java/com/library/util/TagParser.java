@@ -0,0 +1,61 @@
+package com.library.util;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/*
+    게시글 태그 입력 파싱
+        - 입력 예 : "#스프링, jpa  성능" → [스프링, jpa, 성능]
+        - 쉼표/공백으로 구분, 앞의 #은 제거, 소문자로 통일 (같은 태그가 대소문자로 갈리지 않도록)
+        - 입력 순서를 유지하고 중복은 한 번만
+        - 게시글당 MAX_TAGS개, 태그당 MAX_LENGTH자까지
+ */
+public final class TagParser {
+
+    public static final int MAX_TAGS = 10;
+    public static final int MAX_LENGTH = 30;
+
+    private TagParser() {
+    }
+
+    public static Set<String> parse(String input) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (input == null || input.isBlank()) {
+            return tags;
+        }
+        for (String token : input.split("[,\\s]+")) {
+            String tag = normalize(token);
+            if (!tag.isEmpty()) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    // 태그 하나 정규화 (목록 필터의 tag 파라미터에도 사용)
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(tag.strip(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int start = 0;
+        while (start < normalized.length() && normalized.charAt(start) == '#') {
+            start++;
+        }
+        return normalized.substring(start);
+    }
+
+    // 개수/길이 제한 확인
+    public static boolean isValid(String input) {
+        Set<String> tags = parse(input);
+        return tags.size() <= MAX_TAGS && tags.stream().allMatch(tag -> tag.length() <= MAX_LENGTH);
+    }
+
+    // 수정 폼에 다시 보여줄 문자열
+    public static String format(Collection<String> tags) {
+        return String.join(", ", tags);
+    }
+}
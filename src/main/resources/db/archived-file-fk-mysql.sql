@@ -0,0 +1,8 @@
+-- archived_file → board_file 외래 키 (MySQL) - 첨부파일 행이 삭제되면 아카이브 인덱스 행도 함께 삭제
+--   - ddl-auto: validate(운영)는 제약 조건을 만들지 않으므로 배포 전에 한 번 실행할 것
+--   - 이미 삭제된 첨부파일의 인덱스 행(고아 행)을 먼저 지운 뒤 외래 키를 추가함
+
+DELETE a FROM archived_file a LEFT JOIN board_file f ON f.id = a.file_id WHERE f.id IS NULL;
+
+ALTER TABLE archived_file
+    ADD CONSTRAINT fk_archived_file_board_file FOREIGN KEY (file_id) REFERENCES board_file (id) ON DELETE CASCADE;
@@ -0,0 +1,21 @@
+-- 게시글 목록 쿼리 실행 계획 확인 (MySQL) - BoardQueryPlanTest(H2)가 보지 못하는 운영 DB 계획
+--   - 인덱스를 바꾸거나 목록 쿼리의 ORDER BY를 바꾼 뒤, 운영과 비슷한 데이터가 있는 DB에서 실행할 것
+--   - 기대값 : key = 주석의 인덱스, Extra에 "Using filesort" 없음 (있으면 결과를 모아서 정렬한다는 뜻)
+--   - 데이터가 아주 적으면 옵티마이저가 전체 스캔을 고를 수 있음 → ANALYZE TABLE 후 다시 확인
+
+ANALYZE TABLE board;
+
+-- 전체 목록 2페이지 (idx_board_status_created)
+EXPLAIN SELECT b.*, m.* FROM board b JOIN members m ON m.member_id = b.author_id
+    WHERE b.status = 'ACTIVE'
+    ORDER BY b.status, b.created_at DESC, b.id DESC LIMIT 8 OFFSET 8;
+
+-- 카테고리 목록 2페이지 (idx_board_status_category_created)
+EXPLAIN SELECT b.*, m.* FROM board b JOIN members m ON m.member_id = b.author_id
+    WHERE b.status = 'ACTIVE' AND b.category = 'QNA'
+    ORDER BY b.status, b.category, b.created_at DESC, b.id DESC LIMIT 8 OFFSET 8;
+
+-- 조회순 목록, Top-K 범위 밖 (idx_board_status_views)
+EXPLAIN SELECT b.*, m.* FROM board b JOIN members m ON m.member_id = b.author_id
+    WHERE b.status = 'ACTIVE'
+    ORDER BY b.status, b.view_count DESC, b.id DESC LIMIT 8 OFFSET 240;
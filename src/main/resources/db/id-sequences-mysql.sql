@@ -0,0 +1,20 @@
+-- id 시퀀스 테이블 (MySQL) - IDENTITY에서 pooled 시퀀스로 전환할 때 한 번 실행
+--   - ddl-auto: validate(운영)는 테이블을 만들지 않으므로 배포 전에 실행할 것
+--   - 다음 값은 기존 MAX(id) 뒤로 시작 (IdSequences.ALLOCATION_SIZE = 50)
+--   - 시작 시 IdSequenceMigrator가 한 번 더 확인하므로 값이 조금 어긋나도 안전함
+
+CREATE TABLE IF NOT EXISTS board_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO board_seq SELECT v FROM (SELECT COALESCE(MAX(id), 0) + 51 AS v FROM board) m
+    WHERE NOT EXISTS (SELECT 1 FROM board_seq);
+
+CREATE TABLE IF NOT EXISTS board_file_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO board_file_seq SELECT v FROM (SELECT COALESCE(MAX(id), 0) + 51 AS v FROM board_file) m
+    WHERE NOT EXISTS (SELECT 1 FROM board_file_seq);
+
+CREATE TABLE IF NOT EXISTS comment_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO comment_seq SELECT v FROM (SELECT COALESCE(MAX(id), 0) + 51 AS v FROM comment) m
+    WHERE NOT EXISTS (SELECT 1 FROM comment_seq);
+
+CREATE TABLE IF NOT EXISTS members_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO members_seq SELECT v FROM (SELECT COALESCE(MAX(member_id), 0) + 51 AS v FROM members) m
+    WHERE NOT EXISTS (SELECT 1 FROM members_seq);
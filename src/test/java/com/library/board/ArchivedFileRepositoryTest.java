@@ -0,0 +1,119 @@
+package com.library.board;
+
+import com.library.entity.board.ArchivedFile;
+import com.library.entity.board.Board;
+import com.library.entity.board.BoardFile;
+import com.library.entity.member.Member;
+import com.library.entity.member.MemberStatus;
+import com.library.entity.member.MemberType;
+import com.library.entity.member.Role;
+import com.library.repository.ArchivedFileRepository;
+import com.library.repository.BoardFileRepository;
+import com.library.repository.BoardRepository;
+import com.library.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    ArchivedFileRepository 테스트 (H2)
+        - id를 직접 넣는 Entity지만 save()가 merge가 아니라 persist로 저장되는가? (Persistable)
+        - 첨부파일 행을 지우면 아카이브 인덱스 행도 함께 지워지는가? (FK ON DELETE CASCADE)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class ArchivedFileRepositoryTest {
+
+    @Autowired
+    private ArchivedFileRepository archivedFileRepository;
+    @Autowired
+    private BoardFileRepository boardFileRepository;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private BoardFile file;
+
+    @BeforeEach
+    void setUp() {
+        Member author = memberRepository.save(Member.builder()
+                .name("신사임당")
+                .email("archive@library.com")
+                .password("password123")
+                .memberType(MemberType.REGULAR)
+                .status(MemberStatus.ACTIVE)
+                .role(Role.USER)
+                .build());
+        Board board = boardRepository.save(Board.builder()
+                .title("아카이브 게시글")
+                .content("본문")
+                .author(author)
+                .viewCount(0L)
+                .build());
+        file = boardFileRepository.save(BoardFile.builder()
+                .board(board)
+                .originalFilename("notice.txt")
+                .storedFilename("uuid.txt")
+                .filePath("boards/ab/cd/")
+                .fileSize(100L)
+                .build());
+        entityManager.flush();
+    }
+
+    private ArchivedFile archived() {
+        return ArchivedFile.builder()
+                .fileId(file.getId())
+                .file(file)
+                .storedFilename(file.getStoredFilename())
+                .segmentKey("archive/segments/test.seg")
+                .segmentOffset(0L)
+                .storedLength(40L)
+                .codec("deflate")
+                .fileSize(file.getFileSize())
+                .build();
+    }
+
+    @Test
+    @DisplayName("새 Entity는 merge(SELECT) 없이 persist - 넘긴 객체가 그대로 관리 상태가 됨")
+    void save_persist() {
+        // Given
+        ArchivedFile archived = archived();
+        assertThat(archived.isNew()).isTrue();
+
+        // When
+        ArchivedFile saved = archivedFileRepository.save(archived);
+        entityManager.flush();
+
+        // Then - merge였다면 복사본이 돌아옴
+        assertThat(saved).isSameAs(archived);
+        assertThat(entityManager.contains(archived)).isTrue();
+        assertThat(saved.isNew()).isFalse();
+    }
+
+    @Test
+    @DisplayName("첨부파일 행을 지우면 아카이브 인덱스 행도 함께 삭제")
+    void delete_첨부파일삭제시함께삭제() {
+        // Given
+        archivedFileRepository.save(archived());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        boardFileRepository.deleteById(file.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(archivedFileRepository.findById(file.getId())).isEmpty();
+        assertThat(archivedFileRepository.findByStoredFilename("uuid.txt")).isEmpty();
+    }
+}
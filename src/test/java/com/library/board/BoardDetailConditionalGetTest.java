@@ -0,0 +1,130 @@
+package com.library.board;
+
+import com.library.dto.member.MemberPrincipal;
+import com.library.entity.board.Board;
+import com.library.entity.member.Member;
+import com.library.entity.member.MemberStatus;
+import com.library.entity.member.MemberType;
+import com.library.entity.member.Role;
+import com.library.repository.BoardRepository;
+import com.library.repository.MemberRepository;
+import com.library.service.ViewCountBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/*
+    게시글 상세 조건부 GET 통합 테스트 (MockMvc, BoardController.detail)
+        - 로그인 사용자로 요청 (익명 페이지 캐시 필터를 거치지 않고 컨트롤러의 304 경로를 확인)
+        - 처음 응답에 ETag, Last-Modified가 있는가?
+        - If-None-Match / If-Modified-Since가 맞으면 본문 없이 304인가?
+        - 304도 조회로 세는가? (ViewCountBuffer를 반영하면 조회수 증가)
+        - ETag가 다르면 다시 렌더링하는가?
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BoardDetailConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    private Long boardId;
+    private MemberPrincipal principal;
+    private final MockHttpSession session = new MockHttpSession();
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .name("장영실")
+                .email("etag-" + UUID.randomUUID() + "@library.com")
+                .password("password123")
+                .memberType(MemberType.REGULAR)
+                .status(MemberStatus.ACTIVE)
+                .role(Role.USER)
+                .build());
+        boardId = boardRepository.save(Board.builder()
+                .title("조건부 GET 게시글")
+                .content("본문")
+                .author(member)
+                .viewCount(0L)
+                .build()).getId();
+        principal = MemberPrincipal.from(member);
+    }
+
+    private MockHttpServletRequestBuilder detail() {
+        return get("/boards/" + boardId).with(user(principal)).session(session);
+    }
+
+    private long viewCount() {
+        return boardRepository.findById(boardId).orElseThrow().getViewCount();
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 본문 없이 304 - 조회는 ViewCountBuffer로 셈")
+    void detail_ETag일치시304() throws Exception {
+        // Given
+        MockHttpServletResponse first = mockMvc.perform(detail()).andReturn().getResponse();
+        String eTag = first.getHeader(HttpHeaders.ETAG);
+
+        // When
+        MockHttpServletResponse second = mockMvc.perform(detail().header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andReturn().getResponse();
+        viewCountBuffer.flush();
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(eTag).startsWith("W/\"");
+        assertThat(first.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+        assertThat(viewCount()).isEqualTo(2);       // 렌더링 1 + 304 1
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since가 Last-Modified 이후면 304")
+    void detail_LastModified일치시304() throws Exception {
+        // Given
+        String lastModified = mockMvc.perform(detail()).andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        // When
+        MockHttpServletResponse response = mockMvc.perform(detail().header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andReturn().getResponse();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ETag가 다르면 다시 렌더링 (200)")
+    void detail_ETag불일치시200() throws Exception {
+        // When
+        MockHttpServletResponse response = mockMvc.perform(detail().header(HttpHeaders.IF_NONE_MATCH, "W/\"stale\""))
+                .andReturn().getResponse();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).contains("조건부 GET 게시글");
+    }
+}
@@ -0,0 +1,102 @@
+package com.library.board;
+
+import com.library.entity.board.Board;
+import com.library.entity.board.BoardFile;
+import com.library.entity.member.Member;
+import com.library.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    게시글 + 첨부파일 저장 JDBC 왕복 수 비교 (INSERT 배치 없음 vs 배치)
+        - gradle benchmark --tests '*BoardInsertBatchBenchmark*' 로 실행 (일반 test 태스크에서는 제외)
+        - 첨부파일 FILES개짜리 게시글 BOARDS개를 한 트랜잭션에 하나씩 저장 (BoardService.createBoard와 같은 cascade 저장)
+        - 배치 없음 : 세션 JDBC 배치 크기 1 → IDENTITY를 쓸 때와 같은 게시글당 INSERT 1 + FILES번 왕복
+        - 배치 : 시퀀스 id + hibernate.jdbc.batch_size → 테이블별 INSERT를 묶어 전송
+        - JDBC 왕복 수 = Hibernate 통계의 PreparedStatement 수 (시퀀스 조회 포함)
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=${SPRING_DATASOURCE_URL:jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1}",
+        "spring.datasource.driverClassName=${SPRING_DATASOURCE_DRIVERCLASSNAME:org.h2.Driver}",
+        "spring.datasource.username=${SPRING_DATASOURCE_USERNAME:sa}",
+        "spring.datasource.password=${SPRING_DATASOURCE_PASSWORD:}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.com.library=INFO"
+})
+class BoardInsertBatchBenchmark {
+
+    private static final int BOARDS = 200;
+    private static final int FILES = 10;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("첨부파일 10개 게시글 저장 - 배치 없음 vs 배치 JDBC 왕복 수")
+    void compare() {
+        // Given
+        Member author = memberRepository.save(Member.builder()
+                .email("bench@library.com").password("pw").name("벤치").phone("010-0000-0000").address("서울").build());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        run(author, 1, statistics);     // 워밍업
+        run(author, 50, statistics);
+
+        // When
+        long unbatched = run(author, 1, statistics);
+        long batched = run(author, 50, statistics);
+
+        // Then
+        System.out.printf("게시글당 JDBC 왕복 : %.2f → %.2f%n", (double) unbatched / BOARDS, (double) batched / BOARDS);
+        assertThat(unbatched).isGreaterThanOrEqualTo((long) BOARDS * (1 + FILES));
+        assertThat(batched).isLessThan(unbatched / 3);
+    }
+
+    // 게시글 BOARDS개 저장 (게시글마다 트랜잭션 하나) 후 JDBC 문장 수 반환
+    private long run(Member author, int jdbcBatchSize, Statistics statistics) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics.clear();
+        long started = System.nanoTime();
+        for (int b = 0; b < BOARDS; b++) {
+            int index = b;
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                Board board = Board.builder().title("게시글 " + index).content("본문").author(author).viewCount(0L).build();
+                for (int f = 0; f < FILES; f++) {
+                    board.addFile(BoardFile.builder()
+                            .originalFilename("file" + f + ".pdf").storedFilename(index + "-" + f + ".pdf")
+                            .filePath("boards/").fileSize(1024L).fileExtension("pdf").mimeType("application/pdf")
+                            .downloadCount(0L).build());
+                }
+                entityManager.persist(board);
+            });
+        }
+        double millis = (System.nanoTime() - started) / 1e6;
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("[JDBC 배치 %d] 게시글 %d개 x 첨부 %d개 : JDBC 문장 %d개, %.0fms%n",
+                jdbcBatchSize, BOARDS, FILES, statements, millis);
+        return statements;
+    }
+}
@@ -0,0 +1,109 @@
+package com.library.board;
+
+import com.library.entity.board.BoardCategory;
+import com.library.entity.board.BoardSort;
+import com.library.entity.board.BoardStatus;
+import com.library.repository.BoardRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    게시글 목록 쿼리 실행 계획 회귀 테스트
+        - 목적 : 목록 쿼리가 인덱스 범위 스캔 순서 그대로 결과를 얻는지 (정렬 단계 없음) 검증
+        - 방법
+            - StatementInspector로 Hibernate가 실제 생성한 SQL을 가로챔 (JPQL을 손으로 옮긴 SQL이 아님)
+            - 같은 SQL을 H2 EXPLAIN으로 실행
+                - 사용 인덱스 : 계획의 "PUBLIC.IDX_... : 조건" 주석
+                - 정렬 생략 : 계획 끝의 "index sorted" 주석 (없으면 결과를 모아서 정렬한다는 뜻)
+        - 인덱스 정의(Board @Table)나 ORDER BY를 바꿔서 정렬이 다시 생기면 실패함
+        - 한계 : H2 옵티마이저의 계획이지 운영 DB(MySQL)의 계획이 아님
+            - 보장하는 것 : 인덱스 컬럼 순서/방향과 ORDER BY가 맞아서 정렬 없이 읽을 수 있는 인덱스가 존재함
+            - 보장하지 않는 것 : MySQL이 비용 계산으로 실제 그 인덱스를 고르는지 (통계, 데이터 분포에 따라 다름)
+            - MySQL 계획은 db/board-list-explain-mysql.sql로 확인 (이 환경에는 MySQL 컨테이너를 띄울 Docker가 없어 자동화하지 않음)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.library.board.BoardQueryPlanTest$SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class BoardQueryPlanTest {
+
+    // Hibernate가 실행하는 SQL 기록
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    @DisplayName("전체 목록 - idx_board_status_created 범위 스캔, 정렬 없음")
+    void findByStatusWithAuthor_인덱스정렬() {
+        // When - 2페이지 조회 (OFFSET/LIMIT 모두 포함된 SQL)
+        boardRepository.findByStatusWithAuthor(BoardStatus.ACTIVE, PageRequest.of(1, 8));
+
+        // Then
+        String plan = explain(listQuery(), "ACTIVE", 8, 8);
+        assertThat(plan).contains("IDX_BOARD_STATUS_CREATED").contains("/* index sorted */");
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 - idx_board_status_category_created 범위 스캔, 정렬 없음")
+    void findByStatusAndCategoryWithAuthor_인덱스정렬() {
+        // When
+        boardRepository.findByStatusAndCategoryWithAuthor(BoardStatus.ACTIVE, BoardCategory.QNA, PageRequest.of(1, 8));
+
+        // Then
+        String plan = explain(listQuery(), "ACTIVE", "QNA", 8, 8);
+        assertThat(plan).contains("IDX_BOARD_STATUS_CATEGORY_CREATED").contains("/* index sorted */");
+    }
+
+    @Test
+    @DisplayName("조회순 목록(Top-K 범위 밖) - idx_board_status_views 범위 스캔, 정렬 없음")
+    void findPageByStatus_조회순인덱스정렬() {
+        // When - BoardService와 같은 정렬 조건
+        boardRepository.findPageByStatus(BoardStatus.ACTIVE, PageRequest.of(30, 8,
+                Sort.by(Sort.Order.asc("status"), Sort.Order.desc(BoardSort.VIEWS.getProperty()), Sort.Order.desc("id"))));
+
+        // Then
+        String plan = explain(listQuery(), "ACTIVE", 240, 8);
+        assertThat(plan).contains("IDX_BOARD_STATUS_VIEWS").contains("/* index sorted */");
+    }
+
+    // 기록된 SQL 중 목록 조회 (COUNT 쿼리 제외)
+    private String listQuery() {
+        return SqlCapture.statements.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains("order by"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("목록 조회 SQL이 실행되지 않았습니다."));
+    }
+
+    private String explain(String sql, Object... params) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, params);
+    }
+}
@@ -0,0 +1,97 @@
+package com.library.board;
+
+import com.library.entity.board.Board;
+import com.library.entity.board.BoardSignature;
+import com.library.entity.member.Member;
+import com.library.entity.member.MemberStatus;
+import com.library.entity.member.MemberType;
+import com.library.entity.member.Role;
+import com.library.repository.BoardRepository;
+import com.library.repository.BoardSignatureRepository;
+import com.library.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    BoardSignatureRepository 테스트 (H2)
+        - saveAll()이 merge 없이 persist로 저장되는가? (AssignedIdEntity)
+        - 게시글 수정 시 조회 없이 갱신/삭제하고, 행이 없으면 0을 돌려주는가?
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class BoardSignatureRepositoryTest {
+
+    @Autowired
+    private BoardSignatureRepository boardSignatureRepository;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        Member author = memberRepository.save(Member.builder()
+                .name("신사임당")
+                .email("signature@library.com")
+                .password("password123")
+                .memberType(MemberType.REGULAR)
+                .status(MemberStatus.ACTIVE)
+                .role(Role.USER)
+                .build());
+        board = boardRepository.save(Board.builder()
+                .title("관련 글 게시글")
+                .content("본문")
+                .author(author)
+                .viewCount(0L)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("새 서명은 persist - saveAll이 넘긴 객체를 그대로 관리 상태로 만듦")
+    void saveAll_persist() {
+        // Given
+        BoardSignature signature = BoardSignature.builder().boardId(board.getId()).signature(new byte[]{1, 2}).build();
+
+        // When
+        List<BoardSignature> saved = boardSignatureRepository.saveAll(List.of(signature));
+        entityManager.flush();
+
+        // Then
+        assertThat(saved.get(0)).isSameAs(signature);
+        assertThat(signature.isNew()).isFalse();
+    }
+
+    @Test
+    @DisplayName("벌크 갱신/삭제 - 행이 없으면 0")
+    void updateSignature_deleteByBoardId() {
+        // Given
+        assertThat(boardSignatureRepository.updateSignature(board.getId(), new byte[]{1})).isZero();
+        boardSignatureRepository.save(BoardSignature.builder().boardId(board.getId()).signature(new byte[]{1}).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int updated = boardSignatureRepository.updateSignature(board.getId(), new byte[]{7, 7});
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(boardSignatureRepository.findById(board.getId()).orElseThrow().getSignature()).containsExactly(7, 7);
+        assertThat(boardSignatureRepository.deleteByBoardId(board.getId())).isEqualTo(1);
+        entityManager.clear();      // 벌크 쿼리는 영속성 컨텍스트를 거치지 않음
+        assertThat(boardSignatureRepository.findById(board.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,63 @@
+package com.library.board;
+
+import com.library.entity.base.IdSequences;
+import com.library.service.IdSequenceMigrator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    IdSequenceMigrator 테스트 (H2 - 실제 시퀀스)
+        - AUTO_INCREMENT 시절의 큰 id가 있으면 시퀀스를 MAX(id) + ALLOCATION_SIZE + 1 이상으로 옮기는가?
+        - 다시 실행해도 시퀀스를 되돌리지 않는가?
+        - H2는 ALTER SEQUENCE가 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 넣은 행은 직접 지움
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import(IdSequenceMigrator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdSequenceMigratorTest {
+
+    private static final long LEGACY_ID = 5_000L;
+
+    @Autowired
+    private IdSequenceMigrator idSequenceMigrator;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM members WHERE member_id = ?", LEGACY_ID);
+    }
+
+    private long nextMemberId() {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR members_seq", Long.class);
+    }
+
+    @Test
+    @DisplayName("기존 행의 MAX(id) 뒤로 시퀀스 이동 - 다시 실행해도 되돌리지 않음")
+    void 시퀀스가MAX_id뒤에서시작() {
+        // Given - IDENTITY로 쌓인 것처럼 id를 직접 넣은 회원
+        jdbcTemplate.update("INSERT INTO members (member_id, email, password, name) VALUES (?, ?, ?, ?)",
+                LEGACY_ID, "legacy-seq@library.com", "password123", "허준");
+
+        // When
+        idSequenceMigrator.afterSingletonsInstantiated();
+        long first = nextMemberId();
+        idSequenceMigrator.afterSingletonsInstantiated();
+        long second = nextMemberId();
+
+        // Then
+        assertThat(first).isGreaterThanOrEqualTo(LEGACY_ID + IdSequences.ALLOCATION_SIZE + 1);
+        assertThat(second).isGreaterThan(first);
+    }
+}
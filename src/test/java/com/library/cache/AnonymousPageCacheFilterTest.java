@@ -0,0 +1,112 @@
+package com.library.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/*
+    AnonymousPageCacheFilter 통합 테스트 (MockMvc)
+        - 처음은 MISS, 다음은 HIT - 세션/쿠키/CSRF 토큰 없이 렌더링되는가?
+        - stale이 되면 요청 하나만 다시 렌더링하고 나머지는 STALE로 응답하는가?
+        - 세션이 있는 방문자의 렌더링은 저장하지 않는가? (CSRF 토큰이 다른 사람에게 가지 않도록)
+        - 저장된 ETag와 같으면 304인가?
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AnonymousPageCacheFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AnonymousPageCache pageCache;
+
+    private String url;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 다른 캐시 키 (컨트롤러는 모르는 매개변수를 무시)
+        url = "/boards?t=" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("처음은 MISS, 다음은 HIT - 세션, 쿠키, CSRF 토큰 없음")
+    void 첫요청MISS_다음요청HIT() throws Exception {
+        // When
+        MvcResult first = mockMvc.perform(get(url)).andReturn();
+        MvcResult second = mockMvc.perform(get(url)).andReturn();
+
+        // Then
+        assertThat(first.getResponse().getHeader("X-Page-Cache")).isEqualTo("MISS");
+        assertThat(first.getRequest().getSession(false)).isNull();
+        assertThat(first.getResponse().getHeader(HttpHeaders.SET_COOKIE)).isNull();
+        assertThat(first.getResponse().getContentAsString()).doesNotContain("name=\"_csrf\"");
+        assertThat(second.getResponse().getHeader("X-Page-Cache")).isEqualTo("HIT");
+        assertThat(second.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("stale - 다른 요청이 다시 렌더링 중이면 STALE, 아니면 다시 렌더링(MISS)")
+    void stale_한요청만다시렌더링() throws Exception {
+        // Given
+        mockMvc.perform(get(url));
+        pageCache.invalidateLists();
+        AnonymousPageCache.Entry entry = pageCache.get(url);
+
+        // When - 다른 요청이 다시 렌더링하는 중
+        assertThat(entry.tryStartRefresh()).isTrue();
+        MockHttpServletResponse whileRefreshing = mockMvc.perform(get(url)).andReturn().getResponse();
+        entry.cancelRefresh();
+        MockHttpServletResponse refresher = mockMvc.perform(get(url)).andReturn().getResponse();
+        MockHttpServletResponse after = mockMvc.perform(get(url)).andReturn().getResponse();
+
+        // Then
+        assertThat(whileRefreshing.getHeader("X-Page-Cache")).isEqualTo("STALE");
+        assertThat(refresher.getHeader("X-Page-Cache")).isEqualTo("MISS");
+        assertThat(after.getHeader("X-Page-Cache")).isEqualTo("HIT");
+    }
+
+    @Test
+    @DisplayName("세션이 있는 방문자의 렌더링은 저장하지 않음")
+    void 세션있는방문자_저장안함() throws Exception {
+        // When
+        MockHttpServletResponse withSession = mockMvc.perform(get(url).session(new MockHttpSession()))
+                .andReturn().getResponse();
+        MockHttpServletResponse next = mockMvc.perform(get(url)).andReturn().getResponse();
+
+        // Then
+        assertThat(withSession.getHeader("X-Page-Cache")).isEqualTo("MISS");
+        assertThat(next.getHeader("X-Page-Cache")).isEqualTo("MISS");
+        assertThat(pageCache.get(url)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("저장된 ETag와 같으면 본문 없이 304")
+    void HIT_ETag일치시304() throws Exception {
+        // Given
+        mockMvc.perform(get(url));
+        String eTag = pageCache.get(url).getETag();
+
+        // When
+        MockHttpServletResponse response = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andReturn().getResponse();
+
+        // Then
+        assertThat(eTag).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("X-Page-Cache")).isEqualTo("HIT");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}
@@ -0,0 +1,65 @@
+package com.library.cache;
+
+import com.library.entity.board.BoardStatus;
+import com.library.event.BoardChangedEvent;
+import com.library.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+    BoardRanking 단위 테스트 (ACTIVE 게시글 수)
+        - 첫 재구성 전에는 empty인가?
+        - 재구성 때 한 번 세고, 작성/삭제 이벤트로 ±1 하는가?
+ */
+@ExtendWith(MockitoExtension.class)
+class BoardRankingTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private BoardRanking boardRanking;
+
+    @BeforeEach
+    void setUp() {
+        boardRanking = new BoardRanking(boardRepository, 10);
+    }
+
+    @Test
+    @DisplayName("첫 재구성 전에는 empty - 이벤트가 와도 세지 않음")
+    void activeCount_재구성전empty() {
+        // When
+        boardRanking.onBoardChanged(new BoardChangedEvent(1L, BoardChangedEvent.Type.CREATED, false));
+
+        // Then
+        assertThat(boardRanking.activeCount()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성 때 한 번 세고, 작성/삭제 커밋 후 ±1 (DB는 다시 세지 않음)")
+    void activeCount_재구성후증감() {
+        // Given
+        when(boardRepository.countByStatus(BoardStatus.ACTIVE)).thenReturn(5L);
+        boardRanking.rebuild();
+
+        // When
+        boardRanking.onBoardChanged(new BoardChangedEvent(6L, BoardChangedEvent.Type.CREATED, false));
+        boardRanking.onBoardChanged(new BoardChangedEvent(7L, BoardChangedEvent.Type.CREATED, false));
+        boardRanking.onBoardChanged(new BoardChangedEvent(1L, BoardChangedEvent.Type.DELETED, false));
+        boardRanking.onBoardChanged(new BoardChangedEvent(2L, BoardChangedEvent.Type.UPDATED, false));
+
+        // Then
+        assertThat(boardRanking.activeCount()).isEqualTo(OptionalLong.of(6));
+        verify(boardRepository, times(1)).countByStatus(BoardStatus.ACTIVE);
+    }
+}
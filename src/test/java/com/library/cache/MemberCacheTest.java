@@ -0,0 +1,123 @@
+package com.library.cache;
+
+import com.library.dto.member.MemberPrincipal;
+import com.library.entity.member.Member;
+import com.library.event.MemberChangedEvent;
+import com.library.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+    MemberCache 단위 테스트
+        - 같은 이메일(대소문자 무시)을 다시 조회하면 DB를 거치지 않는가?
+        - 없는 이메일도 캐시되는가? (negative caching)
+        - 회원 변경 이벤트로 무효화되는가?
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberCache memberCache;
+
+    @BeforeEach
+    void setUp() {
+        memberCache = new MemberCache(memberRepository, 100, 600, 30);
+    }
+
+    @Test
+    @DisplayName("같은 이메일은 한 번만 조회")
+    void findByEmail_캐시() {
+        // Given
+        when(memberRepository.findByEmail("test@library.com")).thenReturn(Optional.of(member()));
+
+        // When
+        Optional<MemberCache.Entry> first = memberCache.findByEmail("test@library.com");
+        Optional<MemberCache.Entry> second = memberCache.findByEmail("test@library.com");
+
+        // Then
+        assertThat(first).get().extracting(MemberCache.Entry::id).isEqualTo(1L);
+        assertThat(second).isSameAs(first);
+        verify(memberRepository, times(1)).findByEmail("test@library.com");
+    }
+
+    @Test
+    @DisplayName("없는 이메일도 캐시 - 가입 이벤트 후에는 다시 조회")
+    void findByEmail_없는이메일캐시후무효화() {
+        // Given
+        when(memberRepository.findByEmail("new@library.com"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(member("new@library.com")));
+
+        // When
+        boolean before = memberCache.existsByEmail("new@library.com");
+        boolean cached = memberCache.existsByEmail("new@library.com");
+        memberCache.onMemberChanged(new MemberChangedEvent(1L, "new@library.com"));
+        boolean after = memberCache.existsByEmail("new@library.com");
+
+        // Then
+        assertThat(before).isFalse();
+        assertThat(cached).isFalse();
+        assertThat(after).isTrue();
+        verify(memberRepository, times(2)).findByEmail("new@library.com");
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 이메일은 같은 키 - 무효화도 함께")
+    void findByEmail_대소문자무시() {
+        // Given
+        when(memberRepository.findByEmail("Test@Library.com")).thenReturn(Optional.of(member()));
+
+        // When
+        Optional<MemberCache.Entry> first = memberCache.findByEmail("Test@Library.com");
+        Optional<MemberCache.Entry> second = memberCache.findByEmail("test@library.com");
+        memberCache.onMemberChanged(new MemberChangedEvent(1L, "TEST@library.com"));
+        memberCache.findByEmail("Test@Library.com");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(memberRepository, times(2)).findByEmail("Test@Library.com");
+    }
+
+    @Test
+    @DisplayName("로그인마다 새 principal - 비밀번호를 지워도 캐시 값은 그대로")
+    void toPrincipal_캐시값보존() {
+        // Given
+        when(memberRepository.findByEmail("test@library.com")).thenReturn(Optional.of(member()));
+        MemberCache.Entry entry = memberCache.findByEmail("test@library.com").orElseThrow();
+
+        // When
+        MemberPrincipal principal = entry.toPrincipal();
+        principal.eraseCredentials();
+
+        // Then
+        assertThat(principal.getPassword()).isNull();
+        assertThat(memberCache.findByEmail("test@library.com").orElseThrow().toPrincipal().getPassword())
+                .isEqualTo("encoded");
+    }
+
+    private Member member() {
+        return member("test@library.com");
+    }
+
+    private Member member(String email) {
+        return Member.builder()
+                .id(1L)
+                .email(email)
+                .password("encoded")
+                .name("이순신")
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.library.cache;
+
+import com.library.dto.board.BoardListDTO;
+import com.library.entity.board.Board;
+import com.library.entity.board.BoardCategory;
+import com.library.entity.board.BoardStatus;
+import com.library.entity.member.Member;
+import com.library.event.BoardChangedEvent;
+import com.library.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+    NoticeCache 단위 테스트
+        - 목록 조회(getNotices)는 DB를 거치지 않는가?
+        - 공지와 관련된 변경 이벤트에서만 다시 읽는가?
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeCacheTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private NoticeCache noticeCache;
+
+    @BeforeEach
+    void setUp() {
+        noticeCache = new NoticeCache(boardRepository, 5);
+    }
+
+    @Test
+    @DisplayName("갱신 후 목록 조회는 저장소를 호출하지 않음")
+    void getNotices_스냅샷에서조회() {
+        // Given
+        when(boardRepository.findLatestByCategoryWithAuthor(eq(BoardStatus.ACTIVE), eq(BoardCategory.NOTICE), any(Pageable.class)))
+                .thenReturn(List.of(notice(1L, "휴관 안내")));
+        noticeCache.refresh();
+
+        // When
+        List<BoardListDTO> first = noticeCache.getNotices();
+        List<BoardListDTO> second = noticeCache.getNotices();
+
+        // Then
+        assertThat(first).extracting(BoardListDTO::getTitle).containsExactly("휴관 안내");
+        assertThat(second).isSameAs(first);
+        verify(boardRepository, times(1)).findLatestByCategoryWithAuthor(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("공지 관련 변경 이벤트에서만 다시 읽음")
+    void onBoardChanged_공지일때만갱신() {
+        // Given
+        when(boardRepository.findLatestByCategoryWithAuthor(any(), any(), any())).thenReturn(List.of());
+
+        // When
+        noticeCache.onBoardChanged(new BoardChangedEvent(10L, BoardChangedEvent.Type.UPDATED, false));
+
+        // Then
+        verify(boardRepository, never()).findLatestByCategoryWithAuthor(any(), any(), any());
+
+        // When
+        noticeCache.onBoardChanged(new BoardChangedEvent(11L, BoardChangedEvent.Type.DELETED, true));
+
+        // Then
+        verify(boardRepository, times(1)).findLatestByCategoryWithAuthor(any(), any(), any());
+        assertThat(noticeCache.getNotices()).isEmpty();
+    }
+
+    private Board notice(Long id, String title) {
+        return Board.builder()
+                .id(id)
+                .title(title)
+                .category(BoardCategory.NOTICE)
+                .author(Member.builder().name("관리자").build())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.library.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    TopK 단위 테스트
+        - 들어 있는 항목이 항상 정확한 상위 목록인지 (순서를 알 수 없는 항목을 넣지 않는지)
+        - 범위를 벗어난 페이지는 DB 조회로 넘기는지
+ */
+class TopKTest {
+
+    private TopK topK(int capacity, long... idScorePairs) {
+        TopK topK = new TopK(capacity);
+        List<TopK.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < idScorePairs.length; i += 2) {
+            entries.add(new TopK.Entry(idScorePairs[i], idScorePairs[i + 1]));
+        }
+        topK.reset(entries);
+        return topK;
+    }
+
+    @Test
+    @DisplayName("증가분 반영 후 순서가 바뀜")
+    void add_순위변경() {
+        // Given - 1:30, 2:20, 3:10
+        TopK topK = topK(3, 1, 30, 2, 20, 3, 10);
+
+        // When
+        topK.add(3, 25);
+
+        // Then
+        assertThat(topK.page(0, 3, 10)).contains(List.of(3L, 1L, 2L));
+    }
+
+    @Test
+    @DisplayName("밖의 항목은 마지막 항목보다 앞설 때만 들어오고, 넘치면 마지막 항목이 빠짐")
+    void offer_자격있을때만추가() {
+        // Given
+        TopK topK = topK(3, 1, 30, 2, 20, 3, 10);
+
+        // When - 마지막(10)보다 낮음 → 무시
+        topK.offer(4, 5);
+        // When - 마지막보다 높음 → 추가, 3번 탈락
+        topK.offer(5, 15);
+
+        // Then
+        assertThat(topK.contains(4)).isFalse();
+        assertThat(topK.contains(3)).isFalse();
+        assertThat(topK.page(0, 3, 10)).contains(List.of(1L, 2L, 5L));
+    }
+
+    @Test
+    @DisplayName("밖의 항목은 절대값 없이 증가분만으로는 반영하지 않음")
+    void add_밖의항목은false() {
+        TopK topK = topK(2, 1, 30, 2, 20);
+
+        assertThat(topK.add(9, 100)).isFalse();
+        assertThat(topK.contains(9)).isFalse();
+    }
+
+    @Test
+    @DisplayName("점수가 내려가 마지막보다 뒤로 가면 빠지고, 그만큼 응답 가능한 범위가 줄어듦")
+    void add_감소하면제거() {
+        // Given
+        TopK topK = topK(3, 1, 30, 2, 20, 3, 10);
+
+        // When
+        topK.add(1, -25);
+
+        // Then
+        assertThat(topK.contains(1)).isFalse();
+        assertThat(topK.page(0, 2, 10)).contains(List.of(2L, 3L));
+        assertThat(topK.page(0, 3, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체가 다 들어 있으면 마지막 페이지도 응답")
+    void page_전체가들어있으면마지막페이지응답() {
+        TopK topK = topK(10, 1, 30, 2, 20, 3, 10);
+
+        assertThat(topK.page(2, 2, 3)).contains(List.of(3L));
+        assertThat(topK.page(2, 2, 4)).isEmpty();
+    }
+}
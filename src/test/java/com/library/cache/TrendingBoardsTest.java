@@ -0,0 +1,84 @@
+package com.library.cache;
+
+import com.library.dto.board.TrendingBoardDTO;
+import com.library.entity.board.BoardStatus;
+import com.library.repository.BoardRepository;
+import com.library.repository.BoardRepository.BoardTitle;
+import com.library.service.BoardVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+    TrendingBoards 단위 테스트
+        - 스냅샷은 활동 점수 순이고, 제목은 id/제목 프로젝션으로만 읽는가? (엔티티 조회 없음)
+        - 스냅샷이 바뀔 때만 목록 페이지 검증값(trendingChanged)을 바꾸는가?
+        - 다운로드는 목록 페이지 카운터 버전을 올리는가?
+ */
+@ExtendWith(MockitoExtension.class)
+class TrendingBoardsTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private BoardVersionService boardVersionService;
+
+    private TrendingBoards trendingBoards;
+
+    @BeforeEach
+    void setUp() {
+        trendingBoards = new TrendingBoards(boardRepository, boardVersionService, 4, 256, 10, 5, 60, 1, 2, 3);
+    }
+
+    private static BoardTitle title(Long id, String title) {
+        return new BoardTitle() {
+            public Long getId() { return id; }
+            public String getTitle() { return title; }
+            public Long getViewCount() { return 0L; }
+        };
+    }
+
+    @Test
+    @DisplayName("점수 순 스냅샷 - 제목은 프로젝션으로, 같은 스냅샷이면 검증값을 바꾸지 않음")
+    void publish_프로젝션조회와버전() {
+        // Given - 2번 글 다운로드(2점) x2, 1번 글 조회(1점)
+        when(boardRepository.findTitlesByIdIn(anyCollection(), eq(BoardStatus.ACTIVE)))
+                .thenReturn(List.of(title(1L, "공지"), title(2L, "자료실")));
+        trendingBoards.recordView(1L);
+        trendingBoards.recordDownload(2L);
+        trendingBoards.recordDownload(2L);
+
+        // When
+        trendingBoards.publish();
+        trendingBoards.publish();
+
+        // Then
+        assertThat(trendingBoards.getTrending()).extracting(TrendingBoardDTO::getTitle).containsExactly("자료실", "공지");
+        verify(boardRepository, never()).findAllById(anyCollection());
+        verify(boardVersionService, times(1)).trendingChanged();
+        verify(boardVersionService, times(2)).counterChanged();
+    }
+
+    @Test
+    @DisplayName("활동이 없으면 조회하지 않고 검증값도 그대로")
+    void publish_후보없음() {
+        trendingBoards.publish();
+
+        assertThat(trendingBoards.getTrending()).isEmpty();
+        verify(boardRepository, never()).findTitlesByIdIn(anyCollection(), eq(BoardStatus.ACTIVE));
+        verify(boardVersionService, never()).trendingChanged();
+    }
+}
@@ -0,0 +1,132 @@
+package com.library.comment;
+
+import com.library.dto.board.CommentCreateDTO;
+import com.library.dto.member.MemberPrincipal;
+import com.library.entity.board.Board;
+import com.library.entity.board.CommentStatus;
+import com.library.entity.member.Member;
+import com.library.repository.BoardRepository;
+import com.library.repository.CommentRepository;
+import com.library.repository.MemberRepository;
+import com.library.service.CommentService;
+import com.library.service.CommentWritePipeline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    댓글 작성 방식 성능 비교 (요청마다 커밋 vs 묶음 커밋)
+        - gradle benchmark --tests '*CommentPipelineBenchmark*' 로 실행 (일반 test 태스크에서는 제외)
+        - 한 게시글에 THREADS개 스레드가 동시에 댓글을 PER_THREAD개씩 작성
+        - 방식별 처리량(건/초)과 요청 지연 p50/p99를 출력
+        - 기본은 메모리 H2 : 커밋(디스크 동기화) 비용이 거의 없어 실제 DB보다 차이가 작게 나옴
+            - 실제 차이는 SPRING_DATASOURCE_* 환경 변수로 MySQL을 지정해서 확인할 것
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=${SPRING_DATASOURCE_URL:jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1}",
+        "spring.datasource.driverClassName=${SPRING_DATASOURCE_DRIVERCLASSNAME:org.h2.Driver}",
+        "spring.datasource.username=${SPRING_DATASOURCE_USERNAME:sa}",
+        "spring.datasource.password=${SPRING_DATASOURCE_PASSWORD:}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.com.library=INFO",
+        "comment.spam.enabled=false",
+        "comment.batch.enabled=true"
+})
+class CommentPipelineBenchmark {
+
+    private static final int THREADS = 32;
+    private static final int PER_THREAD = 200;
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentWritePipeline commentWritePipeline;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("요청마다 커밋 vs 묶음 커밋 - 처리량과 지연")
+    void compare() throws Exception {
+        // Given
+        Member author = memberRepository.save(Member.builder()
+                .email("bench@library.com").password("pw").name("벤치").phone("010-0000-0000").address("서울").build());
+        Board board = boardRepository.save(Board.builder()
+                .title("라이브 이벤트").content("댓글이 몰리는 게시글").author(author).viewCount(0L).build());
+        Long boardId = board.getId();
+        MemberPrincipal principal = MemberPrincipal.from(author);
+
+        // 워밍업 (JIT, 커넥션 풀)
+        run("warm-up", i -> commentService.createComment(boardId, comment(i), principal));
+        run("warm-up", i -> commentWritePipeline.createComment(boardId, comment(i), principal));
+
+        // When
+        Result direct = run("요청마다 커밋", i -> commentService.createComment(boardId, comment(i), principal));
+        Result batched = run("묶음 커밋", i -> commentWritePipeline.createComment(boardId, comment(i), principal));
+
+        // Then : 두 방식 모두 빠짐없이 저장되고 댓글 수가 맞아야 함
+        long expected = 4L * THREADS * PER_THREAD;
+        assertThat(commentRepository.countByBoardIdAndStatus(boardId, CommentStatus.ACTIVE))
+                .isEqualTo(expected);
+        assertThat(boardRepository.findById(boardId).orElseThrow().getCommentCount()).isEqualTo(expected);
+        System.out.printf("묶음 커밋 처리량 배율: %.2fx%n", batched.throughput() / direct.throughput());
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis) {}
+
+    private Result run(String name, Consumer<Integer> write) throws Exception {
+        long[] latencies = new long[THREADS * PER_THREAD];
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int n = 0; n < PER_THREAD; n++) {
+                        int index = thread * PER_THREAD + n;
+                        long begin = System.nanoTime();
+                        write.accept(index);
+                        latencies[index] = System.nanoTime() - begin;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        Result result = new Result(latencies.length / seconds,
+                latencies[latencies.length / 2] / 1e6,
+                latencies[(int) (latencies.length * 0.99)] / 1e6);
+        System.out.printf("[%s] %d건, %.0f건/초, p50 %.2fms, p99 %.2fms%n",
+                name, latencies.length, result.throughput(), result.p50Millis(), result.p99Millis());
+        return result;
+    }
+
+    private static CommentCreateDTO comment(int index) {
+        return CommentCreateDTO.builder().content("라이브 댓글 " + index).build();
+    }
+}
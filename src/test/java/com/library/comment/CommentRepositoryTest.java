@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 
@@ -24,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         - 테스트 항목
             - findByBoardIdAndStatus : 게시글 ID와 상태별 댓글 조회
             - countByBoardIdAndStatus : 게시글 ID와 상태별 댓글 갯수 조회
+            - findThreadByBoardId / findSubtree : 답글 스레드 순서(path 순) 조회
             - @AutoConfigureTestDatabase
                 - application.yml에 설정된 DB를 무시하고, 
                   테스트용 embedded database로 교체
@@ -159,4 +161,47 @@ public class CommentRepositoryTest {
 
 
     }
+
+    /*
+        답글 스레드 순서 검증
+            - path 순 = 부모 바로 뒤에 그 답글들 (같은 부모의 답글은 작성 순)
+            - 서브트리 범위 조회는 그 댓글 아래 답글만 키셋 페이지로 가져오는가?
+     */
+    @Test
+    void findThreadByBoardId_스레드순서() {
+        // Given : 루트1 ─ 답글1-1 ─ 답글1-1-1, 루트1 ─ 답글1-2, 루트2
+        Comment root1 = saveComment("루트1", null);
+        Comment root2 = saveComment("루트2", null);
+        Comment reply11 = saveComment("답글1-1", root1);
+        Comment reply12 = saveComment("답글1-2", root1);
+        Comment reply111 = saveComment("답글1-1-1", reply11);
+
+        // When
+        List<Comment> thread = commentRepository.findThreadByBoardId(testBoard.getId());
+        List<Comment> subtree = commentRepository.findSubtree(testBoard.getId(), root1.getPath(), root1.getPath() + ":",
+                PageRequest.of(0, 2));
+        List<Comment> nextPage = commentRepository.findSubtree(testBoard.getId(), subtree.get(1).getPath(), root1.getPath() + ":",
+                PageRequest.of(0, 2));
+
+        // Then
+        assertThat(thread).extracting(Comment::getContent)
+                .containsExactly("루트1", "답글1-1", "답글1-1-1", "답글1-2", "루트2");
+        assertThat(reply111.getDepth()).isEqualTo(2);
+        assertThat(subtree).extracting(Comment::getContent).containsExactly("답글1-1", "답글1-1-1");
+        assertThat(nextPage).extracting(Comment::getContent).containsExactly("답글1-2");
+        assertThat(root2.getPath()).isGreaterThan(reply12.getPath());
+    }
+
+    // 댓글 저장 (path는 persist 때 채워짐)
+    private Comment saveComment(String content, Comment parent) {
+        Comment comment = commentRepository.save(Comment.builder()
+                .content(content)
+                .board(testBoard)
+                .author(testAuthor)
+                .parent(parent)
+                .status(CommentStatus.ACTIVE)
+                .build());
+        commentRepository.flush();
+        return comment;
+    }
 }
@@ -2,6 +2,7 @@ package com.library.comment;
 
 import com.library.dto.board.CommentCreateDTO;
 import com.library.dto.board.CommentDTO;
+import com.library.dto.member.MemberPrincipal;
 import com.library.entity.board.Board;
 import com.library.entity.board.Comment;
 import com.library.entity.member.Member;
@@ -9,20 +10,27 @@ import com.library.repository.BoardRepository;
 import com.library.repository.CommentRepository;
 import com.library.repository.MemberRepository;
 import com.library.service.CommentService;
+import com.library.service.CommentSpamFilter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 
 
 /*
@@ -44,6 +52,10 @@ public class CommentServiceTest {
     private BoardRepository boardRepository;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private CommentSpamFilter commentSpamFilter;
 
     @InjectMocks    // 테스트 대상 : Mock 객체들이 주입된 실제 Service
     private CommentService commentService;
@@ -70,7 +82,9 @@ public class CommentServiceTest {
                 .build();
         // Mock 작성자 엔티티 생성
         Member author = Member.builder()
+                .id(10L)
                 .email(loginId)
+                .password("encoded")
                 .name("이순신")
                 .build();
         // Mock Comment 엔티티 생성
@@ -84,19 +98,63 @@ public class CommentServiceTest {
         );
 
         // Mock 동작 정의
-        // boardRepository.findById() 메서드가 호출되면 board를 반환
-        when(boardRepository.findById(boardId)).thenReturn(Optional.of(board));
-        // memberRepository.findByEmail() 메서드가 호출되면 author를 반환
-        when(memberRepository.findByEmail(loginId)).thenReturn(Optional.of(author));
+        // 게시글 존재
+        when(boardRepository.existsById(boardId)).thenReturn(true);
+        // getReferenceById() : 조회 없이 외래키용 프록시 반환
+        when(boardRepository.getReferenceById(boardId)).thenReturn(board);
+        when(memberRepository.getReferenceById(author.getId())).thenReturn(author);
         // commentRepository.save() 메서드가 호출되면 comment 반환
         when(commentRepository.save(any(Comment.class))).thenReturn(comment);
 
         // when : 실제 테스트 대상 메서드 실행
-        CommentDTO result = commentService.createComment(boardId, dto, loginId);
+        CommentDTO result = commentService.createComment(boardId, dto, MemberPrincipal.from(author));
 
         // then : 결과 검증
         assertThat(result.getContent()).isEqualTo("테스트 댓글");
+        assertThat(result.getAuthorName()).isEqualTo("이순신");
         verify(commentRepository, times(1)).save(any(Comment.class));
+        InOrder order = inOrder(commentRepository, boardRepository);     // 댓글 수 UPDATE는 저장 뒤 (마지막)
+        order.verify(commentRepository).save(any(Comment.class));
+        order.verify(boardRepository).addCommentCount(boardId, 1);
+        verify(memberRepository, never()).findByEmail(any());      // 작성자 조회 없음
+    }
+
+    /*
+        게시글이 없을 때 예외 발생
+            - 없는 게시글이면 댓글을 저장하지 않고, 댓글 수도 바꾸지 않는가?
+     */
+    @Test
+    void createComment_게시글없음(){
+        // Given
+        Member author = Member.builder().id(10L).email("test@library.com").name("이순신").password("encoded").build();
+        CommentCreateDTO dto = CommentCreateDTO.builder().content("테스트 댓글").build();
+        when(boardRepository.existsById(99L)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> commentService.createComment(99L, dto, MemberPrincipal.from(author)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("게시글을 찾을 수 없습니다.");
+        verify(commentRepository, never()).save(any(Comment.class));
+        verify(boardRepository, never()).addCommentCount(any(), anyLong());
+    }
+
+    /*
+        작성자 확인은 id 비교
+            - 다른 회원의 댓글은 삭제할 수 없는가? (회원 조회 없이)
+     */
+    @Test
+    void deleteComment_작성자아님(){
+        // Given
+        Member author = Member.builder().id(10L).email("test@library.com").name("이순신").password("encoded").build();
+        Member other = Member.builder().id(20L).email("other@library.com").name("홍길동").password("encoded").build();
+        Comment comment = Comment.builder().id(1L).content("테스트 댓글").author(author).build();
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+
+        // When / Then
+        assertThatThrownBy(() -> commentService.deleteComment(1L, MemberPrincipal.from(other)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("댓글 작성자만 삭제할 수 있습니다.");
+        verify(memberRepository, never()).findByEmail(any());
     }
     private Comment createCommentWithDates(
             Long id,
@@ -0,0 +1,61 @@
+package com.library.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    BCrypt cost별 해시 시간 측정 - password-hash.strength 결정용
+        - gradle benchmark --tests '*BCryptCostBenchmark*' 로 실행 (일반 test 태스크에서는 제외)
+        - 운영과 같은 사양의 서버에서 실행할 것 (cost가 1 오를 때마다 시간이 약 2배)
+        - cost마다 워밍업 후 검증(matches)을 ROUNDS번 실행해 p50/p99와 코어당 초당 처리 수를 출력
+        - 추천 : p50이 TARGET_MS 이하인 가장 큰 cost
+            - 로그인 처리량 상한 ≈ (password-hash.threads) × (코어당 초당 처리 수)
+ */
+@Tag("benchmark")
+class BCryptCostBenchmark {
+
+    private static final int MIN_COST = 8;
+    private static final int MAX_COST = 14;
+    private static final int WARM_UP = 3;
+    private static final int ROUNDS = 20;
+    private static final double TARGET_MS = 100;
+
+    @Test
+    @DisplayName("cost별 해시 시간과 추천 cost")
+    void compare() {
+        int recommended = MIN_COST;
+        System.out.printf("%-6s %10s %10s %12s%n", "cost", "p50(ms)", "p99(ms)", "per core/s");
+        for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            String encoded = encoder.encode("password123!");
+            for (int i = 0; i < WARM_UP; i++) {
+                encoder.matches("password123!", encoded);
+            }
+
+            long[] nanos = new long[ROUNDS];
+            for (int i = 0; i < ROUNDS; i++) {
+                long started = System.nanoTime();
+                assertThat(encoder.matches("password123!", encoded)).isTrue();
+                nanos[i] = System.nanoTime() - started;
+            }
+            Arrays.sort(nanos);
+            double p50 = nanos[ROUNDS / 2] / 1_000_000.0;
+            double p99 = nanos[(int) Math.ceil(ROUNDS * 0.99) - 1] / 1_000_000.0;
+            System.out.printf("%-6d %10.1f %10.1f %12.1f%n", cost, p50, p99, 1000 / p50);
+
+            if (p50 <= TARGET_MS) {
+                recommended = cost;
+            }
+            if (p50 > TARGET_MS * 4) {
+                break;      // 그 이상은 측정할 필요 없음
+            }
+        }
+        System.out.printf("추천 password-hash.strength : %d (p50 %.0fms 이하)%n", recommended, TARGET_MS);
+    }
+}
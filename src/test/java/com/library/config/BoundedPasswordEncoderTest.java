@@ -0,0 +1,90 @@
+package com.library.config;
+
+import com.library.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    BoundedPasswordEncoder 단위 테스트
+        - 전용 풀에서 해시/검증이 되고 시간이 기록되는가?
+        - 대기열이 가득 차면 바로 거절되는가?
+        - 대기 시간을 넘기면 거절되는가?
+ */
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("해시와 검증 - 해시 시간이 기록됨")
+    void encode_matches() {
+        // Given
+        encoder = new BoundedPasswordEncoder(meterRegistry, 4, 2, 8, 2000);
+
+        // When
+        String encoded = encoder.encode("password123!");
+
+        // Then
+        assertThat(encoder.matches("password123!", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hash.duration").tag("op", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.duration").tag("op", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스레드 1개, 대기열 1개가 차 있으면 세 번째 요청은 바로 거절")
+    void encode_대기열포화() throws Exception {
+        // Given - 느린 해시(cost 13) 하나 실행 중, 하나 대기 중
+        encoder = new BoundedPasswordEncoder(meterRegistry, 13, 1, 1, 30_000);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        awaitGauge("password.hash.active", 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitGauge("password.hash.queue", 1);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1);
+        assertThat(running.get()).startsWith("$2a$13$");
+        assertThat(queued.get()).startsWith("$2a$13$");
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 거절")
+    void matches_대기시간초과() throws Exception {
+        // Given - 느린 해시 하나 실행 중, 대기 시간 50ms
+        encoder = new BoundedPasswordEncoder(meterRegistry, 13, 1, 4, 50);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        awaitGauge("password.hash.active", 1);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.matches("second", "$2a$04$abcdefghijklmnopqrstuu"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+        running.get();
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.get(name).gauge().value() != expected; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get(name).gauge().value()).isEqualTo(expected);
+    }
+}
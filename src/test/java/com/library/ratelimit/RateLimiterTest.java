@@ -0,0 +1,138 @@
+package com.library.ratelimit;
+
+import com.library.ratelimit.RateLimiter.Action;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    RateLimiter 단위 테스트
+        - 용량만큼 허용한 뒤 거절하고, 다시 시도할 시간을 알려주는가?
+        - 키(IP/회원)마다 따로 세는가?
+        - 뒤의 키에서 거절되면 앞의 키 토큰을 돌려주는가?
+        - 실패 벌점이 남은 토큰을 줄이는가?
+        - 여러 스레드가 동시에 써도 용량을 넘겨 허용하지 않는가?
+ */
+class RateLimiterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 로그인 : 용량 3, 분당 1개 충전, 실패 벌점 2
+    private RateLimiter rateLimiter(boolean enabled) {
+        return new RateLimiter(meterRegistry, enabled, 1000, 3, 1, 2, 5, 1, 10, 20);
+    }
+
+    @Test
+    @DisplayName("용량만큼 허용 후 거절 - 다시 시도할 시간은 토큰 하나 충전 시간 이내")
+    void tryAcquire_용량초과() {
+        // Given
+        RateLimiter rateLimiter = rateLimiter(true);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(Action.LOGIN, "ip:1.1.1.1")).isZero();
+        }
+        long wait = rateLimiter.tryAcquire(Action.LOGIN, "ip:1.1.1.1");
+
+        // Then
+        assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.MINUTES.toNanos(1));
+        assertThat(meterRegistry.get("rate.limit.requests").tag("action", "login").tag("result", "rejected")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키마다 따로 셈 - IP가 남아 있어도 회원 키가 비면 거절")
+    void tryAcquire_키별() {
+        // Given
+        RateLimiter rateLimiter = rateLimiter(true);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(Action.LOGIN, "ip:1.1.1." + i, "email:target@library.com");
+        }
+
+        // When & Then
+        assertThat(rateLimiter.tryAcquire(Action.LOGIN, "ip:2.2.2.2")).isZero();
+        assertThat(rateLimiter.tryAcquire(Action.LOGIN, "ip:3.3.3.3", "email:target@library.com")).isPositive();
+        assertThat(rateLimiter.tryAcquire(Action.REGISTER, "ip:1.1.1.0")).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 키에서 거절되면 IP 토큰은 쓰지 않음 - 같은 IP의 다른 회원은 계속 허용")
+    void tryAcquire_거절시앞의키환불() {
+        // Given - target 회원 키를 다른 IP들로 다 씀
+        RateLimiter rateLimiter = rateLimiter(true);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(Action.LOGIN, "ip:1.1.1." + i, "email:target@library.com");
+        }
+
+        // When - 한 IP에서 target으로 여러 번 거절됨
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire(Action.LOGIN, "ip:2.2.2.2", "email:target@library.com")).isPositive();
+        }
+
+        // Then - 그 IP의 토큰 3개는 그대로
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(Action.LOGIN, "ip:2.2.2.2", "email:other" + i + "@library.com")).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("실패 벌점 - 용량 3에서 한 번 쓰고 벌점 2를 받으면 바로 거절")
+    void penalize_벌점() {
+        // Given
+        RateLimiter rateLimiter = rateLimiter(true);
+        rateLimiter.tryAcquire(Action.LOGIN, "ip:1.1.1.1");
+
+        // When
+        rateLimiter.penalize(Action.LOGIN, "ip:1.1.1.1", null);
+
+        // Then
+        assertThat(rateLimiter.tryAcquire(Action.LOGIN, "ip:1.1.1.1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 항상 허용")
+    void tryAcquire_꺼짐() {
+        RateLimiter rateLimiter = rateLimiter(false);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.tryAcquire(Action.LOGIN, "ip:1.1.1.1")).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 써도 용량(10)만큼만 허용")
+    void tryAcquire_동시성() throws Exception {
+        // Given - 댓글 : 용량 10, 분당 20개 충전 (테스트 시간 동안 거의 충전되지 않음)
+        RateLimiter rateLimiter = rateLimiter(true);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(executor.submit(() -> {
+                if (rateLimiter.tryAcquire(Action.COMMENT, "member:1") == 0) {
+                    allowed.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(allowed.get()).isBetween(10, 11);
+    }
+}
@@ -0,0 +1,78 @@
+package com.library.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    IndexRebuilder 단위 테스트
+        - 만드는 동안 기록된 변경을 교체 때 넘기고, 교체 후 다시 반영하는가?
+        - 만들다 실패하면 교체하지 않고, 이후 변경은 기록하지 않는가?
+ */
+class IndexRebuilderTest {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final IndexRebuilder rebuilder = new IndexRebuilder(lock);
+
+    // 증분 갱신처럼 락 안에서 기록
+    private void change(long boardId) {
+        lock.lock();
+        try {
+            rebuilder.recordChanged(List.of(boardId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Test
+    @DisplayName("만드는 동안 바뀐 게시글만 교체 시 넘기고 교체 후 다시 반영")
+    void rebuild_변경재반영() {
+        // Given
+        change(1L);     // 재구성 전 변경은 기록하지 않음
+        Set<Long> swapped = new HashSet<>();
+        List<Set<Long>> replayed = new ArrayList<>();
+
+        // When
+        String rebuilt = rebuilder.rebuild(() -> {
+            change(7L);
+            change(9L);
+            return "새 색인";
+        }, (index, changed) -> {
+            assertThat(lock.isHeldByCurrentThread()).isTrue();
+            swapped.addAll(changed);
+        }, replayed::add);
+
+        // Then
+        assertThat(rebuilt).isEqualTo("새 색인");
+        assertThat(swapped).containsExactlyInAnyOrder(7L, 9L);
+        assertThat(replayed).containsExactly(Set.of(7L, 9L));
+    }
+
+    @Test
+    @DisplayName("만들다 실패하면 교체하지 않고 예외를 던짐 - 다음 재구성은 새로 기록")
+    void rebuild_실패() {
+        // Given
+        List<String> swapped = new ArrayList<>();
+
+        // When & Then
+        assertThatThrownBy(() -> rebuilder.rebuild(() -> {
+            change(3L);
+            throw new IllegalStateException("DB 연결 실패");
+        }, (index, changed) -> swapped.add("교체"), changed -> {})).isInstanceOf(IllegalStateException.class);
+        change(4L);
+
+        List<Set<Long>> replayed = new ArrayList<>();
+        rebuilder.rebuild(() -> "새 색인", (index, changed) -> swapped.add(index), replayed::add);
+
+        assertThat(swapped).containsExactly("새 색인");
+        assertThat(replayed).isEmpty();
+    }
+}
@@ -0,0 +1,105 @@
+package com.library.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    InvertedIndex / PostingList 단위 테스트
+        - BM25 순위 (빈도, 제목 가중치), AND 검색
+        - 수정/삭제 후 검색 결과와 통계
+        - 포스팅 리스트 varint 저장/읽기
+ */
+class InvertedIndexTest {
+
+    @Test
+    @DisplayName("검색어를 더 자주, 제목에 포함한 글이 앞에 옴")
+    void search_BM25순위() {
+        // Given
+        InvertedIndex index = new InvertedIndex(3);
+        index.put(1L, "공지", "도서관 휴관 안내");
+        index.put(2L, "도서관 이용 안내", "도서관 운영 시간");
+        index.put(3L, "잡담", "오늘 도서관에 다녀왔다 도서관 좋다 도서관");
+        index.put(4L, "잡담", "날씨가 좋다");
+
+        // When
+        InvertedIndex.Result result = index.search("도서관", 0, 10);
+
+        // Then - 제목 가중치(3배)를 받은 2번이 가장 앞, 본문 빈도가 높은 3번이 다음
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.boardIds()).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 단어를 포함한 글만 결과에 포함 (AND)")
+    void search_AND() {
+        InvertedIndex index = new InvertedIndex(3);
+        index.put(1L, "스프링 질문", "트랜잭션이 롤백되지 않아요");
+        index.put(2L, "스프링 후기", "책 추천합니다");
+
+        assertThat(index.search("스프링 트랜잭션", 0, 10).boardIds()).containsExactly(1L);
+        assertThat(index.search("스프링 없는단어", 0, 10).total()).isZero();
+        assertThat(index.search("  ", 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("offset/limit으로 페이지를 나누고 전체 수는 그대로")
+    void search_페이징() {
+        InvertedIndex index = new InvertedIndex(1);
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, "리뷰", "리뷰 ".repeat((int) id));
+        }
+
+        InvertedIndex.Result second = index.search("리뷰", 2, 2);
+
+        assertThat(second.total()).isEqualTo(5);
+        assertThat(second.boardIds()).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("수정하면 새 내용으로만, 삭제하면 검색되지 않음")
+    void putRemove_수정삭제() {
+        // Given
+        InvertedIndex index = new InvertedIndex(3);
+        index.put(1L, "도서 반납", "연체 안내");
+        index.put(2L, "도서 대출", "대출 기간");
+
+        // When - 1번 수정, 2번 삭제
+        index.put(1L, "열람실 안내", "좌석 예약");
+        index.remove(2L);
+
+        // Then
+        assertThat(index.search("도서", 0, 10).total()).isZero();
+        assertThat(index.search("열람실", 0, 10).boardIds()).containsExactly(1L);
+        assertThat(index.liveDocuments()).isEqualTo(1);
+        assertThat(index.deletedDocuments()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("포스팅 리스트는 증가 순서로 저장하고 같은 순서로 읽음")
+    void postingList_저장읽기() {
+        // Given
+        PostingList list = new PostingList();
+        list.add(3, 1);
+        list.add(200, 5);
+        list.add(70_000, 2);
+
+        // When
+        PostingList.Cursor cursor = list.cursor();
+
+        // Then
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.doc()).isEqualTo(3);
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.doc()).isEqualTo(200);
+        assertThat(cursor.tf()).isEqualTo(5);
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.doc()).isEqualTo(70_000);
+        assertThat(cursor.next()).isFalse();
+        assertThat(list.liveCount()).isEqualTo(3);
+        assertThat(list.sizeInBytes()).isLessThan(3 * 8);
+        assertThatThrownBy(() -> list.add(70_000, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
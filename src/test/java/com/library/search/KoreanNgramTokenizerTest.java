@@ -0,0 +1,42 @@
+package com.library.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    KoreanNgramTokenizer 단위 테스트
+        - 한글은 두 글자 단위(bigram), 영문/숫자는 단어 단위
+        - 조합형(NFD)으로 들어온 한글도 같은 토큰이 되는지
+ */
+class KoreanNgramTokenizerTest {
+
+    @Test
+    @DisplayName("한글은 bigram, 영문/숫자는 소문자 단어로 나뉨")
+    void tokenize_혼합() {
+        assertThat(KoreanNgramTokenizer.tokenize("도서관 Spring3 예약!"))
+                .containsExactly("도서", "서관", "spring3", "예약");
+    }
+
+    @Test
+    @DisplayName("한 글자 한글 단어는 그대로 토큰이 됨")
+    void tokenize_한글자() {
+        assertThat(KoreanNgramTokenizer.tokenize("책 추천")).containsExactly("책", "추천");
+    }
+
+    @Test
+    @DisplayName("NFD로 분해된 한글도 NFC와 같은 토큰")
+    void tokenize_정규화() {
+        String decomposed = java.text.Normalizer.normalize("도서관", java.text.Normalizer.Form.NFD);
+
+        assertThat(KoreanNgramTokenizer.tokenize(decomposed)).containsExactly("도서", "서관");
+    }
+
+    @Test
+    @DisplayName("null이나 구분자만 있으면 빈 목록")
+    void tokenize_빈값() {
+        assertThat(KoreanNgramTokenizer.tokenize(null)).isEmpty();
+        assertThat(KoreanNgramTokenizer.tokenize(" ,.!? ")).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.library.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    MinHash 단위 테스트
+        - 같은 내용은 같은 서명, 비슷한 내용은 높은 유사도, 다른 내용은 낮은 유사도
+        - board_signature 저장 형식(바이트) 왕복
+ */
+class MinHashTest {
+
+    private static final String TITLE = "스프링 부트 JPA 지연 로딩 질문";
+    private static final String CONTENT = "엔티티 연관관계를 지연 로딩으로 설정했는데 컨트롤러에서 조회하면 "
+            + "LazyInitializationException이 발생합니다. 트랜잭션 범위 밖에서 프록시를 초기화해서 그런 것 같은데 "
+            + "fetch join과 DTO 조회 중 어떤 방법이 좋을까요?";
+
+    @Test
+    @DisplayName("같은 제목/본문은 같은 서명 (유사도 1)")
+    void signature_결정적() {
+        int[] a = MinHash.signature(TITLE, CONTENT);
+        int[] b = MinHash.signature(TITLE, CONTENT);
+
+        assertThat(a).hasSize(MinHash.HASHES).isEqualTo(b);
+        assertThat(MinHash.similarity(a, b)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일부만 고친 글은 유사도가 높고 주제가 다른 글은 낮음")
+    void similarity_비슷한글과다른글() {
+        // Given
+        int[] original = MinHash.signature(TITLE, CONTENT);
+        int[] edited = MinHash.signature("스프링 부트 JPA 지연 로딩 질문입니다", CONTENT + " 답변 부탁드립니다.");
+        int[] other = MinHash.signature("도서관 휴관 안내",
+                "시설 점검으로 다음 주 월요일 하루 휴관합니다. 대출 도서 반납은 무인 반납기를 이용해 주세요.");
+
+        // When
+        double similar = MinHash.similarity(original, edited);
+        double different = MinHash.similarity(original, other);
+
+        // Then
+        assertThat(similar).isGreaterThan(0.6);
+        assertThat(different).isLessThan(0.2);
+    }
+
+    @Test
+    @DisplayName("비교할 글자가 없으면 서명 없음")
+    void signature_빈내용() {
+        assertThat(MinHash.signature("", "   ")).isNull();
+        assertThat(MinHash.signature(null, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("바이트로 바꿨다가 되돌려도 같은 서명, 길이가 다르면 예외")
+    void bytes_왕복() {
+        int[] signature = MinHash.signature(TITLE, CONTENT);
+
+        byte[] bytes = MinHash.toBytes(signature);
+
+        assertThat(bytes).hasSize(MinHash.BYTES);
+        assertThat(MinHash.fromBytes(bytes)).isEqualTo(signature);
+        assertThatThrownBy(() -> MinHash.fromBytes(new byte[10])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.library.search;
+
+import com.library.entity.board.BoardCategory;
+import com.library.entity.board.BoardStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    TagBitmaps 단위 테스트
+        - 태그 AND 태그 AND 카테고리 AND 상태 교집합
+        - 최신순(처음 put한 순서의 역순) 페이지 - id 순서와 작성 순서가 달라도 작성 순서를 따르는가?
+        - 수정/삭제 시 이전 태그 비트맵에서 빠지는지
+ */
+class TagBitmapsTest {
+
+    @Test
+    @DisplayName("모든 태그와 카테고리를 만족하는 ACTIVE 게시글만, id 내림차순")
+    void find_교집합() {
+        // Given
+        TagBitmaps bitmaps = new TagBitmaps();
+        bitmaps.put(1, BoardStatus.ACTIVE, BoardCategory.QNA, List.of("spring", "jpa"));
+        bitmaps.put(2, BoardStatus.ACTIVE, BoardCategory.QNA, List.of("spring"));
+        bitmaps.put(3, BoardStatus.ACTIVE, BoardCategory.FREE, List.of("spring", "jpa"));
+        bitmaps.put(4, BoardStatus.DELETED, BoardCategory.QNA, List.of("spring", "jpa"));
+        bitmaps.put(5, BoardStatus.ACTIVE, BoardCategory.QNA, List.of("jpa", "spring", "성능"));
+
+        // When
+        TagBitmaps.Result result = bitmaps.find(List.of("spring", "jpa"), BoardCategory.QNA, BoardStatus.ACTIVE, 0, 10);
+
+        // Then
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.boardIds()).containsExactly(5L, 1L);
+        assertThat(bitmaps.find(List.of("spring", "jpa"), null, BoardStatus.ACTIVE, 0, 10).boardIds())
+                .containsExactly(5L, 3L, 1L);
+        assertThat(bitmaps.find(List.of("없는태그"), null, BoardStatus.ACTIVE, 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("offset/limit으로 뒤쪽 페이지를 가져오고 전체 수는 그대로")
+    void find_페이징() {
+        TagBitmaps bitmaps = new TagBitmaps();
+        for (long id = 1; id <= 25; id++) {
+            bitmaps.put(id, BoardStatus.ACTIVE, BoardCategory.FREE, List.of("리뷰"));
+        }
+
+        TagBitmaps.Result page = bitmaps.find(List.of("리뷰"), null, BoardStatus.ACTIVE, 20, 10);
+
+        assertThat(page.total()).isEqualTo(25);
+        assertThat(page.boardIds()).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("최신순은 id가 아니라 처음 넣은 순서(작성 순서) - 노드마다 다른 id 블록을 쓰는 경우")
+    void find_작성순서() {
+        // Given - 노드 A(id 1~50)와 노드 B(id 51~100)가 번갈아 작성, 재구성은 작성 순서로 put
+        TagBitmaps bitmaps = new TagBitmaps();
+        bitmaps.put(51, BoardStatus.ACTIVE, BoardCategory.FREE, List.of("공지"));
+        bitmaps.put(1, BoardStatus.ACTIVE, BoardCategory.FREE, List.of("공지"));
+        bitmaps.put(52, BoardStatus.ACTIVE, BoardCategory.FREE, List.of("공지"));
+        bitmaps.put(2, BoardStatus.ACTIVE, BoardCategory.FREE, List.of("공지"));
+
+        // When - 51번을 수정해도 작성 순서는 그대로, id가 int 범위를 넘어도 됨
+        bitmaps.put(51, BoardStatus.ACTIVE, BoardCategory.QNA, List.of("공지"));
+        bitmaps.put(5_000_000_000L, BoardStatus.ACTIVE, BoardCategory.FREE, List.of("공지"));
+
+        // Then
+        assertThat(bitmaps.find(List.of("공지"), null, BoardStatus.ACTIVE, 0, 10).boardIds())
+                .containsExactly(5_000_000_000L, 2L, 52L, 1L, 51L);
+        assertThat(bitmaps.boards()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("태그/카테고리를 바꾸거나 삭제하면 이전 조건으로 검색되지 않음")
+    void put_교체와삭제() {
+        // Given
+        TagBitmaps bitmaps = new TagBitmaps();
+        bitmaps.put(1, BoardStatus.ACTIVE, BoardCategory.QNA, List.of("spring"));
+        bitmaps.put(2, BoardStatus.ACTIVE, BoardCategory.QNA, List.of("spring"));
+
+        // When - 1번은 태그/카테고리 변경, 2번은 삭제(소프트 삭제 → 상태 변경)
+        bitmaps.put(1, BoardStatus.ACTIVE, BoardCategory.FREE, List.of("jpa"));
+        bitmaps.put(2, BoardStatus.DELETED, BoardCategory.QNA, List.of("spring"));
+
+        // Then
+        assertThat(bitmaps.find(List.of("spring"), null, BoardStatus.ACTIVE, 0, 10).total()).isZero();
+        assertThat(bitmaps.find(List.of("jpa"), BoardCategory.QNA, BoardStatus.ACTIVE, 0, 10).total()).isZero();
+        assertThat(bitmaps.find(List.of("jpa"), BoardCategory.FREE, BoardStatus.ACTIVE, 0, 10).boardIds()).containsExactly(1L);
+        assertThat(bitmaps.tags()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,73 @@
+package com.library.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    TitleTrie 단위 테스트
+        - 접두어 / 단어 중간부터 / 초성 검색
+        - 조회수 순서와 개수 제한
+ */
+class TitleTrieTest {
+
+    private static final List<TitleTrie.Entry> ENTRIES = List.of(
+            new TitleTrie.Entry(1L, "도서관 휴관 안내", 50),
+            new TitleTrie.Entry(2L, "도서 추천 부탁드려요", 300),
+            new TitleTrie.Entry(3L, "Spring Boot 질문", 10),
+            new TitleTrie.Entry(4L, "열람실 좌석 안내", 120)
+    );
+
+    private static List<Long> ids(List<TitleTrie.Entry> entries) {
+        return entries.stream().map(TitleTrie.Entry::boardId).toList();
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 제목을 조회수 내림차순으로 반환")
+    void suggest_접두어() {
+        TitleTrie trie = TitleTrie.build(ENTRIES, 10, 20);
+
+        assertThat(ids(trie.suggest("도서", 10))).containsExactly(2L, 1L);
+        assertThat(ids(trie.suggest("도서관", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("SPRING b", 10))).containsExactly(3L);
+        assertThat(trie.suggest("없는", 10)).isEmpty();
+        assertThat(trie.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목 중간 단어로도 찾음")
+    void suggest_단어시작() {
+        TitleTrie trie = TitleTrie.build(ENTRIES, 10, 20);
+
+        assertThat(ids(trie.suggest("안내", 10))).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("초성으로 찾고, 초성과 음절을 섞어도 찾음")
+    void suggest_초성() {
+        TitleTrie trie = TitleTrie.build(ENTRIES, 10, 20);
+
+        assertThat(ids(trie.suggest("ㄷㅅㄱ", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("ㄷㅅ", 10))).containsExactly(2L, 1L);
+        assertThat(ids(trie.suggest("도ㅅ", 10))).containsExactly(2L, 1L);
+        assertThat(ids(trie.suggest("ㅇㄴ", 10))).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("노드마다 상위 topN개만 저장하고, 키 길이를 넘는 검색어는 앞부분으로 찾음")
+    void suggest_제한() {
+        TitleTrie trie = TitleTrie.build(ENTRIES, 1, 3);
+
+        assertThat(ids(trie.suggest("도", 10))).containsExactly(2L);
+        assertThat(ids(trie.suggest("도서관 휴관", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("초성 변환 : 한글 음절만 초성으로, 공백은 제거")
+    void toChoseong() {
+        assertThat(TitleTrie.toChoseong("도서관 QnA 1")).isEqualTo("ㄷㅅㄱQnA1");
+    }
+}
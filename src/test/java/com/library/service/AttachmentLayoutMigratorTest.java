@@ -0,0 +1,112 @@
+package com.library.service;
+
+import com.library.entity.board.BoardFile;
+import com.library.repository.BoardFileRepository;
+import com.library.storage.FileSystemStorageBackend;
+import com.library.storage.StorageLayout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+    AttachmentLayoutMigrator 단위 테스트 (파일 시스템 저장소 + 저장소 목)
+        - 날짜별 경로의 파일을 해시 경로로 옮기고 행의 filePath를 갱신하는가?
+        - 이전 실행이 행 갱신 전에 중단되어 대상만 있는 경우 이동 없이 행만 갱신하는가?
+        - 원본도 대상도 없는 행은 그대로 두는가?
+        - 키셋 커서로 다음 배치를 이어서 조회하고, 남은 행이 없으면 -1인가?
+ */
+@ExtendWith(MockitoExtension.class)
+class AttachmentLayoutMigratorTest {
+
+    private static final String DATE_PATH = "boards/2025/10/15/";
+
+    @Mock
+    private BoardFileRepository boardFileRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageBackend backend;
+    private AttachmentLayoutMigrator migrator;
+
+    @BeforeEach
+    void setUp() {
+        backend = new FileSystemStorageBackend(root);
+        FileStorageService fileStorageService = new FileStorageService(backend, StorageLayout.Type.HASHED,
+                10 * 1024 * 1024, new String[]{"txt"}, new String[0], 4096);
+        migrator = new AttachmentLayoutMigrator(boardFileRepository, fileStorageService, transactionManager, 10, 1000);
+    }
+
+    private void put(String key) {
+        backend.put(key, new ByteArrayInputStream(new byte[]{1, 2, 3}), 3);
+    }
+
+    private static BoardFile file(long id, String storedFilename) {
+        return BoardFile.builder().id(id).filePath(DATE_PATH).storedFilename(storedFilename).build();
+    }
+
+    @Test
+    @DisplayName("이동한 파일과 이미 옮겨진 파일은 행 갱신, 없는 파일은 그대로")
+    void migrateNextBatch_이동후행갱신() throws Exception {
+        // Given - 1: 날짜별 경로에 있음, 2: 이미 해시 경로로 옮겨짐(행 갱신 전 중단), 3: 어디에도 없음
+        put(DATE_PATH + "a.txt");
+        put(StorageLayout.hashedKey(DATE_PATH, "b.txt"));
+        when(boardFileRepository.findDateLayoutFilesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(file(1L, "a.txt"), file(2L, "b.txt"), file(3L, "c.txt")));
+
+        // When
+        int moved = migrator.migrateNextBatch();
+
+        // Then
+        String hashedA = StorageLayout.hashedDirectory("boards", "a.txt");
+        assertThat(moved).isEqualTo(2);
+        assertThat(backend.exists(DATE_PATH + "a.txt")).isFalse();
+        assertThat(backend.exists(hashedA + "a.txt")).isTrue();
+        verify(boardFileRepository).updateFilePath(1L, hashedA);
+        verify(boardFileRepository).updateFilePath(2L, StorageLayout.hashedDirectory("boards", "b.txt"));
+        verify(boardFileRepository, never()).updateFilePath(eq(3L), anyString());
+    }
+
+    @Test
+    @DisplayName("다음 배치는 마지막 id 이후부터 - 남은 행이 없으면 -1")
+    void migrateNextBatch_키셋커서() throws Exception {
+        // Given
+        put(DATE_PATH + "a.txt");
+        when(boardFileRepository.findDateLayoutFilesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(file(7L, "a.txt")));
+        when(boardFileRepository.findDateLayoutFilesAfter(eq(7L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // When
+        int first = migrator.migrateNextBatch();
+        int second = migrator.migrateNextBatch();
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(-1);
+        verify(boardFileRepository, never()).findDateLayoutFilesAfter(eq(1L), any(Pageable.class));
+        verify(boardFileRepository).updateFilePath(eq(7L), anyString());
+        verify(boardFileRepository, never()).updateFilePath(anyLong(), eq(DATE_PATH));
+    }
+}
@@ -0,0 +1,141 @@
+package com.library.service;
+
+import com.library.entity.board.BoardFile;
+import com.library.entity.job.JobCheckpoint;
+import com.library.repository.ArchivedFileRepository;
+import com.library.repository.BoardFileRepository;
+import com.library.repository.JobCheckpointRepository;
+import com.library.storage.ContentCodec;
+import com.library.storage.FileSystemStorageBackend;
+import com.library.storage.StorageLayout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+    AttachmentScrubber 단위 테스트 (파일 시스템 저장소 + 저장소 목)
+        - 크기는 같고 내용만 바뀐 파일을 CHECKSUM_MISMATCH로 세는가? (압축 저장된 파일은 풀어서 비교)
+        - 큰 파일 하나도 읽는 조각마다 bytes-per-second로 나누어 읽는가?
+ */
+@ExtendWith(MockitoExtension.class)
+class AttachmentScrubberTest {
+
+    private static final String PATH = "boards/ab/cd/";
+    private static final byte[] ORIGINAL = "도서관 첨부파일 무결성 검사\n".repeat(400).getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private BoardFileRepository boardFileRepository;
+    @Mock
+    private ArchivedFileRepository archivedFileRepository;
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageBackend backend;
+    private FileStorageService fileStorageService;
+    private JobCheckpoint checkpoint;
+
+    @BeforeEach
+    void setUp() {
+        backend = new FileSystemStorageBackend(root);
+        fileStorageService = new FileStorageService(backend, StorageLayout.Type.HASHED,
+                10 * 1024 * 1024, new String[]{"txt", "bin"}, new String[]{"txt"}, 4096);
+        checkpoint = JobCheckpoint.builder().jobName(AttachmentScrubber.JOB_NAME).phase(AttachmentScrubber.PHASE_ROWS).build();
+        when(jobCheckpointRepository.findById(AttachmentScrubber.JOB_NAME)).thenReturn(Optional.of(checkpoint));
+    }
+
+    private AttachmentScrubber scrubber(double bytesPerSecond) {
+        return new AttachmentScrubber(boardFileRepository, archivedFileRepository, jobCheckpointRepository,
+                fileStorageService, backend, transactionManager, 10, "boards/", 0, bytesPerSecond, 60, 24);
+    }
+
+    private void put(String filename, byte[] content) {
+        backend.put(PATH + filename, new ByteArrayInputStream(content), content.length);
+    }
+
+    private static BoardFile file(long id, String filename, long size, String contentEncoding, byte[] checksumOf) {
+        return BoardFile.builder().id(id).filePath(PATH).storedFilename(filename).fileSize(size)
+                .contentEncoding(contentEncoding).checksum(sha256(checksumOf)).build();
+    }
+
+    private static String sha256(byte[] content) {
+        return HexFormat.of().formatHex(FileStorageService.sha256().digest(content));
+    }
+
+    @Test
+    @DisplayName("크기는 같고 내용이 바뀐 파일만 CHECKSUM_MISMATCH - 압축 파일은 풀어서 비교")
+    void scrubRows_체크섬불일치() throws Exception {
+        // Given - 1: 정상, 2: 한 바이트 손상(크기 같음), 3: 압축 저장된 정상 파일
+        byte[] corrupted = ORIGINAL.clone();
+        corrupted[100] ^= 0x01;
+        byte[] encoded;
+        try (InputStream in = ContentCodec.encode(new ByteArrayInputStream(ORIGINAL))) {
+            encoded = in.readAllBytes();
+        }
+        put("good.txt", ORIGINAL);
+        put("bad.txt", corrupted);
+        put("packed.txt", encoded);
+        when(boardFileRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                file(1L, "good.txt", ORIGINAL.length, null, ORIGINAL),
+                file(2L, "bad.txt", ORIGINAL.length, null, ORIGINAL),
+                file(3L, "packed.txt", ORIGINAL.length, ContentCodec.DEFLATE, ORIGINAL)));
+
+        // When
+        scrubber(0).scrubNextBatch();
+
+        // Then
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(3);
+        assertThat(checkpoint.getIssueCount()).isEqualTo(1);
+        assertThat(checkpoint.getLastId()).isEqualTo(3L);
+        verify(boardFileRepository, never()).fillChecksum(anyLong(), anyString());
+        verify(jobCheckpointRepository).save(checkpoint);
+    }
+
+    @Test
+    @DisplayName("큰 파일 하나도 조각마다 스로틀 - 256KB를 초당 512KB로 읽으면 0.3초 이상")
+    void scrubRows_조각마다스로틀() throws Exception {
+        // Given
+        byte[] content = new byte[256 * 1024];
+        new Random(7).nextBytes(content);
+        put("big.bin", content);
+        when(boardFileRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(file(1L, "big.bin", content.length, null, content)));
+
+        // When
+        long start = System.nanoTime();
+        scrubber(512 * 1024).scrubNextBatch();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then - 64KB 조각 4개 중 뒤의 3개가 각각 약 125ms 대기 (한 번에 acquire하면 대기 없음)
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(300);
+        assertThat(checkpoint.getIssueCount()).isZero();
+    }
+}
@@ -0,0 +1,101 @@
+package com.library.service;
+
+import com.library.repository.BoardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    BoardVersionService 단위 테스트 (카운터 버전)
+        - 트랜잭션 안에서 바꾼 카운터는 커밋된 뒤에야 목록 ETag를 바꾸는가?
+        - 롤백되면 목록 ETag가 그대로인가?
+        - 트랜잭션 밖에서는 바로 바꾸는가?
+ */
+@ExtendWith(MockitoExtension.class)
+class BoardVersionServiceTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private BoardVersionService boardVersionService;
+
+    @BeforeEach
+    void setUp() {
+        boardVersionService = new BoardVersionService(boardRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private String listETag() {
+        return boardVersionService.listValidators().getETag();
+    }
+
+    // 트랜잭션 매니저가 커밋/롤백 후에 하는 일
+    private void complete(boolean committed) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (committed) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(committed
+                    ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 카운터 변경 - 커밋 전에는 ETag 그대로, 커밋 후 변경")
+    void counterChangedAfterCommit_커밋후변경() {
+        // Given
+        String before = listETag();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        boardVersionService.counterChangedAfterCommit();
+        String beforeCommit = listETag();
+        complete(true);
+
+        // Then
+        assertThat(beforeCommit).isEqualTo(before);
+        assertThat(listETag()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 카운터 변경 - 롤백되면 ETag 그대로")
+    void counterChangedAfterCommit_롤백시그대로() {
+        // Given
+        String before = listETag();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        boardVersionService.counterChangedAfterCommit();
+        complete(false);
+
+        // Then
+        assertThat(listETag()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 카운터 변경 - 바로 ETag 변경")
+    void counterChangedAfterCommit_트랜잭션밖() {
+        // Given
+        String before = listETag();
+
+        // When
+        boardVersionService.counterChangedAfterCommit();
+
+        // Then
+        assertThat(listETag()).isNotEqualTo(before);
+    }
+}
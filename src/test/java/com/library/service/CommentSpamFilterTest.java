@@ -0,0 +1,77 @@
+package com.library.service;
+
+import com.library.exception.SpamCommentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    CommentSpamFilter 단위 테스트
+        - 거의 같은 댓글이 max-similar개 쌓이면 거절
+        - 다른 내용 / 짧은 댓글 / 창을 벗어난 오래된 댓글은 통과
+ */
+class CommentSpamFilterTest {
+
+    private static final String SPAM = "지금 가입하면 무료 포인트 지급 중인 최고의 이벤트 사이트 바로가기 클릭하세요 한정 수량";
+
+    // 창 100개 / 60초, 거리 3, 같은 내용 2개까지 허용, 토큰 6개 이상만 검사
+    private CommentSpamFilter filter() {
+        return new CommentSpamFilter(true, 100, 60, 3, 2, 6);
+    }
+
+    @Test
+    @DisplayName("거의 같은 댓글은 창 안에 max-similar개가 쌓이면 거절")
+    void check_반복댓글거절() {
+        // Given
+        CommentSpamFilter filter = filter();
+        filter.check(SPAM, 1_000);
+        filter.check(SPAM + "!!", 2_000);      // 문장부호만 다름 → 같은 토큰
+
+        // When & Then
+        assertThatThrownBy(() -> filter.check("  " + SPAM + " ~~", 3_000))
+                .isInstanceOf(SpamCommentException.class);
+    }
+
+    @Test
+    @DisplayName("내용이 다른 댓글과 짧은 댓글은 반복되어도 통과")
+    void check_정상댓글통과() {
+        CommentSpamFilter filter = filter();
+
+        assertThatCode(() -> {
+            filter.check(SPAM, 1_000);
+            filter.check("도서관 3층 열람실 좌석 예약은 어디에서 하나요 모바일에서도 되나요", 1_000);
+            filter.check("이번 주 토요일 휴관 여부가 궁금합니다 공지사항에 안내가 없네요", 1_000);
+            for (int i = 0; i < 10; i++) {
+                filter.check("감사합니다", 1_000);
+            }
+        }).doesNotThrowAnyException();
+        assertThat(filter.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("window-seconds가 지난 지문은 세지 않음")
+    void check_창만료() {
+        CommentSpamFilter filter = filter();
+        filter.check(SPAM, 1_000);
+        filter.check(SPAM, 2_000);
+
+        assertThatCode(() -> filter.check(SPAM, 62_000)).doesNotThrowAnyException();
+        assertThat(filter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("창이 가득 차면 가장 오래된 지문부터 버림")
+    void check_창크기제한() {
+        CommentSpamFilter filter = new CommentSpamFilter(true, 2, 60, 3, 2, 6);
+        filter.check(SPAM, 1_000);
+        filter.check("도서관 3층 열람실 좌석 예약은 어디에서 하나요 모바일에서도 되나요", 1_000);
+        filter.check("이번 주 토요일 휴관 여부가 궁금합니다 공지사항에 안내가 없네요", 1_000);
+
+        // 첫 SPAM은 밀려났으므로 하나만 남아 있음
+        assertThatCode(() -> filter.check(SPAM, 1_000)).doesNotThrowAnyException();
+        assertThat(filter.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,143 @@
+package com.library.service;
+
+import com.library.dto.board.CommentCreateDTO;
+import com.library.dto.board.CommentDTO;
+import com.library.service.CommentService.BatchResult;
+import com.library.service.CommentService.NewComment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+    CommentWritePipeline 단위 테스트
+        - 묶음 저장이 실패하면 하나씩 다시 저장해 원인이 된 요청만 실패하는가?
+        - 저장 스레드에서 Error가 나도 그 묶음만 실패하고 다음 요청은 저장되는가?
+        - 결과를 result-timeout-ms까지만 기다리고, 아직 큐에 있던 요청은 저장하지 않는가?
+ */
+@ExtendWith(MockitoExtension.class)
+class CommentWritePipelineTest {
+
+    @Mock
+    private CommentService commentService;
+    @Mock
+    private CommentSpamFilter commentSpamFilter;
+
+    private CommentWritePipeline pipeline;
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+        executor.shutdownNow();
+    }
+
+    private CommentWritePipeline start(int batchSize, long lingerMs, long resultTimeoutMs) {
+        pipeline = new CommentWritePipeline(commentService, commentSpamFilter, true, batchSize, lingerMs, 100, resultTimeoutMs);
+        pipeline.start();
+        return pipeline;
+    }
+
+    private static CommentCreateDTO dto(String content) {
+        return CommentCreateDTO.builder().content(content).build();
+    }
+
+    private static String contentOf(NewComment comment) {
+        return comment.dto().getContent();
+    }
+
+    private static BatchResult saved(NewComment comment) {
+        return new BatchResult(CommentDTO.builder().content(contentOf(comment)).build(), null);
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 하나씩 다시 저장 - 원인이 된 요청만 실패")
+    void write_묶음실패시하나씩재시도() throws Exception {
+        // Given - 묶음(2건 이상)은 실패, 하나씩 저장하면 "bad"만 실패
+        when(commentService.createCommentBatch(anyList())).thenAnswer(invocation -> {
+            List<NewComment> batch = invocation.getArgument(0);
+            if (batch.size() > 1) {
+                throw new IllegalStateException("묶음 롤백");
+            }
+            NewComment comment = batch.get(0);
+            return List.of(contentOf(comment).equals("bad")
+                    ? new BatchResult(null, new IllegalArgumentException("부모 댓글 없음"))
+                    : saved(comment));
+        });
+        start(3, 5_000, 10_000);
+
+        // When - 3건이 한 묶음으로
+        List<Future<CommentDTO>> futures = new ArrayList<>();
+        for (String content : List.of("first", "bad", "third")) {
+            futures.add(executor.submit(() -> pipeline.createComment(1L, dto(content), null)));
+        }
+
+        // Then
+        assertThat(futures.get(0).get(5, TimeUnit.SECONDS).getContent()).isEqualTo("first");
+        assertThat(futures.get(2).get(5, TimeUnit.SECONDS).getContent()).isEqualTo("third");
+        assertThatThrownBy(() -> futures.get(1).get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        verify(commentService).createCommentBatch(argThat(batch -> batch.size() == 3));
+        verify(commentService, times(3)).createCommentBatch(argThat(batch -> batch.size() == 1));
+    }
+
+    @Test
+    @DisplayName("저장 중 Error가 나도 그 요청만 실패하고 저장 스레드는 계속 동작")
+    void writeLoop_Error후계속동작() {
+        // Given
+        when(commentService.createCommentBatch(anyList()))
+                .thenThrow(new AssertionError("예상하지 못한 오류"))
+                .thenAnswer(invocation -> List.of(saved(invocation.<List<NewComment>>getArgument(0).get(0))));
+        start(1, 0, 5_000);
+
+        // When & Then
+        assertThatThrownBy(() -> pipeline.createComment(1L, dto("first"), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+        assertThat(pipeline.createComment(1L, dto("second"), null).getContent()).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("결과 대기 시간 초과 - 아직 큐에 있던 요청은 꺼내고 저장하지 않음")
+    void createComment_대기시간초과() throws Exception {
+        // Given - 저장 스레드가 첫 요청을 저장하다 멈춤
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(commentService.createCommentBatch(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(saved(invocation.<List<NewComment>>getArgument(0).get(0)));
+        });
+        start(1, 0, 200);
+        executor.submit(() -> pipeline.createComment(1L, dto("first"), null));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> pipeline.createComment(1L, dto("second"), null))
+                .isInstanceOf(IllegalStateException.class);
+        release.countDown();
+        pipeline.stop();
+        verify(commentService, never()).createCommentBatch(argThat(batch -> contentOf(batch.get(0)).equals("second")));
+    }
+}
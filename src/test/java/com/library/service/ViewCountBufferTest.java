@@ -0,0 +1,117 @@
+package com.library.service;
+
+import com.library.cache.BoardRanking;
+import com.library.cache.TrendingBoards;
+import com.library.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+    ViewCountBuffer 단위 테스트
+        - 조회와 반영이 동시에 일어나도 조회수가 빠지지 않는가?
+        - 반영 트랜잭션이 실패하면 증가분이 남아 다음 주기에 반영되는가?
+        - 반영할 것이 없으면 카운터 버전을 올리지 않는가?
+ */
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private BoardVersionService boardVersionService;
+    @Mock
+    private BoardRanking boardRanking;
+    @Mock
+    private TrendingBoards trendingBoards;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ViewCountBuffer(boardRepository, boardVersionService, boardRanking, trendingBoards, transactionManager);
+    }
+
+    @Test
+    @DisplayName("조회 중에 반영이 겹쳐도 모든 조회가 한 번씩 반영됨")
+    void flush_동시조회유실없음() throws Exception {
+        // Given
+        AtomicLong written = new AtomicLong();
+        doAnswer(invocation -> {
+            written.addAndGet(invocation.getArgument(1, Long.class));
+            return 1;
+        }).when(boardRepository).addViewCount(eq(1L), anyLong());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When - 4개 스레드가 5,000번씩 조회하는 동안 계속 반영
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    buffer.increment(1L);
+                }
+            }));
+        }
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            buffer.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        buffer.flush();
+
+        // Then
+        assertThat(written.get()).isEqualTo(20_000);
+    }
+
+    @Test
+    @DisplayName("반영이 실패하면 증가분을 남겨 두었다가 다음 주기에 반영")
+    void flush_실패시재시도() {
+        // Given
+        buffer.increment(1L);
+        buffer.increment(1L);
+        when(boardRepository.addViewCount(1L, 2L))
+                .thenThrow(new IllegalStateException("DB 연결 실패"));
+
+        // When
+        buffer.flush();
+        buffer.increment(1L);
+        when(boardRepository.addViewCount(1L, 3L)).thenReturn(1);
+        buffer.flush();
+
+        // Then
+        verify(boardRepository).addViewCount(1L, 3L);
+        verify(boardVersionService, times(1)).counterChanged();
+    }
+
+    @Test
+    @DisplayName("반영할 조회가 없으면 카운터 버전을 올리지 않음")
+    void flush_없으면그대로() {
+        buffer.flush();
+
+        verify(boardVersionService, never()).counterChanged();
+    }
+}
@@ -0,0 +1,48 @@
+package com.library.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    ContentCodec 단위 테스트
+        - 스트림 압축/해제 왕복과 Accept-Encoding 판별을 확인
+ */
+class ContentCodecTest {
+
+    @Test
+    @DisplayName("압축한 스트림을 풀면 원본과 같고, 반복이 많은 텍스트는 크기가 줄어든다")
+    void roundTrip() throws Exception {
+        // given
+        byte[] original = "도서관 공지사항 본문입니다.\n".repeat(500).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] encoded;
+        try (InputStream in = ContentCodec.encode(new ByteArrayInputStream(original))) {
+            encoded = in.readAllBytes();
+        }
+        byte[] decoded;
+        try (InputStream in = ContentCodec.decode(new ByteArrayInputStream(encoded))) {
+            decoded = in.readAllBytes();
+        }
+
+        // then
+        assertThat(encoded.length).isLessThan(original.length / 3);
+        assertThat(decoded).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 헤더의 코덱 목록과 q 값을 반영한다")
+    void accepts() {
+        assertThat(ContentCodec.accepts("gzip, deflate, br", ContentCodec.DEFLATE)).isTrue();
+        assertThat(ContentCodec.accepts("gzip, deflate;q=0", ContentCodec.DEFLATE)).isFalse();
+        assertThat(ContentCodec.accepts("*", ContentCodec.DEFLATE)).isTrue();
+        assertThat(ContentCodec.accepts("gzip", ContentCodec.DEFLATE)).isFalse();
+        assertThat(ContentCodec.accepts(null, ContentCodec.DEFLATE)).isFalse();
+    }
+}
@@ -0,0 +1,153 @@
+package com.library.storage;
+
+import com.library.exception.StorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    FileSystemStorageBackend 단위 테스트
+        - Spring Context 없이 임시 디렉토리(@TempDir)에 실제 파일을 쓰고 읽음
+        - 테스트 항목
+            - put / get / stat / exists / delete 기본 동작
+            - 범위 읽기 (offset, length)
+            - 파일 이동 (레이아웃 마이그레이션)
+            - 목록 조회 (키 순서, 이어서 조회)
+            - 루트 밖 경로 접근 차단
+ */
+class FileSystemStorageBackendTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        backend = new FileSystemStorageBackend(root);
+    }
+
+    @Test
+    @DisplayName("저장한 파일을 그대로 읽고, 메타데이터를 조회할 수 있다")
+    void putAndGet() throws Exception {
+        // given
+        byte[] content = "도서관 첨부파일".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        backend.put("boards/2025/10/15/a.txt", new ByteArrayInputStream(content), content.length);
+
+        // then
+        try (InputStream in = backend.get("boards/2025/10/15/a.txt")) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(backend.exists("boards/2025/10/15/a.txt")).isTrue();
+        assertThat(backend.stat("boards/2025/10/15/a.txt")).get()
+                .extracting(StorageObject::getSize).isEqualTo((long) content.length);
+    }
+
+    @Test
+    @DisplayName("범위 읽기 - 지정한 위치부터 지정한 길이만큼만 읽는다")
+    void rangeGet() throws Exception {
+        // given
+        byte[] content = "0123456789".getBytes(StandardCharsets.US_ASCII);
+        backend.put("range.bin", new ByteArrayInputStream(content), -1);
+
+        // when & then
+        try (InputStream in = backend.get("range.bin", 3, 4)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("3456");
+        }
+        try (InputStream in = backend.get("range.bin", 7, -1)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("789");
+        }
+    }
+
+    @Test
+    @DisplayName("StorageResource는 skip 후 첫 read 시점의 위치부터 저장소를 연다")
+    void resourceSkipOpensAtOffset() throws Exception {
+        // given
+        byte[] content = "abcdefghij".getBytes(StandardCharsets.US_ASCII);
+        backend.put("res.bin", new ByteArrayInputStream(content), content.length);
+        StorageResource resource = new StorageResource(backend, "res.bin");
+
+        // when
+        try (InputStream in = resource.getInputStream()) {
+            assertThat(in.skip(5)).isEqualTo(5);
+
+            // then
+            assertThat(new String(in.readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("fghij");
+        }
+        assertThat(resource.contentLength()).isEqualTo(10L);
+        assertThat(resource.getFilename()).isEqualTo("res.bin");
+    }
+
+    @Test
+    @DisplayName("삭제 후에는 존재하지 않으며, 없는 파일 삭제는 false를 반환한다")
+    void delete() {
+        // given
+        backend.put("del.txt", new ByteArrayInputStream(new byte[]{1, 2, 3}), 3);
+
+        // when & then
+        assertThat(backend.delete("del.txt")).isTrue();
+        assertThat(backend.exists("del.txt")).isFalse();
+        assertThat(backend.stat("del.txt")).isEmpty();
+        assertThat(backend.delete("del.txt")).isFalse();
+    }
+
+    @Test
+    @DisplayName("파일을 다른 키로 이동하면 원본은 사라지고 대상 디렉토리가 생성된다")
+    void move() throws Exception {
+        // given
+        byte[] content = "이동할 파일".getBytes(StandardCharsets.UTF_8);
+        backend.put("boards/2025/10/15/m.txt", new ByteArrayInputStream(content), content.length);
+
+        // when
+        backend.move("boards/2025/10/15/m.txt", "boards/3f/a2/m.txt");
+
+        // then
+        assertThat(backend.exists("boards/2025/10/15/m.txt")).isFalse();
+        try (InputStream in = backend.get("boards/3f/a2/m.txt")) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @DisplayName("목록은 키 순서로 반환되고, startAfter 이후부터 이어서 조회할 수 있다")
+    void list() {
+        // given
+        for (String key : List.of("boards/b1/02/c.txt", "boards/a0/ff/b.txt", "boards/a0/01/a.txt", "other/x.txt")) {
+            backend.put(key, new ByteArrayInputStream(new byte[]{1}), 1);
+        }
+
+        // when
+        List<String> all;
+        List<String> resumed;
+        try (Stream<StorageObject> listing = backend.list("boards/", null)) {
+            all = listing.map(StorageObject::getKey).toList();
+        }
+        try (Stream<StorageObject> listing = backend.list("boards/", "boards/a0/01/a.txt")) {
+            resumed = listing.map(StorageObject::getKey).toList();
+        }
+
+        // then
+        assertThat(all).containsExactly("boards/a0/01/a.txt", "boards/a0/ff/b.txt", "boards/b1/02/c.txt");
+        assertThat(resumed).containsExactly("boards/a0/ff/b.txt", "boards/b1/02/c.txt");
+    }
+
+    @Test
+    @DisplayName("루트 밖을 가리키는 키는 거부한다")
+    void rejectPathTraversal() {
+        assertThatThrownBy(() -> backend.get("../outside.txt"))
+                .isInstanceOf(StorageException.class);
+    }
+}
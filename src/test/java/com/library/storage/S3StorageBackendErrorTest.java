@@ -0,0 +1,82 @@
+package com.library.storage;
+
+import com.library.exception.StorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+    S3StorageBackend 단위 테스트 (S3Client 목 - Docker 없이 실행)
+        - 삭제는 DeleteObject 한 번인가? (HEAD 없음)
+        - 목록을 소비하는 중에 다음 페이지 요청이 실패하면 StorageException인가?
+ */
+@ExtendWith(MockitoExtension.class)
+class S3StorageBackendErrorTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    private S3StorageBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        backend = new S3StorageBackend(s3Client, "library-test", false);
+    }
+
+    @Test
+    @DisplayName("삭제는 DeleteObject 한 번 - 존재 확인(HEAD) 없음")
+    void delete_HEAD없음() {
+        // When
+        boolean deleted = backend.delete("boards/a.txt");
+
+        // Then
+        assertThat(deleted).isTrue();
+        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+        verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("두 번째 페이지 요청이 실패하면 소비하는 쪽에서 StorageException")
+    void list_다음페이지실패() {
+        // Given - 첫 페이지는 1건 + 다음 페이지 있음, 다음 페이지 요청은 네트워크 오류
+        when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .thenAnswer(invocation -> new ListObjectsV2Iterable(s3Client, invocation.getArgument(0)));
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+                .thenReturn(ListObjectsV2Response.builder()
+                        .contents(S3Object.builder().key("list/a.txt").size(1L).build())
+                        .isTruncated(true)
+                        .nextContinuationToken("next")
+                        .build())
+                .thenThrow(SdkClientException.create("connection reset"));
+
+        // When & Then
+        try (Stream<StorageObject> listing = backend.list("list/", null)) {
+            Iterator<StorageObject> objects = listing.iterator();
+            assertThat(objects.next().getKey()).isEqualTo("list/a.txt");
+            assertThatThrownBy(objects::hasNext)
+                    .isInstanceOf(StorageException.class)
+                    .hasCauseInstanceOf(SdkClientException.class);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.library.storage;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    S3StorageBackend 통합 테스트
+        - 실제 AWS 대신 MinIO 컨테이너(S3 호환 로컬 대체 저장소)를 띄워 검증함
+        - Docker가 없는 환경에서는 자동으로 건너뜀 (disabledWithoutDocker)
+        - 테스트 항목
+            - 길이를 아는 업로드(PutObject) / 모르는 업로드(Multipart)
+            - 범위 읽기 (HTTP Range)
+            - stat / exists / delete
+            - 목록 조회 (startAfter로 이어서 조회)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3StorageBackendTest {
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-10-13T13-34-11Z");
+
+    static S3Client s3Client;
+    static S3StorageBackend backend;
+
+    @BeforeAll
+    static void setUp() {
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .region(Region.AP_NORTHEAST_2)
+                .forcePathStyle(true)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+                .build();
+        backend = new S3StorageBackend(s3Client, "library-test", true);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (s3Client != null) {
+            s3Client.close();
+        }
+    }
+
+    @Test
+    @DisplayName("길이를 아는 업로드 후 전체/범위 읽기")
+    void putAndRangeGet() throws Exception {
+        // given
+        byte[] content = "0123456789".getBytes();
+        backend.put("boards/a.txt", new ByteArrayInputStream(content), content.length);
+
+        // when & then
+        try (InputStream in = backend.get("boards/a.txt")) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+        try (InputStream in = backend.get("boards/a.txt", 2, 3)) {
+            assertThat(new String(in.readAllBytes())).isEqualTo("234");
+        }
+        assertThat(backend.stat("boards/a.txt")).get()
+                .extracting(StorageObject::getSize).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("길이를 모르는 스트림은 Multipart로 업로드된다")
+    void putUnknownLength() throws Exception {
+        // given - 파트 크기(8MB)보다 큰 데이터
+        byte[] content = new byte[9 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+
+        // when
+        backend.put("boards/big.bin", new ByteArrayInputStream(content), -1);
+
+        // then
+        try (InputStream in = backend.get("boards/big.bin")) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @DisplayName("삭제 후에는 존재하지 않는다 - 없는 키 삭제도 성공(S3는 있었는지 알 수 없음)")
+    void delete() {
+        // given
+        backend.put("boards/del.txt", new ByteArrayInputStream(new byte[]{1}), 1);
+
+        // when & then
+        assertThat(backend.delete("boards/del.txt")).isTrue();
+        assertThat(backend.exists("boards/del.txt")).isFalse();
+        assertThat(backend.delete("boards/del.txt")).isTrue();
+    }
+
+    @Test
+    @DisplayName("목록은 키 순서로 반환되고, startAfter 이후부터 이어서 조회할 수 있다")
+    void list() {
+        // given
+        for (String key : List.of("list/b.txt", "list/a.txt", "list/c.txt")) {
+            backend.put(key, new ByteArrayInputStream(new byte[]{1}), 1);
+        }
+
+        // when
+        List<String> resumed;
+        try (Stream<StorageObject> listing = backend.list("list/", "list/a.txt")) {
+            resumed = listing.map(StorageObject::getKey).toList();
+        }
+
+        // then
+        assertThat(resumed).containsExactly("list/b.txt", "list/c.txt");
+    }
+}
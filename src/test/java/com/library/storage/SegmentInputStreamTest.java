@@ -0,0 +1,61 @@
+package com.library.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    SegmentInputStream 단위 테스트
+        - 조각을 이어 붙인 결과와 조각별 위치 기록을 확인
+        - 기록된 위치로 세그먼트의 일부만 압축 해제하면 원래 파일이 나오는지 확인
+ */
+class SegmentInputStreamTest {
+
+    @Test
+    @DisplayName("조각을 순서대로 이어 붙이고 조각별 시작 위치와 길이를 기록한다")
+    void recordsOffsets() throws Exception {
+        // given
+        SegmentInputStream segment = new SegmentInputStream(List.of(
+                () -> new ByteArrayInputStream("abc".getBytes(StandardCharsets.US_ASCII)),
+                () -> new ByteArrayInputStream(new byte[0]),
+                () -> new ByteArrayInputStream("defgh".getBytes(StandardCharsets.US_ASCII))
+        ));
+
+        // when
+        byte[] all = segment.readAllBytes();
+
+        // then
+        assertThat(new String(all, StandardCharsets.US_ASCII)).isEqualTo("abcdefgh");
+        assertThat(segment.getOffset(0)).isZero();
+        assertThat(segment.getLength(0)).isEqualTo(3);
+        assertThat(segment.getLength(1)).isZero();
+        assertThat(segment.getOffset(2)).isEqualTo(3);
+        assertThat(segment.getLength(2)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("압축된 조각은 기록된 구간만 읽어서 독립적으로 풀 수 있다")
+    void compressedPartsAreIndependent() throws Exception {
+        // given
+        byte[] first = "첫 번째 첨부파일 ".repeat(100).getBytes(StandardCharsets.UTF_8);
+        byte[] second = "두 번째 첨부파일 ".repeat(100).getBytes(StandardCharsets.UTF_8);
+        SegmentInputStream segment = new SegmentInputStream(List.of(
+                () -> ContentCodec.encode(new ByteArrayInputStream(first)),
+                () -> ContentCodec.encode(new ByteArrayInputStream(second))
+        ));
+        byte[] all = segment.readAllBytes();
+
+        // when
+        InputStream part = new ByteArrayInputStream(all, (int) segment.getOffset(1), (int) segment.getLength(1));
+        byte[] decoded = ContentCodec.decode(part).readAllBytes();
+
+        // then
+        assertThat(decoded).isEqualTo(second);
+    }
+}
@@ -0,0 +1,43 @@
+package com.library.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    StorageLayout 단위 테스트
+        - 해시 분산 경로 형식과 기존 날짜별 경로 판별을 확인
+ */
+class StorageLayoutTest {
+
+    @Test
+    @DisplayName("해시 레이아웃은 2단계 16진수 디렉토리를 만들고, 같은 파일명이면 항상 같은 경로다")
+    void hashedDirectory() {
+        // when
+        String dir = StorageLayout.directoryFor(StorageLayout.Type.HASHED, "boards", "a.pdf");
+
+        // then
+        assertThat(dir).matches("boards/[0-9a-f]{2}/[0-9a-f]{2}/");
+        assertThat(StorageLayout.hashedDirectory("boards", "a.pdf")).isEqualTo(dir);
+    }
+
+    @Test
+    @DisplayName("기록된 날짜별 경로에서도 해시 레이아웃 키를 계산할 수 있다")
+    void hashedKeyFromDatePath() {
+        // when
+        String key = StorageLayout.hashedKey("boards/2025/10/15/", "a.pdf");
+
+        // then
+        assertThat(key).isEqualTo(StorageLayout.hashedDirectory("boards", "a.pdf") + "a.pdf");
+    }
+
+    @Test
+    @DisplayName("날짜별 경로만 마이그레이션 대상으로 판별한다")
+    void isDateLayout() {
+        assertThat(StorageLayout.isDateLayout("boards/2025/10/15/")).isTrue();
+        assertThat(StorageLayout.isDateLayout("boards/3f/a2/")).isFalse();
+        assertThat(StorageLayout.directoryFor(StorageLayout.Type.DATE, "boards", "a.pdf"))
+                .satisfies(path -> assertThat(StorageLayout.isDateLayout(path)).isTrue());
+    }
+}
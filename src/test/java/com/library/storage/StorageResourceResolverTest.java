@@ -0,0 +1,97 @@
+package com.library.storage;
+
+import com.library.storage.StorageResourceResolver.StoredEncoding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.resource.HttpResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    StorageResourceResolver 단위 테스트 (/uploads/**)
+        - 압축 저장된 파일 : Accept-Encoding에 따라 Content-Encoding과 함께 그대로 또는 풀어서 응답
+        - 압축 안 한 파일 : 저장소 Resource 그대로
+ */
+class StorageResourceResolverTest {
+
+    private static final byte[] ORIGINAL = "도서관 공지사항 첨부 텍스트\n".repeat(300).getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    private StorageResourceResolver resolver;
+    private byte[] encoded;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        FileSystemStorageBackend backend = new FileSystemStorageBackend(root);
+        try (InputStream in = ContentCodec.encode(new ByteArrayInputStream(ORIGINAL))) {
+            encoded = in.readAllBytes();
+        }
+        backend.put("boards/ab/cd/notice.txt", new ByteArrayInputStream(encoded), encoded.length);
+        backend.put("boards/ab/cd/photo.jpg", new ByteArrayInputStream(ORIGINAL), ORIGINAL.length);
+        resolver = new StorageResourceResolver(backend, filename -> null,
+                filename -> filename.equals("notice.txt") ? new StoredEncoding(ContentCodec.DEFLATE, ORIGINAL.length) : null);
+    }
+
+    private Resource resolve(String path, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/" + path);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return resolver.resolveResource(request, path, List.of(), null);
+    }
+
+    @Test
+    @DisplayName("압축을 받을 수 있으면 저장된 바이트 그대로 + Content-Encoding")
+    void 압축파일_그대로전송() throws Exception {
+        // when
+        Resource resource = resolve("boards/ab/cd/notice.txt", "gzip, deflate, br");
+
+        // then
+        HttpHeaders headers = ((HttpResource) resource).getResponseHeaders();
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo(ContentCodec.DEFLATE);
+        assertThat(headers.getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(resource.contentLength()).isEqualTo(encoded.length);
+        try (InputStream in = resource.getInputStream()) {
+            assertThat(in.readAllBytes()).isEqualTo(encoded);
+        }
+    }
+
+    @Test
+    @DisplayName("압축을 받을 수 없으면 풀어서 원본 크기로 전송")
+    void 압축파일_풀어서전송() throws Exception {
+        // when
+        Resource resource = resolve("boards/ab/cd/notice.txt", "gzip");
+
+        // then
+        HttpHeaders headers = ((HttpResource) resource).getResponseHeaders();
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(headers.getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(resource.contentLength()).isEqualTo(ORIGINAL.length);
+        try (InputStream in = resource.getInputStream()) {
+            assertThat(in.readAllBytes()).isEqualTo(ORIGINAL);
+        }
+    }
+
+    @Test
+    @DisplayName("압축 안 한 파일은 저장소 Resource 그대로, 없는 파일은 null")
+    void 비압축파일_그대로() throws Exception {
+        Resource resource = resolve("boards/ab/cd/photo.jpg", "deflate");
+
+        assertThat(resource).isInstanceOf(StorageResource.class);
+        assertThat(resource.contentLength()).isEqualTo(ORIGINAL.length);
+        assertThat(resolve("boards/ab/cd/missing.txt", "deflate")).isNull();
+    }
+}
@@ -0,0 +1,71 @@
+package com.library.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    BloomFilter 단위 테스트
+        - 넣은 키는 항상 "있을 수도 있음"인지 (거짓 음성 없음)
+        - 넣지 않은 키의 거짓 양성률이 목표 근처인지
+        - 메모리 상한을 넘지 않는지
+ */
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 키는 모두 있음, 넣지 않은 키의 거짓 양성률은 목표 근처")
+    void mightContain_거짓양성률() {
+        // Given - 10,000개, 목표 1%
+        BloomFilter filter = new BloomFilter(10_000, 0.01, Long.MAX_VALUE);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member" + i + "@library.com");
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("visitor" + i + "@library.com")) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("member" + i + "@library.com")).isTrue();
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(filter.expectedFpp()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 넣으면 개수에 세지 않음")
+    void put_중복() {
+        BloomFilter filter = new BloomFilter(100, 0.01, Long.MAX_VALUE);
+
+        assertThat(filter.put("test@library.com")).isTrue();
+        assertThat(filter.put("test@library.com")).isFalse();
+
+        assertThat(filter.insertions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메모리 상한을 넘지 않고, 해시 수는 줄어든 크기에 맞춤")
+    void constructor_메모리상한() {
+        // Given - 목표대로면 약 9.6Mbit, 상한 1Mbit
+        BloomFilter filter = new BloomFilter(1_000_000, 0.01, 1L << 20);
+
+        // Then
+        assertThat(filter.memoryBytes()).isEqualTo(128 * 1024);
+        assertThat(filter.hashCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거짓 양성률이 0과 1 사이가 아니면 예외")
+    void constructor_잘못된설정() {
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0, Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package com.library.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    CountMinSketch 단위 테스트
+        - 추정값이 실제값보다 작지 않은지
+        - 키가 많아져도 자주 나온 키의 추정값이 오차 범위 안인지
+ */
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("추정값은 실제값 이상이고, 많이 나온 키는 오차 범위 안")
+    void estimate_오차범위() {
+        // Given - 폭 1024, 키 10,000개에 1씩 + 키 7에 500 추가
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        for (long key = 0; key < 10_000; key++) {
+            sketch.add(key, 1);
+        }
+        sketch.add(7, 500);
+
+        // Then - 오차 한계 : 전체 합(10,500) * e / 1024 ≈ 28
+        assertThat(sketch.estimate(7)).isBetween(501.0, 501.0 + 28);
+        for (long key = 100; key < 200; key++) {
+            assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(1.0);
+        }
+    }
+
+    @Test
+    @DisplayName("scale은 모든 추정값을 같은 비율로 줄임")
+    void scale_비율유지() {
+        CountMinSketch sketch = new CountMinSketch(3, 64);
+        sketch.add(1, 40);
+        sketch.add(2, 10);
+
+        sketch.scale(0.5);
+
+        assertThat(sketch.estimate(1)).isEqualTo(20.0);
+        assertThat(sketch.estimate(2)).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("width가 2의 거듭제곱이 아니면 예외")
+    void constructor_잘못된폭() {
+        assertThatThrownBy(() -> new CountMinSketch(4, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package com.library.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    Hashing 단위 테스트
+        - FNV-1a가 표준 테스트 벡터와 같은가? (MinHash 서명이 DB에 저장되므로 값이 바뀌면 안 됨)
+        - mix가 SplitMix64 결과와 같고, 연속된 입력을 고르게 퍼뜨리는가?
+ */
+class HashingTest {
+
+    @Test
+    @DisplayName("FNV-1a 64비트 표준 테스트 벡터")
+    void fnv1a_테스트벡터() {
+        assertThat(Hashing.fnv1a("")).isEqualTo(0xCBF29CE484222325L);
+        assertThat(Hashing.fnv1a("a")).isEqualTo(0xAF63DC4C8601EC8CL);
+        assertThat(Hashing.fnv1a("foobar")).isEqualTo(0x85944171F73967E8L);
+    }
+
+    @Test
+    @DisplayName("SplitMix64 - 첫 출력값이 기준 구현과 같고, 연속된 입력도 비트 절반 정도가 다름")
+    void mix_SplitMix64() {
+        // SplitMix64(seed=0)의 첫 출력 = mix(0 + GOLDEN_GAMMA)
+        assertThat(Hashing.mix(Hashing.GOLDEN_GAMMA)).isEqualTo(0xE220A8397B1DCDAFL);
+
+        int totalDiff = 0;
+        for (long key = 1; key <= 100; key++) {
+            totalDiff += Long.bitCount(Hashing.mix(key) ^ Hashing.mix(key + 1));
+        }
+        assertThat(totalDiff / 100.0).isBetween(24.0, 40.0);
+    }
+}
@@ -0,0 +1,31 @@
+package com.library.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    TagParser 단위 테스트
+        - 구분자, #, 대소문자, 중복 처리
+        - 개수/길이 제한
+ */
+class TagParserTest {
+
+    @Test
+    @DisplayName("쉼표/공백으로 나누고 #과 대소문자를 정리, 중복은 한 번만")
+    void parse_정규화() {
+        assertThat(TagParser.parse(" #Spring, jpa  성능,SPRING ,, "))
+                .containsExactly("spring", "jpa", "성능");
+        assertThat(TagParser.parse(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("태그는 10개, 태그당 30자까지 허용")
+    void isValid_제한() {
+        assertThat(TagParser.isValid("a b c d e f g h i j")).isTrue();
+        assertThat(TagParser.isValid("a b c d e f g h i j k")).isFalse();
+        assertThat(TagParser.isValid("x".repeat(31))).isFalse();
+        assertThat(TagParser.isValid(null)).isTrue();
+    }
+}